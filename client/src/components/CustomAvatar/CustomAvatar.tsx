@@ -6,6 +6,9 @@ import { getAvatar, getAvatarPath } from '../../utils/user'
 import { AuthenticationContext } from '../../providers/AuthenticationContext/context'
 import { doRequest } from '../../requests/request'
 
+// Pixel sizes of the Mantine avatar sizes, images are requested at twice the size for high density screens
+const AVATAR_SIZES: Record<MantineSize, number> = { xs: 16, sm: 26, md: 38, lg: 56, xl: 84 }
+
 interface ICustomAvatarProps extends BoxProps {
   user: IMinimalUser
   size?: MantineSize | number
@@ -18,7 +21,8 @@ export const CustomAvatar = (props: ICustomAvatarProps) => {
   const [blobUrl, setBlobUrl] = useState<string | undefined>(undefined)
   const blobUrlRef = useRef<string | undefined>(undefined)
 
-  const avatarPath = getAvatarPath(user)
+  const imageSize = 2 * (typeof size === 'number' ? size : AVATAR_SIZES[size ?? 'md'])
+  const avatarPath = getAvatarPath(user, imageSize)
 
   useEffect(() => {
     if (!avatarPath || !isAuthenticated) {
@@ -47,7 +51,7 @@ export const CustomAvatar = (props: ICustomAvatarProps) => {
     }
   }, [avatarPath, isAuthenticated])
 
-  const src = isAuthenticated ? blobUrl : getAvatar(user)
+  const src = isAuthenticated ? blobUrl : getAvatar(user, imageSize)
 
   return (
     <Avatar
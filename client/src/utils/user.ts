@@ -1,12 +1,16 @@
 import { GLOBAL_CONFIG } from '../config/global'
 import type { IMinimalUser } from '../requests/responses/user'
 
-export function getAvatar(user: IMinimalUser) {
-  return user.avatar
-    ? `${GLOBAL_CONFIG.server_host}/api/v2/avatars/${user.userId}?filename=${user.avatar}`
-    : undefined
+export function getAvatar(user: IMinimalUser, size?: number) {
+  const path = getAvatarPath(user, size)
+
+  return path ? `${GLOBAL_CONFIG.server_host}/api${path}` : undefined
 }
 
-export function getAvatarPath(user: IMinimalUser) {
-  return user.avatar ? `/v2/avatars/${user.userId}?filename=${user.avatar}` : undefined
+export function getAvatarPath(user: IMinimalUser, size?: number) {
+  if (!user.avatar) {
+    return undefined
+  }
+
+  return `/v2/avatars/${user.userId}?filename=${user.avatar}${size ? `&size=${size}` : ''}`
 }
@@ -1,8 +1,9 @@
 package de.tum.cit.aet.thesis.config;
 
+import de.tum.cit.aet.thesis.storage.BlobStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
@@ -14,7 +15,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 /**
- * Creates dummy PDF files in the upload directory for dev seed data.
+ * Creates dummy PDF files in the upload storage for dev seed data.
  * Only active when the "dev" profile is enabled.
  */
 @Component
@@ -50,26 +51,29 @@ public class DevSeedFileInitializer implements ApplicationRunner {
 			"chapter3_review_notes.pdf"
 	);
 
-	private final Path uploadLocation;
+	private final BlobStorage uploadStorage;
 
-	public DevSeedFileInitializer(@Value("${thesis-management.storage.upload-location}") String uploadLocation) {
-		this.uploadLocation = Path.of(uploadLocation);
+	public DevSeedFileInitializer(@Qualifier("uploadStorage") BlobStorage uploadStorage) {
+		this.uploadStorage = uploadStorage;
 	}
 
 	@Override
 	public void run(ApplicationArguments args) throws Exception {
-		Files.createDirectories(uploadLocation);
-
 		int created = 0;
 		for (String filename : SEED_FILES) {
-			Path filePath = uploadLocation.resolve(filename);
-			if (!Files.exists(filePath)) {
-				try {
-					Files.write(filePath, MINIMAL_PDF);
-					created++;
-				} catch (IOException e) {
-					logger.warn("Failed to create seed file: {}", filename, e);
+			try {
+				if (!uploadStorage.exists(filename)) {
+					Path stagingFile = uploadStorage.createStagingFile();
+					try {
+						Files.write(stagingFile, MINIMAL_PDF);
+						uploadStorage.put(filename, stagingFile);
+						created++;
+					} finally {
+						Files.deleteIfExists(stagingFile);
+					}
 				}
+			} catch (IOException e) {
+				logger.warn("Failed to create seed file: {}", filename, e);
 			}
 		}
 
@@ -0,0 +1,114 @@
+package de.tum.cit.aet.thesis.config;
+
+import de.tum.cit.aet.thesis.storage.BlobStorage;
+import de.tum.cit.aet.thesis.storage.FileSystemBlobStorage;
+import de.tum.cit.aet.thesis.storage.S3BlobStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Provides the {@link BlobStorage} beans for uploads ({@code uploadStorage}) and data exports
+ * ({@code dataExportStorage}). By default files are stored in local directories; with
+ * {@code thesis-management.storage.type=s3} they are stored in an S3-compatible bucket instead,
+ * so several server instances can share them.
+ */
+@Configuration
+public class StorageConfig {
+	private static final String STORAGE_TYPE = "thesis-management.storage.type";
+
+	@Bean
+	@ConditionalOnProperty(name = STORAGE_TYPE, havingValue = "filesystem", matchIfMissing = true)
+	public BlobStorage uploadStorage(@Value("${thesis-management.storage.upload-location}") String uploadLocation) {
+		return new FileSystemBlobStorage(Path.of(uploadLocation));
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = STORAGE_TYPE, havingValue = "filesystem", matchIfMissing = true)
+	public BlobStorage dataExportStorage(@Value("${thesis-management.data-export.path}") String exportPath) {
+		return new FileSystemBlobStorage(Path.of(exportPath));
+	}
+
+	@Configuration
+	@ConditionalOnProperty(name = STORAGE_TYPE, havingValue = "s3")
+	static class S3StorageConfig {
+		private final String endpoint;
+		private final Region region;
+		private final AwsCredentialsProvider credentials;
+		private final boolean pathStyleAccess;
+
+		S3StorageConfig(
+				@Value("${thesis-management.storage.s3.endpoint:}") String endpoint,
+				@Value("${thesis-management.storage.s3.region}") String region,
+				@Value("${thesis-management.storage.s3.access-key:}") String accessKey,
+				@Value("${thesis-management.storage.s3.secret-key:}") String secretKey,
+				@Value("${thesis-management.storage.s3.path-style-access:true}") boolean pathStyleAccess
+		) {
+			this.endpoint = endpoint;
+			this.region = Region.of(region);
+			this.credentials = accessKey.isBlank()
+					? DefaultCredentialsProvider.builder().build()
+					: StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+			this.pathStyleAccess = pathStyleAccess;
+		}
+
+		@Bean(destroyMethod = "close")
+		public S3Client s3Client() {
+			S3ClientBuilder builder = S3Client.builder()
+					.region(region)
+					.credentialsProvider(credentials)
+					.forcePathStyle(pathStyleAccess);
+
+			if (!endpoint.isBlank()) {
+				builder.endpointOverride(URI.create(endpoint));
+			}
+
+			return builder.build();
+		}
+
+		@Bean(destroyMethod = "close")
+		public S3Presigner s3Presigner() {
+			S3Presigner.Builder builder = S3Presigner.builder()
+					.region(region)
+					.credentialsProvider(credentials)
+					.serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(pathStyleAccess).build());
+
+			if (!endpoint.isBlank()) {
+				builder.endpointOverride(URI.create(endpoint));
+			}
+
+			return builder.build();
+		}
+
+		@Bean
+		public BlobStorage uploadStorage(
+				S3Client s3Client,
+				S3Presigner s3Presigner,
+				@Value("${thesis-management.storage.s3.bucket}") String bucket
+		) {
+			return new S3BlobStorage(s3Client, s3Presigner, bucket, "uploads/");
+		}
+
+		@Bean
+		public BlobStorage dataExportStorage(
+				S3Client s3Client,
+				S3Presigner s3Presigner,
+				@Value("${thesis-management.storage.s3.bucket}") String bucket
+		) {
+			return new S3BlobStorage(s3Client, s3Presigner, bucket, "data-exports/");
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.thesis.config;
 
+import de.tum.cit.aet.thesis.utility.EmailTemplateResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.templatemode.TemplateMode;
@@ -16,4 +17,9 @@ public class ThymeleafConfig {
 		resolver.setOrder(1);
 		return resolver;
 	}
+
+	@Bean
+	public EmailTemplateResolver emailTemplateResolver() {
+		return new EmailTemplateResolver(0);
+	}
 }
@@ -1,22 +1,49 @@
 package de.tum.cit.aet.thesis.config;
 
+import de.tum.cit.aet.thesis.storage.FileTransfer;
+import de.tum.cit.aet.thesis.utility.DownloadConcurrencyLimiter;
 import de.tum.cit.aet.thesis.utility.StringToArrayConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 	private final StringToArrayConverter stringToArrayConverter;
+	private final DownloadConcurrencyLimiter downloadConcurrencyLimiter;
 
 	@Autowired
-	public WebConfig(StringToArrayConverter stringToArrayConverter) {
+	public WebConfig(StringToArrayConverter stringToArrayConverter, DownloadConcurrencyLimiter downloadConcurrencyLimiter) {
 		this.stringToArrayConverter = stringToArrayConverter;
+		this.downloadConcurrencyLimiter = downloadConcurrencyLimiter;
 	}
 
 	@Override
 	public void addFormatters(FormatterRegistry registry) {
 		registry.addConverter(stringToArrayConverter);
 	}
+
+	@Override
+	public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+		// Custom converters are consulted before the defaults, so stored files skip the stream copy
+		builder.addCustomConverter(new FileTransfer.ResourceConverter())
+				.addCustomConverter(new FileTransfer.ResourceRegionConverter());
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(downloadConcurrencyLimiter).addPathPatterns(
+				"/v2/theses/*/proposal/*",
+				"/v2/theses/*/files/*",
+				"/v2/theses/*/comments/*/file",
+				"/v2/users/*/cv",
+				"/v2/users/*/examination-report",
+				"/v2/users/*/degree-report",
+				"/v2/published-theses/*/thesis",
+				"/v2/data-exports/*/download"
+		);
+	}
 }
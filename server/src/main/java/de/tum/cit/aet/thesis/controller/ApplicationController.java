@@ -14,8 +14,10 @@ import de.tum.cit.aet.thesis.entity.Application;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.exception.request.ResourceAlreadyExistsException;
 import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
+import de.tum.cit.aet.thesis.security.AuthenticatedPrincipal;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.service.ApplicationService;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
@@ -124,6 +126,8 @@ public class ApplicationController {
 	 * @param limit the number of items per page
 	 * @param sortBy the field to sort by
 	 * @param sortOrder the sort direction (asc or desc)
+	 * @param cursor the cursor of the previous page; if present (empty for the first page), keyset pagination is used and {@code page} is ignored
+	 * @param includeTotal whether to count all results in keyset pagination mode
 	 * @return the paginated list of applications
 	 */
 	@GetMapping
@@ -138,17 +142,39 @@ public class ApplicationController {
 			@RequestParam(required = false, defaultValue = "0") Integer page,
 			@RequestParam(required = false, defaultValue = "50") Integer limit,
 			@RequestParam(required = false, defaultValue = "createdAt") String sortBy,
-			@RequestParam(required = false, defaultValue = "desc") String sortOrder
+			@RequestParam(required = false, defaultValue = "desc") String sortOrder,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false, defaultValue = "false") boolean includeTotal
 	) {
 		limit = RequestValidator.clampPageSize(limit);
-		User authenticatedUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal authenticatedUser = currentUserProvider().getPrincipal();
+		boolean fetchAllApplications = fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor");
+
+		if (cursor != null) {
+			KeysetPage<Application> applications = applicationService.getAllByCursor(
+					fetchAllApplications ? null : authenticatedUser.getId(),
+					fetchAllApplications ? authenticatedUser.getId() : null,
+					search,
+					state,
+					previous,
+					topic,
+					types,
+					includeSuggestedTopics,
+					cursor,
+					includeTotal,
+					limit,
+					sortBy,
+					sortOrder
+			);
+
+			return ResponseEntity.ok(PaginationDto.fromKeysetPage(
+					applications.map(application -> ApplicationDto.fromApplicationEntity(application, application.hasManagementAccess(authenticatedUser)))
+			));
+		}
 
 		Page<Application> applications = applicationService.getAll(
-				fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ? null :
-					authenticatedUser.getId(),
-				fetchAll && authenticatedUser.hasAnyGroup("admin", "supervisor", "advisor") ?
-						authenticatedUser.getId() :
-					null,
+				fetchAllApplications ? null : authenticatedUser.getId(),
+				fetchAllApplications ? authenticatedUser.getId() : null,
 				search,
 				state,
 				previous,
@@ -210,7 +236,7 @@ public class ApplicationController {
 	 */
 	@GetMapping("/{applicationId}")
 	public ResponseEntity<ApplicationDto> getApplication(@PathVariable UUID applicationId) {
-		User authenticatedUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal authenticatedUser = currentUserProvider().getPrincipal();
 		Application application = applicationService.findById(applicationId);
 
 		if (!application.hasReadAccess(authenticatedUser)) {
@@ -232,7 +258,7 @@ public class ApplicationController {
 			@PathVariable UUID applicationId,
 			@RequestBody CreateApplicationPayload payload
 	) {
-		User authenticatedUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal authenticatedUser = currentUserProvider().getPrincipal();
 		Application application = applicationService.findById(applicationId);
 
 		if (!application.hasEditAccess(authenticatedUser)) {
@@ -271,7 +297,7 @@ public class ApplicationController {
 			@PathVariable UUID applicationId,
 			@RequestBody UpdateApplicationCommentPayload payload
 	) {
-		User authenticatedUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal authenticatedUser = currentUserProvider().getPrincipal();
 		Application application = applicationService.findById(applicationId);
 
 		if (!application.hasManagementAccess(authenticatedUser)) {
@@ -1,20 +1,18 @@
 package de.tum.cit.aet.thesis.controller;
 
-import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
 import de.tum.cit.aet.thesis.repository.UserRepository;
-import de.tum.cit.aet.thesis.service.UploadService;
-import de.tum.cit.aet.thesis.service.UserService;
-import lombok.extern.slf4j.Slf4j;
+import de.tum.cit.aet.thesis.service.AvatarService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
@@ -29,26 +27,21 @@ import java.util.concurrent.TimeUnit;
  * the requester must be authenticated. This prevents leaking profile pictures of students
  * who have no public presence in the system.</p>
  */
-@Slf4j
 @RestController
 @RequestMapping("/v2/avatars")
 public class AvatarController {
-	private final UserService userService;
-	private final UploadService uploadService;
+	private final AvatarService avatarService;
 	private final UserRepository userRepository;
 
 	/**
 	 * Constructs the avatar controller with required services.
 	 *
-	 * @param userService the user service
-	 * @param uploadService the upload service
-	 * @param userRepository the user repository for visibility checks
+	 * @param avatarService the avatar service serving the stored images and visibility checks
+	 * @param userRepository the user repository the avatar filename is read from
 	 */
 	@Autowired
-	public AvatarController(UserService userService, UploadService uploadService,
-			UserRepository userRepository) {
-		this.userService = userService;
-		this.uploadService = uploadService;
+	public AvatarController(AvatarService avatarService, UserRepository userRepository) {
+		this.avatarService = avatarService;
 		this.userRepository = userRepository;
 	}
 
@@ -60,40 +53,45 @@ public class AvatarController {
 	 * on a finished PUBLIC thesis, an open topic role holder, or a research group head).
 	 * Authenticated users can access any avatar.</p>
 	 *
+	 * <p>If a size is requested, the smallest stored square variant of at least that size is served.
+	 * Stored images never change their content, so the filename doubles as ETag.</p>
+	 *
 	 * @param userId the ID of the user
+	 * @param size the requested edge length in pixels, the original image is served if omitted
 	 * @return the avatar image as a resource, or 404 if not found or not accessible
 	 */
 	@GetMapping("/{userId}")
-	public ResponseEntity<Resource> getAvatar(@PathVariable UUID userId) {
+	public ResponseEntity<Resource> getAvatar(
+			@PathVariable UUID userId,
+			@RequestParam(required = false) Integer size
+	) {
+		if (size != null && size <= 0) {
+			throw new ResourceInvalidParametersException("Avatar size must be positive");
+		}
+
 		// If the request is unauthenticated, only serve avatars of publicly visible users
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		boolean isAuthenticated = authentication != null && authentication.isAuthenticated()
 				&& !"anonymousUser".equals(authentication.getPrincipal());
 
-		if (!isAuthenticated && !userRepository.isUserPubliclyVisible(userId)) {
+		if (!isAuthenticated && !avatarService.isPubliclyVisible(userId)) {
 			return ResponseEntity.notFound().build();
 		}
 
-		User user = userService.findById(userId);
-		String avatar = user.getAvatar();
+		String avatar = userRepository.findAvatarById(userId).orElse(null);
 
 		if (avatar == null || avatar.isBlank()) {
 			return ResponseEntity.notFound().build();
 		}
 
-		Resource resource;
-		try {
-			resource = uploadService.load(avatar);
-		} catch (RuntimeException e) {
-			// Avatar filename is set in the DB but the file is missing on disk
-			// (e.g. dev/test environments, restored DB without uploads). Treat as 404.
-			log.warn("Avatar file '{}' missing for user {}: {}", avatar, userId, e.getMessage());
-			return ResponseEntity.notFound().build();
-		}
-
-		return ResponseEntity.ok()
-				.contentType(MediaType.IMAGE_PNG)
-				.cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
-				.body(resource);
+		// The avatar filename may be set in the DB while the file is missing on disk
+		// (e.g. dev/test environments, restored DB without uploads). Treat as 404.
+		return avatarService.load(avatar, size)
+				.map(image -> ResponseEntity.ok()
+						.contentType(image.mediaType())
+						.cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+						.eTag(image.etag())
+						.body(image.resource()))
+				.orElseGet(() -> ResponseEntity.notFound().build());
 	}
 }
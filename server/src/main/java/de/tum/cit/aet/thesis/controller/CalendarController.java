@@ -1,12 +1,12 @@
 package de.tum.cit.aet.thesis.controller;
 
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
-import de.tum.cit.aet.thesis.service.InterviewProcessService;
+import de.tum.cit.aet.thesis.service.CalendarFeedService;
 import de.tum.cit.aet.thesis.service.ResearchGroupService;
-import de.tum.cit.aet.thesis.service.ThesisPresentationService;
 import de.tum.cit.aet.thesis.service.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,37 +24,34 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/v2/calendar")
 public class CalendarController {
-	private final ThesisPresentationService thesisPresentationService;
+	private final CalendarFeedService calendarFeedService;
 	private final ResearchGroupService researchGroupService;
 	private final UserService userService;
-	private final InterviewProcessService interviewProcessService;
 
 	/**
-	 * Injects the presentation, research group, user, and interview process services.
+	 * Injects the calendar feed, research group, and user services.
 	 *
-	 * @param thesisPresentationService the thesis presentation service
+	 * @param calendarFeedService the calendar feed service
 	 * @param researchGroupService the research group service
 	 * @param userService the user service
-	 * @param interviewProcessService the interview process service
 	 */
 	@Autowired
-	public CalendarController(ThesisPresentationService thesisPresentationService,
-		ResearchGroupService researchGroupService, UserService userService,
-		InterviewProcessService interviewProcessService) {
-		this.thesisPresentationService = thesisPresentationService;
+	public CalendarController(CalendarFeedService calendarFeedService,
+		ResearchGroupService researchGroupService, UserService userService) {
+		this.calendarFeedService = calendarFeedService;
 		this.researchGroupService = researchGroupService;
 		this.userService = userService;
-		this.interviewProcessService = interviewProcessService;
 	}
 
 	/**
 	 * Returns an iCalendar feed of thesis presentations for a given research group.
+	 * Responds with 304 Not Modified if the If-None-Match header matches the ETag of the feed.
 	 *
 	 * @param researchGroupAbbreviation the abbreviation of the research group
-	 * @return the iCalendar feed as a string
+	 * @return the iCalendar feed
 	 */
 	@GetMapping( "/presentations/{researchGroupAbbreviation}")
-	public ResponseEntity<String> getCalendar(@PathVariable(required = false) String researchGroupAbbreviation) {
+	public ResponseEntity<?> getCalendar(@PathVariable(required = false) String researchGroupAbbreviation) {
 		ResearchGroup researchGroup = researchGroupService.findByAbbreviation(researchGroupAbbreviation);
 		if (researchGroup == null) {
 			String safeAbbr = researchGroupAbbreviation != null
@@ -66,25 +63,31 @@ public class CalendarController {
 					.body("Research group not found");
 		}
 
-		return ResponseEntity.ok()
-				.contentType(MediaType.parseMediaType("text/calendar"))
-				.header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=calendar.ics")
-				.body(thesisPresentationService.getPresentationCalendar(researchGroup.getId()).toString());
+		return toResponse(calendarFeedService.getPresentationFeed(researchGroup.getId()));
 	}
 
 	/**
 	 * Returns an iCalendar feed of interview appointments for a given user.
+	 * Responds with 304 Not Modified if the If-None-Match header matches the ETag of the feed.
 	 *
 	 * @param userId the ID of the user
-	 * @return the iCalendar feed as a string
+	 * @return the iCalendar feed
 	 */
 	@GetMapping("/interviews/user/{userId}")
-	public ResponseEntity<String> getInterviews(@PathVariable UUID userId) {
+	public ResponseEntity<byte[]> getInterviews(@PathVariable UUID userId) {
 		userService.findById(userId);
 
+		return toResponse(calendarFeedService.getInterviewFeed(userId));
+	}
+
+	private static ResponseEntity<byte[]> toResponse(CalendarFeedService.CalendarFeed feed) {
+		// The conditional request is evaluated by Spring MVC based on the ETag, a matching
+		// If-None-Match header results in a 304 response without body
 		return ResponseEntity.ok()
 				.contentType(MediaType.parseMediaType("text/calendar"))
 				.header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=calendar.ics")
-				.body(interviewProcessService.getInterviewCalendarForUser(userId).toString());
+				.cacheControl(CacheControl.noCache())
+				.eTag(feed.etag())
+				.body(feed.content());
 	}
 }
@@ -40,6 +40,6 @@ public class DashboardController {
 	 */
 	@GetMapping("/tasks")
 	public ResponseEntity<List<TaskDto>> getTasks() {
-		return ResponseEntity.ok(dashboardService.getTasks(currentUserProvider.getUser()));
+		return ResponseEntity.ok(dashboardService.getTasks(currentUserProvider.getUserId(), currentUserProvider::getUser));
 	}
 }
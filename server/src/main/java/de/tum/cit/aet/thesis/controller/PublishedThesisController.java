@@ -4,8 +4,11 @@ import de.tum.cit.aet.thesis.constants.ThesisState;
 import de.tum.cit.aet.thesis.dto.PaginationDto;
 import de.tum.cit.aet.thesis.dto.PublishedThesisDto;
 import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.entity.ThesisFile;
 import de.tum.cit.aet.thesis.service.ThesisService;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
+import de.tum.cit.aet.thesis.utility.StoredFileResponses;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
@@ -49,6 +52,8 @@ public class PublishedThesisController {
 	 * @param search the search query to filter theses
 	 * @param researchGroupIds the research group IDs to filter by
 	 * @param types the thesis types to filter by
+	 * @param cursor the cursor of the previous page; if present (empty for the first page), keyset pagination is used and {@code page} is ignored
+	 * @param includeTotal whether to count all results in keyset pagination mode
 	 * @return the paginated list of published theses
 	 */
 	@GetMapping
@@ -59,10 +64,31 @@ public class PublishedThesisController {
 			@RequestParam(required = false, defaultValue = "desc") String sortOrder,
 			@RequestParam(required = false) String search,
 			@RequestParam(required = false, defaultValue = "") UUID[] researchGroupIds,
-			@RequestParam(required = false) String[] types
+			@RequestParam(required = false) String[] types,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false, defaultValue = "false") boolean includeTotal
 	) {
 		limit = RequestValidator.clampPageSize(limit);
-		Page<Thesis> theses = thesisService.getAll(
+
+		if (cursor != null) {
+			KeysetPage<PublishedThesisDto> theses = thesisService.getAllPublishedByCursor(
+					null,
+					true,
+					search,
+					new ThesisState[]{ThesisState.FINISHED},
+					types,
+					cursor,
+					includeTotal,
+					limit,
+					sortBy,
+					sortOrder,
+					researchGroupIds
+			);
+
+			return ResponseEntity.ok(PaginationDto.fromKeysetPage(theses));
+		}
+
+		Page<PublishedThesisDto> theses = thesisService.getAllPublished(
 				null,
 				true,
 				search,
@@ -75,7 +101,7 @@ public class PublishedThesisController {
 				researchGroupIds
 		);
 
-		return ResponseEntity.ok(PaginationDto.fromSpringPage(theses.map(PublishedThesisDto::fromThesisEntity)));
+		return ResponseEntity.ok(PaginationDto.fromSpringPage(theses));
 	}
 
 	/**
@@ -94,9 +120,13 @@ public class PublishedThesisController {
 			throw new AccessDeniedException("You do not have the required permissions to view this thesis");
 		}
 
-		return ResponseEntity.ok()
+		ThesisFile file = thesis.getLatestFile("THESIS").orElseThrow();
+		Resource resource = thesisService.getThesisFile(file);
+
+		// The latest thesis file can be replaced, so the URL does not always refer to the same file
+		return StoredFileResponses.revalidated(file.getFilename())
 				.contentType(MediaType.APPLICATION_PDF)
 				.header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=thesis_%s.pdf", thesisId))
-				.body(thesisService.getThesisFile(thesis.getLatestFile("THESIS").orElseThrow()));
+				.body(resource);
 	}
 }
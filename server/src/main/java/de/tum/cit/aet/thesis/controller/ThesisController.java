@@ -26,19 +26,20 @@ import de.tum.cit.aet.thesis.entity.ThesisComment;
 import de.tum.cit.aet.thesis.entity.ThesisFile;
 import de.tum.cit.aet.thesis.entity.ThesisPresentation;
 import de.tum.cit.aet.thesis.entity.ThesisProposal;
-import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.security.AuthenticatedPrincipal;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.service.ThesisAnonymizationService;
 import de.tum.cit.aet.thesis.service.ThesisCommentService;
 import de.tum.cit.aet.thesis.service.ThesisPresentationService;
 import de.tum.cit.aet.thesis.service.ThesisService;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
+import de.tum.cit.aet.thesis.utility.StoredFileResponses;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
-import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -58,7 +59,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 /** REST controller for managing theses and their associated resources. */
 @Slf4j
@@ -106,6 +106,8 @@ public class ThesisController {
 	 * @param sortBy the field to sort results by
 	 * @param sortOrder the sort direction (asc or desc)
 	 * @param researchGroupIds the research group IDs to filter by
+	 * @param cursor the cursor of the previous page; if present (empty for the first page), keyset pagination is used and {@code page} is ignored
+	 * @param includeTotal whether to count all results in keyset pagination mode
 	 * @return the paginated list of theses
 	 */
 	@GetMapping
@@ -118,12 +120,32 @@ public class ThesisController {
 			@RequestParam(required = false, defaultValue = "50") Integer limit,
 			@RequestParam(required = false, defaultValue = "createdAt") String sortBy,
 			@RequestParam(required = false, defaultValue = "desc") String sortOrder,
-			@RequestParam(required = false, defaultValue = "") UUID[] researchGroupIds
+			@RequestParam(required = false, defaultValue = "") UUID[] researchGroupIds,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false, defaultValue = "false") boolean includeTotal
 	) {
 		limit = RequestValidator.clampPageSize(limit);
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
+
+		if (cursor != null) {
+			KeysetPage<ThesisOverviewDto> theses = thesisService.getAllOverviewsByCursor(
+					currentUser.getId(),
+					fetchAll,
+					search,
+					state,
+					type,
+					cursor,
+					includeTotal,
+					limit,
+					sortBy,
+					sortOrder,
+					researchGroupIds
+			);
+
+			return ResponseEntity.ok(PaginationDto.fromKeysetPage(theses));
+		}
 
-		Page<Thesis> theses = thesisService.getAll(
+		Page<ThesisOverviewDto> theses = thesisService.getAllOverviews(
 				currentUser.getId(),
 				fetchAll,
 				search,
@@ -136,9 +158,7 @@ public class ThesisController {
 				researchGroupIds
 		);
 
-		return ResponseEntity.ok(PaginationDto.fromSpringPage(
-				theses.map(ThesisOverviewDto::fromThesisEntity)
-		));
+		return ResponseEntity.ok(PaginationDto.fromSpringPage(theses));
 	}
 
 	/**
@@ -149,7 +169,7 @@ public class ThesisController {
 	 */
 	@GetMapping("/{thesisId}")
 	public ResponseEntity<ThesisDto> getThesis(@PathVariable UUID thesisId) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasReadAccess(currentUser)) {
@@ -170,7 +190,7 @@ public class ThesisController {
 	public ResponseEntity<ThesisDto> createThesis(
 			@RequestBody CreateThesisPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.createThesis(
 				RequestValidator.validateStringMaxLength(payload.thesisTitle(), StringLimits.THESIS_TITLE.getLimit()),
 				RequestValidator.validateStringMaxLength(payload.thesisType(), StringLimits.SHORTTEXT.getLimit()),
@@ -198,7 +218,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestBody UpdateThesisPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -234,7 +254,7 @@ public class ThesisController {
 	public ResponseEntity<ThesisDto> closeThesis(
 			@PathVariable UUID thesisId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -258,7 +278,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestBody UpdateThesisInfoPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasStudentAccess(currentUser)) {
@@ -292,7 +312,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestBody UpdateThesisCreditsPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -322,7 +342,7 @@ public class ThesisController {
 			@PathVariable UUID feedbackId,
 			@PathVariable String action
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasStudentAccess(currentUser)) {
@@ -346,7 +366,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID feedbackId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -370,7 +390,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestBody RequestChangesPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -400,7 +420,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID proposalId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasReadAccess(currentUser)) {
@@ -408,12 +428,12 @@ public class ThesisController {
 		}
 
 		ThesisProposal proposal = thesis.getProposalById(proposalId).orElseThrow();
+		Resource resource = thesisService.getProposalFile(proposal);
 
-		return ResponseEntity.ok()
+		return StoredFileResponses.immutable(proposal.getProposalFilename())
 				.contentType(MediaType.APPLICATION_PDF)
-				.cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
 				.header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=proposal_%s.pdf", thesisId))
-				.body(thesisService.getProposalFile(proposal));
+				.body(resource);
 	}
 
 	/**
@@ -428,7 +448,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID proposalId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -452,7 +472,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestPart("proposal") MultipartFile proposalFile
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasStudentAccess(currentUser)) {
@@ -478,7 +498,7 @@ public class ThesisController {
 	public ResponseEntity<ThesisDto> acceptProposal(
 			@PathVariable UUID thesisId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -502,7 +522,7 @@ public class ThesisController {
 	public ResponseEntity<ThesisDto> submitThesis(
 			@PathVariable UUID thesisId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasStudentAccess(currentUser)) {
@@ -528,7 +548,7 @@ public class ThesisController {
 			@RequestPart("type") String type,
 			@RequestPart("file") MultipartFile file
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasStudentAccess(currentUser)) {
@@ -556,7 +576,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID fileId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasReadAccess(currentUser)) {
@@ -564,12 +584,12 @@ public class ThesisController {
 		}
 
 		ThesisFile file = thesis.getFileById(fileId).orElseThrow();
+		Resource resource = thesisService.getThesisFile(file);
 
-		return ResponseEntity.ok()
+		return StoredFileResponses.immutable(file.getFilename())
 				.contentType(MediaType.APPLICATION_OCTET_STREAM)
-				.cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
 				.header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + file.getFilename() + "\"")
-				.body(thesisService.getThesisFile(file));
+				.body(resource);
 	}
 
 	/**
@@ -584,7 +604,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID fileId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -608,7 +628,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestBody ReplacePresentationPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasStudentAccess(currentUser)) {
@@ -642,7 +662,7 @@ public class ThesisController {
 			@PathVariable UUID presentationId,
 			@RequestBody ReplacePresentationPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		ThesisPresentation presentation = thesisPresentationService.findById(thesisId, presentationId);
 		Thesis thesis = presentation.getThesis();
 
@@ -681,7 +701,7 @@ public class ThesisController {
 			@PathVariable UUID presentationId,
 			@RequestBody UpdateNotePayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		ThesisPresentation presentation = thesisPresentationService.findById(thesisId, presentationId);
 		Thesis thesis = presentation.getThesis();
 
@@ -715,7 +735,7 @@ public class ThesisController {
 			@PathVariable UUID presentationId,
 			@RequestBody SchedulePresentationPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		ThesisPresentation presentation = thesisPresentationService.findById(thesisId, presentationId);
 		Thesis thesis = presentation.getThesis();
 
@@ -745,7 +765,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID presentationId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		ThesisPresentation presentation = thesisPresentationService.findById(thesisId, presentationId);
 
 		if (!presentation.hasManagementAccess(currentUser)) {
@@ -774,7 +794,7 @@ public class ThesisController {
 			@RequestParam(required = false, defaultValue = "50") Integer limit
 	) {
 		limit = RequestValidator.clampPageSize(limit);
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (commentType == ThesisCommentType.SUPERVISOR && !thesis.hasSupervisorAccess(currentUser)) {
@@ -804,7 +824,7 @@ public class ThesisController {
 			@RequestPart("data") PostThesisCommentPayload payload,
 			@RequestPart(value = "file", required = false) MultipartFile file
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (payload.commentType() == ThesisCommentType.SUPERVISOR && !thesis.hasSupervisorAccess(currentUser)) {
@@ -837,7 +857,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID commentId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		ThesisComment comment = thesisCommentService.findById(thesisId, commentId);
 
 		if (comment.getType() == ThesisCommentType.SUPERVISOR && !comment.getThesis().hasSupervisorAccess(currentUser)) {
@@ -848,11 +868,12 @@ public class ThesisController {
 			throw new AccessDeniedException("You do not have the required permissions to view this comment");
 		}
 
-		return ResponseEntity.ok()
+		Resource resource = thesisCommentService.getCommentFile(comment);
+
+		return StoredFileResponses.immutable(comment.getFilename())
 				.contentType(MediaType.APPLICATION_OCTET_STREAM)
-				.cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
 				.header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + comment.getFilename() + "\"")
-				.body(thesisCommentService.getCommentFile(comment));
+				.body(resource);
 	}
 
 	/**
@@ -867,7 +888,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@PathVariable UUID commentId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		ThesisComment comment = thesisCommentService.findById(thesisId, commentId);
 
 		if (!comment.hasManagementAccess(currentUser)) {
@@ -892,7 +913,7 @@ public class ThesisController {
 	public ResponseEntity<Resource> getAssessmentFile(
 			@PathVariable UUID thesisId,
 			@RequestParam(required = false) String calculatedGrade) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -917,7 +938,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestBody CreateAssessmentPayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -950,7 +971,7 @@ public class ThesisController {
 			@PathVariable UUID thesisId,
 			@RequestBody AddThesisGradePayload payload
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasExaminerAccess(currentUser)) {
@@ -977,7 +998,7 @@ public class ThesisController {
 	public ResponseEntity<ThesisDto> completeThesis(
 			@PathVariable UUID thesisId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasExaminerAccess(currentUser)) {
@@ -1001,7 +1022,7 @@ public class ThesisController {
 	public ResponseEntity<ThesisDto> revertThesisState(
 			@PathVariable UUID thesisId
 	) {
-		User currentUser = currentUserProvider().getUser();
+		AuthenticatedPrincipal currentUser = currentUserProvider().getPrincipal();
 		Thesis thesis = thesisService.findById(thesisId);
 
 		if (!thesis.hasSupervisorAccess(currentUser)) {
@@ -10,7 +10,9 @@ import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.service.AccessManagementService;
 import de.tum.cit.aet.thesis.service.AccessManagementService.KeycloakUserInformation;
 import de.tum.cit.aet.thesis.service.UserService;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
+import de.tum.cit.aet.thesis.utility.StoredFileResponses;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -72,6 +74,8 @@ public class UserController {
 	 * @param limit the maximum number of results per page
 	 * @param sortBy the field to sort by
 	 * @param sortOrder the sort direction
+	 * @param cursor the cursor of the previous page; if present (empty for the first page), keyset pagination is used and {@code page} is ignored
+	 * @param includeTotal whether to count all results in keyset pagination mode
 	 * @return the paginated list of users
 	 */
 	@GetMapping
@@ -82,9 +86,18 @@ public class UserController {
 			@RequestParam(required = false, defaultValue = "0") Integer page,
 			@RequestParam(required = false, defaultValue = "50") Integer limit,
 			@RequestParam(required = false, defaultValue = "joinedAt") String sortBy,
-			@RequestParam(required = false, defaultValue = "desc") String sortOrder
+			@RequestParam(required = false, defaultValue = "desc") String sortOrder,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false, defaultValue = "false") boolean includeTotal
 	) {
 		limit = RequestValidator.clampPageSize(limit);
+
+		if (cursor != null) {
+			KeysetPage<User> users = userService.getAllByCursor(searchQuery, groups, cursor, includeTotal, limit, sortBy, sortOrder);
+
+			return ResponseEntity.ok(PaginationDto.fromKeysetPage(users.map(LightUserDto::fromUserEntity)));
+		}
+
 		Page<User> users = userService.getAll(searchQuery, groups, page, limit, sortBy, sortOrder);
 
 		return ResponseEntity.ok(PaginationDto.fromSpringPage(users.map(LightUserDto::fromUserEntity)));
@@ -174,14 +187,16 @@ public class UserController {
 	public ResponseEntity<Resource> getExaminationReport(@PathVariable UUID userId) {
 		User user = userService.findById(userId);
 
-		if (!user.hasFullAccess(currentUserProvider().getUser())) {
+		if (!user.hasFullAccess(currentUserProvider().getPrincipal())) {
 			throw new AccessDeniedException("You are not allowed to access data from this user");
 		}
 
-		return ResponseEntity.ok()
+		Resource resource = userService.getExaminationReport(user);
+
+		return StoredFileResponses.revalidated(user.getExaminationFilename())
 				.contentType(MediaType.APPLICATION_PDF)
 				.header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=examination_report_%s.pdf", userId))
-				.body(userService.getExaminationReport(user));
+				.body(resource);
 	}
 
 	/**
@@ -194,14 +209,16 @@ public class UserController {
 	public ResponseEntity<Resource> getCV(@PathVariable UUID userId) {
 		User user = userService.findById(userId);
 
-		if (!user.hasFullAccess(currentUserProvider().getUser())) {
+		if (!user.hasFullAccess(currentUserProvider().getPrincipal())) {
 			throw new AccessDeniedException("You are not allowed to access data from this user");
 		}
 
-		return ResponseEntity.ok()
+		Resource resource = userService.getCV(user);
+
+		return StoredFileResponses.revalidated(user.getCvFilename())
 				.contentType(MediaType.APPLICATION_PDF)
 				.header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=cv_%s.pdf", userId))
-				.body(userService.getCV(user));
+				.body(resource);
 	}
 
 	/**
@@ -214,13 +231,15 @@ public class UserController {
 	public ResponseEntity<Resource> getDegreeReport(@PathVariable UUID userId) {
 		User user = userService.findById(userId);
 
-		if (!user.hasFullAccess(currentUserProvider().getUser())) {
+		if (!user.hasFullAccess(currentUserProvider().getPrincipal())) {
 			throw new AccessDeniedException("You are not allowed to access data from this user");
 		}
 
-		return ResponseEntity.ok()
+		Resource resource = userService.getDegreeReport(user);
+
+		return StoredFileResponses.revalidated(user.getDegreeFilename())
 				.contentType(MediaType.APPLICATION_PDF)
 				.header(HttpHeaders.CONTENT_DISPOSITION, String.format("inline; filename=degree_report_%s.pdf", userId))
-				.body(userService.getDegreeReport(user));
+				.body(resource);
 	}
 }
@@ -9,6 +9,7 @@ import de.tum.cit.aet.thesis.entity.NotificationSetting;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.repository.UserRepository;
 import de.tum.cit.aet.thesis.service.AuthenticationService;
+import de.tum.cit.aet.thesis.service.AvatarService;
 import de.tum.cit.aet.thesis.service.GravatarService;
 import de.tum.cit.aet.thesis.service.UploadService;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
@@ -38,6 +39,7 @@ public class UserInfoController {
 	private final UserRepository userRepository;
 	private final UploadService uploadService;
 	private final GravatarService gravatarService;
+	private final AvatarService avatarService;
 
 	/**
 	 * Constructs a new UserInfoController with the required dependencies.
@@ -46,13 +48,16 @@ public class UserInfoController {
 	 * @param userRepository the user repository
 	 * @param uploadService the upload service
 	 * @param gravatarService the gravatar service
+	 * @param avatarService the avatar service rendering the size variants of imported avatars
 	 */
 	@Autowired
-	public UserInfoController(AuthenticationService authenticationService, UserRepository userRepository, UploadService uploadService, GravatarService gravatarService) {
+	public UserInfoController(AuthenticationService authenticationService, UserRepository userRepository, UploadService uploadService, GravatarService gravatarService,
+			AvatarService avatarService) {
 		this.authenticationService = authenticationService;
 		this.userRepository = userRepository;
 		this.uploadService = uploadService;
 		this.gravatarService = gravatarService;
+		this.avatarService = avatarService;
 	}
 
 	/**
@@ -178,11 +183,12 @@ public class UserInfoController {
 
 		String oldAvatar = user.getAvatar();
 		String storedFilename = uploadService.storeBytes(imageBytes.get(), "png", 1024 * 1024);
+		avatarService.createVariants(storedFilename);
 		user.setAvatar(storedFilename);
 		user = userRepository.save(user);
 
 		if (oldAvatar != null && !oldAvatar.equals(storedFilename)) {
-			uploadService.deleteFile(oldAvatar);
+			AvatarService.getStoredFilenames(oldAvatar).forEach(uploadService::deleteFile);
 		}
 
 		return ResponseEntity.ok(UserDto.fromUserEntity(user));
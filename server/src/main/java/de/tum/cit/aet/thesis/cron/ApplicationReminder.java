@@ -1,60 +1,79 @@
 package de.tum.cit.aet.thesis.cron;
 
-import de.tum.cit.aet.thesis.entity.ResearchGroup;
+import de.tum.cit.aet.thesis.dto.UnreviewedApplicationCountRowDto;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
 import de.tum.cit.aet.thesis.service.MailingService;
-import de.tum.cit.aet.thesis.service.ResearchGroupService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /** Scheduled task that sends weekly email reminders about unreviewed applications. */
 @Component
 public class ApplicationReminder {
 	private static final Logger log = LoggerFactory.getLogger(ApplicationReminder.class);
+	private static final Set<String> REMINDER_GROUPS = Set.of("admin", "supervisor", "advisor");
+	private static final int USER_BATCH_SIZE = 100;
+
 	private final ApplicationRepository applicationRepository;
 	private final MailingService mailingService;
 	private final UserRepository userRepository;
-	private final ResearchGroupService researchGroupService;
 
 	/**
-	 * Injects the application repository, mailing service, user repository, and research group service.
+	 * Injects the application repository, mailing service, and user repository.
 	 *
 	 * @param applicationRepository the application repository
 	 * @param mailingService the mailing service
 	 * @param userRepository the user repository
-	 * @param researchGroupService the research group service
 	 */
-	public ApplicationReminder(ApplicationRepository applicationRepository, MailingService mailingService, UserRepository userRepository,
-		ResearchGroupService researchGroupService) {
+	public ApplicationReminder(ApplicationRepository applicationRepository, MailingService mailingService, UserRepository userRepository) {
 		this.applicationRepository = applicationRepository;
 		this.mailingService = mailingService;
 		this.userRepository = userRepository;
-		this.researchGroupService = researchGroupService;
 	}
 
 	@Scheduled(cron = "0 0 10 * * WED")
 	public void emailReminder() {
-		for (ResearchGroup researchGroup : researchGroupService.getAll(null, null, false, null, 0,
-			-1, "name", "asc").getContent()) {
-			for (User user : userRepository.getRoleMembers(Set.of("admin", "supervisor", "advisor"),
-				researchGroup.getId())) {
-				long unreviewedApplications =
-					applicationRepository.countUnreviewedApplications(user.getId(),
-						user.getResearchGroup().getId());
-
-				if (unreviewedApplications > 0) {
-					mailingService.sendApplicationReminderEmail(user, unreviewedApplications);
+		// One grouped query instead of a count per research group member, members without unreviewed
+		// applications are not part of the result
+		List<UnreviewedApplicationCountRowDto> counts =
+				applicationRepository.countUnreviewedApplicationsByMember(REMINDER_GROUPS);
+
+		int sentReminders = 0;
+
+		for (int start = 0; start < counts.size(); start += USER_BATCH_SIZE) {
+			List<UnreviewedApplicationCountRowDto> batch = counts.subList(start, Math.min(start + USER_BATCH_SIZE, counts.size()));
+
+			Map<UUID, User> users = userRepository.findAllById(batch.stream().map(UnreviewedApplicationCountRowDto::userId).toList())
+					.stream()
+					.collect(Collectors.toMap(User::getId, Function.identity()));
+
+			for (UnreviewedApplicationCountRowDto count : batch) {
+				User user = users.get(count.userId());
+
+				if (user == null) {
+					continue;
+				}
+
+				try {
+					mailingService.sendApplicationReminderEmail(user, count.unreviewedApplications());
+					sentReminders++;
+				} catch (Exception e) {
+					log.error("Failed to send application reminder to user {}: {}", user.getId(), e.getMessage(), e);
 				}
 			}
 		}
 
-		log.info("Scheduled task executed at {}", Instant.now());
+		log.info("Scheduled task executed at {}, sent {} application reminders", Instant.now(), sentReminders);
 	}
 }
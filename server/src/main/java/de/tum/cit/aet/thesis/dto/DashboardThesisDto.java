@@ -0,0 +1,20 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
+import de.tum.cit.aet.thesis.constants.ThesisState;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DashboardThesisDto(
+		UUID thesisId,
+		String title,
+		ThesisState state,
+		ThesisRoleName role,
+		Instant startDate,
+		Instant endDate,
+		boolean missingAbstractOrInfo,
+		long proposalCount,
+		long presentationCount,
+		long draftedPresentationCount
+) { }
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.thesis.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -10,9 +11,10 @@ public record PaginationDto<T>(
 		List<T> content,
 		int pageNumber,
 		int pageSize,
-		long totalElements,
-		int totalPages,
-		boolean last
+		Long totalElements,
+		Integer totalPages,
+		boolean last,
+		String nextCursor
 ) {
 	public static <E> PaginationDto<E> fromSpringPage(Page<E> page) {
 		if (page == null) {
@@ -25,7 +27,26 @@ public record PaginationDto<T>(
 			page.getSize(),
 			page.getTotalElements(),
 			page.getTotalPages(),
-			page.isLast()
+			page.isLast(),
+			null
+		);
+	}
+
+	public static <E> PaginationDto<E> fromKeysetPage(KeysetPage<E> page) {
+		if (page == null) {
+			return null;
+		}
+
+		Long totalElements = page.totalElements();
+
+		return new PaginationDto<E>(
+			page.content(),
+			0,
+			page.pageSize(),
+			totalElements,
+			totalElements == null ? null : (int) Math.ceil((double) totalElements / page.pageSize()),
+			page.nextCursor() == null,
+			page.nextCursor()
 		);
 	}
 }
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.thesis.dto;
 
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.ThesisState;
 import de.tum.cit.aet.thesis.entity.Thesis;
 
@@ -39,4 +40,24 @@ public record PublishedThesisDto(
 				MinimalResearchGroupDto.fromResearchGroupEntity(thesis.getResearchGroup())
 		);
 	}
+
+	public static PublishedThesisDto fromRows(PublishedThesisRowDto thesis, List<ThesisRoleRowDto> roles) {
+		if (thesis == null) {
+			return null;
+		}
+
+		return new PublishedThesisDto(
+				thesis.id(),
+				thesis.state(),
+				thesis.title(),
+				thesis.type(),
+				thesis.startDate(),
+				thesis.endDate(),
+				thesis.abstractField(),
+				ThesisRoleRowDto.usersWithRole(roles, ThesisRoleName.STUDENT),
+				ThesisRoleRowDto.usersWithRole(roles, ThesisRoleName.SUPERVISOR),
+				ThesisRoleRowDto.usersWithRole(roles, ThesisRoleName.EXAMINER),
+				new MinimalResearchGroupDto(thesis.researchGroupId(), thesis.researchGroupName())
+		);
+	}
 }
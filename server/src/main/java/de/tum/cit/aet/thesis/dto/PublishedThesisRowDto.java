@@ -0,0 +1,19 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ThesisState;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record PublishedThesisRowDto(
+		UUID id,
+		ThesisState state,
+		String title,
+		String type,
+		Instant startDate,
+		Instant endDate,
+		Instant createdAt,
+		String abstractField,
+		UUID researchGroupId,
+		String researchGroupName
+) { }
@@ -59,21 +59,31 @@ public record ThesisDto(
 ) {
 
 public static List<ThesisStateChangeDto> computeStateChanges(Thesis thesis) {
+	return computeStateChanges(thesis.getStates().stream()
+		.map(stateChange -> new ThesisStateChangeRowDto(
+			thesis.getId(),
+			stateChange.getId().getState(),
+			stateChange.getChangedAt()
+		))
+		.toList());
+}
+
+public static List<ThesisStateChangeDto> computeStateChanges(List<ThesisStateChangeRowDto> rows) {
 	List<ThesisStateChangeDto> states = new ArrayList<>();
-	List<ThesisStateChange> stateChanges = thesis.getStates().stream()
-		.sorted(Comparator.comparing(ThesisStateChange::getChangedAt)).toList();
+	List<ThesisStateChangeRowDto> stateChanges = rows.stream()
+		.sorted(Comparator.comparing(ThesisStateChangeRowDto::changedAt)).toList();
 
 	for (int i = 0; i < stateChanges.size(); i++) {
-	ThesisStateChange stateChange = stateChanges.get(i);
+	ThesisStateChangeRowDto stateChange = stateChanges.get(i);
 	Instant endedAt =
-		i + 1 < stateChanges.size() ? stateChanges.get(i + 1).getChangedAt() : Instant.now();
+		i + 1 < stateChanges.size() ? stateChanges.get(i + 1).changedAt() : Instant.now();
 
-	if (stateChange.getId().getState() == ThesisState.FINISHED
-		|| stateChange.getId().getState() == ThesisState.DROPPED_OUT) {
-		endedAt = stateChange.getChangedAt();
+	if (stateChange.state() == ThesisState.FINISHED
+		|| stateChange.state() == ThesisState.DROPPED_OUT) {
+		endedAt = stateChange.changedAt();
 	}
 
-	states.add(ThesisStateChangeDto.fromStateChangeEntity(stateChange, endedAt));
+	states.add(new ThesisStateChangeDto(stateChange.state(), stateChange.changedAt(), endedAt));
 	}
 
 	return states;
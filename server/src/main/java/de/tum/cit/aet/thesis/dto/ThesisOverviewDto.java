@@ -2,6 +2,7 @@ package de.tum.cit.aet.thesis.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import de.tum.cit.aet.thesis.constants.ThesisPresentationType;
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.ThesisState;
 import de.tum.cit.aet.thesis.entity.Thesis;
 import de.tum.cit.aet.thesis.entity.ThesisPresentation;
@@ -46,6 +47,18 @@ public record ThesisOverviewDto(
 				presentation.getScheduledAt()
 			);
 		}
+
+		public static ThesisPresentationOverviewDto fromPresentationRow(ThesisPresentationRowDto presentation) {
+			if (presentation == null) {
+				return null;
+			}
+
+			return new ThesisPresentationOverviewDto(
+				presentation.presentationId(),
+				presentation.type(),
+				presentation.scheduledAt()
+			);
+		}
 	}
 
 	public static ThesisOverviewDto fromThesisEntity(Thesis thesis) {
@@ -82,4 +95,32 @@ public record ThesisOverviewDto(
 			presentations
 		);
 	}
+
+	public static ThesisOverviewDto fromRows(
+		ThesisOverviewRowDto thesis,
+		List<ThesisRoleRowDto> roles,
+		List<ThesisStateChangeRowDto> states,
+		List<ThesisPresentationRowDto> presentations
+	) {
+		if (thesis == null) {
+			return null;
+		}
+
+		return new ThesisOverviewDto(
+			thesis.id(),
+			thesis.title(),
+			thesis.type(),
+			thesis.state(),
+			thesis.startDate(),
+			thesis.endDate(),
+			thesis.createdAt(),
+			thesis.keywords(),
+			ThesisRoleRowDto.usersWithRole(roles, ThesisRoleName.STUDENT),
+			ThesisRoleRowDto.usersWithRole(roles, ThesisRoleName.SUPERVISOR),
+			ThesisRoleRowDto.usersWithRole(roles, ThesisRoleName.EXAMINER),
+			new MinimalResearchGroupDto(thesis.researchGroupId(), thesis.researchGroupName()),
+			ThesisDto.computeStateChanges(states),
+			presentations.stream().map(ThesisPresentationOverviewDto::fromPresentationRow).toList()
+		);
+	}
 }
@@ -0,0 +1,20 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ThesisState;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record ThesisOverviewRowDto(
+		UUID id,
+		String title,
+		String type,
+		ThesisState state,
+		Instant startDate,
+		Instant endDate,
+		Instant createdAt,
+		Set<String> keywords,
+		UUID researchGroupId,
+		String researchGroupName
+) { }
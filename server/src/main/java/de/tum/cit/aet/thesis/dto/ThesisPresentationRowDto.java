@@ -0,0 +1,13 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ThesisPresentationType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ThesisPresentationRowDto(
+		UUID thesisId,
+		UUID presentationId,
+		ThesisPresentationType type,
+		Instant scheduledAt
+) { }
@@ -0,0 +1,27 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ThesisRoleRowDto(
+		UUID thesisId,
+		ThesisRoleName role,
+		UUID userId,
+		String firstName,
+		String lastName,
+		String avatar
+) {
+	public static List<MinimalUserDto> usersWithRole(List<ThesisRoleRowDto> roles, ThesisRoleName role) {
+		return roles.stream()
+				.filter(row -> row.role() == role)
+				.map(row -> new MinimalUserDto(
+						row.userId(),
+						row.firstName(),
+						row.lastName(),
+						row.avatar() == null || row.avatar().isBlank() ? null : row.avatar()
+				))
+				.toList();
+	}
+}
@@ -0,0 +1,8 @@
+package de.tum.cit.aet.thesis.dto;
+
+import de.tum.cit.aet.thesis.constants.ThesisState;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ThesisStateChangeRowDto(UUID thesisId, ThesisState state, Instant changedAt) { }
@@ -0,0 +1,5 @@
+package de.tum.cit.aet.thesis.dto;
+
+import java.util.UUID;
+
+public record UnreviewedApplicationCountRowDto(UUID userId, long unreviewedApplications) { }
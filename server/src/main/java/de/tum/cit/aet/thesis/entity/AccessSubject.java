@@ -0,0 +1,25 @@
+package de.tum.cit.aet.thesis.entity;
+
+import java.util.UUID;
+
+/**
+ * The identity and groups that the access checks of the entities are evaluated against. Implemented by
+ * the {@link User} entity and by the cached principal of the authenticated user, so that a request does
+ * not have to load the user only to check its permissions.
+ */
+public interface AccessSubject {
+	/**
+	 * Returns the ID of the user.
+	 *
+	 * @return the user ID
+	 */
+	UUID getId();
+
+	/**
+	 * Checks whether the user is a member of at least one of the groups.
+	 *
+	 * @param groups the group names
+	 * @return true if the user is a member of any of the groups
+	 */
+	boolean hasAnyGroup(String... groups);
+}
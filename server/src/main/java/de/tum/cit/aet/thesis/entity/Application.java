@@ -4,6 +4,7 @@ import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
 import de.tum.cit.aet.thesis.constants.ApplicationState;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 
 import jakarta.persistence.Column;
@@ -16,6 +17,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
@@ -31,7 +35,18 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "applications")
+@NamedEntityGraph(
+		name = Application.DETAIL_GRAPH,
+		attributeNodes = {
+				@NamedAttributeNode("user"),
+				@NamedAttributeNode("topic"),
+				@NamedAttributeNode(value = "reviewers", subgraph = "reviewers")
+		},
+		subgraphs = @NamedSubgraph(name = "reviewers", attributeNodes = @NamedAttributeNode("user"))
+)
 public class Application {
+	/** Fetch plan for the application detail view and mails, see {@link Thesis#DETAIL_GRAPH}. */
+	public static final String DETAIL_GRAPH = "Application.detail";
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
@@ -39,7 +54,7 @@ public class Application {
 	private UUID id;
 
 	@NotNull
-	@ManyToOne(fetch = FetchType.EAGER, optional = false)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "user_id", nullable = false)
 	private User user;
 
@@ -100,11 +115,12 @@ public class Application {
 	@JoinColumn(name = "research_group_id", nullable = false)
 	private ResearchGroup researchGroup;
 
-	@OneToMany(mappedBy = "application", fetch = FetchType.EAGER)
+	@OneToMany(mappedBy = "application", fetch = FetchType.LAZY)
 	@OrderBy("reviewedAt ASC")
+	@BatchSize(size = 50)
 	private List<ApplicationReviewer> reviewers = new ArrayList<>();
 
-	public boolean hasReadAccess(User user) {
+	public boolean hasReadAccess(AccessSubject user) {
 		if (user.hasAnyGroup("admin", "advisor", "supervisor")) {
 			return true;
 		}
@@ -112,7 +128,7 @@ public class Application {
 		return this.user.getId().equals(user.getId());
 	}
 
-	public boolean hasEditAccess(User user) {
+	public boolean hasEditAccess(AccessSubject user) {
 		if (user.hasAnyGroup("admin")) {
 			return true;
 		}
@@ -120,7 +136,7 @@ public class Application {
 		return this.user.getId().equals(user.getId());
 	}
 
-	public boolean hasManagementAccess(User user) {
+	public boolean hasManagementAccess(AccessSubject user) {
 		return user.hasAnyGroup("admin", "advisor", "supervisor");
 	}
 
@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.Instant;
@@ -50,4 +51,8 @@ public class InterviewSlot {
 
 	@Column(name = "stream_link")
 	private String streamLink;
+
+	@Version
+	@Column(name = "version", nullable = false)
+	private long version;
 }
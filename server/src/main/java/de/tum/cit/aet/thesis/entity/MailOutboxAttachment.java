@@ -0,0 +1,30 @@
+package de.tum.cit.aet.thesis.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * An attachment of a queued mail. Stored files are referenced by their name in the upload storage and
+ * only read while the mail is sent, in-memory attachments (e.g. calendar invites) keep their content.
+ */
+@Getter
+@Setter
+@Embeddable
+public class MailOutboxAttachment {
+	@NotNull
+	@Column(name = "filename", nullable = false)
+	private String filename;
+
+	@Column(name = "stored_file")
+	private String storedFile;
+
+	@Column(name = "content")
+	private byte[] content;
+
+	@Column(name = "content_type")
+	private String contentType;
+}
@@ -0,0 +1,82 @@
+package de.tum.cit.aet.thesis.entity;
+
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "mail_outbox")
+public class MailOutboxEntry {
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "mail_id", nullable = false)
+	private UUID id;
+
+	@NotNull
+	@Column(name = "subject", nullable = false)
+	private String subject;
+
+	@NotNull
+	@Column(name = "recipients", nullable = false)
+	private String recipients;
+
+	/** The user the mail is addressed to, used to remove the queued mails of deleted users. */
+	@Column(name = "recipient_id")
+	private UUID recipientId;
+
+	/**
+	 * The rendered RFC 822 message without its attachments, which are added while the mail is sent.
+	 * Cleared once the mail was delivered so that personal data does not linger in the outbox.
+	 */
+	@Column(name = "mime_message")
+	private byte[] mimeMessage;
+
+	@ElementCollection
+	@CollectionTable(name = "mail_outbox_attachments", joinColumns = @JoinColumn(name = "mail_id"))
+	@OrderColumn(name = "position")
+	private List<MailOutboxAttachment> attachments = new ArrayList<>();
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(name = "state", nullable = false)
+	private MailOutboxState state;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@NotNull
+	@Column(name = "next_attempt_at", nullable = false)
+	private Instant nextAttemptAt;
+
+	@Column(name = "last_error")
+	private String lastError;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	@Column(name = "sent_at")
+	private Instant sentAt;
+}
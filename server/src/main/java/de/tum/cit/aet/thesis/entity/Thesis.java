@@ -21,6 +21,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
@@ -38,7 +41,22 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "theses")
+@NamedEntityGraph(
+		name = Thesis.DETAIL_GRAPH,
+		attributeNodes = {
+				@NamedAttributeNode(value = "roles", subgraph = "roles"),
+				@NamedAttributeNode("states"),
+				@NamedAttributeNode("researchGroup")
+		},
+		subgraphs = @NamedSubgraph(name = "roles", attributeNodes = @NamedAttributeNode("user"))
+)
 public class Thesis {
+	/**
+	 * Fetch plan for views that work on a single thesis (detail page, mails, PDF export). Lists rely on
+	 * batch fetching instead, because fetch joining collections would break SQL pagination.
+	 */
+	public static final String DETAIL_GRAPH = "Thesis.detail";
+
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
@@ -111,13 +129,17 @@ public class Thesis {
 	@Column(name = "anonymization_notified_at")
 	private Instant anonymizationNotifiedAt;
 
+	@Column(name = "retention_expires_at")
+	private Instant retentionExpiresAt;
+
 	@NotNull
 	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "research_group_id", nullable = false)
 	private ResearchGroup researchGroup;
 
-	@OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+	@OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
 	@OrderBy("position ASC")
+	@BatchSize(size = 50)
 	private List<ThesisRole> roles = new ArrayList<>();
 
 	@OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
@@ -141,7 +163,8 @@ public class Thesis {
 	@OrderBy("uploadedAt DESC")
 	private List<ThesisFile> files = new ArrayList<>();
 
-	@OneToMany(mappedBy = "thesis", fetch = FetchType.EAGER)
+	@OneToMany(mappedBy = "thesis", fetch = FetchType.LAZY)
+	@BatchSize(size = 50)
 	private Set<ThesisStateChange> states = new HashSet<>();
 
 	public boolean isAnonymized() {
@@ -184,7 +207,7 @@ public class Thesis {
 		return result;
 	}
 
-	public boolean hasExaminerAccess(User user) {
+	public boolean hasExaminerAccess(AccessSubject user) {
 		if (user == null) {
 			return false;
 		}
@@ -206,7 +229,7 @@ public class Thesis {
 		return false;
 	}
 
-	public boolean hasSupervisorAccess(User user) {
+	public boolean hasSupervisorAccess(AccessSubject user) {
 		if (user == null) {
 			return false;
 		}
@@ -228,7 +251,7 @@ public class Thesis {
 		return false;
 	}
 
-	public boolean hasStudentAccess(User user) {
+	public boolean hasStudentAccess(AccessSubject user) {
 		if (user == null) {
 			return false;
 		}
@@ -247,7 +270,7 @@ public class Thesis {
 		return false;
 	}
 
-	public boolean hasReadAccess(User user) {
+	public boolean hasReadAccess(AccessSubject user) {
 		if (visibility == ThesisVisibility.PUBLIC && state == ThesisState.FINISHED) {
 			return true;
 		}
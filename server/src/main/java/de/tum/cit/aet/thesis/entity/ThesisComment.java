@@ -61,7 +61,7 @@ public class ThesisComment {
 	@JoinColumn(name = "created_by", nullable = false)
 	private User createdBy;
 
-	public boolean hasManagementAccess(User user) {
+	public boolean hasManagementAccess(AccessSubject user) {
 		return user.hasAnyGroup("admin") || createdBy.getId().equals(user.getId());
 	}
 
@@ -88,7 +88,7 @@ public class ThesisPresentation {
 	@OrderBy("invitedAt ASC")
 	private List<ThesisPresentationInvite> invites = new ArrayList<>();
 
-	public boolean hasManagementAccess(User user) {
+	public boolean hasManagementAccess(AccessSubject user) {
 		return thesis.hasSupervisorAccess(user) || createdBy.getId().equals(user.getId());
 	}
 
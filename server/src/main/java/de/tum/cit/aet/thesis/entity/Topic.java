@@ -4,6 +4,7 @@ import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.TopicState;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -33,6 +34,7 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "topics")
+@BatchSize(size = 50)
 public class Topic {
 
 	@Id
@@ -98,6 +100,7 @@ public class Topic {
 
 	@OneToMany(mappedBy = "topic", fetch = FetchType.EAGER)
 	@OrderBy("position ASC")
+	@BatchSize(size = 50)
 	private List<TopicRole> roles = new ArrayList<>();
 
 	public List<User> getSupervisors() {
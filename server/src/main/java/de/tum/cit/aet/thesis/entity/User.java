@@ -2,6 +2,7 @@ package de.tum.cit.aet.thesis.entity;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -33,7 +34,8 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "users")
-public class User {
+@BatchSize(size = 50)
+public class User implements AccessSubject {
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
 	@Column(name = "user_id", nullable = false)
@@ -107,6 +109,10 @@ public class User {
 	@Column(name = "enrolled_at")
 	private Instant enrolledAt;
 
+	// Generated by the database from the name, email, matriculation number and university id
+	@Column(name = "search_text", insertable = false, updatable = false)
+	private String searchText;
+
 	@UpdateTimestamp
 	@NotNull
 	@Column(name = "updated_at", nullable = false)
@@ -125,6 +131,7 @@ public class User {
 	private ResearchGroup researchGroup;
 
 	@OneToMany(mappedBy = "user", fetch = FetchType.EAGER)
+	@BatchSize(size = 50)
 	private Set<UserGroup> groups = new HashSet<>();
 
 	@OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
@@ -154,6 +161,7 @@ public class User {
 		return groups.isEmpty();
 	}
 
+	@Override
 	public boolean hasAnyGroup(String... groups) {
 		for (String group : groups) {
 			for (UserGroup userGroup : getGroups()) {
@@ -166,7 +174,7 @@ public class User {
 		return false;
 	}
 
-	public boolean hasFullAccess(User user) {
+	public boolean hasFullAccess(AccessSubject user) {
 		if (user.hasAnyGroup("admin", "supervisor", "advisor")) {
 			return true;
 		}
@@ -5,6 +5,7 @@ import de.tum.cit.aet.thesis.exception.request.AccessDeniedException;
 import de.tum.cit.aet.thesis.exception.request.ResourceAlreadyExistsException;
 import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 import tools.jackson.core.JacksonException;
 
 import java.text.ParseException;
+import java.time.Instant;
 
 @ControllerAdvice
 public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
@@ -28,6 +30,12 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
 		return handleExceptionInternal(ex, ErrorDto.fromException(ex), new HttpHeaders(), HttpStatus.CONFLICT, request);
 	}
 
+	@ExceptionHandler({ OptimisticLockingFailureException.class })
+	protected ResponseEntity<Object> handleConcurrentModification(RuntimeException ex, WebRequest request) {
+		ErrorDto error = new ErrorDto(Instant.now(), "The resource was changed by another request, please reload and try again");
+		return handleExceptionInternal(ex, error, new HttpHeaders(), HttpStatus.CONFLICT, request);
+	}
+
 	@ExceptionHandler({
 			ParseException.class,
 			ResourceInvalidParametersException.class,
@@ -42,8 +50,18 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
 		return handleExceptionInternal(ex, ErrorDto.fromException(ex), new HttpHeaders(), HttpStatus.FORBIDDEN, request);
 	}
 
+	@ExceptionHandler({ TooManyRequestsException.class })
+	protected ResponseEntity<Object> handleTooManyRequests(RuntimeException ex, WebRequest request) {
+		return handleExceptionInternal(ex, ErrorDto.fromException(ex), new HttpHeaders(), HttpStatus.TOO_MANY_REQUESTS, request);
+	}
+
 	@ExceptionHandler({ MailingException.class, UploadException.class })
 	protected ResponseEntity<Object> handleServerError(RuntimeException ex, WebRequest request) {
 		return handleExceptionInternal(ex, ErrorDto.fromException(ex), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
 	}
+
+	@ExceptionHandler({ ServiceUnavailableException.class })
+	protected ResponseEntity<Object> handleServiceUnavailable(RuntimeException ex, WebRequest request) {
+		return handleExceptionInternal(ex, ErrorDto.fromException(ex), new HttpHeaders(), HttpStatus.SERVICE_UNAVAILABLE, request);
+	}
 }
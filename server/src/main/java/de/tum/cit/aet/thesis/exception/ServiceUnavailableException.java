@@ -0,0 +1,7 @@
+package de.tum.cit.aet.thesis.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+	public ServiceUnavailableException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,7 @@
+package de.tum.cit.aet.thesis.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+	public TooManyRequestsException(String message) {
+		super(message);
+	}
+}
@@ -1,12 +1,13 @@
 package de.tum.cit.aet.thesis.repository;
 
-import de.tum.cit.aet.thesis.constants.ApplicationState;
+import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
+import de.tum.cit.aet.thesis.dto.UnreviewedApplicationCountRowDto;
 import de.tum.cit.aet.thesis.entity.Application;
 import de.tum.cit.aet.thesis.entity.Topic;
 import de.tum.cit.aet.thesis.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,46 +15,18 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, UUID> {
-	@Query("""
-			SELECT DISTINCT a FROM Application a WHERE
-			(:userId IS NULL OR a.user.id = :userId) AND
-			(:researchGroupId IS NULL OR a.researchGroup.id = :researchGroupId) AND
-			(:states IS NULL OR a.state IN :states OR (:previousIds IS NOT NULL AND a.id IN :previousIds)) AND
-			(:reviewerId IS NULL OR NOT EXISTS (
-				SELECT ar FROM ApplicationReviewer ar
-				WHERE a.id = ar.application.id
-				AND ar.user.id = :reviewerId
-				AND ar.reason = 'NOT_INTERESTED'
-			) OR (:previousIds IS NOT NULL AND a.id IN :previousIds)) AND
-			(:includeSuggestedTopics = true OR a.topic IS NOT NULL) AND
-			(:topics IS NULL OR a.topic.id IN :topics OR (:includeSuggestedTopics = true AND a.topic IS NULL)) AND
-			(:types IS NULL OR a.thesisType IN :types) AND
-			(:searchQuery IS NULL OR (
-				LOWER(a.user.firstName) || ' ' || LOWER(a.user.lastName) LIKE %:searchQuery% OR
-				LOWER(a.user.email) LIKE %:searchQuery% OR
-				LOWER(a.user.matriculationNumber) LIKE %:searchQuery% OR
-				LOWER(a.user.universityId) LIKE %:searchQuery%
-			))
-			""")
-	Page<Application> searchApplications(
-			@Param("researchGroupId") UUID researchGroupId,
-			@Param("userId") UUID userId,
-			@Param("reviewerId") UUID reviewerId,
-			@Param("searchQuery") String searchQuery,
-			@Param("states") Set<ApplicationState> states,
-			@Param("previousIds") Set<UUID> previousIds,
-			@Param("topics") Set<UUID> topics,
-			@Param("types") Set<String> types,
-			@Param("includeSuggestedTopics") boolean includeSuggestedTopics,
-			Pageable page
-	);
+public interface ApplicationRepository extends JpaRepository<Application, UUID>, JpaSpecificationExecutor<Application> {
+	@EntityGraph(Application.DETAIL_GRAPH)
+	Optional<Application> findWithDetailsById(UUID applicationId);
 
+	@EntityGraph(attributePaths = {"user", "reviewers"})
 	@Query
 			("SELECT a FROM Application a WHERE a.state = 'NOT_ASSESSED' AND a.topic IS NULL AND a.researchGroup.id = :researchGroupID")
 	List<Application> findNotReviewedSuggestedByResearchGroup(@Param("researchGroupID") UUID researchGroupID);
@@ -74,6 +47,33 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 	long countUnreviewedApplications(@Param("userId") UUID userId,
 									@Param("researchGroupId") UUID researchGroupId);
 
+	// Same rules as countUnreviewedApplications, evaluated for all members with one of the given groups
+	// in their (not archived) research group at once
+	@Query("""
+			SELECT new de.tum.cit.aet.thesis.dto.UnreviewedApplicationCountRowDto(u.id, COUNT(DISTINCT a.id))
+			FROM User u
+			JOIN u.researchGroup rg
+			JOIN Application a ON a.researchGroup.id = rg.id
+			LEFT JOIN a.topic t
+			WHERE rg.archived = FALSE AND
+					(t.researchGroup.id IS NULL OR t.researchGroup.id = rg.id) AND
+					a.state = 'NOT_ASSESSED' AND
+					EXISTS (
+						SELECT g FROM UserGroup g
+						WHERE g.id.userId = u.id AND g.id.group IN :roles
+					) AND
+					(t IS NULL OR EXISTS (
+						SELECT r FROM TopicRole r
+						WHERE r.topic.id = t.id AND r.user.id = u.id
+					)) AND
+					NOT EXISTS (
+						SELECT ar FROM ApplicationReviewer ar
+						WHERE ar.application.id = a.id AND ar.user.id = u.id
+					)
+			GROUP BY u.id
+			""")
+	List<UnreviewedApplicationCountRowDto> countUnreviewedApplicationsByMember(@Param("roles") Set<String> roles);
+
 	@Query("""
 			SELECT EXISTS (
 				SELECT a FROM Application a
@@ -97,6 +97,69 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 	@Query("DELETE FROM Application a WHERE a.id = :id")
 	void deleteApplicationById(@Param("id") UUID id);
 
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM Application a WHERE a.id IN :ids")
+	int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+	/**
+	 * Finds the unassessed applications of all research groups with automatic rejects enabled whose
+	 * automatic rejection date lies in the given range. Applications are rejected at the later of
+	 * 14 days after their creation and the reject duration (at least 14 days) after the topic's
+	 * application deadline, the topic's intended start, or the creation of the application, in this
+	 * order of precedence. Only applications for open topics and suggested topics are considered.
+	 *
+	 * @param rejectedFrom the inclusive start of the rejection date range
+	 * @param rejectedBefore the exclusive end of the rejection date range
+	 * @param createdBefore only applications created before this instant can be due, i.e. 14 days
+	 *                      before rejectedBefore; lets the query use the index on unassessed applications
+	 * @return the ids of the matching applications
+	 */
+	@Query(value = """
+			SELECT a.application_id FROM applications a
+			LEFT JOIN topics t ON t.topic_id = a.topic_id
+			JOIN research_group_settings s ON s.research_group_id = COALESCE(t.research_group_id, a.research_group_id)
+			WHERE s.automatic_reject_enabled = TRUE
+			AND a.state = 'NOT_ASSESSED'
+			AND a.created_at < :createdBefore
+			AND (a.topic_id IS NULL OR (t.closed_at IS NULL AND t.published_at IS NOT NULL))
+			AND GREATEST(
+				a.created_at + INTERVAL '14 days',
+				COALESCE(t.application_deadline, t.intended_start, a.created_at)
+						+ MAKE_INTERVAL(days => GREATEST(s.reject_duration * 7, 14))
+			) >= :rejectedFrom
+			AND GREATEST(
+				a.created_at + INTERVAL '14 days',
+				COALESCE(t.application_deadline, t.intended_start, a.created_at)
+						+ MAKE_INTERVAL(days => GREATEST(s.reject_duration * 7, 14))
+			) < :rejectedBefore
+			""", nativeQuery = true)
+	List<UUID> findAutomaticRejectCandidateIds(
+			@Param("rejectedFrom") Instant rejectedFrom,
+			@Param("rejectedBefore") Instant rejectedBefore,
+			@Param("createdBefore") Instant createdBefore
+	);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE Application a
+			SET a.state = de.tum.cit.aet.thesis.constants.ApplicationState.REJECTED,
+				a.rejectReason = :reason,
+				a.reviewedAt = :reviewedAt
+			WHERE a.id IN :ids
+			AND a.state = de.tum.cit.aet.thesis.constants.ApplicationState.NOT_ASSESSED
+			""")
+	int rejectAllNotAssessedByIdIn(
+			@Param("ids") Collection<UUID> ids,
+			@Param("reason") ApplicationRejectReason reason,
+			@Param("reviewedAt") Instant reviewedAt
+	);
+
+	@EntityGraph(Application.DETAIL_GRAPH)
+	List<Application> findAllWithDetailsByIdIn(Collection<UUID> ids);
+
+	@EntityGraph(attributePaths = {"user", "reviewers"})
 	List<Application> findAllByTopic(Topic topic);
 
 	List<Application> findAllByUser(User user);
@@ -115,4 +178,9 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 	@Transactional
 	@Query("DELETE FROM Application a WHERE a.user.id = :userId")
 	void deleteAllByUserId(@Param("userId") UUID userId);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM Application a WHERE a.user.id IN :userIds")
+	int deleteAllByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
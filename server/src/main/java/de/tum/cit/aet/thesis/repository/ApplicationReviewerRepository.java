@@ -5,9 +5,12 @@ import de.tum.cit.aet.thesis.entity.key.ApplicationReviewerId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.UUID;
 
 
@@ -17,4 +20,54 @@ public interface ApplicationReviewerRepository extends JpaRepository<Application
 	@Transactional
 	@Query("DELETE FROM ApplicationReviewer ar WHERE ar.application.id = :applicationId")
 	void deleteByApplicationId(UUID applicationId);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ApplicationReviewer ar WHERE ar.application.id IN :applicationIds")
+	int deleteAllByApplicationIdIn(@Param("applicationIds") Collection<UUID> applicationIds);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			DELETE FROM ApplicationReviewer ar
+			WHERE ar.application.id IN (SELECT a.id FROM Application a WHERE a.user.id IN :userIds)
+			""")
+	int deleteAllByApplicationUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+	/**
+	 * Records the automatic rejection of the given unassessed applications as a review by the first
+	 * examiner of the topic, or by the head of the research group for suggested topics and topics
+	 * without examiner.
+	 *
+	 * @param applicationIds the applications to review
+	 * @param reason the review reason to store
+	 * @param reviewedAt the time of the review
+	 * @return the number of stored reviews
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = """
+			INSERT INTO application_reviewers (application_id, user_id, reason, reviewed_at)
+			SELECT a.application_id, reviewer.user_id, :reason, :reviewedAt
+			FROM applications a
+			JOIN research_groups rg ON rg.research_group_id = a.research_group_id
+			CROSS JOIN LATERAL (
+				SELECT COALESCE(
+					(SELECT tr.user_id FROM topic_roles tr
+					WHERE tr.topic_id = a.topic_id AND tr.role = 'EXAMINER'
+					ORDER BY tr.position LIMIT 1),
+					rg.head_user_id
+				) AS user_id
+			) reviewer
+			WHERE a.application_id IN (:applicationIds)
+			AND a.state = 'NOT_ASSESSED'
+			AND reviewer.user_id IS NOT NULL
+			ON CONFLICT (application_id, user_id) DO UPDATE
+			SET reason = EXCLUDED.reason, reviewed_at = EXCLUDED.reviewed_at
+			""", nativeQuery = true)
+	int reviewAllNotAssessedByIdIn(
+			@Param("applicationIds") Collection<UUID> applicationIds,
+			@Param("reason") String reason,
+			@Param("reviewedAt") Instant reviewedAt
+	);
 }
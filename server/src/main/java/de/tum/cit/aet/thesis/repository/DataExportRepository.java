@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +21,13 @@ public interface DataExportRepository extends JpaRepository<DataExport, UUID> {
 
 	List<DataExport> findAllByStateIn(List<DataExportState> states);
 
+	List<DataExport> findAllByUserIdIn(Collection<UUID> userIds);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM DataExport e WHERE e.user.id IN :userIds")
+	int deleteAllByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
 	@Query("SELECT e FROM DataExport e JOIN FETCH e.user WHERE e.id = :id")
 	DataExport findByIdWithUser(@Param("id") UUID id);
 
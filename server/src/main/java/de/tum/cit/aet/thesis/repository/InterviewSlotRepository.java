@@ -0,0 +1,35 @@
+package de.tum.cit.aet.thesis.repository;
+
+import de.tum.cit.aet.thesis.entity.InterviewSlot;
+import de.tum.cit.aet.thesis.entity.Interviewee;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Repository
+public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, UUID> {
+	@Modifying(flushAutomatically = true)
+	@Transactional
+	@Query("""
+		UPDATE InterviewSlot s
+		SET s.interviewee = :interviewee, s.version = s.version + 1
+		WHERE s.id = :slotId
+		AND s.interviewProcess.id = :interviewProcessId
+		AND s.interviewee IS NULL
+		AND NOT EXISTS (
+			SELECT 1
+			FROM InterviewSlot booked
+			WHERE booked.interviewee = :interviewee
+		)
+	""")
+	int bookIfAvailable(
+			@Param("interviewProcessId") UUID interviewProcessId,
+			@Param("slotId") UUID slotId,
+			@Param("interviewee") Interviewee interviewee
+	);
+}
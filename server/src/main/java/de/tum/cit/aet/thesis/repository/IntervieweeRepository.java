@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -39,4 +40,14 @@ public interface IntervieweeRepository extends JpaRepository<Interviewee, UUID>
 			@Param("state") String state,
 			Pageable pageable
 	);
+
+	@Query("""
+		SELECT i FROM Interviewee i
+		WHERE i.interviewProcess.id = :interviewProcessId
+		AND i.application.user.id = :userId
+		""")
+	List<Interviewee> findAllByInterviewProcessIdAndUserId(
+			@Param("interviewProcessId") UUID interviewProcessId,
+			@Param("userId") UUID userId
+	);
 }
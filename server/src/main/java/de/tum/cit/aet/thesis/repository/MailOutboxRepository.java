@@ -0,0 +1,84 @@
+package de.tum.cit.aet.thesis.repository;
+
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntry, UUID> {
+	@Query("""
+			SELECT m.id FROM MailOutboxEntry m
+			WHERE m.state = 'PENDING'
+			AND m.nextAttemptAt <= :now
+			ORDER BY m.nextAttemptAt ASC
+			""")
+	List<UUID> findDueIds(@Param("now") Instant now, Limit limit);
+
+	@EntityGraph(attributePaths = "attachments")
+	List<MailOutboxEntry> findAllWithAttachmentsByIdIn(List<UUID> ids);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE MailOutboxEntry m
+			SET m.state = 'SENDING', m.nextAttemptAt = :leaseUntil
+			WHERE m.id = :id AND m.state = 'PENDING'
+			""")
+	int claimForSending(@Param("id") UUID id, @Param("leaseUntil") Instant leaseUntil);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE MailOutboxEntry m
+			SET m.state = 'PENDING'
+			WHERE m.state = 'SENDING' AND m.nextAttemptAt < :now
+			""")
+	int releaseExpiredClaims(@Param("now") Instant now);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE MailOutboxEntry m
+			SET m.state = 'SENT', m.sentAt = :sentAt, m.attempts = m.attempts + 1, m.mimeMessage = NULL, m.lastError = NULL
+			WHERE m.id = :id
+			""")
+	int markSent(@Param("id") UUID id, @Param("sentAt") Instant sentAt);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			DELETE FROM MailOutboxEntry m
+			WHERE (m.state = 'SENT' AND m.sentAt < :sentBefore)
+			OR (m.state = 'DEAD' AND m.createdAt < :deadBefore)
+			""")
+	int deleteExpired(@Param("sentBefore") Instant sentBefore, @Param("deadBefore") Instant deadBefore);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM MailOutboxEntry m WHERE m.recipientId IN :userIds")
+	int deleteAllByRecipientIdIn(@Param("userIds") List<UUID> userIds);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE MailOutboxEntry m
+			SET m.state = :state, m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError
+			WHERE m.id = :id
+			""")
+	int markFailed(
+			@Param("id") UUID id,
+			@Param("state") MailOutboxState state,
+			@Param("nextAttemptAt") Instant nextAttemptAt,
+			@Param("lastError") String lastError);
+}
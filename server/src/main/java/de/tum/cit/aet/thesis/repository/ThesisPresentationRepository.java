@@ -2,6 +2,7 @@ package de.tum.cit.aet.thesis.repository;
 
 import de.tum.cit.aet.thesis.constants.ThesisPresentationState;
 import de.tum.cit.aet.thesis.constants.ThesisPresentationVisibility;
+import de.tum.cit.aet.thesis.dto.ThesisPresentationRowDto;
 import de.tum.cit.aet.thesis.entity.ThesisPresentation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -44,6 +46,14 @@ public interface ThesisPresentationRepository extends JpaRepository<ThesisPresen
 			@Param("visibilities") Set<ThesisPresentationVisibility> visibilities
 	);
 
+	@Query("""
+			SELECT new de.tum.cit.aet.thesis.dto.ThesisPresentationRowDto(p.thesis.id, p.id, p.type, p.scheduledAt)
+			FROM ThesisPresentation p
+			WHERE p.thesis.id IN :thesisIds
+			ORDER BY p.scheduledAt ASC
+			""")
+	List<ThesisPresentationRowDto> findRowsByThesisIds(@Param("thesisIds") Collection<UUID> thesisIds);
+
 	@Modifying
 	@Transactional
 	void deleteAllByThesisId(UUID thesisId);
@@ -0,0 +1,15 @@
+package de.tum.cit.aet.thesis.repository;
+
+import de.tum.cit.aet.thesis.dto.PublishedThesisRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisOverviewRowDto;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ThesisProjectionRepository {
+	List<ThesisOverviewRowDto> findOverviewRows(Specification<Thesis> specification, Sort sort, long offset, int limit);
+
+	List<PublishedThesisRowDto> findPublishedRows(Specification<Thesis> specification, Sort sort, long offset, int limit);
+}
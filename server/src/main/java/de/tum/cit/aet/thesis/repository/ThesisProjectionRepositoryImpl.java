@@ -0,0 +1,90 @@
+package de.tum.cit.aet.thesis.repository;
+
+import de.tum.cit.aet.thesis.dto.PublishedThesisRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisOverviewRowDto;
+import de.tum.cit.aet.thesis.entity.ResearchGroup;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Reads thesis list rows as constructor projections, so list endpoints select only the columns
+ * they render and never load entities into the persistence context.
+ */
+public class ThesisProjectionRepositoryImpl implements ThesisProjectionRepository {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<ThesisOverviewRowDto> findOverviewRows(Specification<Thesis> specification, Sort sort, long offset, int limit) {
+		return findRows(ThesisOverviewRowDto.class, specification, sort, offset, limit, (root, researchGroup) -> List.of(
+				root.get("id"),
+				root.get("title"),
+				root.get("type"),
+				root.get("state"),
+				root.get("startDate"),
+				root.get("endDate"),
+				root.get("createdAt"),
+				root.get("keywords"),
+				researchGroup.get("id"),
+				researchGroup.get("name")
+		));
+	}
+
+	@Override
+	public List<PublishedThesisRowDto> findPublishedRows(Specification<Thesis> specification, Sort sort, long offset, int limit) {
+		return findRows(PublishedThesisRowDto.class, specification, sort, offset, limit, (root, researchGroup) -> List.of(
+				root.get("id"),
+				root.get("state"),
+				root.get("title"),
+				root.get("type"),
+				root.get("startDate"),
+				root.get("endDate"),
+				root.get("createdAt"),
+				root.get("abstractField"),
+				researchGroup.get("id"),
+				researchGroup.get("name")
+		));
+	}
+
+	private <R> List<R> findRows(
+			Class<R> rowClass,
+			Specification<Thesis> specification,
+			Sort sort,
+			long offset,
+			int limit,
+			BiFunction<Root<Thesis>, Join<Thesis, ResearchGroup>, List<Selection<?>>> columns
+	) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<R> query = cb.createQuery(rowClass);
+		Root<Thesis> root = query.from(Thesis.class);
+		Join<Thesis, ResearchGroup> researchGroup = root.join("researchGroup");
+
+		query.select(cb.construct(rowClass, columns.apply(root, researchGroup).toArray(Selection<?>[]::new)));
+
+		Predicate predicate = specification.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+
+		query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+		return entityManager.createQuery(query)
+				.setFirstResult(Math.toIntExact(offset))
+				.setMaxResults(limit)
+				.getResultList();
+	}
+}
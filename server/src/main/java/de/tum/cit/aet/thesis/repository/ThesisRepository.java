@@ -1,80 +1,65 @@
 package de.tum.cit.aet.thesis.repository;
 
-import de.tum.cit.aet.thesis.constants.ThesisRoleName;
-import de.tum.cit.aet.thesis.constants.ThesisState;
-import de.tum.cit.aet.thesis.constants.ThesisVisibility;
+import de.tum.cit.aet.thesis.dto.DashboardThesisDto;
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.Thesis;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 @Repository
-public interface ThesisRepository extends JpaRepository<Thesis, UUID> {
-	@Query("""
-			SELECT DISTINCT t FROM Thesis t
-			LEFT JOIN ThesisRole r ON t.id = r.thesis.id
-			WHERE t.anonymizedAt IS NULL
-			AND (
-				:visibilities IS NULL
-				OR (
-					t.visibility IN :visibilities
-					AND (:researchGroupIds IS NULL OR t.researchGroup.id IN :researchGroupIds)
-				)
-				OR (
-					t.visibility = 'PRIVATE'
-					AND EXISTS (
-							SELECT 1
-							FROM t.roles as tr
-							WHERE tr.user.id = :userId
-						)
-				)
-				OR (:userId IS NOT NULL AND r.user.id = :userId )
-			)
-			AND (:states IS NULL OR t.state IN :states)
-			AND (:types IS NULL OR t.type IN :types)
-			AND (
-				:searchQuery IS NULL OR (
-					LOWER(t.title) LIKE %:searchQuery%
-					OR LOWER(r.user.firstName || ' ' || r.user.lastName) LIKE %:searchQuery%
-					OR LOWER(r.user.email) LIKE %:searchQuery%
-					OR LOWER(r.user.matriculationNumber) LIKE %:searchQuery%
-					OR LOWER(r.user.universityId) LIKE %:searchQuery%
-				)
-			)
-			""")
-	Page<Thesis> searchTheses(
-			@Param("researchGroupIds") Set<UUID> researchGroupIds,
-			@Param("userId") UUID userId,
-			@Param("visibilities") Set<ThesisVisibility> visibilities,
-			@Param("searchQuery") String searchQuery,
-			@Param("states") Set<ThesisState> states,
-			@Param("types") Set<String> types,
-			Pageable page
-	);
+public interface ThesisRepository extends JpaRepository<Thesis, UUID>, JpaSpecificationExecutor<Thesis>, ThesisProjectionRepository {
+	// Characters for which Character.isWhitespace is true, trimmed like String.isBlank() does. TRIM in JPQL only strips spaces
+	String WHITESPACE_CHARACTERS = IntStream.rangeClosed(Character.MIN_VALUE, Character.MAX_VALUE)
+			.filter(Character::isWhitespace)
+			.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+			.toString();
+
+	@EntityGraph(Thesis.DETAIL_GRAPH)
+	Optional<Thesis> findWithDetailsById(UUID thesisId);
 
 	@Query("""
-			SELECT DISTINCT t FROM Thesis t LEFT JOIN ThesisRole r ON (t.id = r.thesis.id) WHERE
-			(:userId IS NULL OR r.user.id = :userId) AND
-			(:researchGroupId IS NULL OR t.researchGroup.id = :researchGroupId) AND
-			(t.state != 'FINISHED' AND t.state != 'DROPPED_OUT') AND
-			(:roleNames IS NULL OR r.id.role IN :roleNames) AND
-			(:states IS NULL OR t.state IN :states)
+			SELECT new de.tum.cit.aet.thesis.dto.DashboardThesisDto(
+				t.id,
+				t.title,
+				t.state,
+				r.id.role,
+				t.startDate,
+				t.endDate,
+				CASE WHEN function('btrim', t.abstractField, :whitespace) = ''
+					OR function('btrim', t.info, :whitespace) = '' THEN true ELSE false END,
+				(SELECT COUNT(p) FROM ThesisProposal p WHERE p.thesis.id = t.id),
+				(SELECT COUNT(pr) FROM ThesisPresentation pr WHERE pr.thesis.id = t.id),
+				(SELECT COUNT(pr) FROM ThesisPresentation pr WHERE pr.thesis.id = t.id AND pr.state = 'DRAFTED')
+			)
+			FROM ThesisRole r JOIN r.thesis t
+			WHERE r.user.id = :userId
+			AND (:researchGroupId IS NULL OR t.researchGroup.id = :researchGroupId)
+			AND t.state != 'FINISHED' AND t.state != 'DROPPED_OUT'
+			ORDER BY t.createdAt
 			""")
-	List<Thesis> findActiveThesesForRole(
+	List<DashboardThesisDto> findDashboardTheses(
 			@Param("userId") UUID userId,
 			@Param("researchGroupId") UUID researchGroupId,
-			@Param("roleNames") Set<ThesisRoleName> roleNames,
-			@Param("states") Set<ThesisState> states
+			@Param("whitespace") String whitespace
 	);
 
+	default List<DashboardThesisDto> findDashboardTheses(UUID userId, UUID researchGroupId) {
+		return findDashboardTheses(userId, researchGroupId, WHITESPACE_CHARACTERS);
+	}
+
 	@Query("""
 	SELECT DISTINCT t.researchGroup FROM Thesis t
 	JOIN t.roles r
@@ -87,17 +72,55 @@ public interface ThesisRepository extends JpaRepository<Thesis, UUID> {
 	@Query("""
 			SELECT DISTINCT t FROM Thesis t
 			JOIN t.roles r
+			LEFT JOIN FETCH t.states
 			WHERE r.id.userId = :userId
 			AND r.id.role = 'STUDENT'
 			""")
 	List<Thesis> findAllByStudentUserId(@Param("userId") UUID userId);
 
 	@Query("""
-			SELECT t FROM Thesis t
-			JOIN FETCH t.researchGroup rg
-			LEFT JOIN FETCH rg.head
+			SELECT t.id FROM Thesis t
 			WHERE t.state IN (de.tum.cit.aet.thesis.constants.ThesisState.FINISHED, de.tum.cit.aet.thesis.constants.ThesisState.DROPPED_OUT)
 			AND t.anonymizedAt IS NULL
+			AND (t.retentionExpiresAt IS NULL OR t.retentionExpiresAt < :expiresBefore)
+			AND t.id > :afterId
+			ORDER BY t.id
 			""")
-	List<Thesis> findAnonymizationCandidates();
+	List<UUID> findAnonymizationCandidateIds(
+			@Param("expiresBefore") Instant expiresBefore,
+			@Param("afterId") UUID afterId,
+			Limit limit
+	);
+
+	@Query("""
+			SELECT t.id FROM Thesis t
+			WHERE t.state IN (de.tum.cit.aet.thesis.constants.ThesisState.FINISHED, de.tum.cit.aet.thesis.constants.ThesisState.DROPPED_OUT)
+			AND t.anonymizedAt IS NULL
+			AND t.anonymizationNotifiedAt IS NULL
+			AND (t.retentionExpiresAt IS NULL OR t.retentionExpiresAt < :expiresBefore)
+			AND t.id > :afterId
+			ORDER BY t.id
+			""")
+	List<UUID> findAnonymizationNotificationCandidateIds(
+			@Param("expiresBefore") Instant expiresBefore,
+			@Param("afterId") UUID afterId,
+			Limit limit
+	);
+
+	@Query("""
+			SELECT DISTINCT t FROM Thesis t
+			JOIN FETCH t.researchGroup rg
+			LEFT JOIN FETCH rg.head
+			LEFT JOIN FETCH t.states
+			WHERE t.id IN :thesisIds
+			""")
+	List<Thesis> findAllByIdInWithStates(@Param("thesisIds") List<UUID> thesisIds);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE Thesis t SET t.retentionExpiresAt = :retentionExpiresAt WHERE t.id = :thesisId")
+	int updateRetentionExpiresAt(
+			@Param("thesisId") UUID thesisId,
+			@Param("retentionExpiresAt") Instant retentionExpiresAt
+	);
 }
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.thesis.repository;
 
+import de.tum.cit.aet.thesis.dto.ThesisRoleRowDto;
 import de.tum.cit.aet.thesis.entity.ThesisRole;
 import de.tum.cit.aet.thesis.entity.key.ThesisRoleId;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,13 +24,36 @@ public interface ThesisRoleRepository extends JpaRepository<ThesisRole, ThesisRo
 	@Query("DELETE FROM ThesisRole tr WHERE tr.id.thesisId = :thesisId")
 	void deleteAllByThesisId(@Param("thesisId") UUID thesisId);
 
-	@Query("SELECT tr FROM ThesisRole tr JOIN FETCH tr.thesis WHERE tr.id.userId = :userId")
+	@Query("SELECT tr FROM ThesisRole tr JOIN FETCH tr.thesis t LEFT JOIN FETCH t.states WHERE tr.id.userId = :userId")
 	List<ThesisRole> findAllByIdUserIdWithThesis(@Param("userId") UUID userId);
 
+	@Query("SELECT tr FROM ThesisRole tr JOIN FETCH tr.thesis t LEFT JOIN FETCH t.states WHERE tr.id.userId IN :userIds")
+	List<ThesisRole> findAllByIdUserIdInWithThesis(@Param("userIds") Collection<UUID> userIds);
+
 	List<ThesisRole> findAllByIdUserId(UUID userId);
 
+	@Query("""
+			SELECT new de.tum.cit.aet.thesis.dto.ThesisRoleRowDto(
+				tr.id.thesisId,
+				tr.id.role,
+				u.id,
+				u.firstName,
+				u.lastName,
+				u.avatar
+			)
+			FROM ThesisRole tr JOIN tr.user u
+			WHERE tr.id.thesisId IN :thesisIds
+			ORDER BY tr.position ASC
+			""")
+	List<ThesisRoleRowDto> findRowsByThesisIds(@Param("thesisIds") Collection<UUID> thesisIds);
+
 	@Modifying
 	@Transactional
 	@Query("DELETE FROM ThesisRole tr WHERE tr.id.userId = :userId")
 	void deleteAllByIdUserId(UUID userId);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ThesisRole tr WHERE tr.id.userId IN :userIds")
+	int deleteAllByIdUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -1,5 +1,6 @@
 package de.tum.cit.aet.thesis.repository;
 
+import de.tum.cit.aet.thesis.dto.ThesisStateChangeRowDto;
 import de.tum.cit.aet.thesis.entity.ThesisStateChange;
 import de.tum.cit.aet.thesis.entity.key.ThesisStateChangeId;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -18,4 +21,11 @@ public interface ThesisStateChangeRepository extends JpaRepository<ThesisStateCh
 	@Transactional
 	@Query("DELETE FROM ThesisStateChange s WHERE s.id.thesisId = :thesisId")
 	void deleteAllByThesisId(@Param("thesisId") UUID thesisId);
+
+	@Query("""
+			SELECT new de.tum.cit.aet.thesis.dto.ThesisStateChangeRowDto(s.id.thesisId, s.id.state, s.changedAt)
+			FROM ThesisStateChange s
+			WHERE s.id.thesisId IN :thesisIds
+			""")
+	List<ThesisStateChangeRowDto> findRowsByThesisIds(@Param("thesisIds") Collection<UUID> thesisIds);
 }
@@ -5,9 +5,11 @@ import de.tum.cit.aet.thesis.entity.key.TopicRoleId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,4 +22,9 @@ public interface TopicRoleRepository extends JpaRepository<TopicRole, TopicRoleI
 	@Transactional
 	@Query("DELETE FROM TopicRole tr WHERE tr.id.userId = :userId")
 	void deleteAllByIdUserId(UUID userId);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM TopicRole tr WHERE tr.id.userId IN :userIds")
+	int deleteAllByIdUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
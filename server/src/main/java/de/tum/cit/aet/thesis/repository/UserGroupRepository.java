@@ -9,7 +9,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -29,7 +28,4 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, UserGroupI
 	@Query(value = "INSERT INTO user_groups (user_id, \"group\") VALUES (:userId, :group) ON CONFLICT DO NOTHING",
 			nativeQuery = true)
 	void insertIfNotExists(@Param("userId") UUID userId, @Param("group") String group);
-
-	@Query("SELECT ug.id.group FROM UserGroup ug WHERE ug.user.universityId = :universityId")
-	List<String> findGroupNamesByUniversityId(@Param("universityId") String universityId);
 }
@@ -1,9 +1,9 @@
 package de.tum.cit.aet.thesis.repository;
 
 import de.tum.cit.aet.thesis.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,13 +11,14 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
 	Optional<User> findByUniversityId(String universityId);
 
 	List<User> findAllByUniversityIdIn(List<String> universityIds);
@@ -25,26 +26,6 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 	@Query("SELECT u FROM User u LEFT JOIN FETCH u.researchGroup WHERE u.universityId = :universityId")
 	Optional<User> findByUniversityIdWithResearchGroup(@Param("universityId") String universityId);
 
-	@Query("""
-			SELECT DISTINCT u
-			FROM User u
-			LEFT JOIN UserGroup g ON (u.id = g.id.userId)
-			WHERE (:researchGroupId IS NULL
-				OR NOT ('advisor' IN :groups
-						OR 'supervisor' IN :groups)
-				OR u.researchGroup.id = :researchGroupId)
-			AND ((:groups IS NULL)
-					OR ('student' IN :groups AND (g.id.group IN :groups OR g.id.group IS NULL))
-					OR g.id.group IN :groups)
-			AND (:searchQuery IS NULL
-				OR LOWER(u.firstName) || ' ' || LOWER(u.lastName) LIKE %:searchQuery%
-				OR LOWER(u.email) LIKE %:searchQuery%
-				OR LOWER(u.matriculationNumber) LIKE %:searchQuery%
-				OR LOWER(u.universityId) LIKE %:searchQuery%)
-			""")
-	Page<User> searchUsers(@Param("researchGroupId") UUID researchGroupId,
-						@Param("searchQuery") String searchQuery, @Param("groups") Set<String> groups, Pageable page);
-
 	@Query("SELECT DISTINCT u FROM User u LEFT JOIN UserGroup g ON (u.id = g.id.userId) WHERE g"
 			+ ".id.group IN :roles AND (:researchGroupId IS NULL OR u.researchGroup.id = "
 			+ ":researchGroupId)")
@@ -83,10 +64,16 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 	@Query("UPDATE User u SET u.deletionScheduledFor = NULL WHERE u.id = :userId")
 	void clearDeletionScheduledFor(@Param("userId") UUID userId);
 
+	@Modifying
+	@Transactional
+	@Query("UPDATE User u SET u.deletionScheduledFor = NULL WHERE u.id IN :userIds")
+	int clearDeletionScheduledForAllByIdIn(@Param("userIds") Collection<UUID> userIds);
+
 	@Query("""
-			SELECT DISTINCT u FROM User u
+			SELECT u.id FROM User u
 			JOIN UserGroup g ON u.id = g.id.userId AND g.id.group = 'student'
 			WHERE u.disabled = FALSE
+			AND u.id > :afterId
 			AND COALESCE(u.lastLoginAt, u.joinedAt) < :cutoff
 			AND COALESCE(u.updatedAt, u.joinedAt) < :cutoff
 			AND NOT EXISTS (
@@ -110,8 +97,18 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 				SELECT 1 FROM Application a
 				WHERE a.user.id = u.id AND a.createdAt >= :cutoff
 			)
+			ORDER BY u.id ASC
 			""")
-	List<User> findInactiveStudentCandidates(@Param("cutoff") Instant cutoff);
+	List<UUID> findInactiveStudentCandidateIds(
+			@Param("cutoff") Instant cutoff,
+			@Param("afterId") UUID afterId,
+			Limit limit
+	);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE User u SET u.disabled = TRUE, u.updatedAt = :now WHERE u.id IN :userIds AND u.disabled = FALSE")
+	int disableAllByIdIn(@Param("userIds") Collection<UUID> userIds, @Param("now") Instant now);
 
 	/**
 	 * Checks whether a user appears in any publicly visible context: as a supervisor or examiner
@@ -151,4 +148,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 			)
 			""")
 	boolean isUserPubliclyVisible(@Param("userId") UUID userId);
+
+	@Query("SELECT u.avatar FROM User u WHERE u.id = :userId")
+	Optional<String> findAvatarById(@Param("userId") UUID userId);
 }
@@ -0,0 +1,87 @@
+package de.tum.cit.aet.thesis.repository.specification;
+
+import de.tum.cit.aet.thesis.constants.ApplicationReviewReason;
+import de.tum.cit.aet.thesis.constants.ApplicationState;
+import de.tum.cit.aet.thesis.entity.Application;
+import de.tum.cit.aet.thesis.entity.ApplicationReviewer;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class ApplicationSpecifications {
+	/**
+	 * Filters applications. A null filter is not applied. Applications in {@code previousIds} are kept even
+	 * if they no longer match the state or reviewer filter, so they do not disappear from an open list
+	 * after a review. With a {@code reviewerId}, applications that reviewer marked as not interesting are
+	 * excluded. The search query has to be lower case and matches the name, email, matriculation number
+	 * and university id of the applicant.
+	 */
+	public static Specification<Application> search(
+			UUID researchGroupId,
+			UUID userId,
+			UUID reviewerId,
+			String searchQuery,
+			Set<ApplicationState> states,
+			Set<UUID> previousIds,
+			Set<UUID> topics,
+			Set<String> types,
+			boolean includeSuggestedTopics
+	) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			Predicate isPrevious = previousIds == null ? cb.disjunction() : root.get("id").in(previousIds);
+
+			if (userId != null) {
+				predicates.add(cb.equal(root.get("user").get("id"), userId));
+			}
+
+			if (researchGroupId != null) {
+				predicates.add(cb.equal(root.get("researchGroup").get("id"), researchGroupId));
+			}
+
+			if (states != null) {
+				predicates.add(cb.or(root.get("state").in(states), isPrevious));
+			}
+
+			if (reviewerId != null) {
+				Subquery<Integer> notInterested = query.subquery(Integer.class);
+				Root<ApplicationReviewer> reviewer = notInterested.from(ApplicationReviewer.class);
+
+				notInterested.select(cb.literal(1)).where(
+						cb.equal(reviewer.get("id").get("applicationId"), root.get("id")),
+						cb.equal(reviewer.get("id").get("userId"), reviewerId),
+						cb.equal(reviewer.get("reason"), ApplicationReviewReason.NOT_INTERESTED)
+				);
+
+				predicates.add(cb.or(cb.not(cb.exists(notInterested)), isPrevious));
+			}
+
+			if (!includeSuggestedTopics) {
+				predicates.add(cb.isNotNull(root.get("topic")));
+			}
+
+			if (topics != null) {
+				Predicate inTopics = root.get("topic").get("id").in(topics);
+
+				predicates.add(includeSuggestedTopics ? cb.or(inTopics, cb.isNull(root.get("topic"))) : inTopics);
+			}
+
+			if (types != null) {
+				predicates.add(root.get("thesisType").in(types));
+			}
+
+			if (searchQuery != null) {
+				predicates.add(cb.like(root.get("user").<String>get("searchText"), "%" + searchQuery + "%"));
+			}
+
+			return cb.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+}
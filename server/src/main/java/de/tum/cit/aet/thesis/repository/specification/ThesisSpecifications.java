@@ -0,0 +1,94 @@
+package de.tum.cit.aet.thesis.repository.specification;
+
+import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.constants.ThesisVisibility;
+import de.tum.cit.aet.thesis.entity.Thesis;
+import de.tum.cit.aet.thesis.entity.ThesisRole;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class ThesisSpecifications {
+	/**
+	 * Filters non-anonymized theses. A null filter is not applied. Theses are visible if their visibility
+	 * is in {@code visibilities} (and they belong to one of {@code researchGroupIds}) or if {@code userId}
+	 * has a role on them. The search query has to be lower case and matches the title and the names,
+	 * emails, matriculation numbers and university ids of all users with a role on the thesis.
+	 */
+	public static Specification<Thesis> search(
+			Set<UUID> researchGroupIds,
+			UUID userId,
+			Set<ThesisVisibility> visibilities,
+			String searchQuery,
+			Set<ThesisState> states,
+			Set<String> types
+	) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			predicates.add(cb.isNull(root.get("anonymizedAt")));
+
+			if (visibilities != null) {
+				List<Predicate> access = new ArrayList<>();
+
+				if (!visibilities.isEmpty()) {
+					Predicate visible = root.get("visibility").in(visibilities);
+
+					access.add(researchGroupIds == null ? visible : cb.and(visible, root.get("researchGroup").get("id").in(researchGroupIds)));
+				}
+
+				if (userId != null) {
+					access.add(hasRole(root, query, cb, role -> cb.equal(role.get("id").get("userId"), userId)));
+				}
+
+				predicates.add(cb.or(access.toArray(Predicate[]::new)));
+			}
+
+			if (states != null) {
+				predicates.add(root.get("state").in(states));
+			}
+
+			if (types != null) {
+				predicates.add(root.get("type").in(types));
+			}
+
+			if (searchQuery != null) {
+				String pattern = "%" + searchQuery + "%";
+
+				predicates.add(cb.or(
+						cb.like(cb.lower(root.<String>get("title")), pattern),
+						hasRole(root, query, cb, role -> cb.like(role.get("user").<String>get("searchText"), pattern))
+				));
+			}
+
+			return cb.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+
+	private static Predicate hasRole(
+			Root<Thesis> root,
+			CriteriaQuery<?> query,
+			CriteriaBuilder cb,
+			Function<Root<ThesisRole>, Predicate> condition
+	) {
+		Subquery<Integer> subquery = query.subquery(Integer.class);
+		Root<ThesisRole> role = subquery.from(ThesisRole.class);
+
+		subquery.select(cb.literal(1)).where(
+				cb.equal(role.get("id").get("thesisId"), root.get("id")),
+				condition.apply(role)
+		);
+
+		return cb.exists(subquery);
+	}
+}
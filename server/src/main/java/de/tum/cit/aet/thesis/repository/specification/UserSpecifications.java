@@ -0,0 +1,60 @@
+package de.tum.cit.aet.thesis.repository.specification;
+
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.entity.UserGroup;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class UserSpecifications {
+	/**
+	 * Filters users. A null filter is not applied. Users are limited to {@code researchGroupId} unless only
+	 * non-staff groups are requested. Filtering by the "student" group also returns users without any
+	 * group. The search query has to be lower case and matches the name, email, matriculation number and
+	 * university id.
+	 */
+	public static Specification<User> search(UUID researchGroupId, String searchQuery, Set<String> groups) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			boolean staffOnly = groups == null || groups.contains("advisor") || groups.contains("supervisor");
+			if (researchGroupId != null && staffOnly) {
+				predicates.add(cb.equal(root.get("researchGroup").get("id"), researchGroupId));
+			}
+
+			if (groups != null) {
+				Subquery<Integer> inGroups = query.subquery(Integer.class);
+				Root<UserGroup> group = inGroups.from(UserGroup.class);
+				inGroups.select(cb.literal(1)).where(
+						cb.equal(group.get("id").get("userId"), root.get("id")),
+						group.get("id").get("group").in(groups)
+				);
+
+				Predicate groupFilter = cb.exists(inGroups);
+
+				if (groups.contains("student")) {
+					Subquery<Integer> anyGroup = query.subquery(Integer.class);
+					Root<UserGroup> otherGroup = anyGroup.from(UserGroup.class);
+					anyGroup.select(cb.literal(1)).where(cb.equal(otherGroup.get("id").get("userId"), root.get("id")));
+
+					groupFilter = cb.or(groupFilter, cb.not(cb.exists(anyGroup)));
+				}
+
+				predicates.add(groupFilter);
+			}
+
+			if (searchQuery != null) {
+				predicates.add(cb.like(root.<String>get("searchText"), "%" + searchQuery + "%"));
+			}
+
+			return cb.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+}
@@ -0,0 +1,50 @@
+package de.tum.cit.aet.thesis.security;
+
+import de.tum.cit.aet.thesis.entity.AccessSubject;
+import de.tum.cit.aet.thesis.entity.User;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the authorization relevant data of an authenticated user. It is detached from
+ * the persistence context and can therefore be shared across requests.
+ *
+ * @param userId the user ID
+ * @param groups the names of the groups of the user
+ * @param researchGroupId the ID of the research group of the user, or null
+ * @param researchGroupArchived whether the research group of the user is archived
+ */
+public record AuthenticatedPrincipal(UUID userId, Set<String> groups, UUID researchGroupId, boolean researchGroupArchived) implements AccessSubject {
+	public static AuthenticatedPrincipal fromUser(User user) {
+		return new AuthenticatedPrincipal(
+				user.getId(),
+				user.getGroups().stream()
+						.map(group -> group.getId().getGroup())
+						.collect(Collectors.toUnmodifiableSet()),
+				user.getResearchGroup() == null ? null : user.getResearchGroup().getId(),
+				user.getResearchGroup() != null && user.getResearchGroup().isArchived()
+		);
+	}
+
+	@Override
+	public UUID getId() {
+		return userId;
+	}
+
+	public boolean hasNoGroup() {
+		return groups.isEmpty();
+	}
+
+	@Override
+	public boolean hasAnyGroup(String... names) {
+		for (String name : names) {
+			if (groups.contains(name)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
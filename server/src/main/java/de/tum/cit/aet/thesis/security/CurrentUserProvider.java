@@ -3,6 +3,7 @@ package de.tum.cit.aet.thesis.security;
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.exception.request.AccessDeniedException;
+import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.service.AuthenticationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Scope;
@@ -13,55 +14,83 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.UUID;
+
 @Component
 @Scope(value = WebApplicationContext.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
 @RequiredArgsConstructor
 public class CurrentUserProvider {
 
 private final AuthenticationService authenticationService;
+private final PrincipalCache principalCache;
+private final ResearchGroupRepository researchGroupRepository;
 private User cachedUser;
+private AuthenticatedPrincipal cachedPrincipal;
 
 public User getUser() {
 	if (cachedUser == null) {
-		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-		if (authentication instanceof JwtAuthenticationToken jwt) {
-			cachedUser = authenticationService.getAuthenticatedUserWithResearchGroup(jwt);
-		} else {
-			throw new AccessDeniedException("Please login first.");
-		}
+		cachedUser = authenticationService.getAuthenticatedUserWithResearchGroup(getAuthentication());
 	}
 	return cachedUser;
 }
 
+public UUID getUserId() {
+	return getPrincipal().userId();
+}
+
+// Role, research group and access checks only need the cached principal, so they do not load the user
+public AuthenticatedPrincipal getPrincipal() {
+	if (cachedPrincipal == null) {
+		JwtAuthenticationToken jwt = getAuthentication();
+		cachedPrincipal = principalCache.get(jwt.getName(), jwt.getToken().getIssuedAt())
+				.orElseGet(() -> AuthenticatedPrincipal.fromUser(getUser()));
+	}
+	return cachedPrincipal;
+}
+
+private JwtAuthenticationToken getAuthentication() {
+	Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+	if (authentication instanceof JwtAuthenticationToken jwt) {
+		return jwt;
+	}
+	throw new AccessDeniedException("Please login first.");
+}
+
 public ResearchGroup getResearchGroupOrThrow() {
-	ResearchGroup researchGroup = getUser().getResearchGroup();
-	if (!canSeeAllResearchGroups() && researchGroup == null) {
+	AuthenticatedPrincipal principal = getPrincipal();
+	if (!canSeeAllResearchGroups() && principal.researchGroupId() == null) {
 		throw new AccessDeniedException("Your account must be assigned to a research group.");
 	}
-	if (researchGroup != null && researchGroup.isArchived()) {
+	if (principal.researchGroupArchived()) {
 		throw new AccessDeniedException("The research group is archived.");
 	}
-	return researchGroup;
+	if (principal.researchGroupId() == null) {
+		return null;
+	}
+	if (cachedUser != null && cachedUser.getResearchGroup() != null) {
+		return cachedUser.getResearchGroup();
+	}
+	return researchGroupRepository.getReferenceById(principal.researchGroupId());
 }
 
 public boolean isAnonymous() {
-	return getUser().hasNoGroup();
+	return getPrincipal().hasNoGroup();
 }
 
 public boolean isStudent() {
-	return getUser().hasAnyGroup("student");
+	return getPrincipal().hasAnyGroup("student");
 }
 
 public boolean isSupervisor() {
-	return getUser().hasAnyGroup("advisor");
+	return getPrincipal().hasAnyGroup("advisor");
 }
 
 public boolean isExaminer() {
-	return getUser().hasAnyGroup("supervisor");
+	return getPrincipal().hasAnyGroup("supervisor");
 }
 
 public boolean isAdmin() {
-	return getUser().hasAnyGroup("admin");
+	return getPrincipal().hasAnyGroup("admin");
 }
 
 public boolean canSeeAllResearchGroups() {
@@ -1,6 +1,5 @@
 package de.tum.cit.aet.thesis.security;
 
-import de.tum.cit.aet.thesis.repository.UserGroupRepository;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.convert.converter.Converter;
@@ -13,7 +12,6 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtGra
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,10 +19,10 @@ import java.util.stream.Stream;
 @Component
 public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationToken> {
 	private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter;
-	private final UserGroupRepository userGroupRepository;
+	private final PrincipalCache principalCache;
 
-	public JwtAuthConverter(UserGroupRepository userGroupRepository) {
-		this.userGroupRepository = userGroupRepository;
+	public JwtAuthConverter(PrincipalCache principalCache) {
+		this.principalCache = principalCache;
 		this.jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
 	}
 
@@ -35,17 +33,19 @@ public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationTo
 
 		Collection<GrantedAuthority> authorities = Stream.concat(
 				jwtGrantedAuthoritiesConverter.convert(jwt).stream(),
-				extractDatabaseRoles(username).stream()).collect(Collectors.toSet());
+				extractDatabaseRoles(username, jwt).stream()).collect(Collectors.toSet());
 
 		return new JwtAuthenticationToken(jwt, authorities, username);
 	}
 
-	private Collection<? extends GrantedAuthority> extractDatabaseRoles(String username) {
+	private Collection<? extends GrantedAuthority> extractDatabaseRoles(String username, Jwt jwt) {
 		if (username == null) {
 			return Set.of();
 		}
 
-		List<String> groupNames = userGroupRepository.findGroupNamesByUniversityId(username);
+		Set<String> groupNames = principalCache.get(username, jwt.getIssuedAt())
+				.map(AuthenticatedPrincipal::groups)
+				.orElse(Set.of());
 
 		return groupNames.stream()
 				.map(group -> new SimpleGrantedAuthority("ROLE_" + group))
@@ -0,0 +1,103 @@
+package de.tum.cit.aet.thesis.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.thesis.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Caches the {@link AuthenticatedPrincipal} of users across requests, keyed by university ID and the
+ * issued-at time of the token, so authorization checks do not query the user on every request.
+ *
+ * <p>Services that change group memberships or research group assignments publish a
+ * {@link UserPrincipalChangedEvent} or {@link ResearchGroupPrincipalsChangedEvent}, which evicts the
+ * affected entries once the change is committed. Entries expire after a short TTL, so changes made by
+ * other instances are picked up as well.</p>
+ */
+@Component
+public class PrincipalCache {
+	private final UserRepository userRepository;
+
+	private final Cache<PrincipalKey, AuthenticatedPrincipal> principals;
+
+	/** Published when the groups or the research group of a user changed. */
+	public record UserPrincipalChangedEvent(UUID userId) {}
+
+	/** Published when a research group changed in a way that affects the access of its members, e.g. it was archived. */
+	public record ResearchGroupPrincipalsChangedEvent(UUID researchGroupId) {}
+
+	private record PrincipalKey(String universityId, Instant issuedAt) {}
+
+	/**
+	 * Injects the user repository and configures the principal cache.
+	 *
+	 * @param userRepository the user repository
+	 * @param meterRegistry the registry the cache hit and miss counters are registered in
+	 * @param cacheMaxSize the maximum number of cached principals
+	 * @param cacheTtl the time after which a cached principal is reloaded
+	 */
+	@Autowired
+	public PrincipalCache(
+			UserRepository userRepository,
+			MeterRegistry meterRegistry,
+			@Value("${thesis-management.security.principal-cache.max-size:10000}") long cacheMaxSize,
+			@Value("${thesis-management.security.principal-cache.ttl:PT1M}") Duration cacheTtl
+	) {
+		this.userRepository = userRepository;
+
+		this.principals = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfterWrite(cacheTtl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+	}
+
+	/**
+	 * Returns the principal of the user with the given university ID, loading it if it is not cached.
+	 * Users that do not exist yet are not cached.
+	 *
+	 * @param universityId the university ID of the user
+	 * @param issuedAt the issued-at time of the token the user authenticated with
+	 * @return the principal, or empty if the user does not exist
+	 */
+	public Optional<AuthenticatedPrincipal> get(String universityId, Instant issuedAt) {
+		return Optional.ofNullable(principals.get(
+				new PrincipalKey(universityId, issuedAt),
+				key -> userRepository.findByUniversityIdWithResearchGroup(key.universityId())
+						.map(AuthenticatedPrincipal::fromUser)
+						.orElse(null)
+		));
+	}
+
+	/**
+	 * Evicts all cached principals of the changed user.
+	 *
+	 * @param event the change event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUserPrincipalChanged(UserPrincipalChangedEvent event) {
+		principals.asMap().values().removeIf(principal -> principal.userId().equals(event.userId()));
+	}
+
+	/**
+	 * Evicts the cached principals of all members of the changed research group.
+	 *
+	 * @param event the change event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onResearchGroupPrincipalsChanged(ResearchGroupPrincipalsChangedEvent event) {
+		principals.asMap().values().removeIf(principal -> event.researchGroupId().equals(principal.researchGroupId()));
+	}
+}
@@ -52,6 +52,7 @@ public class WebSecurityConfig {
 						.requestMatchers(HttpMethod.GET, "/v2/avatars/**").permitAll()
 						.requestMatchers(HttpMethod.GET, "/actuator/info").permitAll()
 						.requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+						.requestMatchers(HttpMethod.GET, "/actuator/metrics/**").hasRole("admin")
 						.anyRequest().authenticated()
 				)
 				.oauth2ResourceServer(server -> {
@@ -1,24 +1,32 @@
 package de.tum.cit.aet.thesis.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.entity.UserGroup;
 import de.tum.cit.aet.thesis.entity.key.UserGroupId;
+import de.tum.cit.aet.thesis.exception.ServiceUnavailableException;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.UserGroupRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import de.tum.cit.aet.thesis.security.PrincipalCache;
+import de.tum.cit.aet.thesis.utility.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 /**
  * Manages user roles via the local database and provides user lookup from Keycloak.
@@ -27,19 +35,20 @@ import java.util.UUID;
  */
 @Service
 public class AccessManagementService {
-	private static final Logger log = LoggerFactory.getLogger(AccessManagementService.class);
+	private static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+	private static final Duration CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
+	private static final int USER_LOOKUP_CACHE_SIZE = 1000;
 
 	private final WebClient webClient;
+	private final KeycloakTokenManager tokenManager;
+	private final CircuitBreaker circuitBreaker;
+	private final AsyncCache<UserQuery, List<KeycloakUserInformation>> userLookupCache;
+	private final Duration requestTimeout;
 
 	private final String keycloakRealmName;
-	private final String serviceClientId;
-	private final String serviceClientSecret;
-
-	private String accessToken;
-	private Instant tokenExpiration;
-	private final Object tokenLock = new Object();
 
 	private final UserGroupRepository userGroupRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * Constructs the access management service with Keycloak connection settings for user lookup
@@ -49,7 +58,11 @@ public class AccessManagementService {
 	 * @param keycloakRealmName the Keycloak realm name
 	 * @param serviceClientId the service client ID for Keycloak API access
 	 * @param serviceClientSecret the service client secret for Keycloak API access
+	 * @param maxConcurrentRequests the maximum number of concurrent requests to Keycloak
+	 * @param requestTimeout the timeout of a single Keycloak lookup, including waiting for a connection
+	 * @param userLookupCacheTtl how long user lookup results are cached
 	 * @param userGroupRepository the repository for managing user group assignments
+	 * @param eventPublisher the publisher used to announce group changes
 	 */
 	@Autowired
 	public AccessManagementService(
@@ -57,16 +70,40 @@ public class AccessManagementService {
 			@Value("${thesis-management.keycloak.realm-name}") String keycloakRealmName,
 			@Value("${thesis-management.keycloak.service-client.id}") String serviceClientId,
 			@Value("${thesis-management.keycloak.service-client.secret}") String serviceClientSecret,
-			UserGroupRepository userGroupRepository
+			@Value("${thesis-management.keycloak.max-concurrent-requests:16}") int maxConcurrentRequests,
+			@Value("${thesis-management.keycloak.request-timeout:PT5S}") Duration requestTimeout,
+			@Value("${thesis-management.keycloak.user-lookup-cache-ttl:PT1M}") Duration userLookupCacheTtl,
+			UserGroupRepository userGroupRepository,
+			ApplicationEventPublisher eventPublisher
 	) {
 		this.userGroupRepository = userGroupRepository;
+		this.eventPublisher = eventPublisher;
 		this.keycloakRealmName = keycloakRealmName;
-		this.serviceClientId = serviceClientId;
-		this.serviceClientSecret = serviceClientSecret;
+		this.requestTimeout = requestTimeout;
+
+		// Bounds the concurrent Keycloak requests; further requests queue for a free connection up to the request timeout
+		ConnectionProvider connectionProvider = ConnectionProvider.builder("keycloak")
+				.maxConnections(maxConcurrentRequests)
+				.pendingAcquireMaxCount(maxConcurrentRequests * 4)
+				.pendingAcquireTimeout(requestTimeout)
+				.build();
 
 		this.webClient = WebClient.builder()
 				.baseUrl(keycloakHost)
+				.clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider).responseTimeout(requestTimeout)))
 				.build();
+
+		this.tokenManager = new KeycloakTokenManager(webClient, keycloakRealmName, serviceClientId, serviceClientSecret);
+		this.circuitBreaker = new CircuitBreaker(
+				CIRCUIT_FAILURE_THRESHOLD,
+				CIRCUIT_OPEN_DURATION,
+				AccessManagementService::isKeycloakFailure,
+				() -> new ServiceUnavailableException("Keycloak is currently unavailable, please try again later")
+		);
+		this.userLookupCache = Caffeine.newBuilder()
+				.maximumSize(USER_LOOKUP_CACHE_SIZE)
+				.expireAfterWrite(userLookupCacheTtl)
+				.buildAsync();
 	}
 
 	/**
@@ -158,43 +195,16 @@ public class AccessManagementService {
 
 			user.getGroups().add(entity);
 		}
+
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(user.getId()));
 	}
 
 	private void removeGroup(User user, String group) {
 		java.util.Objects.requireNonNull(user, "user must not be null");
 		userGroupRepository.deleteByUserIdAndGroup(user.getId(), group);
 		user.getGroups().removeIf(ug -> ug.getId().getGroup().equals(group));
-	}
-
-	private record TokensResponse(String access_token) { }
-
-	private HttpHeaders getAuthenticationHeaders() {
-		synchronized (tokenLock) {
-			if (tokenExpiration == null || Instant.now().isAfter(tokenExpiration)) {
-				TokensResponse response = webClient.post()
-						.uri("/realms/" + keycloakRealmName + "/protocol/openid-connect/token")
-						.body(
-								BodyInserters.fromFormData("grant_type", "client_credentials")
-										.with("client_id", serviceClientId)
-										.with("client_secret", serviceClientSecret)
-						)
-						.retrieve()
-						.bodyToMono(TokensResponse.class)
-						.block();
-
-				if (response == null) {
-					throw new RuntimeException("Access token not returned");
-				}
-
-				accessToken = response.access_token();
-				tokenExpiration = Instant.now().plus(30, ChronoUnit.SECONDS);
-			}
-
-			HttpHeaders authenticationHeaders = new HttpHeaders();
-			authenticationHeaders.set("Authorization", "Bearer " + accessToken);
 
-			return authenticationHeaders;
-		}
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(user.getId()));
 	}
 
 	/**
@@ -205,25 +215,7 @@ public class AccessManagementService {
 	 * @return the Keycloak user information
 	 */
 	public KeycloakUserInformation getUserByUsername(String username) {
-		List<KeycloakUserInformation> users = webClient.get()
-				.uri(uriBuilder -> uriBuilder
-						.path("/admin/realms/" + keycloakRealmName + "/users")
-						.queryParam("username", username)
-						.queryParam("exact", "true")
-						.queryParam("briefRepresentation", "false")
-						.build()
-				)
-				.headers(headers -> headers.addAll(getAuthenticationHeaders()))
-				.retrieve()
-				.bodyToFlux(KeycloakUserInformation.class)
-				.collectList()
-				.block();
-
-		if (users == null) {
-			throw new RuntimeException("Users request was empty");
-		}
-
-		return users.stream()
+		return findUsers(new UserQuery(username, null, null)).stream()
 				.findFirst()
 				.orElseThrow(() -> new ResourceNotFoundException("Keycloak user not found: " + username));
 	}
@@ -274,24 +266,61 @@ public class AccessManagementService {
 	 * @return the list of matching Keycloak users
 	 */
 	public List<KeycloakUserInformation> getAllUsers(String searchKey, Integer maxResults) {
+		return findUsers(new UserQuery(null, searchKey, maxResults));
+	}
+
+	/**
+	 * Identifies a user lookup in Keycloak, either by exact username or by search key.
+	 */
+	private record UserQuery(String username, String searchKey, Integer maxResults) {
+		private URI toUri(UriBuilder uriBuilder, String realmName) {
+			uriBuilder.path("/admin/realms/" + realmName + "/users");
+
+			if (username != null) {
+				uriBuilder
+						.queryParam("username", username)
+						.queryParam("exact", "true")
+						.queryParam("briefRepresentation", "false");
+			} else {
+				uriBuilder.queryParam("search", searchKey);
+			}
+
+			if (maxResults != null) {
+				uriBuilder.queryParam("max", maxResults);
+			}
+
+			return uriBuilder.build();
+		}
+	}
+
+	/**
+	 * Loads the users matching the query. Results are cached for a short time and concurrent identical
+	 * lookups share one Keycloak request. The calling thread only waits for the result; the token and
+	 * user requests themselves run non-blocking on the web client.
+	 */
+	private List<KeycloakUserInformation> findUsers(UserQuery query) {
 		try {
-			return webClient.get()
-					.uri(uriBuilder -> {
-						uriBuilder
-								.path("/admin/realms/" + keycloakRealmName + "/users")
-								.queryParam("search", searchKey);
-						if (maxResults != null) {
-							uriBuilder.queryParam("max", maxResults);
-						}
-						return uriBuilder.build();
-					})
-					.headers(headers -> headers.addAll(getAuthenticationHeaders()))
-					.retrieve()
-					.bodyToFlux(KeycloakUserInformation.class)
-					.collectList()
-					.block();
-		} catch (RuntimeException exception) {
-			throw new RuntimeException("Could not fetch users from keycloak", exception);
+			return userLookupCache.get(query, (key, executor) -> circuitBreaker.run(
+					tokenManager.getAccessToken()
+							.flatMap(accessToken -> webClient.get()
+									.uri(uriBuilder -> key.toUri(uriBuilder, keycloakRealmName))
+									.headers(headers -> headers.setBearerAuth(accessToken))
+									.retrieve()
+									.bodyToFlux(KeycloakUserInformation.class)
+									.collectList())
+							.timeout(requestTimeout)
+			).toFuture()).join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof ServiceUnavailableException unavailable) {
+				throw unavailable;
+			}
+
+			throw new RuntimeException("Could not fetch users from keycloak", exception.getCause());
 		}
 	}
+
+	private static boolean isKeycloakFailure(Throwable error) {
+		// Client errors are answered by a healthy Keycloak and must not open the circuit
+		return !(error instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+	}
 }
@@ -21,13 +21,18 @@ import de.tum.cit.aet.thesis.repository.ApplicationReviewerRepository;
 import de.tum.cit.aet.thesis.repository.InterviewProcessRepository;
 import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.repository.TopicRepository;
+import de.tum.cit.aet.thesis.repository.specification.ApplicationSpecifications;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.utility.HibernateHelper;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
+import de.tum.cit.aet.thesis.utility.KeysetPagination;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -57,6 +62,7 @@ public class ApplicationService {
 	private final ResearchGroupRepository researchGroupRepository;
 	private final InterviewProcessRepository interviewProcessRepository;
 	private final Clock clock;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * Injects all required repositories, services, and the current user provider for application management.
@@ -72,6 +78,7 @@ public class ApplicationService {
 	 * @param interviewProcessRepository the interview process repository
 	 * @param clock the clock used to read the current time; injected so tests can pin
 	 *              it for deterministic deadline math
+	 * @param eventPublisher the publisher used to announce dashboard task changes
 	 */
 	@Autowired
 	public ApplicationService(
@@ -84,7 +91,8 @@ public class ApplicationService {
 			ObjectProvider<CurrentUserProvider> currentUserProviderProvider,
 			ResearchGroupRepository researchGroupRepository,
 			InterviewProcessRepository interviewProcessRepository,
-			Clock clock
+			Clock clock,
+			ApplicationEventPublisher eventPublisher
 	) {
 		this.applicationRepository = applicationRepository;
 		this.mailingService = mailingService;
@@ -96,6 +104,7 @@ public class ApplicationService {
 		this.researchGroupRepository = researchGroupRepository;
 		this.interviewProcessRepository = interviewProcessRepository;
 		this.clock = clock;
+		this.eventPublisher = eventPublisher;
 	}
 
 	private CurrentUserProvider currentUserProvider() {
@@ -133,9 +142,72 @@ public class ApplicationService {
 			String sortBy,
 			String sortOrder
 	) {
-		Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+		return applicationRepository.findAll(
+				searchSpecification(userId, reviewerId, searchQuery, states, previous, topics, types, includeSuggestedTopics),
+				PageRequest.of(page, limit, Sort.by(sortOrder(sortBy, sortOrder)))
+		);
+	}
+
+	/**
+	 * Returns the page of applications following the cursor, with the same filters as
+	 * {@link #getAll(UUID, UUID, String, ApplicationState[], String[], String[], String[], boolean, int, int, String, String)}.
+	 *
+	 * @param userId the user ID to filter applications by ownership
+	 * @param reviewerId the reviewer ID to filter applications by reviewer
+	 * @param searchQuery the search query to filter results
+	 * @param states the application states to filter by
+	 * @param previous the previous application states to filter by
+	 * @param topics the topic identifiers to filter by
+	 * @param types the thesis types to filter by
+	 * @param includeSuggestedTopics whether to include suggested topics
+	 * @param cursor the cursor of the previous page, or empty for the first page
+	 * @param includeTotal whether to count all matching applications
+	 * @param limit the number of items per page
+	 * @param sortBy the field to sort by
+	 * @param sortOrder the sort direction (asc or desc)
+	 * @return the page of applications
+	 */
+	public KeysetPage<Application> getAllByCursor(
+			UUID userId,
+			UUID reviewerId,
+			String searchQuery,
+			ApplicationState[] states,
+			String[] previous,
+			String[] topics,
+			String[] types,
+			boolean includeSuggestedTopics,
+			String cursor,
+			boolean includeTotal,
+			int limit,
+			String sortBy,
+			String sortOrder
+	) {
+		return KeysetPagination.fetch(
+				applicationRepository,
+				Application.class,
+				searchSpecification(userId, reviewerId, searchQuery, states, previous, topics, types, includeSuggestedTopics),
+				sortOrder(sortBy, sortOrder),
+				cursor,
+				limit,
+				includeTotal
+		);
+	}
+
+	private Sort.Order sortOrder(String sortBy, String sortOrder) {
+		return new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
 				HibernateHelper.validateSortField(Application.class, sortBy));
+	}
 
+	private Specification<Application> searchSpecification(
+			UUID userId,
+			UUID reviewerId,
+			String searchQuery,
+			ApplicationState[] states,
+			String[] previous,
+			String[] topics,
+			String[] types,
+			boolean includeSuggestedTopics
+	) {
 		ResearchGroup researchGroup = currentUserProvider().getResearchGroupOrThrow();
 		String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
 		Set<ApplicationState> statesFilter = states == null || states.length == 0 ? null : new HashSet<>(Arrays.asList(states));
@@ -155,7 +227,7 @@ public class ApplicationService {
 			}
 		}).collect(Collectors.toSet());
 
-		return applicationRepository.searchApplications(
+		return ApplicationSpecifications.search(
 				researchGroup == null ? null : researchGroup.getId(),
 				userId,
 				statesFilter != null && !statesFilter.contains(ApplicationState.REJECTED) ? reviewerId : null,
@@ -164,8 +236,7 @@ public class ApplicationService {
 				previousFilter,
 				topicsFilter,
 				typesFilter,
-				includeSuggestedTopics,
-				PageRequest.of(page, limit, Sort.by(order))
+				includeSuggestedTopics
 		);
 	}
 
@@ -233,7 +304,7 @@ public class ApplicationService {
 				String.format("Research Group with id %s not found.", researchGroupId)));
 		application.setResearchGroup(researchGroup);
 
-		application = applicationRepository.save(application);
+		application = saveApplication(application);
 
 		mailingService.sendApplicationCreatedEmail(application);
 
@@ -250,7 +321,7 @@ public class ApplicationService {
 		application.setMotivation(motivation);
 		application.setDesiredStartDate(desiredStartDate);
 
-		application = applicationRepository.save(application);
+		application = saveApplication(application);
 
 		return application;
 	}
@@ -289,7 +360,7 @@ public class ApplicationService {
 				application.getResearchGroup().getId()
 		);
 
-		application = applicationRepository.save(application);
+		application = saveApplication(application);
 
 		Topic topic = application.getTopic();
 
@@ -305,7 +376,7 @@ public class ApplicationService {
 			mailingService.sendApplicationAcceptanceEmail(application, thesis);
 		}
 
-		result.add(applicationRepository.save(application));
+		result.add(saveApplication(application));
 
 		return result;
 	}
@@ -341,7 +412,7 @@ public class ApplicationService {
 							? reviewApplication(item, reviewingUser, ApplicationReviewReason.NOT_INTERESTED)
 							: reviewApplicationWithoutAuth(item, reviewingUser, ApplicationReviewReason.NOT_INTERESTED);
 
-					result.add(applicationRepository.save(item));
+					result.add(saveApplication(item));
 				}
 			}
 		}
@@ -350,7 +421,7 @@ public class ApplicationService {
 			mailingService.sendApplicationRejectionEmail(application, reason);
 		}
 
-		result.add(applicationRepository.save(application));
+		result.add(saveApplication(application));
 
 		return result;
 	}
@@ -519,7 +590,7 @@ public class ApplicationService {
 			application.getReviewers().add(entity);
 		}
 
-		return applicationRepository.save(application);
+		return saveApplication(application);
 	}
 
 	// TODO: we should avoid using @Transactional because it can lead to performance issue and concurrency problems
@@ -527,7 +598,7 @@ public class ApplicationService {
 	public Application updateComment(Application application, String comment) {
 		currentUserProvider().assertCanAccessResearchGroup(application.getResearchGroup());
 		application.setComment(comment);
-		return applicationRepository.save(application);
+		return saveApplication(application);
 	}
 
 	/**
@@ -548,7 +619,7 @@ public class ApplicationService {
 	 * @return the found application
 	 */
 	public Application findById(UUID applicationId) {
-		Application application = applicationRepository.findById(applicationId)
+		Application application = applicationRepository.findWithDetailsById(applicationId)
 				.orElseThrow(() -> new ResourceNotFoundException(String.format("Application with id %s not found.", applicationId)));
 		currentUserProvider().assertCanAccessResearchGroup(application.getResearchGroup());
 		return application;
@@ -570,5 +641,23 @@ public class ApplicationService {
 		applicationReviewerRepository.deleteAll(application.getReviewers());
 		application.getReviewers().clear();
 		applicationRepository.delete(application);
+
+		publishTasksChanged(application);
+	}
+
+	private Application saveApplication(Application application) {
+		Application savedApplication = applicationRepository.save(application);
+
+		publishTasksChanged(application);
+
+		return savedApplication;
+	}
+
+	private void publishTasksChanged(Application application) {
+		ResearchGroup researchGroup = application.getResearchGroup();
+
+		eventPublisher.publishEvent(new DashboardService.ResearchGroupTasksChangedEvent(
+				researchGroup != null ? researchGroup.getId() : null
+		));
 	}
 }
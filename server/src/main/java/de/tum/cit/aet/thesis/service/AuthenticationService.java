@@ -7,7 +7,9 @@ import de.tum.cit.aet.thesis.entity.key.NotificationSettingId;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.NotificationSettingRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.security.PrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,25 +24,31 @@ import java.util.Map;
 public class AuthenticationService {
 	private final UserRepository userRepository;
 	private final UploadService uploadService;
+	private final AvatarService avatarService;
 	private final NotificationSettingRepository notificationSettingRepository;
 	private final AccessManagementService accessManagementService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * Constructs the authentication service with the required dependencies.
 	 *
 	 * @param userRepository the user repository
 	 * @param uploadService the upload service
+	 * @param avatarService the avatar service rendering the size variants of uploaded avatars
 	 * @param notificationSettingRepository the notification setting repository
 	 * @param accessManagementService the access management service for default group assignment
+	 * @param eventPublisher the publisher used to announce changes of the authenticated user
 	 */
 	@Autowired
-	public AuthenticationService(UserRepository userRepository, UploadService uploadService,
+	public AuthenticationService(UserRepository userRepository, UploadService uploadService, AvatarService avatarService,
 			NotificationSettingRepository notificationSettingRepository,
-			AccessManagementService accessManagementService) {
+			AccessManagementService accessManagementService, ApplicationEventPublisher eventPublisher) {
 		this.userRepository = userRepository;
 		this.uploadService = uploadService;
+		this.avatarService = avatarService;
 		this.notificationSettingRepository = notificationSettingRepository;
 		this.accessManagementService = accessManagementService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	/**
@@ -126,6 +134,8 @@ public class AuthenticationService {
 			accessManagementService.addStudentGroup(user);
 		}
 
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(user.getId()));
+
 		return user;
 	}
 
@@ -185,6 +195,10 @@ public class AuthenticationService {
 
 		if (avatar != null) {
 			user.setAvatar(avatar.isEmpty() ? null : uploadService.store(avatar, 1024 * 1024, UploadFileType.IMAGE));
+
+			if (user.getAvatar() != null) {
+				avatarService.createVariants(user.getAvatar());
+			}
 		}
 
 		user.setExaminationFilename(examinationReport == null ? null : uploadService.store(examinationReport, 3 * 1024 * 1024, UploadFileType.PDF));
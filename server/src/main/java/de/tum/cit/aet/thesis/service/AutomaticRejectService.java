@@ -0,0 +1,225 @@
+package de.tum.cit.aet.thesis.service;
+
+import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
+import de.tum.cit.aet.thesis.constants.ApplicationReviewReason;
+import de.tum.cit.aet.thesis.constants.ApplicationState;
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
+import de.tum.cit.aet.thesis.cron.model.ApplicationRejectObject;
+import de.tum.cit.aet.thesis.entity.Application;
+import de.tum.cit.aet.thesis.entity.ResearchGroupSettings;
+import de.tum.cit.aet.thesis.entity.Topic;
+import de.tum.cit.aet.thesis.entity.TopicRole;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.repository.ApplicationRepository;
+import de.tum.cit.aet.thesis.repository.ApplicationReviewerRepository;
+import de.tum.cit.aet.thesis.repository.ResearchGroupSettingsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Automatically rejects unassessed applications of research groups that enabled automatic rejects.
+ *
+ * <p>The due applications of all research groups are computed with a single query and rejected in
+ * chunks of {@code chunk-size}, each with one bulk statement per table in its own transaction. The
+ * rejection mails of a chunk are written to the mail outbox in the same transaction, so they are only
+ * sent if the chunk commits.
+ * Supervisors and examiners receive one reminder for all applications of their topics that will be
+ * rejected within the next week.</p>
+ */
+@Service
+public class AutomaticRejectService {
+	private static final Logger log = LoggerFactory.getLogger(AutomaticRejectService.class);
+
+	private static final int MINIMAL_REJECT_DAYS = 14;
+	private static final int REMINDER_LEAD_DAYS = 7;
+
+	private final ApplicationRepository applicationRepository;
+	private final ApplicationReviewerRepository applicationReviewerRepository;
+	private final ResearchGroupSettingsRepository researchGroupSettingsRepository;
+	private final MailingService mailingService;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+	private final int rejectChunkSize;
+
+	/**
+	 * Constructs the service with the required repositories and services.
+	 *
+	 * @param applicationRepository the application repository
+	 * @param applicationReviewerRepository the application reviewer repository
+	 * @param researchGroupSettingsRepository the research group settings repository
+	 * @param mailingService the mailing service for rejection and reminder mails
+	 * @param transactionTemplate the template used to run each rejection chunk in its own transaction
+	 * @param eventPublisher the publisher used to invalidate the dashboard tasks of affected research groups
+	 * @param clock the clock used to read the current time
+	 * @param rejectChunkSize the maximum number of applications rejected per transaction
+	 */
+	public AutomaticRejectService(
+			ApplicationRepository applicationRepository,
+			ApplicationReviewerRepository applicationReviewerRepository,
+			ResearchGroupSettingsRepository researchGroupSettingsRepository,
+			MailingService mailingService,
+			TransactionTemplate transactionTemplate,
+			ApplicationEventPublisher eventPublisher,
+			Clock clock,
+			@Value("${thesis-management.automatic-reject.chunk-size:200}") int rejectChunkSize) {
+		this.applicationRepository = applicationRepository;
+		this.applicationReviewerRepository = applicationReviewerRepository;
+		this.researchGroupSettingsRepository = researchGroupSettingsRepository;
+		this.mailingService = mailingService;
+		this.transactionTemplate = transactionTemplate;
+		this.eventPublisher = eventPublisher;
+		this.clock = clock;
+		this.rejectChunkSize = Math.max(1, rejectChunkSize);
+	}
+
+	/**
+	 * Rejects all applications whose automatic rejection date has passed and notifies the applicants.
+	 *
+	 * @return the number of rejected applications
+	 */
+	public int rejectDueApplications() {
+		// Truncated to the database precision so the rejected rows can be recognized after the bulk update
+		Instant now = Instant.now(clock).truncatedTo(ChronoUnit.MICROS);
+
+		List<UUID> dueIds = applicationRepository.findAutomaticRejectCandidateIds(
+				Instant.EPOCH, now, now.minus(MINIMAL_REJECT_DAYS, ChronoUnit.DAYS));
+
+		if (dueIds.isEmpty()) {
+			return 0;
+		}
+
+		int totalRejected = 0;
+
+		for (int start = 0; start < dueIds.size(); start += rejectChunkSize) {
+			List<UUID> chunk = dueIds.subList(start, Math.min(start + rejectChunkSize, dueIds.size()));
+
+			try {
+				Integer rejected = transactionTemplate.execute(status -> rejectChunk(chunk, now));
+
+				totalRejected += rejected;
+			} catch (Exception e) {
+				log.error("Failed to automatically reject {} applications: {}", chunk.size(), e.getMessage(), e);
+			}
+		}
+
+		log.info("Automatically rejected {} of {} due applications", totalRejected, dueIds.size());
+
+		return totalRejected;
+	}
+
+	/**
+	 * Sends one reminder to every supervisor and examiner with applications for their topics that
+	 * will be rejected automatically within the next week.
+	 */
+	public void sendRejectReminders() {
+		Instant now = Instant.now(clock);
+		Instant horizon = now.plus(REMINDER_LEAD_DAYS, ChronoUnit.DAYS);
+
+		List<UUID> upcomingIds = applicationRepository.findAutomaticRejectCandidateIds(
+				now, horizon, horizon.minus(MINIMAL_REJECT_DAYS, ChronoUnit.DAYS));
+
+		if (upcomingIds.isEmpty()) {
+			return;
+		}
+
+		Map<UUID, Integer> rejectDurations = researchGroupSettingsRepository.findAllByAutomaticRejectEnabled().stream()
+				.collect(Collectors.toMap(ResearchGroupSettings::getResearchGroupId, ResearchGroupSettings::getRejectDuration));
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Map<User, List<ApplicationRejectObject>> remindersByUser = new LinkedHashMap<>();
+
+			for (Application application : applicationRepository.findAllWithDetailsByIdIn(upcomingIds)) {
+				Topic topic = application.getTopic();
+				Integer rejectDuration = topic == null ? null : rejectDurations.get(topic.getResearchGroup().getId());
+
+				if (rejectDuration == null) {
+					continue;
+				}
+
+				ApplicationRejectObject upcomingReject = new ApplicationRejectObject(
+						application.getUser().getFirstName() + " " + application.getUser().getLastName(),
+						topic.getTitle(),
+						computeRejectionDate(application, topic, rejectDuration),
+						application.getId()
+				);
+
+				for (TopicRole role : topic.getRoles()) {
+					if (role.getId().getRole() != ThesisRoleName.SUPERVISOR && role.getId().getRole() != ThesisRoleName.EXAMINER) {
+						continue;
+					}
+
+					List<ApplicationRejectObject> reminders = remindersByUser.computeIfAbsent(role.getUser(), key -> new ArrayList<>());
+					if (!reminders.contains(upcomingReject)) {
+						reminders.add(upcomingReject);
+					}
+				}
+			}
+
+			remindersByUser.forEach((user, reminders) -> {
+				try {
+					mailingService.sendApplicationAutomaticRejectReminderEmail(user, reminders);
+				} catch (Exception e) {
+					log.error("Failed to send automatic reject reminder to user {}: {}", user.getId(), e.getMessage(), e);
+				}
+			});
+		});
+	}
+
+	private int rejectChunk(List<UUID> applicationIds, Instant now) {
+		// Store the reviews first, the review query only considers applications that are still unassessed
+		applicationReviewerRepository.reviewAllNotAssessedByIdIn(
+				applicationIds, ApplicationReviewReason.NOT_INTERESTED.name(), now);
+		int rejected = applicationRepository.rejectAllNotAssessedByIdIn(
+				applicationIds, ApplicationRejectReason.GENERAL, now);
+
+		Set<UUID> researchGroupIds = new HashSet<>();
+
+		for (Application application : applicationRepository.findAllWithDetailsByIdIn(applicationIds)) {
+			// Skip applications that were reviewed by someone else since the due applications were computed
+			if (application.getState() != ApplicationState.REJECTED || !now.equals(application.getReviewedAt())) {
+				continue;
+			}
+
+			mailingService.sendApplicationRejectionEmail(application, ApplicationRejectReason.GENERAL);
+			researchGroupIds.add(application.getResearchGroup().getId());
+		}
+
+		for (UUID researchGroupId : researchGroupIds) {
+			eventPublisher.publishEvent(new DashboardService.ResearchGroupTasksChangedEvent(researchGroupId));
+		}
+
+		return rejected;
+	}
+
+	private static Instant computeRejectionDate(Application application, Topic topic, int rejectDuration) {
+		Instant referenceDate = application.getCreatedAt();
+
+		if (topic.getApplicationDeadline() != null) {
+			referenceDate = topic.getApplicationDeadline();
+		} else if (topic.getIntendedStart() != null) {
+			referenceDate = topic.getIntendedStart();
+		}
+
+		Instant earliestRejection = application.getCreatedAt().plus(MINIMAL_REJECT_DAYS, ChronoUnit.DAYS);
+		Instant referenceRejection = referenceDate.plus(Math.max(rejectDuration * 7, MINIMAL_REJECT_DAYS), ChronoUnit.DAYS);
+
+		return earliestRejection.isAfter(referenceRejection) ? earliestRejection : referenceRejection;
+	}
+}
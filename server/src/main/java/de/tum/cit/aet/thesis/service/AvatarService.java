@@ -0,0 +1,319 @@
+package de.tum.cit.aet.thesis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.thesis.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Serves user avatars in a few fixed sizes and decides whether an avatar may be served publicly.
+ *
+ * <p>When an avatar is uploaded, square variants are rendered for every size in {@link #VARIANT_SIZES}
+ * and stored next to the original under a name derived from the content hash of the original, so they
+ * can be located without storing their names. Avatars uploaded before the variants existed get their
+ * variants on the first request for one of them. JPEG avatars get JPEG variants, all other formats PNG
+ * variants to keep transparency.</p>
+ *
+ * <p>Whether a user appears in publicly visible data is cached per user, because lists of topics and
+ * theses request dozens of avatars per page. Changes of the visibility are picked up when the cached flag
+ * expires.</p>
+ */
+@Slf4j
+@Service
+public class AvatarService {
+	public static final List<Integer> VARIANT_SIZES = List.of(64, 128, 256);
+
+	private static final Set<String> JPEG_EXTENSIONS = Set.of("jpg", "jpeg");
+	private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+	private static final float JPEG_QUALITY = 0.85f;
+	private static final Duration RENDER_RETRY_DELAY = Duration.ofHours(1);
+
+	private final UploadService uploadService;
+	private final UserRepository userRepository;
+
+	private final Cache<UUID, Boolean> visibilityCache;
+	private final Cache<String, Boolean> unrenderableAvatars;
+
+	/**
+	 * A stored avatar image.
+	 *
+	 * @param resource the image content
+	 * @param mediaType the content type of the image
+	 * @param etag the quoted entity tag, derived from the content-hashed filename
+	 */
+	public record AvatarImage(Resource resource, MediaType mediaType, String etag) {}
+
+	/**
+	 * Injects the upload service and user repository and configures the visibility cache.
+	 *
+	 * @param uploadService the upload service the avatars are stored with
+	 * @param userRepository the user repository for visibility checks
+	 * @param meterRegistry the registry the cache hit and miss counters are registered in
+	 * @param cacheMaxSize the maximum number of users whose visibility is cached
+	 * @param cacheTtl the time after which the visibility of a user is checked again
+	 */
+	@Autowired
+	public AvatarService(
+			UploadService uploadService,
+			UserRepository userRepository,
+			MeterRegistry meterRegistry,
+			@Value("${thesis-management.avatar.visibility-cache.max-size:10000}") long cacheMaxSize,
+			@Value("${thesis-management.avatar.visibility-cache.ttl:PT10M}") Duration cacheTtl
+	) {
+		this.uploadService = uploadService;
+		this.userRepository = userRepository;
+
+		this.visibilityCache = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfterWrite(cacheTtl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, visibilityCache, "avatarVisibility");
+
+		// Avatars without variants, e.g. WebP or missing originals, are served as original without
+		// fetching the original again on every request to retry the rendering
+		this.unrenderableAvatars = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfterWrite(RENDER_RETRY_DELAY)
+				.build();
+	}
+
+	/**
+	 * Checks whether the avatar of the user may be served without authentication.
+	 *
+	 * @param userId the ID of the user
+	 * @return true if the user appears in publicly visible data
+	 */
+	public boolean isPubliclyVisible(UUID userId) {
+		return visibilityCache.get(userId, userRepository::isUserPubliclyVisible);
+	}
+
+	/**
+	 * Renders and stores the variants of a stored avatar. Avatars that cannot be rendered are served as
+	 * original, the rendering is retried when they are requested after an hour.
+	 *
+	 * @param avatar the filename of the stored original
+	 */
+	public void createVariants(String avatar) {
+		try {
+			if (!renderVariants(avatar)) {
+				unrenderableAvatars.put(avatar, Boolean.TRUE);
+			}
+		} catch (IOException | RuntimeException e) {
+			unrenderableAvatars.put(avatar, Boolean.TRUE);
+			log.warn("Failed to create variants of avatar '{}': {}", avatar, e.getMessage());
+		}
+	}
+
+	/**
+	 * Loads the smallest stored variant that is at least as large as the requested size. The original is
+	 * returned if no size is requested, the size exceeds the largest variant, or no variant can be rendered.
+	 *
+	 * @param avatar the filename of the stored original
+	 * @param size the requested edge length in pixels, or null for the original
+	 * @return the avatar image, or empty if the original does not exist
+	 */
+	public Optional<AvatarImage> load(String avatar, Integer size) {
+		Integer variantSize = size == null ? null : VARIANT_SIZES.stream()
+				.filter(candidate -> candidate >= size)
+				.findFirst()
+				.orElse(null);
+
+		if (variantSize != null && unrenderableAvatars.getIfPresent(avatar) == null) {
+			String variant = getVariantFilename(avatar, variantSize);
+			Optional<AvatarImage> image = loadFile(variant);
+
+			if (image.isEmpty()) {
+				createVariants(avatar);
+
+				if (unrenderableAvatars.getIfPresent(avatar) == null) {
+					image = loadFile(variant);
+				}
+			}
+
+			if (image.isPresent()) {
+				return image;
+			}
+		}
+
+		return loadFile(avatar);
+	}
+
+	/**
+	 * Returns the filenames of the original and all variants of an avatar, e.g. to delete them.
+	 *
+	 * @param avatar the filename of the stored original, may be null
+	 * @return the stored filenames, empty if there is no avatar
+	 */
+	public static List<String> getStoredFilenames(String avatar) {
+		if (avatar == null || avatar.isBlank()) {
+			return List.of();
+		}
+
+		List<String> filenames = new ArrayList<>();
+		filenames.add(avatar);
+
+		for (int size : VARIANT_SIZES) {
+			filenames.add(getVariantFilename(avatar, size));
+		}
+
+		return filenames;
+	}
+
+	private static String getVariantFilename(String avatar, int size) {
+		return FilenameUtils.getBaseName(avatar) + "-" + size + "." + getVariantExtension(avatar);
+	}
+
+	private static String getVariantExtension(String avatar) {
+		return JPEG_EXTENSIONS.contains(FilenameUtils.getExtension(avatar).toLowerCase(Locale.ROOT)) ? "jpg" : "png";
+	}
+
+	private Optional<AvatarImage> loadFile(String filename) {
+		Resource resource;
+		try {
+			resource = uploadService.load(filename);
+		} catch (RuntimeException e) {
+			return Optional.empty();
+		}
+
+		MediaType mediaType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+		return Optional.of(new AvatarImage(resource, mediaType, "\"" + filename + "\""));
+	}
+
+	/** Renders and stores all variants, or returns false if the format of the original is not supported. */
+	private boolean renderVariants(String avatar) throws IOException {
+		BufferedImage source = readImage(avatar);
+
+		if (source == null) {
+			return false;
+		}
+
+		String extension = getVariantExtension(avatar);
+
+		for (int size : VARIANT_SIZES) {
+			BufferedImage variant = resizeToSquare(source, size, extension.equals("png"));
+
+			uploadService.storeDerived(getVariantFilename(avatar, size), encode(variant, extension));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Decodes the stored image, or returns null if the format is not supported (e.g. WebP) or the image
+	 * is too large to decode. Large images are subsampled while decoding, the largest variant only needs
+	 * a source of twice its size.
+	 */
+	private BufferedImage readImage(String filename) throws IOException {
+		try (InputStream inputStream = uploadService.load(filename).getInputStream();
+				ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+			Iterator<ImageReader> readers = imageInput == null ? null : ImageIO.getImageReaders(imageInput);
+
+			if (readers == null || !readers.hasNext()) {
+				return null;
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(imageInput, true, true);
+
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+
+				if ((long) width * height > MAX_SOURCE_PIXELS) {
+					return null;
+				}
+
+				int subsampling = Math.max(1, Math.min(width, height) / (2 * VARIANT_SIZES.getLast()));
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/** Crops the center square of the image and scales it down to the size, images are never scaled up. */
+	private static BufferedImage resizeToSquare(BufferedImage source, int size, boolean keepAlpha) {
+		int edge = Math.min(source.getWidth(), source.getHeight());
+		BufferedImage current = source.getSubimage((source.getWidth() - edge) / 2, (source.getHeight() - edge) / 2, edge, edge);
+		int target = Math.min(size, edge);
+		int imageType = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+		// Halve in steps so that large reductions do not skip most source pixels
+		do {
+			int next = Math.max(target, current.getWidth() / 2);
+			BufferedImage scaled = new BufferedImage(next, next, imageType);
+			Graphics2D graphics = scaled.createGraphics();
+
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				graphics.drawImage(current, 0, 0, next, next, null);
+			} finally {
+				graphics.dispose();
+			}
+
+			current = scaled;
+		} while (current.getWidth() > target);
+
+		return current;
+	}
+
+	private static byte[] encode(BufferedImage image, String extension) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageWriter writer = ImageIO.getImageWritersByFormatName(extension.equals("jpg") ? "jpeg" : extension).next();
+
+		try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+			writer.setOutput(imageOutput);
+
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (extension.equals("jpg")) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(JPEG_QUALITY);
+			}
+
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+
+		return output.toByteArray();
+	}
+}
@@ -0,0 +1,174 @@
+package de.tum.cit.aet.thesis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
+import de.tum.cit.aet.thesis.entity.Topic;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the serialized iCalendar subscription feeds of research group presentations and user interviews.
+ *
+ * <p>Calendar clients poll these feeds frequently, so every feed is serialized once and kept until a
+ * presentation or interview slot that is part of it changes. Each feed carries an ETag that only depends on
+ * the events of the feed, which allows clients to skip unchanged feeds with a conditional request.</p>
+ */
+@Service
+public class CalendarFeedService {
+	private final ThesisPresentationService thesisPresentationService;
+	private final InterviewProcessService interviewProcessService;
+
+	private final Cache<UUID, CalendarFeed> presentationFeeds;
+	private final Cache<UUID, CalendarFeed> interviewFeeds;
+
+	/**
+	 * A serialized calendar feed.
+	 *
+	 * @param content the UTF-8 encoded iCalendar document
+	 * @param etag the quoted entity tag of the feed
+	 */
+	public record CalendarFeed(byte[] content, String etag) {}
+
+	/** Published when a presentation of the given research group changed. A null group affects all groups. */
+	public record PresentationCalendarChangedEvent(UUID researchGroupId) {}
+
+	/** Published when interview slots shown in the interview feeds of the given users changed. */
+	public record InterviewCalendarChangedEvent(Set<UUID> userIds) {
+		/**
+		 * Creates an event for all supervisors of the topic, whose interview feeds contain the slots of the topic.
+		 *
+		 * @param topic the topic of the changed interview process
+		 * @return the event
+		 */
+		public static InterviewCalendarChangedEvent forTopic(Topic topic) {
+			return new InterviewCalendarChangedEvent(topic.getRoles().stream()
+					.filter(role -> role.getId().getRole() == ThesisRoleName.SUPERVISOR)
+					.map(role -> role.getId().getUserId())
+					.collect(Collectors.toSet()));
+		}
+	}
+
+	/**
+	 * Injects the presentation and interview services and configures the feed caches.
+	 *
+	 * @param thesisPresentationService the service building the presentation calendars
+	 * @param interviewProcessService the service building the interview calendars
+	 * @param meterRegistry the registry the cache hit and miss counters are registered in
+	 * @param cacheMaxSize the maximum number of feeds cached per feed type
+	 * @param cacheTtl the time after which cached feeds are rebuilt
+	 */
+	@Autowired
+	public CalendarFeedService(
+			ThesisPresentationService thesisPresentationService,
+			InterviewProcessService interviewProcessService,
+			MeterRegistry meterRegistry,
+			@Value("${thesis-management.calendar.feed-cache.max-size:5000}") long cacheMaxSize,
+			@Value("${thesis-management.calendar.feed-cache.ttl:PT1H}") Duration cacheTtl
+	) {
+		this.thesisPresentationService = thesisPresentationService;
+		this.interviewProcessService = interviewProcessService;
+
+		this.presentationFeeds = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfterWrite(cacheTtl)
+				.recordStats()
+				.build();
+		this.interviewFeeds = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfterWrite(cacheTtl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, presentationFeeds, "presentationCalendarFeeds");
+		CaffeineCacheMetrics.monitor(meterRegistry, interviewFeeds, "interviewCalendarFeeds");
+	}
+
+	/**
+	 * Returns the feed of all public presentations of the research group.
+	 *
+	 * @param researchGroupId the research group ID
+	 * @return the serialized feed
+	 */
+	public CalendarFeed getPresentationFeed(UUID researchGroupId) {
+		return presentationFeeds.get(researchGroupId, id ->
+				toFeed(thesisPresentationService.getPresentationCalendar(id).toString()));
+	}
+
+	/**
+	 * Returns the feed of all interview slots of the topics the user supervises.
+	 *
+	 * @param userId the user ID
+	 * @return the serialized feed
+	 */
+	public CalendarFeed getInterviewFeed(UUID userId) {
+		return interviewFeeds.get(userId, id ->
+				toFeed(interviewProcessService.getInterviewCalendarForUser(id).toString()));
+	}
+
+	/**
+	 * Evicts the presentation feed of the research group of the changed presentation.
+	 *
+	 * @param event the change event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPresentationCalendarChanged(PresentationCalendarChangedEvent event) {
+		if (event.researchGroupId() == null) {
+			presentationFeeds.invalidateAll();
+			return;
+		}
+
+		presentationFeeds.invalidate(event.researchGroupId());
+	}
+
+	/**
+	 * Evicts the interview feeds of all users that see the changed interview slots.
+	 *
+	 * @param event the change event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onInterviewCalendarChanged(InterviewCalendarChangedEvent event) {
+		interviewFeeds.invalidateAll(event.userIds());
+	}
+
+	private static CalendarFeed toFeed(String calendar) {
+		MessageDigest digest = newDigest();
+
+		// The DTSTAMP of every event is the serialization time, it is excluded so that rebuilding an
+		// unchanged feed after expiry keeps its ETag
+		for (String line : calendar.split("\r\n")) {
+			if (line.startsWith("DTSTAMP")) {
+				continue;
+			}
+
+			digest.update(line.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '\n');
+		}
+
+		return new CalendarFeed(
+				calendar.getBytes(StandardCharsets.UTF_8),
+				"\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\""
+		);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+}
@@ -1,29 +1,50 @@
 package de.tum.cit.aet.thesis.service;
 
-import de.tum.cit.aet.thesis.constants.ThesisPresentationState;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.ThesisState;
+import de.tum.cit.aet.thesis.dto.DashboardThesisDto;
 import de.tum.cit.aet.thesis.dto.TaskDto;
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.ResearchGroupSettings;
 import de.tum.cit.aet.thesis.entity.Thesis;
-import de.tum.cit.aet.thesis.entity.ThesisPresentation;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
 import de.tum.cit.aet.thesis.repository.TopicRepository;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
-/** Generates prioritized task lists for the user dashboard based on thesis states and role assignments. */
+/**
+ * Generates prioritized task lists for the user dashboard based on thesis states and role assignments.
+ *
+ * <p>Task lists are cached per user. Services that change theses, presentations, or applications publish
+ * a {@link UserTasksChangedEvent} or {@link ResearchGroupTasksChangedEvent}, which evicts the affected
+ * entries once the change is committed. Everything else (topics, research group settings, group
+ * memberships) is picked up when the entry expires.</p>
+ */
 @Service
 public class DashboardService {
 	private final ThesisRepository thesisRepository;
@@ -31,33 +52,117 @@ public class DashboardService {
 	private final TopicRepository topicRepository;
 	private final CurrentUserProvider currentUserProvider;
 
+	private final Cache<UUID, CachedTasks> taskCache;
+
+	/** Published when the tasks of the given users may have changed, e.g. because a thesis they have a role on changed. */
+	public record UserTasksChangedEvent(Set<UUID> userIds) {
+		/**
+		 * Creates an event for all users that have a role on the thesis.
+		 *
+		 * @param thesis the changed thesis
+		 * @return the event
+		 */
+		public static UserTasksChangedEvent forThesis(Thesis thesis) {
+			return new UserTasksChangedEvent(thesis.getRoles().stream()
+					.map(role -> role.getId().getUserId())
+					.collect(Collectors.toSet()));
+		}
+	}
+
+	/** Published when the application related tasks of a research group changed. A null group affects all groups. */
+	public record ResearchGroupTasksChangedEvent(UUID researchGroupId) {}
+
+	private record CachedTasks(UUID researchGroupId, List<TaskDto> tasks) {}
+
 	/**
-	 * Injects the thesis, application, and topic repositories.
+	 * Injects the thesis, application, and topic repositories and configures the task cache.
 	 *
 	 * @param thesisRepository the thesis repository
 	 * @param applicationRepository the application repository
 	 * @param topicRepository the topic repository
 	 * @param currentUserProvider the current user provider
+	 * @param meterRegistry the registry the cache hit and miss counters are registered in
+	 * @param cacheMaxSize the maximum number of users whose tasks are cached
+	 * @param cacheTtl the time after which cached tasks are recomputed
 	 */
+	@Autowired
 	public DashboardService(
 			ThesisRepository thesisRepository,
 			ApplicationRepository applicationRepository,
 			TopicRepository topicRepository,
-			CurrentUserProvider currentUserProvider
+			CurrentUserProvider currentUserProvider,
+			MeterRegistry meterRegistry,
+			@Value("${thesis-management.dashboard.task-cache.max-size:10000}") long cacheMaxSize,
+			@Value("${thesis-management.dashboard.task-cache.ttl:PT5M}") Duration cacheTtl
 	) {
 		this.thesisRepository = thesisRepository;
 		this.applicationRepository = applicationRepository;
 		this.topicRepository = topicRepository;
 		this.currentUserProvider = currentUserProvider;
+
+		this.taskCache = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfterWrite(cacheTtl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, taskCache, "dashboardTasks");
 	}
 
 	/**
-	 * Collects and returns all pending tasks for the given user, sorted by priority in descending order.
+	 * Returns all pending tasks for the given user, sorted by priority in descending order.
 	 *
 	 * @param user the user to collect tasks for
 	 * @return the list of tasks sorted by priority
 	 */
 	public List<TaskDto> getTasks(User user) {
+		return getTasks(user.getId(), () -> user);
+	}
+
+	/**
+	 * Returns all pending tasks for the user with the given ID, sorted by priority in descending order.
+	 * The user is only loaded if the tasks are not cached.
+	 *
+	 * @param userId the ID of the user to collect tasks for
+	 * @param userLoader loads the user if the tasks have to be computed
+	 * @return the list of tasks sorted by priority
+	 */
+	public List<TaskDto> getTasks(UUID userId, Supplier<User> userLoader) {
+		return taskCache.get(userId, id -> {
+			User user = userLoader.get();
+
+			return new CachedTasks(
+					user.getResearchGroup() != null ? user.getResearchGroup().getId() : null,
+					List.copyOf(computeTasks(user))
+			);
+		}).tasks();
+	}
+
+	/**
+	 * Evicts the cached tasks of all users with a role on the changed thesis or presentation.
+	 *
+	 * @param event the change event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUserTasksChanged(UserTasksChangedEvent event) {
+		taskCache.invalidateAll(event.userIds());
+	}
+
+	/**
+	 * Evicts the cached tasks of all users in the research group of the changed application.
+	 *
+	 * @param event the change event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onResearchGroupTasksChanged(ResearchGroupTasksChangedEvent event) {
+		if (event.researchGroupId() == null) {
+			taskCache.invalidateAll();
+			return;
+		}
+
+		taskCache.asMap().values().removeIf(entry -> event.researchGroupId().equals(entry.researchGroupId()));
+	}
+
+	private List<TaskDto> computeTasks(User user) {
 		List<TaskDto> tasks = new ArrayList<>();
 		UUID researchGroupId = user.getResearchGroup() != null ? user.getResearchGroup().getId() : null;
 
@@ -73,11 +178,17 @@ public class DashboardService {
 			}
 		}
 
+		List<DashboardThesis> theses = getDashboardTheses(user.getId(), researchGroupId);
+
 		// general student tasks
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId, Set.of(ThesisRoleName.STUDENT), null)) {
-			if (thesis.getAbstractField().isBlank() || thesis.getInfo().isBlank()) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.STUDENT)) {
+				continue;
+			}
+
+			if (thesis.data().missingAbstractOrInfo()) {
 				tasks.add(new TaskDto(
-						"Add the abstract and additional information to thesis \"" + thesis.getTitle() + "\"",
+						"Add the abstract and additional information to thesis \"" + thesis.data().title() + "\"",
 						getThesisLink(thesis),
 						50
 				));
@@ -85,57 +196,59 @@ public class DashboardService {
 		}
 
 		// general supervisor tasks
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId, Set.of(ThesisRoleName.SUPERVISOR), null)) {
-			if (thesis.getState().equals(ThesisState.PROPOSAL)) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.SUPERVISOR) || thesis.hasState(ThesisState.PROPOSAL)) {
 				continue;
 			}
 
-			if (thesis.getStartDate() == null || thesis.getEndDate() == null) {
+			if (thesis.data().startDate() == null || thesis.data().endDate() == null) {
 				tasks.add(new TaskDto(
-						"Add start and end date to thesis \"" + thesis.getTitle() + "\"",
+						"Add start and end date to thesis \"" + thesis.data().title() + "\"",
 						getThesisLink(thesis),
 						50
 				));
 			}
 
-			for (ThesisPresentation presentation : thesis.getPresentations()) {
-				if (presentation.getState() == ThesisPresentationState.DRAFTED) {
-					tasks.add(new TaskDto(
-							"There is a presentation draft for thesis \"" + thesis.getTitle() + "\". Please review and confirm it.",
-							getThesisLink(thesis),
-							80
-					));
-				}
+			for (long i = 0; i < thesis.data().draftedPresentationCount(); i++) {
+				tasks.add(new TaskDto(
+						"There is a presentation draft for thesis \"" + thesis.data().title() + "\". Please review and confirm it.",
+						getThesisLink(thesis),
+						80
+				));
 			}
 		}
 
 		// proposal task
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId, Set.of(ThesisRoleName.STUDENT), Set.of(ThesisState.PROPOSAL))) {
-			if (!thesis.getProposals().isEmpty()) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.STUDENT) || !thesis.hasState(ThesisState.PROPOSAL) || thesis.data().proposalCount() > 0) {
 				continue;
 			}
 
 			tasks.add(new TaskDto(
-					"Add a proposal to thesis \"" + thesis.getTitle() + "\"",
+					"Add a proposal to thesis \"" + thesis.data().title() + "\"",
 					getThesisLink(thesis),
 					100
 			));
 		}
 
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId, Set.of(ThesisRoleName.SUPERVISOR), Set.of(ThesisState.PROPOSAL))) {
-			if (thesis.getProposals().isEmpty()) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.SUPERVISOR) || !thesis.hasState(ThesisState.PROPOSAL) || thesis.data().proposalCount() == 0) {
 				continue;
 			}
 
 			tasks.add(new TaskDto(
-					"A proposal was submitted to thesis \"" + thesis.getTitle() + "\". Please review and accept it or send feedback to the student.",
+					"A proposal was submitted to thesis \"" + thesis.data().title() + "\". Please review and accept it or send feedback to the student.",
 					getThesisLink(thesis),
 					100
 			));
 		}
 
 		// thesis submission task
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId, Set.of(ThesisRoleName.STUDENT), Set.of(ThesisState.WRITING))) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.STUDENT) || !thesis.hasState(ThesisState.WRITING)) {
+				continue;
+			}
+
 			tasks.add(new TaskDto(
 					"Submit your final thesis and presentation. You can check your submission deadline on the thesis page.",
 					getThesisLink(thesis),
@@ -144,46 +257,60 @@ public class DashboardService {
 		}
 
 		// presentation tasks
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId,
-				Set.of(ThesisRoleName.STUDENT, ThesisRoleName.SUPERVISOR),
-				Set.of(ThesisState.WRITING, ThesisState.SUBMITTED))) {
-			if (!thesis.getPresentations().isEmpty() || thesis.getEndDate() == null) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.STUDENT, ThesisRoleName.SUPERVISOR) || !thesis.hasState(ThesisState.WRITING, ThesisState.SUBMITTED)) {
+				continue;
+			}
+
+			if (thesis.data().presentationCount() > 0 || thesis.data().endDate() == null) {
 				continue;
 			}
 
-			if (thesis.getEndDate().minus(30, ChronoUnit.DAYS).isAfter(Instant.now())) {
+			if (thesis.data().endDate().minus(30, ChronoUnit.DAYS).isAfter(Instant.now())) {
 				continue;
 			}
 
 			tasks.add(new TaskDto(
-					"Schedule a presentation date for thesis \"" + thesis.getTitle() + "\" with the supervisor.",
+					"Schedule a presentation date for thesis \"" + thesis.data().title() + "\" with the supervisor.",
 					getThesisLink(thesis),
 					40
 			));
 		}
 
 		// thesis assessment task
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId, Set.of(ThesisRoleName.SUPERVISOR), Set.of(ThesisState.SUBMITTED))) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.SUPERVISOR) || !thesis.hasState(ThesisState.SUBMITTED)) {
+				continue;
+			}
+
 			tasks.add(new TaskDto(
-					"Thesis \"" + thesis.getTitle() + "\" was submitted. Please review the thesis and add an assessment.",
+					"Thesis \"" + thesis.data().title() + "\" was submitted. Please review the thesis and add an assessment.",
 					getThesisLink(thesis),
 					100
 			));
 		}
 
 		// grade thesis task
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(),researchGroupId,  Set.of(ThesisRoleName.EXAMINER), Set.of(ThesisState.ASSESSED))) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.EXAMINER) || !thesis.hasState(ThesisState.ASSESSED)) {
+				continue;
+			}
+
 			tasks.add(new TaskDto(
-					"Review assessment of thesis \"" + thesis.getTitle() + "\" and add a final grade.",
+					"Review assessment of thesis \"" + thesis.data().title() + "\" and add a final grade.",
 					getThesisLink(thesis),
 					100
 			));
 		}
 
 		// close thesis task
-		for (Thesis thesis : thesisRepository.findActiveThesesForRole(user.getId(), researchGroupId, Set.of(ThesisRoleName.EXAMINER), Set.of(ThesisState.GRADED))) {
+		for (DashboardThesis thesis : theses) {
+			if (!thesis.hasRole(ThesisRoleName.EXAMINER) || !thesis.hasState(ThesisState.GRADED)) {
+				continue;
+			}
+
 			tasks.add(new TaskDto(
-					"Thesis \"" + thesis.getTitle() + "\" is graded but not completed yet.",
+					"Thesis \"" + thesis.data().title() + "\" is graded but not completed yet.",
 					getThesisLink(thesis),
 					20
 			));
@@ -219,7 +346,33 @@ public class DashboardService {
 		return tasks.reversed();
 	}
 
-	private String getThesisLink(Thesis thesis) {
-		return "/theses/" + thesis.getId();
+	/**
+	 * Loads all active theses of the user with a single query and merges the rows of users that
+	 * hold multiple roles on the same thesis.
+	 */
+	private List<DashboardThesis> getDashboardTheses(UUID userId, UUID researchGroupId) {
+		Map<UUID, DashboardThesis> theses = new LinkedHashMap<>();
+
+		for (DashboardThesisDto row : thesisRepository.findDashboardTheses(userId, researchGroupId)) {
+			theses.computeIfAbsent(row.thesisId(), id -> new DashboardThesis(row, EnumSet.noneOf(ThesisRoleName.class)))
+					.roles()
+					.add(row.role());
+		}
+
+		return new ArrayList<>(theses.values());
+	}
+
+	private record DashboardThesis(DashboardThesisDto data, Set<ThesisRoleName> roles) {
+		boolean hasRole(ThesisRoleName... roleNames) {
+			return Arrays.stream(roleNames).anyMatch(roles::contains);
+		}
+
+		boolean hasState(ThesisState... states) {
+			return Arrays.asList(states).contains(data.state());
+		}
+	}
+
+	private String getThesisLink(DashboardThesis thesis) {
+		return "/theses/" + thesis.data().thesisId();
 	}
 }
@@ -15,19 +15,26 @@ import de.tum.cit.aet.thesis.repository.DataExportRepository;
 import de.tum.cit.aet.thesis.repository.ThesisAssessmentRepository;
 import de.tum.cit.aet.thesis.repository.ThesisFeedbackRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
+import de.tum.cit.aet.thesis.storage.BlobStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.SerializationFeature;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import jakarta.annotation.PreDestroy;
+
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -38,10 +45,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
-/** Manages the lifecycle of GDPR data exports including creation, download, and expiration. */
+/**
+ * Manages the lifecycle of GDPR data exports including creation, download, and expiration.
+ *
+ * <p>Requested exports are created right after the request committed and by the nightly data
+ * retention run as fallback. Exports are created in parallel on virtual threads with bounded
+ * concurrency, each claimed atomically so that multiple instances never create the same export.</p>
+ */
 @Service
 public class DataExportService {
 	private static final Logger log = LoggerFactory.getLogger(DataExportService.class);
@@ -53,12 +73,22 @@ public class DataExportService {
 	private final ThesisAssessmentRepository thesisAssessmentRepository;
 	private final UploadService uploadService;
 	private final MailingService mailingService;
-	private final Path exportPath;
+	private final ApplicationEventPublisher eventPublisher;
+	private final BlobStorage exportStorage;
 	private final int retentionDays;
 	private final int cooldownDays;
+	private final boolean processOnRequest;
 
 	private final ObjectMapper objectMapper;
 
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Semaphore creationPermits;
+	private final ReentrantLock processingLock = new ReentrantLock();
+	private final AtomicBoolean processingScheduled = new AtomicBoolean(false);
+
+	/** Published after a data export was requested so that it can be created once committed. */
+	public record DataExportRequestedEvent(UUID exportId) {}
+
 	/**
 	 * Constructs the service with required repositories, upload and mailing services, and configuration values.
 	 *
@@ -70,9 +100,12 @@ public class DataExportService {
 	 * @param uploadService the upload service
 	 * @param mailingService the mailing service
 	 * @param springObjectMapper the Spring-managed ObjectMapper with modules pre-registered
-	 * @param exportPath the export directory path
+	 * @param eventPublisher the publisher used to signal newly requested exports
+	 * @param exportStorage the storage the export archives are kept in
 	 * @param retentionDays the export retention period in days
 	 * @param cooldownDays the cooldown period between exports
+	 * @param processOnRequest whether exports are created right after they were requested
+	 * @param maxConcurrency the maximum number of exports created at the same time
 	 */
 	public DataExportService(
 			DataExportRepository dataExportRepository,
@@ -83,9 +116,12 @@ public class DataExportService {
 			UploadService uploadService,
 			MailingService mailingService,
 			ObjectMapper springObjectMapper,
-			@Value("${thesis-management.data-export.path}") String exportPath,
+			ApplicationEventPublisher eventPublisher,
+			@Qualifier("dataExportStorage") BlobStorage exportStorage,
 			@Value("${thesis-management.data-export.retention-days}") int retentionDays,
-			@Value("${thesis-management.data-export.days-between-exports}") int cooldownDays) {
+			@Value("${thesis-management.data-export.days-between-exports}") int cooldownDays,
+			@Value("${thesis-management.data-export.process-on-request:true}") boolean processOnRequest,
+			@Value("${thesis-management.data-export.max-concurrency:2}") int maxConcurrency) {
 		this.dataExportRepository = dataExportRepository;
 		this.applicationRepository = applicationRepository;
 		this.thesisRepository = thesisRepository;
@@ -93,20 +129,20 @@ public class DataExportService {
 		this.thesisAssessmentRepository = thesisAssessmentRepository;
 		this.uploadService = uploadService;
 		this.mailingService = mailingService;
-		this.exportPath = Path.of(exportPath);
+		this.eventPublisher = eventPublisher;
+		this.exportStorage = exportStorage;
 		this.retentionDays = retentionDays;
 		this.cooldownDays = cooldownDays;
+		this.processOnRequest = processOnRequest;
+		this.creationPermits = new Semaphore(Math.max(1, maxConcurrency));
 
 		// Use Spring's ObjectMapper (Jackson 3.x with built-in Java 8 date/time support)
 		// with export-specific settings applied via rebuild() to avoid mutating the shared instance.
+		// Generators must not close the ZIP stream they write an entry to.
 		this.objectMapper = springObjectMapper.rebuild()
 				.enable(SerializationFeature.INDENT_OUTPUT)
+				.disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
 				.build();
-
-		File dir = this.exportPath.toFile();
-		if (!dir.exists() && !dir.mkdirs()) {
-			log.warn("Failed to create data export directory: {}", exportPath);
-		}
 	}
 
 	@Transactional
@@ -119,7 +155,27 @@ public class DataExportService {
 		DataExport export = new DataExport();
 		export.setUser(user);
 		export.setState(DataExportState.REQUESTED);
-		return dataExportRepository.save(export);
+		export = dataExportRepository.save(export);
+
+		eventPublisher.publishEvent(new DataExportRequestedEvent(export.getId()));
+
+		return export;
+	}
+
+	/**
+	 * Starts creating the requested export once the request has committed, unless exports are
+	 * only created by the nightly run.
+	 *
+	 * @param event the requested export event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onDataExportRequested(DataExportRequestedEvent event) {
+		if (processOnRequest && processingScheduled.compareAndSet(false, true)) {
+			executor.execute(() -> {
+				processingScheduled.set(false);
+				processAllPendingExports();
+			});
+		}
 	}
 
 	/** Represents whether a user can request a data export and when the next request is allowed. */
@@ -196,14 +252,10 @@ public class DataExportService {
 			throw new ResourceNotFoundException("Export file not found");
 		}
 
-		Path resolvedPath = Path.of(export.getFilePath()).normalize();
-		if (!resolvedPath.startsWith(exportPath.normalize())) {
-			throw new ResourceNotFoundException("Export file not found");
-		}
-
-		FileSystemResource resource = new FileSystemResource(resolvedPath);
+		String key = exportKey(export.getFilePath());
+		Resource resource = exportStorage.getResource(key);
 		if (!resource.exists()) {
-			throw new ResourceNotFoundException("Export file not found on disk");
+			throw new ResourceNotFoundException("Export file not found in storage");
 		}
 
 		export.setState(DataExportState.DOWNLOADED);
@@ -213,34 +265,57 @@ public class DataExportService {
 		return resource;
 	}
 
-	/** Processes all pending data export requests by generating ZIP files and sending notification emails. */
+	/**
+	 * Processes all pending data export requests by generating ZIP files and sending notification emails.
+	 * Rounds are serialized per instance; within a round the exports are created in parallel and the
+	 * method returns once all of them finished.
+	 */
 	public void processAllPendingExports() {
-		List<DataExport> pending = dataExportRepository.findAllByStateIn(
-				List.of(DataExportState.REQUESTED));
-
-		for (DataExport export : pending) {
-			// Atomically claim this export to prevent duplicate processing
-			// in multi-instance deployments.
-			int updated = dataExportRepository.claimForProcessing(export.getId(), DataExportState.REQUESTED);
-			if (updated == 0) {
-				continue; // Another instance already claimed it
+		processingLock.lock();
+		try {
+			List<DataExport> pending = dataExportRepository.findAllByStateIn(
+					List.of(DataExportState.REQUESTED));
+
+			List<CompletableFuture<Void>> creations = new ArrayList<>();
+			for (DataExport export : pending) {
+				creationPermits.acquireUninterruptibly();
+				creations.add(CompletableFuture.runAsync(() -> {
+					try {
+						processExport(export.getId());
+					} finally {
+						creationPermits.release();
+					}
+				}, executor));
 			}
 
-			// Re-fetch with eagerly loaded user because claimForProcessing() used a JPQL
-			// UPDATE that bypassed the persistence context, and DataExport.user is lazy.
-			DataExport claimed = dataExportRepository.findByIdWithUser(export.getId());
-			if (claimed == null) {
-				continue;
-			}
+			CompletableFuture.allOf(creations.toArray(CompletableFuture[]::new)).join();
+		} finally {
+			processingLock.unlock();
+		}
+	}
 
-			try {
-				createDataExport(claimed);
-			} catch (Exception e) {
-				log.error("Failed to create data export {}: {}", claimed.getId(), e.getMessage(), e);
-				claimed.setState(DataExportState.FAILED);
-				claimed.setCreationFinishedAt(Instant.now());
-				dataExportRepository.save(claimed);
-			}
+	private void processExport(UUID exportId) {
+		// Atomically claim this export to prevent duplicate processing
+		// in multi-instance deployments.
+		int updated = dataExportRepository.claimForProcessing(exportId, DataExportState.REQUESTED);
+		if (updated == 0) {
+			return; // Another instance already claimed it
+		}
+
+		// Re-fetch with eagerly loaded user because claimForProcessing() used a JPQL
+		// UPDATE that bypassed the persistence context, and DataExport.user is lazy.
+		DataExport claimed = dataExportRepository.findByIdWithUser(exportId);
+		if (claimed == null) {
+			return;
+		}
+
+		try {
+			createDataExport(claimed);
+		} catch (Exception e) {
+			log.error("Failed to create data export {}: {}", claimed.getId(), e.getMessage(), e);
+			claimed.setState(DataExportState.FAILED);
+			claimed.setCreationFinishedAt(Instant.now());
+			dataExportRepository.save(claimed);
 		}
 	}
 
@@ -249,17 +324,17 @@ public class DataExportService {
 
 		User user = export.getUser();
 		String filename = String.format("export_%s_%d.zip", user.getId(), System.currentTimeMillis());
-		Path zipPath = exportPath.resolve(filename);
+		Path zipPath = exportStorage.createStagingFile();
 
 		try {
 			writeZipFile(zipPath, user);
-		} catch (IOException e) {
-			// Clean up partial ZIP file on failure
+			exportStorage.put(filename, zipPath);
+		} finally {
+			// Removes the partial ZIP file on failure
 			Files.deleteIfExists(zipPath);
-			throw e;
 		}
 
-		export.setFilePath(zipPath.toString());
+		export.setFilePath(filename);
 		export.setCreationFinishedAt(Instant.now());
 
 		try {
@@ -274,28 +349,19 @@ public class DataExportService {
 	}
 
 	private void writeZipFile(Path zipPath, User user) throws IOException {
-		try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipPath.toFile()))) {
-			// user.json
-			zos.putNextEntry(new ZipEntry("user.json"));
-			zos.write(objectMapper.writeValueAsBytes(buildUserData(user)));
-			zos.closeEntry();
-
-			// applications.json
-			zos.putNextEntry(new ZipEntry("applications.json"));
-			zos.write(objectMapper.writeValueAsBytes(buildApplicationsData(user)));
-			zos.closeEntry();
-
-			// theses.json
-			zos.putNextEntry(new ZipEntry("theses.json"));
-			zos.write(objectMapper.writeValueAsBytes(buildThesesData(user)));
-			zos.closeEntry();
+		try (OutputStream outputStream = Files.newOutputStream(zipPath); ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+			// JSON is streamed into the entries one record at a time instead of being buffered per file
+			writeJsonEntry(zos, "user.json", generator -> generator.writePOJO(buildUserData(user)));
+			writeJsonEntry(zos, "applications.json", generator -> writeApplicationsData(generator, user));
+			writeJsonEntry(zos, "theses.json", generator -> writeThesesData(generator, user));
 
 			// README.txt
 			zos.putNextEntry(new ZipEntry("README.txt"));
 			zos.write(buildReadme().getBytes(java.nio.charset.StandardCharsets.UTF_8));
 			zos.closeEntry();
 
-			// User-uploaded files
+			// User-uploaded files are mostly PDFs and images that hardly compress any further
+			zos.setLevel(Deflater.BEST_SPEED);
 			addUserFile(zos, user.getCvFilename(), "files/cv");
 			addUserFile(zos, user.getDegreeFilename(), "files/degree_report");
 			addUserFile(zos, user.getExaminationFilename(), "files/examination_report");
@@ -303,6 +369,19 @@ public class DataExportService {
 		}
 	}
 
+	@FunctionalInterface
+	private interface JsonContent {
+		void write(JsonGenerator generator);
+	}
+
+	private void writeJsonEntry(ZipOutputStream zos, String name, JsonContent content) throws IOException {
+		zos.putNextEntry(new ZipEntry(name));
+		try (JsonGenerator generator = objectMapper.createGenerator(zos)) {
+			content.write(generator);
+		}
+		zos.closeEntry();
+	}
+
 	/** Deletes data export files that have exceeded the configured retention period. */
 	public void deleteExpiredExports() {
 		Instant cutoff = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
@@ -313,12 +392,7 @@ public class DataExportService {
 		for (DataExport export : expired) {
 			try {
 				if (export.getFilePath() != null) {
-					Path resolvedPath = Path.of(export.getFilePath()).normalize();
-					if (resolvedPath.startsWith(exportPath.normalize())) {
-						Files.deleteIfExists(resolvedPath);
-					} else {
-						log.warn("Skipping export file deletion outside expected directory: {}", export.getFilePath());
-					}
+					exportStorage.delete(exportKey(export.getFilePath()));
 				}
 
 				DataExportState newState = export.getState() == DataExportState.DOWNLOADED
@@ -353,12 +427,12 @@ public class DataExportService {
 		return data;
 	}
 
-	private List<Map<String, Object>> buildApplicationsData(User user) {
+	private void writeApplicationsData(JsonGenerator generator, User user) {
 		// Use eager query to fetch reviewers and their users in one go,
 		// avoiding LazyInitializationException on ApplicationReviewer.user.
 		List<Application> applications = applicationRepository.findAllByUserIdWithReviewers(user.getId());
-		List<Map<String, Object>> result = new ArrayList<>();
 
+		generator.writeStartArray();
 		for (Application app : applications) {
 			Map<String, Object> data = new LinkedHashMap<>();
 			data.put("id", app.getId());
@@ -382,16 +456,17 @@ public class DataExportService {
 			}
 			data.put("reviewers", reviewers);
 
-			result.add(data);
+			generator.writePOJO(data);
 		}
-
-		return result;
+		generator.writeEndArray();
 	}
 
-	private List<Map<String, Object>> buildThesesData(User user) {
+	private void writeThesesData(JsonGenerator generator, User user) {
 		List<Thesis> theses = thesisRepository.findAllByStudentUserId(user.getId());
+		generator.writeStartArray();
 		if (theses.isEmpty()) {
-			return List.of();
+			generator.writeEndArray();
+			return;
 		}
 
 		// Eagerly fetch lazy collections in separate queries to avoid
@@ -404,8 +479,6 @@ public class DataExportService {
 				.findAllByThesisIdInOrderByCreatedAtDesc(thesisIds).stream()
 				.collect(java.util.stream.Collectors.groupingBy(a -> a.getThesis().getId()));
 
-		List<Map<String, Object>> result = new ArrayList<>();
-
 		for (Thesis thesis : theses) {
 			Map<String, Object> data = new LinkedHashMap<>();
 			data.put("id", thesis.getId());
@@ -443,7 +516,7 @@ public class DataExportService {
 			}
 			data.put("assessments", assessments);
 
-			// State changes (eagerly fetched via Thesis.states with FetchType.EAGER)
+			// State changes (fetched together with the theses by findAllByStudentUserId)
 			List<Map<String, Object>> stateChanges = new ArrayList<>();
 			for (ThesisStateChange sc : thesis.getStates()) {
 				Map<String, Object> scData = new LinkedHashMap<>();
@@ -453,10 +526,9 @@ public class DataExportService {
 			}
 			data.put("stateChanges", stateChanges);
 
-			result.add(data);
+			generator.writePOJO(data);
 		}
-
-		return result;
+		generator.writeEndArray();
 	}
 
 	private void addUserFile(ZipOutputStream zos, String filename, String entryPrefix) {
@@ -464,7 +536,7 @@ public class DataExportService {
 			return;
 		}
 		try {
-			FileSystemResource resource = uploadService.load(filename);
+			Resource resource = uploadService.load(filename);
 			if (resource.exists()) {
 				String extension = "";
 				int dotIndex = filename.lastIndexOf('.');
@@ -482,6 +554,14 @@ public class DataExportService {
 		}
 	}
 
+	/**
+	 * Returns the storage key of an export file. Exports created before the storage abstraction
+	 * recorded the absolute path in the export directory, whose file name is the key.
+	 */
+	static String exportKey(String filePath) {
+		return Path.of(filePath).getFileName().toString();
+	}
+
 	private String buildReadme() {
 		return """
 				DATA EXPORT
@@ -504,4 +584,9 @@ public class DataExportService {
 				and Article 20 (Right to Data Portability).
 				""";
 	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
 }
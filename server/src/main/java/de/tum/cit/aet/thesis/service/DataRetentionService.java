@@ -1,33 +1,60 @@
 package de.tum.cit.aet.thesis.service;
 
-import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.ApplicationReviewerRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
-/** Runs scheduled data retention tasks including application cleanup, user deactivation, and export processing. */
+/**
+ * Runs scheduled data retention tasks including application cleanup, user deactivation, and export processing.
+ *
+ * <p>Expired rejected applications are deleted in chunks of {@code delete-chunk-size}, each chunk with one
+ * statement per table in its own transaction. If a chunk fails, its applications are retried one by one so
+ * that a single undeletable application does not keep the others. Progress is recorded in the counters
+ * {@code thesis.retention.deleted} and {@code thesis.retention.failed} (tagged with {@code type=application}).</p>
+ *
+ * <p>Inactive students are disabled in keyset-paged batches with one bulk update each. The timer
+ * {@code thesis.retention.inactive.users} records the candidate query and the update separately
+ * (tagged with {@code phase=query} or {@code phase=update}).</p>
+ */
 @Service
 public class DataRetentionService {
 	private static final Logger log = LoggerFactory.getLogger(DataRetentionService.class);
 
+	// Lowest UUID in PostgreSQL's byte-wise ordering, used as start of the keyset pagination
+	private static final UUID FIRST_USER_ID = new UUID(0, 0);
+
 	private final ApplicationRepository applicationRepository;
 	private final ApplicationReviewerRepository applicationReviewerRepository;
 	private final UserRepository userRepository;
 	private final DataExportService dataExportService;
 	private final UserDeletionService userDeletionService;
 	private final ThesisAnonymizationService thesisAnonymizationService;
+	private final MailOutboxService mailOutboxService;
+	private final TransactionTemplate transactionTemplate;
 	private final int retentionDays;
 	private final int inactiveUserDays;
+	private final int deleteChunkSize;
+	private final int inactiveUserBatchSize;
+
+	private final Counter deletedApplications;
+	private final Counter failedApplications;
+	private final Timer inactiveUserQueryTimer;
+	private final Timer inactiveUserUpdateTimer;
 
 	/**
 	 * Constructs the service with required repositories, dependent services, and configuration values.
@@ -38,8 +65,13 @@ public class DataRetentionService {
 	 * @param dataExportService the data export service
 	 * @param userDeletionService the user deletion service
 	 * @param thesisAnonymizationService the thesis anonymization service
+	 * @param mailOutboxService the mail outbox whose sent and dead mails are purged
+	 * @param transactionTemplate the template used to run each deletion chunk in its own transaction
+	 * @param meterRegistry the registry the retention counters are registered in
 	 * @param retentionDays the retention period in days
 	 * @param inactiveUserDays the inactive user threshold in days
+	 * @param deleteChunkSize the maximum number of applications deleted per transaction
+	 * @param inactiveUserBatchSize the maximum number of inactive student accounts disabled per query
 	 */
 	public DataRetentionService(ApplicationRepository applicationRepository,
 			ApplicationReviewerRepository applicationReviewerRepository,
@@ -47,16 +79,42 @@ public class DataRetentionService {
 			DataExportService dataExportService,
 			UserDeletionService userDeletionService,
 			ThesisAnonymizationService thesisAnonymizationService,
+			MailOutboxService mailOutboxService,
+			TransactionTemplate transactionTemplate,
+			MeterRegistry meterRegistry,
 			@Value("${thesis-management.data-retention.rejected-application-retention-days}") int retentionDays,
-			@Value("${thesis-management.data-retention.inactive-user-days}") int inactiveUserDays) {
+			@Value("${thesis-management.data-retention.inactive-user-days}") int inactiveUserDays,
+			@Value("${thesis-management.data-retention.delete-chunk-size:500}") int deleteChunkSize,
+			@Value("${thesis-management.data-retention.inactive-user-batch-size:1000}") int inactiveUserBatchSize) {
 		this.applicationRepository = applicationRepository;
 		this.applicationReviewerRepository = applicationReviewerRepository;
 		this.userRepository = userRepository;
 		this.dataExportService = dataExportService;
 		this.userDeletionService = userDeletionService;
 		this.thesisAnonymizationService = thesisAnonymizationService;
+		this.mailOutboxService = mailOutboxService;
+		this.transactionTemplate = transactionTemplate;
 		this.retentionDays = retentionDays;
 		this.inactiveUserDays = inactiveUserDays;
+		this.deleteChunkSize = Math.max(1, deleteChunkSize);
+		this.inactiveUserBatchSize = Math.max(1, inactiveUserBatchSize);
+
+		this.deletedApplications = Counter.builder("thesis.retention.deleted")
+				.description("Number of records removed by the data retention cleanup")
+				.tag("type", "application")
+				.register(meterRegistry);
+		this.failedApplications = Counter.builder("thesis.retention.failed")
+				.description("Number of records the data retention cleanup failed to remove")
+				.tag("type", "application")
+				.register(meterRegistry);
+		this.inactiveUserQueryTimer = Timer.builder("thesis.retention.inactive.users")
+				.description("Time to find or disable a batch of inactive student accounts")
+				.tag("phase", "query")
+				.register(meterRegistry);
+		this.inactiveUserUpdateTimer = Timer.builder("thesis.retention.inactive.users")
+				.description("Time to find or disable a batch of inactive student accounts")
+				.tag("phase", "update")
+				.register(meterRegistry);
 	}
 
 	@Scheduled(cron = "${thesis-management.data-retention.cron}")
@@ -68,6 +126,7 @@ public class DataRetentionService {
 		runStep("processDeferredDeletions", userDeletionService::processDeferredDeletions);
 		runStep("sendThesisAnonymizationNotifications", thesisAnonymizationService::sendAnonymizationNotifications);
 		runStep("anonymizeExpiredTheses", thesisAnonymizationService::anonymizeExpiredTheses);
+		runStep("purgeExpiredMails", mailOutboxService::purgeExpiredMails);
 	}
 
 	private void runStep(String name, Runnable step) {
@@ -86,18 +145,29 @@ public class DataRetentionService {
 	public int disableInactiveUsers() {
 		Instant cutoff = Instant.now().minus(inactiveUserDays, ChronoUnit.DAYS);
 
-		List<User> toDisable = userRepository.findInactiveStudentCandidates(cutoff);
+		int totalDisabled = 0;
+		UUID afterId = FIRST_USER_ID;
+		List<UUID> candidateIds;
 
-		if (toDisable.isEmpty()) {
-			return 0;
-		}
+		do {
+			UUID lastId = afterId;
+			candidateIds = inactiveUserQueryTimer.record(() -> userRepository.findInactiveStudentCandidateIds(
+					cutoff, lastId, Limit.of(inactiveUserBatchSize)));
+
+			if (candidateIds.isEmpty()) {
+				break;
+			}
 
-		toDisable.forEach(user -> user.setDisabled(true));
-		userRepository.saveAll(toDisable);
+			List<UUID> batch = candidateIds;
+			totalDisabled += inactiveUserUpdateTimer.record(() -> userRepository.disableAllByIdIn(batch, Instant.now()));
+			afterId = candidateIds.getLast();
+		} while (candidateIds.size() == inactiveUserBatchSize);
 
-		log.info("Disabled {} inactive student accounts (inactive for more than {} days)", toDisable.size(), inactiveUserDays);
+		if (totalDisabled > 0) {
+			log.info("Disabled {} inactive student accounts (inactive for more than {} days)", totalDisabled, inactiveUserDays);
+		}
 
-		return toDisable.size();
+		return totalDisabled;
 	}
 
 	/**
@@ -117,14 +187,33 @@ public class DataRetentionService {
 		int totalDeleted = 0;
 		int totalFailed = 0;
 
-		for (UUID id : expiredIds) {
+		for (int start = 0; start < expiredIds.size(); start += deleteChunkSize) {
+			List<UUID> chunk = expiredIds.subList(start, Math.min(start + deleteChunkSize, expiredIds.size()));
+
 			try {
-				applicationReviewerRepository.deleteByApplicationId(id);
-				applicationRepository.deleteApplicationById(id);
-				totalDeleted++;
+				totalDeleted += deleteApplications(chunk);
+				log.debug("Data retention cleanup: deleted {} of {} rejected applications", totalDeleted, expiredIds.size());
 			} catch (Exception e) {
-				log.error("Failed to delete rejected application {}: {}", id, e.getMessage());
-				totalFailed++;
+				if (chunk.size() == 1) {
+					log.error("Failed to delete rejected application {}: {}", chunk.getFirst(), e.getMessage());
+					totalFailed++;
+					failedApplications.increment();
+					continue;
+				}
+
+				// Retry one by one so that a single failing application (e.g. one still referenced by a thesis)
+				// does not keep the rest of the chunk
+				log.warn("Failed to delete {} rejected applications, retrying them one by one: {}", chunk.size(), e.getMessage());
+
+				for (UUID applicationId : chunk) {
+					try {
+						totalDeleted += deleteApplications(List.of(applicationId));
+					} catch (Exception retryException) {
+						log.error("Failed to delete rejected application {}: {}", applicationId, retryException.getMessage());
+						totalFailed++;
+						failedApplications.increment();
+					}
+				}
 			}
 		}
 
@@ -133,4 +222,15 @@ public class DataRetentionService {
 
 		return totalDeleted;
 	}
+
+	private int deleteApplications(List<UUID> applicationIds) {
+		Integer deleted = transactionTemplate.execute(status -> {
+			applicationReviewerRepository.deleteAllByApplicationIdIn(applicationIds);
+			return applicationRepository.deleteAllByIdIn(applicationIds);
+		});
+
+		deletedApplications.increment(deleted);
+
+		return deleted;
+	}
 }
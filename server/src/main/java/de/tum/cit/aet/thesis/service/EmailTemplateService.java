@@ -9,6 +9,7 @@ import de.tum.cit.aet.thesis.mailvariables.MailVariablesBuilder;
 import de.tum.cit.aet.thesis.repository.EmailTemplateRepository;
 import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
+import de.tum.cit.aet.thesis.utility.EmailTemplateCache;
 import de.tum.cit.aet.thesis.utility.HibernateHelper;
 import de.tum.cit.aet.thesis.utility.TemplateValidator;
 import org.springframework.beans.factory.ObjectProvider;
@@ -32,19 +33,23 @@ public class EmailTemplateService {
 	private final EmailTemplateRepository emailTemplateRepository;
 	private final ObjectProvider<CurrentUserProvider> currentUserProviderProvider;
 	private final ResearchGroupRepository researchGroupRepository;
+	private final EmailTemplateCache emailTemplateCache;
 
 	/**
-	 * Injects the email template repository, the current user provider, and the research group repository.
+	 * Injects the email template repository, the current user provider, the research group repository, and the
+	 * email template cache.
 	 *
 	 * @param emailTemplateRepository the email template repository
 	 * @param currentUserProviderProvider the current user provider
 	 * @param researchGroupRepository the research group repository
+	 * @param emailTemplateCache the cache holding parsed email templates
 	 */
 	@Autowired
-	public EmailTemplateService(EmailTemplateRepository emailTemplateRepository, ObjectProvider<CurrentUserProvider> currentUserProviderProvider, ResearchGroupRepository researchGroupRepository) {
+	public EmailTemplateService(EmailTemplateRepository emailTemplateRepository, ObjectProvider<CurrentUserProvider> currentUserProviderProvider, ResearchGroupRepository researchGroupRepository, EmailTemplateCache emailTemplateCache) {
 		this.emailTemplateRepository = emailTemplateRepository;
 		this.currentUserProviderProvider = currentUserProviderProvider;
 		this.researchGroupRepository = researchGroupRepository;
+		this.emailTemplateCache = emailTemplateCache;
 	}
 
 	private CurrentUserProvider currentUserProvider() {
@@ -194,6 +199,8 @@ public class EmailTemplateService {
 		emailTemplate.setUpdatedAt(Instant.now());
 		emailTemplate.setUpdatedBy(currentUserProvider().getUser());
 
+		emailTemplateCache.evict(emailTemplate.getId());
+
 		return emailTemplateRepository.save(emailTemplate);
 	}
 
@@ -224,6 +231,8 @@ public class EmailTemplateService {
 		emailTemplate.setUpdatedAt(Instant.now());
 		emailTemplate.setUpdatedBy(currentUserProvider().getUser());
 
+		emailTemplateCache.evict(emailTemplate.getId());
+
 		return emailTemplateRepository.save(emailTemplate);
 	}
 
@@ -241,6 +250,7 @@ public class EmailTemplateService {
 		currentUserProvider().assertCanAccessResearchGroup(emailTemplate.getResearchGroup());
 
 		emailTemplateRepository.deleteById(emailTemplateId);
+		emailTemplateCache.evict(emailTemplateId);
 	}
 
 	private void validateTemplateCase(String templateCase) {
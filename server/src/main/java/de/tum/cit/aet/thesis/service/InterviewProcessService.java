@@ -9,8 +9,10 @@ import de.tum.cit.aet.thesis.entity.InterviewProcess;
 import de.tum.cit.aet.thesis.entity.InterviewSlot;
 import de.tum.cit.aet.thesis.entity.Interviewee;
 import de.tum.cit.aet.thesis.entity.Topic;
+import de.tum.cit.aet.thesis.exception.request.ResourceAlreadyExistsException;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.InterviewProcessRepository;
+import de.tum.cit.aet.thesis.repository.InterviewSlotRepository;
 import de.tum.cit.aet.thesis.repository.IntervieweeRepository;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.utility.HibernateHelper;
@@ -19,11 +21,14 @@ import net.fortuna.ical4j.model.property.immutable.ImmutableMethod;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.mail.internet.InternetAddress;
 
@@ -48,8 +53,10 @@ public class InterviewProcessService {
 	private final ObjectProvider<CurrentUserProvider> currentUserProviderProvider;
 	private final ApplicationService applicationService;
 	private final IntervieweeRepository intervieweeRepository;
+	private final InterviewSlotRepository interviewSlotRepository;
 	private final MailingService mailingService;
 	private final CalendarService calendarService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private final InternetAddress applicationMail;
 
@@ -61,8 +68,10 @@ public class InterviewProcessService {
 	 * @param currentUserProviderProvider the provider for the current user context
 	 * @param applicationService the application service
 	 * @param intervieweeRepository the interviewee repository
+	 * @param interviewSlotRepository the interview slot repository
 	 * @param mailingService the mailing service
 	 * @param calendarService the calendar service
+	 * @param eventPublisher the publisher used to invalidate the interview calendar feeds
 	 * @param applicationMail the application mail sender address
 	 */
 	@Autowired
@@ -72,16 +81,20 @@ public class InterviewProcessService {
 			ObjectProvider<CurrentUserProvider> currentUserProviderProvider,
 			ApplicationService applicationService,
 			IntervieweeRepository intervieweeRepository,
+			InterviewSlotRepository interviewSlotRepository,
 			MailingService mailingService,
 			CalendarService calendarService,
+			ApplicationEventPublisher eventPublisher,
 			@Value("${thesis-management.mail.sender}") InternetAddress applicationMail) {
 		this.topicService = topicService;
 		this.interviewProcessRepository = interviewProcessRepository;
 		this.currentUserProviderProvider = currentUserProviderProvider;
 		this.applicationService = applicationService;
 		this.intervieweeRepository = intervieweeRepository;
+		this.interviewSlotRepository = interviewSlotRepository;
 		this.mailingService = mailingService;
 		this.calendarService = calendarService;
+		this.eventPublisher = eventPublisher;
 		this.applicationMail = applicationMail;
 	}
 
@@ -330,6 +343,7 @@ public class InterviewProcessService {
 		if (interviewSlots == null) {
 			existing.clear();
 			interviewProcessRepository.save(interviewProcess);
+			publishInterviewCalendarChanged(interviewProcess);
 			return existing;
 		}
 
@@ -381,10 +395,15 @@ public class InterviewProcessService {
 		}
 
 		interviewProcessRepository.save(interviewProcess);
+		publishInterviewCalendarChanged(interviewProcess);
 
 		return interviewProcess.getSlots();
 	}
 
+	private void publishInterviewCalendarChanged(InterviewProcess interviewProcess) {
+		eventPublisher.publishEvent(CalendarFeedService.InterviewCalendarChangedEvent.forTopic(interviewProcess.getTopic()));
+	}
+
 	private boolean assertNoOverlappingSlots(List<InterviewSlotDto> slots) {
 		List<InterviewSlotDto> sortedSlots = slots.stream()
 				.sorted(Comparator.comparing(InterviewSlotDto::getStartDate))
@@ -521,11 +540,16 @@ public class InterviewProcessService {
 	/**
 	 * Books an available interview slot for the specified interviewee and sends a confirmation email.
 	 *
+	 * <p>The slot is claimed with a single conditional update, so concurrent bookings of the same slot
+	 * or of two slots by the same interviewee cannot both succeed. The confirmation mail is written to
+	 * the mail outbox in the same transaction and is only sent if the booking commits.</p>
+	 *
 	 * @param processID the ID of the interview process
 	 * @param slotId the ID of the interview slot to book
 	 * @param intervieweeUserId the user ID of the interviewee booking the slot
 	 * @return the booked interview slot
 	 */
+	@Transactional
 	public InterviewSlot bookInterviewSlot(UUID processID, UUID slotId,UUID intervieweeUserId) {
 		if (intervieweeUserId == null) {
 			throw new IllegalStateException("No Interviewee Id provided.");
@@ -536,31 +560,33 @@ public class InterviewProcessService {
 			throw new IllegalStateException("Current user is not allowed to access the interview slots of this interview process.");
 		}
 
-		if (!interviewProcess.getSlots().stream().map(InterviewSlot::getId).toList().contains(slotId)) {
-			throw new ResourceNotFoundException(String.format("Slot with id %s does not belong to the provided process.", slotId));
-		}
-
-		if (interviewProcess.getSlots().stream().anyMatch((slot) -> slot.getInterviewee() != null && slot.getInterviewee().getApplication().getUser().getId().equals(intervieweeUserId))) {
-			throw new IllegalStateException("Interviewee has already booked a slot for this interview process.");
-		}
-
-		Interviewee interviewee = interviewProcess.getInterviewees().stream()
-				.filter(ie -> ie.getApplication().getUser().getId().equals(intervieweeUserId))
+		Interviewee interviewee = intervieweeRepository.findAllByInterviewProcessIdAndUserId(processID, intervieweeUserId).stream()
 				.findFirst()
 				.orElseThrow(() -> new ResourceNotFoundException(String.format(
 						"Interviewee with user id %s not found in the provided process.",
 						intervieweeUserId)));
-		InterviewSlot slot = interviewProcess.getSlots().stream()
-				.filter(s -> s.getId().equals(slotId))
-				.findFirst()
-				.orElseThrow(() -> new ResourceNotFoundException(String.format("Slot with id %s not found.", slotId)));
 
-		if (slot.getInterviewee() != null) {
-			throw new IllegalStateException("Slot is already booked.");
+		int booked;
+		try {
+			booked = interviewSlotRepository.bookIfAvailable(processID, slotId, interviewee);
+		} catch (DataIntegrityViolationException e) {
+			// Another booking of the same interviewee committed between the check and the update
+			throw new ResourceAlreadyExistsException("Interviewee has already booked a slot for this interview process.");
 		}
 
-		slot.setInterviewee(interviewee);
-		interviewProcessRepository.save(interviewProcess);
+		InterviewSlot slot = interviewSlotRepository.findById(slotId)
+				.filter(s -> s.getInterviewProcess().getId().equals(processID))
+				.orElseThrow(() -> new ResourceNotFoundException(String.format("Slot with id %s does not belong to the provided process.", slotId)));
+
+		if (booked == 0) {
+			if (slot.getInterviewee() != null && !slot.getInterviewee().getIntervieweeId().equals(interviewee.getIntervieweeId())) {
+				throw new ResourceAlreadyExistsException("Slot is already booked.");
+			}
+
+			throw new ResourceAlreadyExistsException("Interviewee has already booked a slot for this interview process.");
+		}
+
+		publishInterviewCalendarChanged(interviewProcess);
 
 		mailingService.sendInterviewSlotConfirmationEmail(slot, "BOOK");
 
@@ -597,6 +623,7 @@ public class InterviewProcessService {
 		mailingService.sendInterviewSlotConfirmationEmail(slot, "CANCEL");
 		slot.setInterviewee(null);
 		interviewProcessRepository.save(interviewProcess);
+		publishInterviewCalendarChanged(interviewProcess);
 
 		return slot;
 	}
@@ -0,0 +1,132 @@
+package de.tum.cit.aet.thesis.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Obtains and caches the service account access token for the Keycloak admin API.
+ *
+ * <p>The token is kept for the lifetime reported by Keycloak ({@code expires_in}) and refreshed ahead
+ * of expiry in the background, so callers only wait for Keycloak when no valid token is available.
+ * Concurrent refreshes are collapsed into a single token request without holding a lock.</p>
+ */
+public class KeycloakTokenManager {
+	private static final Logger log = LoggerFactory.getLogger(KeycloakTokenManager.class);
+
+	private static final Duration REFRESH_MARGIN = Duration.ofSeconds(30);
+
+	private final WebClient webClient;
+	private final String tokenUri;
+	private final String clientId;
+	private final String clientSecret;
+
+	private final AtomicReference<Token> token = new AtomicReference<>();
+	private final AtomicReference<CompletableFuture<Token>> pendingRefresh = new AtomicReference<>();
+
+	private record Token(String value, Instant refreshAt, Instant expiresAt) { }
+
+	private record TokensResponse(String access_token, Long expires_in) { }
+
+	/**
+	 * Creates a token manager for the client credentials grant of the given realm.
+	 *
+	 * @param webClient the web client pointing to the Keycloak server
+	 * @param realmName the Keycloak realm name
+	 * @param clientId the service client ID
+	 * @param clientSecret the service client secret
+	 */
+	public KeycloakTokenManager(WebClient webClient, String realmName, String clientId, String clientSecret) {
+		this.webClient = webClient;
+		this.tokenUri = "/realms/" + realmName + "/protocol/openid-connect/token";
+		this.clientId = clientId;
+		this.clientSecret = clientSecret;
+	}
+
+	/**
+	 * Returns a valid access token. A token close to expiry is still returned while a new one is
+	 * requested in the background.
+	 *
+	 * @return the access token
+	 */
+	public Mono<String> getAccessToken() {
+		return Mono.defer(() -> {
+			Instant now = Instant.now();
+			Token current = token.get();
+
+			if (current != null && now.isBefore(current.refreshAt())) {
+				return Mono.just(current.value());
+			}
+
+			CompletableFuture<Token> refresh = refresh();
+
+			if (current != null && now.isBefore(current.expiresAt())) {
+				return Mono.just(current.value());
+			}
+
+			return Mono.fromFuture(refresh, true).map(Token::value);
+		});
+	}
+
+	private CompletableFuture<Token> refresh() {
+		CompletableFuture<Token> refresh = new CompletableFuture<>();
+		CompletableFuture<Token> existing = pendingRefresh.compareAndExchange(null, refresh);
+
+		if (existing != null) {
+			return existing;
+		}
+
+		requestToken().subscribe(
+				newToken -> {
+					token.set(newToken);
+					pendingRefresh.set(null);
+					refresh.complete(newToken);
+				},
+				error -> {
+					log.warn("Failed to refresh Keycloak access token", error);
+					pendingRefresh.set(null);
+					refresh.completeExceptionally(error);
+				}
+		);
+
+		return refresh;
+	}
+
+	private Mono<Token> requestToken() {
+		return Mono.defer(() -> {
+			Instant requestedAt = Instant.now();
+
+			return webClient.post()
+					.uri(tokenUri)
+					.body(
+							BodyInserters.fromFormData("grant_type", "client_credentials")
+									.with("client_id", clientId)
+									.with("client_secret", clientSecret)
+					)
+					.retrieve()
+					.bodyToMono(TokensResponse.class)
+					.switchIfEmpty(Mono.error(() -> new IllegalStateException("Access token not returned")))
+					.map(response -> toToken(response, requestedAt));
+		});
+	}
+
+	private Token toToken(TokensResponse response, Instant requestedAt) {
+		if (response.access_token() == null) {
+			throw new IllegalStateException("Access token not returned");
+		}
+
+		// Measure the lifetime from the moment of the request, so network latency cannot make us use an expired token
+		Duration lifetime = Duration.ofSeconds(response.expires_in() == null ? 0 : response.expires_in());
+		Duration margin = lifetime.dividedBy(2).compareTo(REFRESH_MARGIN) < 0 ? lifetime.dividedBy(2) : REFRESH_MARGIN;
+		Instant expiresAt = requestedAt.plus(lifetime);
+
+		return new Token(response.access_token(), expiresAt.minus(margin), expiresAt);
+	}
+}
@@ -0,0 +1,538 @@
+package de.tum.cit.aet.thesis.service;
+
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+import de.tum.cit.aet.thesis.entity.MailOutboxAttachment;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
+import de.tum.cit.aet.thesis.exception.MailingException;
+import de.tum.cit.aet.thesis.repository.MailOutboxRepository;
+import de.tum.cit.aet.thesis.utility.BatchingMailSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import jakarta.activation.FileTypeMap;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.internet.InternetHeaders;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeUtility;
+import jakarta.mail.util.ByteArrayDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persistent outbox for outgoing emails.
+ *
+ * <p>Rendered messages are written to the {@code mail_outbox} table in the transaction of the
+ * business change that triggered them. Attachments are not part of the stored message: stored files
+ * are referenced by their name in the upload storage and streamed into the message while it is sent.
+ * A stored file attached to several mails of the same delivery is encoded only once, as long as the
+ * encoded content fits into {@code attachment-cache-bytes}; larger files are streamed for every mail.
+ * Once that transaction commits, a dispatcher running on virtual threads delivers the queued messages
+ * via SMTP with bounded concurrency, sending each group of claimed messages over shared connections.
+ * Failed deliveries are retried with exponential backoff and dead-lettered after the configured number
+ * of attempts. A scheduled poll picks up anything left behind by a restart or by another instance.</p>
+ */
+@Service
+public class MailOutboxService {
+	private static final Logger log = LoggerFactory.getLogger(MailOutboxService.class);
+
+	private static final Duration CLAIM_LEASE = Duration.ofMinutes(10);
+	private static final int MAX_ERROR_LENGTH = 2000;
+
+	private final MailOutboxRepository mailOutboxRepository;
+	private final BatchingMailSender mailSender;
+	private final UploadService uploadService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+
+	private final boolean awaitDispatch;
+	private final int batchSize;
+	private final int maxConcurrency;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+	private final Duration maxRetryBackoff;
+	private final Duration sentRetention;
+	private final Duration deadRetention;
+	private final long attachmentCacheBytes;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final ReentrantLock drainLock = new ReentrantLock();
+	private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+	/** Published after a message was written to the outbox so that the dispatcher can pick it up once committed. */
+	public record MailQueuedEvent(UUID mailId) {}
+
+	/**
+	 * An attachment of a queued mail, either a file in the upload storage or in-memory content.
+	 *
+	 * @param filename the filename shown to the recipient
+	 * @param storedFile the name of the file in the upload storage, or null for in-memory content
+	 * @param content the in-memory content, or null for stored files
+	 * @param contentType the content type of the in-memory content, or null to derive it from the filename
+	 */
+	public record Attachment(String filename, String storedFile, byte[] content, String contentType) {
+		/**
+		 * Creates an attachment that is read from the upload storage when the mail is sent.
+		 *
+		 * @param storedFile the name of the file in the upload storage
+		 * @param filename the filename shown to the recipient
+		 * @return the attachment
+		 */
+		public static Attachment stored(String storedFile, String filename) {
+			return new Attachment(filename, storedFile, null, null);
+		}
+
+		/**
+		 * Creates an attachment with in-memory content, e.g. a generated calendar invite.
+		 *
+		 * @param content the content
+		 * @param contentType the content type
+		 * @param filename the filename shown to the recipient
+		 * @return the attachment
+		 */
+		public static Attachment inMemory(byte[] content, String contentType, String filename) {
+			return new Attachment(filename, null, content, contentType);
+		}
+	}
+
+	/**
+	 * Injects the outbox repository, mail sender, event publisher, and dispatcher configuration.
+	 *
+	 * @param mailOutboxRepository the mail outbox repository
+	 * @param mailSender the sender used for SMTP delivery
+	 * @param uploadService the upload service stored attachments are read from
+	 * @param eventPublisher the publisher used to signal newly queued mails
+	 * @param clock the clock used to compute retry times
+	 * @param awaitDispatch whether the thread that queued a mail waits until the outbox was drained
+	 * @param batchSize the maximum number of mails claimed per dispatcher round
+	 * @param maxConcurrency the maximum number of concurrent SMTP connections
+	 * @param maxAttempts the number of delivery attempts before a mail is dead-lettered
+	 * @param retryBackoff the delay before the first retry, doubled for every further attempt
+	 * @param maxRetryBackoff the upper bound for the retry delay
+	 * @param sentRetention the time delivered mails are kept before they are purged
+	 * @param deadRetention the time dead-lettered mails are kept for inspection before they are purged
+	 * @param attachmentCacheBytes the maximum number of encoded attachment bytes shared between the mails of one delivery
+	 */
+	@Autowired
+	public MailOutboxService(
+			MailOutboxRepository mailOutboxRepository,
+			BatchingMailSender mailSender,
+			UploadService uploadService,
+			ApplicationEventPublisher eventPublisher,
+			Clock clock,
+			@Value("${thesis-management.mail.outbox.await-dispatch:false}") boolean awaitDispatch,
+			@Value("${thesis-management.mail.outbox.batch-size:50}") int batchSize,
+			@Value("${thesis-management.mail.outbox.max-concurrency:4}") int maxConcurrency,
+			@Value("${thesis-management.mail.outbox.max-attempts:8}") int maxAttempts,
+			@Value("${thesis-management.mail.outbox.retry-backoff:PT1M}") Duration retryBackoff,
+			@Value("${thesis-management.mail.outbox.max-retry-backoff:PT6H}") Duration maxRetryBackoff,
+			@Value("${thesis-management.mail.outbox.sent-retention:P7D}") Duration sentRetention,
+			@Value("${thesis-management.mail.outbox.dead-retention:P30D}") Duration deadRetention,
+			@Value("${thesis-management.mail.outbox.attachment-cache-bytes:26214400}") long attachmentCacheBytes
+	) {
+		this.mailOutboxRepository = mailOutboxRepository;
+		this.mailSender = mailSender;
+		this.uploadService = uploadService;
+		this.eventPublisher = eventPublisher;
+		this.clock = clock;
+		this.awaitDispatch = awaitDispatch;
+		this.batchSize = batchSize;
+		this.maxConcurrency = Math.max(1, maxConcurrency);
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+		this.maxRetryBackoff = maxRetryBackoff;
+		this.sentRetention = sentRetention;
+		this.deadRetention = deadRetention;
+		this.attachmentCacheBytes = Math.max(0, attachmentCacheBytes);
+	}
+
+	/**
+	 * Creates an empty MIME message bound to the configured mail session.
+	 *
+	 * @return a new MIME message
+	 */
+	public MimeMessage createMimeMessage() {
+		return mailSender.createMimeMessage();
+	}
+
+	/**
+	 * Serializes the rendered message and stores it in the outbox together with references to its
+	 * attachments. The write joins the caller's transaction, so the mail is only dispatched if the
+	 * surrounding business change commits.
+	 *
+	 * @param message the rendered message without attachments
+	 * @param recipientId the ID of the user the message is addressed to
+	 * @param attachments the attachments added to the message when it is sent
+	 * @return the stored outbox entry
+	 */
+	public MailOutboxEntry enqueue(MimeMessage message, UUID recipientId, List<Attachment> attachments) {
+		try {
+			message.saveChanges();
+
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			message.writeTo(outputStream);
+
+			MailOutboxEntry entry = new MailOutboxEntry();
+			entry.setSubject(message.getSubject() == null ? "" : message.getSubject());
+			entry.setRecipients(formatRecipients(message.getAllRecipients()));
+			entry.setRecipientId(recipientId);
+			entry.setMimeMessage(outputStream.toByteArray());
+			entry.setState(MailOutboxState.PENDING);
+			entry.setAttempts(0);
+			entry.setNextAttemptAt(Instant.now(clock));
+
+			for (Attachment attachment : attachments) {
+				MailOutboxAttachment outboxAttachment = new MailOutboxAttachment();
+				outboxAttachment.setFilename(attachment.filename());
+				outboxAttachment.setStoredFile(attachment.storedFile());
+				outboxAttachment.setContent(attachment.content());
+				outboxAttachment.setContentType(attachment.contentType());
+				entry.getAttachments().add(outboxAttachment);
+			}
+
+			entry = mailOutboxRepository.save(entry);
+
+			eventPublisher.publishEvent(new MailQueuedEvent(entry.getId()));
+
+			return entry;
+		} catch (MessagingException | IOException e) {
+			throw new MailingException("Failed to queue email", e);
+		}
+	}
+
+	/**
+	 * Starts a dispatcher round once the transaction that queued the mail has committed,
+	 * or immediately if the mail was queued outside of a transaction.
+	 *
+	 * @param event the queued mail event
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMailQueued(MailQueuedEvent event) {
+		requestDrain();
+	}
+
+	@Scheduled(fixedDelayString = "${thesis-management.mail.outbox.poll-interval:PT30S}")
+	public void pollOutbox() {
+		int released = mailOutboxRepository.releaseExpiredClaims(Instant.now(clock));
+		if (released > 0) {
+			log.warn("Released {} outbox mails whose delivery claim expired", released);
+		}
+
+		drain();
+	}
+
+	/**
+	 * Deletes delivered mails and dead-lettered mails once their retention expired, so that recipients,
+	 * subjects and attachments do not stay in the outbox forever.
+	 *
+	 * @return the number of deleted mails
+	 */
+	public int purgeExpiredMails() {
+		Instant now = Instant.now(clock);
+		int deleted = mailOutboxRepository.deleteExpired(now.minus(sentRetention), now.minus(deadRetention));
+
+		if (deleted > 0) {
+			log.info("Purged {} sent or dead mails from the outbox", deleted);
+		}
+
+		return deleted;
+	}
+
+	/**
+	 * Triggers a dispatcher round. The round always runs on a virtual thread so that it never
+	 * participates in the caller's (already committed) transaction. If {@code await-dispatch} is
+	 * enabled, the caller blocks until the round finished.
+	 */
+	private void requestDrain() {
+		if (awaitDispatch) {
+			CompletableFuture.runAsync(this::drain, executor).join();
+			return;
+		}
+
+		if (drainScheduled.compareAndSet(false, true)) {
+			executor.execute(() -> {
+				drainScheduled.set(false);
+				drain();
+			});
+		}
+	}
+
+	/**
+	 * Delivers all due mails. Rounds are serialized per instance, and each mail is claimed
+	 * atomically before delivery so that multiple instances never send the same mail twice.
+	 */
+	void drain() {
+		drainLock.lock();
+		try {
+			List<UUID> dueIds;
+			do {
+				dueIds = mailOutboxRepository.findDueIds(Instant.now(clock), Limit.of(batchSize));
+
+				List<UUID> claimedIds = new ArrayList<>();
+				for (UUID mailId : dueIds) {
+					if (mailOutboxRepository.claimForSending(mailId, Instant.now(clock).plus(CLAIM_LEASE)) == 1) {
+						claimedIds.add(mailId);
+					}
+				}
+
+				if (claimedIds.isEmpty()) {
+					continue;
+				}
+
+				List<MailOutboxEntry> entries = mailOutboxRepository.findAllWithAttachmentsByIdIn(claimedIds).stream()
+						.filter(entry -> entry.getMimeMessage() != null)
+						.toList();
+				AttachmentCache attachmentCache = new AttachmentCache(entries);
+
+				// Split the claimed mails evenly between the workers, the sender reuses connections within each share
+				List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+				int workers = Math.min(maxConcurrency, entries.size());
+				for (int worker = 0; worker < workers; worker++) {
+					List<MailOutboxEntry> workerEntries = entries.subList(
+							worker * entries.size() / workers, (worker + 1) * entries.size() / workers);
+
+					deliveries.add(CompletableFuture.runAsync(() -> deliver(workerEntries, attachmentCache), executor));
+				}
+
+				CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+			} while (dueIds.size() == batchSize);
+		} catch (Exception e) {
+			log.error("Mail outbox dispatcher round failed: {}", e.getMessage(), e);
+		} finally {
+			drainLock.unlock();
+		}
+	}
+
+	private void deliver(List<MailOutboxEntry> entries, AttachmentCache attachmentCache) {
+		Map<MailOutboxEntry, Exception> failedEntries = mailSender.send(entries, entry -> assemble(entry, attachmentCache));
+
+		for (MailOutboxEntry entry : entries) {
+			Exception failure = failedEntries.get(entry);
+
+			if (failure == null) {
+				mailOutboxRepository.markSent(entry.getId(), Instant.now(clock));
+			} else {
+				markFailed(entry, failure);
+			}
+		}
+	}
+
+	/**
+	 * Restores the stored message and appends its attachments. Stored files that are not shared through
+	 * the attachment cache are only opened while the message is written to the SMTP connection, so they
+	 * are never held in memory as a whole.
+	 */
+	private MimeMessage assemble(MailOutboxEntry entry, AttachmentCache attachmentCache) throws MessagingException, IOException {
+		MimeMessage message = mailSender.createMimeMessage(new ByteArrayInputStream(entry.getMimeMessage()));
+
+		if (entry.getAttachments().isEmpty()) {
+			return message;
+		}
+
+		Multipart content = (Multipart) message.getContent();
+
+		for (MailOutboxAttachment attachment : entry.getAttachments()) {
+			MimeBodyPart part = null;
+			DataSource source;
+
+			if (attachment.getStoredFile() != null) {
+				Resource resource = uploadService.load(attachment.getStoredFile());
+				source = new ResourceDataSource(resource);
+				part = attachmentCache.createPart(attachment.getStoredFile(), source, resource.contentLength());
+			} else {
+				source = new ByteArrayDataSource(attachment.getContent(), attachment.getContentType());
+			}
+
+			if (part == null) {
+				part = new MimeBodyPart();
+				part.setDataHandler(new DataHandler(source));
+				part.setHeader("Content-Type", source.getContentType());
+				// Set upfront so that the encoding is not detected by reading the content
+				part.setHeader("Content-Transfer-Encoding", "base64");
+			}
+
+			part.setFileName(attachment.getFilename());
+			content.addBodyPart(part);
+		}
+
+		message.setContent(content);
+		message.saveChanges();
+
+		return message;
+	}
+
+	private void markFailed(MailOutboxEntry entry, Exception e) {
+		int attempt = entry.getAttempts() + 1;
+		String error = abbreviate(e.getMessage());
+
+		if (attempt >= maxAttempts) {
+			log.error("Giving up on email '{}' to {} after {} attempts: {}", entry.getSubject(), entry.getRecipients(), attempt, error);
+			mailOutboxRepository.markFailed(entry.getId(), MailOutboxState.DEAD, entry.getNextAttemptAt(), error);
+		} else {
+			Instant nextAttemptAt = Instant.now(clock).plus(computeBackoff(attempt));
+			log.warn("Failed to send email '{}' to {} (attempt {}), retrying at {}: {}",
+					entry.getSubject(), entry.getRecipients(), attempt, nextAttemptAt, error);
+			mailOutboxRepository.markFailed(entry.getId(), MailOutboxState.PENDING, nextAttemptAt, error);
+		}
+	}
+
+	Duration computeBackoff(int attempt) {
+		Duration backoff = retryBackoff.multipliedBy(1L << Math.min(Math.max(attempt - 1, 0), 20));
+
+		return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+	}
+
+	private static String formatRecipients(Address[] addresses) {
+		if (addresses == null) {
+			return "";
+		}
+
+		return Arrays.stream(addresses).map(Address::toString).collect(Collectors.joining(", "));
+	}
+
+	private static String abbreviate(String message) {
+		if (message == null) {
+			return null;
+		}
+
+		return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+	}
+
+	/**
+	 * Encoded stored files shared between the mails of one dispatcher round, e.g. the CV of an application
+	 * that is sent to every member of a research group. Only files attached to more than one of the mails
+	 * are encoded upfront, and only while the encoded content fits into the remaining budget.
+	 */
+	private final class AttachmentCache {
+		private final Map<String, Long> usages;
+		private final Map<String, byte[]> encodedFiles = new ConcurrentHashMap<>();
+		private final ReentrantLock encodeLock = new ReentrantLock();
+		private long remainingBytes = attachmentCacheBytes;
+
+		private AttachmentCache(List<MailOutboxEntry> entries) {
+			this.usages = entries.stream()
+					.flatMap(entry -> entry.getAttachments().stream())
+					.map(MailOutboxAttachment::getStoredFile)
+					.filter(Objects::nonNull)
+					.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+		}
+
+		/**
+		 * Creates a body part from the cached encoding of the file.
+		 *
+		 * @return the body part, or null if the file should be streamed instead
+		 */
+		private MimeBodyPart createPart(String storedFile, DataSource source, long size) throws MessagingException, IOException {
+			byte[] encoded = encodedFiles.get(storedFile);
+
+			if (encoded == null) {
+				encoded = encode(storedFile, source, size);
+			}
+
+			if (encoded == null) {
+				return null;
+			}
+
+			InternetHeaders headers = new InternetHeaders();
+			headers.setHeader("Content-Type", source.getContentType());
+			headers.setHeader("Content-Transfer-Encoding", "base64");
+
+			// The part keeps a reference to the shared array instead of copying it
+			return new MimeBodyPart(headers, encoded);
+		}
+
+		private byte[] encode(String storedFile, DataSource source, long size) throws IOException, MessagingException {
+			if (usages.getOrDefault(storedFile, 0L) < 2) {
+				return null;
+			}
+
+			// Base64 grows the content by a third, plus a line break every 76 characters
+			long encodedSize = (size + 2) / 3 * 4 * 78 / 76;
+
+			encodeLock.lock();
+			try {
+				byte[] encoded = encodedFiles.get(storedFile);
+				if (encoded != null || encodedSize > remainingBytes) {
+					return encoded;
+				}
+
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) encodedSize);
+				try (InputStream inputStream = source.getInputStream();
+						OutputStream encoder = MimeUtility.encode(outputStream, "base64")) {
+					inputStream.transferTo(encoder);
+				}
+
+				encoded = outputStream.toByteArray();
+				encodedFiles.put(storedFile, encoded);
+				remainingBytes -= encoded.length;
+
+				return encoded;
+			} finally {
+				encodeLock.unlock();
+			}
+		}
+	}
+
+	/** Read-only data source that streams a stored file and derives the content type from its name. */
+	private record ResourceDataSource(Resource resource) implements DataSource {
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return resource.getInputStream();
+		}
+
+		@Override
+		public OutputStream getOutputStream() throws IOException {
+			throw new IOException("Stored attachments are read-only");
+		}
+
+		@Override
+		public String getContentType() {
+			return FileTypeMap.getDefaultFileTypeMap().getContentType(getName());
+		}
+
+		@Override
+		public String getName() {
+			return resource.getFilename();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+}
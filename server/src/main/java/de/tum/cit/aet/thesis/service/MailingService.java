@@ -28,7 +28,6 @@ import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.HtmlUtils;
 
@@ -46,7 +45,7 @@ import java.util.UUID;
 public class MailingService {
 	private static final Logger log = LoggerFactory.getLogger(MailingService.class);
 
-	private final JavaMailSender javaMailSender;
+	private final MailOutboxService mailOutboxService;
 	private final UploadService uploadService;
 	private final MailConfig config;
 	private final EmailTemplateRepository emailTemplateRepository;
@@ -54,21 +53,21 @@ public class MailingService {
 	private static final String NOTIFICATION_NAME_START = "thesis-";
 
 	/**
-	 * Injects the mail sender, upload service, mail configuration, and email template repository.
+	 * Injects the mail outbox, upload service, mail configuration, and email template repository.
 	 *
-	 * @param javaMailSender the mail sender for sending emails
+	 * @param mailOutboxService the outbox that rendered emails are queued in
 	 * @param uploadService the service for handling file uploads
 	 * @param config the mail configuration
 	 * @param emailTemplateRepository the repository for email templates
 	 */
 	@Autowired
 	public MailingService(
-			JavaMailSender javaMailSender,
+			MailOutboxService mailOutboxService,
 			UploadService uploadService,
 			MailConfig config,
 			EmailTemplateRepository emailTemplateRepository
 	) {
-		this.javaMailSender = javaMailSender;
+		this.mailOutboxService = mailOutboxService;
 		this.uploadService = uploadService;
 		this.config = config;
 		this.emailTemplateRepository = emailTemplateRepository;
@@ -94,7 +93,7 @@ public class MailingService {
 			.sendToChairMembers(application.getResearchGroup().getId())
 			.addNotificationName("new-applications")
 			.filterChairMembersNewApplicationNotifications(application.getTopic(), "new-applications")
-			.send(javaMailSender, uploadService);
+			.send(mailOutboxService, uploadService);
 
 		MailBuilder notificationCopyMailBuilder = includeData
 				? prepareApplicationCreatedMailBuilder(application, researchGroupEmailTemplate)
@@ -105,8 +104,7 @@ public class MailingService {
 				application.getResearchGroup().getId(),
 				"APPLICATION_CREATED_STUDENT",
 				"en");
-		MailBuilder studentMailBuilder = new MailBuilder(config,
-				studentEmailTemplate.getSubject(), studentEmailTemplate.getBodyHtml());
+		MailBuilder studentMailBuilder = new MailBuilder(config, studentEmailTemplate);
 		studentMailBuilder
 				.addPrimaryRecipient(application.getUser())
 				.addStoredAttachment(application.getUser().getCvFilename(),
@@ -119,11 +117,11 @@ public class MailingService {
 						getUserFilename(application.getUser(), "Degree Report",
 								application.getUser().getDegreeFilename()))
 				.fillApplicationPlaceholders(application)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	private MailBuilder prepareApplicationCreatedMailBuilder(Application application, EmailTemplate template) {
-		return new MailBuilder(config, template.getSubject(), template.getBodyHtml())
+		return new MailBuilder(config, template)
 				.addStoredAttachment(application.getUser().getCvFilename(),
 						getUserFilename(application.getUser(), "CV",
 								application.getUser().getCvFilename()))
@@ -190,7 +188,7 @@ public class MailingService {
 
 		mailBuilder
 				.addPrimaryRecipient(buildNotificationRecipientForCopy(researchGroup, additionalEmail))
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	private User buildNotificationRecipientForCopy(ResearchGroup researchGroup, String email) {
@@ -227,7 +225,7 @@ public class MailingService {
 				application.getResearchGroup().getId(),
 				templateCase,
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimaryRecipient(application.getUser())
 				.addSecondaryRecipient(advisor)
@@ -235,7 +233,7 @@ public class MailingService {
 				.fillUserPlaceholders(advisor, "advisor")
 				.fillApplicationPlaceholders(application)
 				.fillThesisPlaceholders(thesis)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -249,12 +247,12 @@ public class MailingService {
 				application.getResearchGroup().getId(),
 				reason.getTemplateCase(),
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimaryRecipient(application.getUser())
 				.addDefaultBccRecipients(application.getResearchGroup().getHead().getEmail())
 				.fillApplicationPlaceholders(application)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -268,13 +266,13 @@ public class MailingService {
 				user.getResearchGroup().getId(),
 				"APPLICATION_REMINDER",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimaryRecipient(user)
 				.addNotificationName("unreviewed-application-reminder")
 				.fillPlaceholder("unreviewedApplications", String.valueOf(unreviewedApplications))
 				.fillPlaceholder("reviewApplicationsLink", config.getClientHost() + "/applications")
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -293,12 +291,12 @@ public class MailingService {
 		model.put("applications", applications);
 		model.put("clientHost", config.getClientHost());
 
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimaryRecipient(user)
 				.addNotificationName(emailTemplate.getSubject())
 				.fillPlaceholders(model)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -313,13 +311,13 @@ public class MailingService {
 				firstInvitation ? "INTERVIEW_INVITATION" : "INTERVIEW_INVITATION_REMINDER",
 				"en");
 
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimaryRecipient(interviewee.getApplication().getUser())
 				.addNotificationName(emailTemplate.getSubject())
 				.fillApplicationPlaceholders(interviewee.getApplication())
 				.fillIntervieweePlaceholders(interviewee)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -341,7 +339,7 @@ public class MailingService {
 
 		User supervisor = slot.getInterviewProcess().getTopic().getSupervisors().getFirst();
 
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimaryRecipient(slot.getInterviewee().getApplication().getUser())
 				.addSecondaryRecipient(supervisor)
@@ -349,7 +347,7 @@ public class MailingService {
 				.fillApplicationPlaceholders(slot.getInterviewee().getApplication())
 				.fillIntervieweePlaceholders(slot.getInterviewee())
 				.fillInterviewSlotPlaceholders(slot)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -363,14 +361,14 @@ public class MailingService {
 				thesis.getResearchGroup().getId(),
 				"THESIS_CREATED",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.sendToThesisStudents(thesis)
 				.addDefaultBccRecipients(thesis.getResearchGroup().getHead().getEmail())
 				.addNotificationName(NOTIFICATION_NAME_START + thesis.getId())
 				.fillThesisPlaceholders(thesis)
 				.fillUserPlaceholders(creatingUser, "creatingUser")
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -384,14 +382,14 @@ public class MailingService {
 				thesis.getResearchGroup().getId(),
 				"THESIS_CLOSED",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.sendToThesisStudents(thesis)
 				.addDefaultBccRecipients(thesis.getResearchGroup().getHead().getEmail())
 				.addNotificationName(NOTIFICATION_NAME_START + thesis.getId())
 				.fillThesisPlaceholders(thesis)
 				.fillUserPlaceholders(deletingUser, "deletingUser")
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -404,14 +402,14 @@ public class MailingService {
 			proposal.getResearchGroup().getId(),
 			"THESIS_PROPOSAL_UPLOADED",
 			"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimarySender(proposal.getCreatedBy())
 				.sendToThesisSupervisors(proposal.getThesis())
 				.addNotificationName(NOTIFICATION_NAME_START + proposal.getThesis().getId())
 				.fillThesisProposalPlaceholders(proposal)
 				.addStoredAttachment(proposal.getProposalFilename(), getThesisFilename(proposal.getThesis(), "Proposal", proposal.getProposalFilename()))
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -424,14 +422,14 @@ public class MailingService {
 				proposal.getResearchGroup().getId(),
 				"THESIS_PROPOSAL_ACCEPTED",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimarySender(proposal.getApprovedBy())
 				.sendToThesisStudents(proposal.getThesis())
 				.addNotificationName(NOTIFICATION_NAME_START + proposal.getThesis().getId())
 				.fillThesisPlaceholders(proposal.getThesis())
 				.fillThesisProposalPlaceholders(proposal)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -445,7 +443,7 @@ public class MailingService {
 				thesis.getResearchGroup().getId(),
 				"THESIS_PROPOSAL_REJECTED",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.sendToThesisStudents(thesis)
 				.addNotificationName(NOTIFICATION_NAME_START + thesis.getId())
@@ -459,7 +457,7 @@ public class MailingService {
 								.map(ThesisFeedback::getFeedback)
 								.toList()
 				)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -472,7 +470,7 @@ public class MailingService {
 				comment.getResearchGroup().getId(),
 				"THESIS_COMMENT_POSTED",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 
 		if (comment.getType() == ThesisCommentType.SUPERVISOR) {
 			mailBuilder.sendToThesisSupervisors(comment.getThesis());
@@ -486,7 +484,7 @@ public class MailingService {
 				.addNotificationName(NOTIFICATION_NAME_START + comment.getThesis().getId())
 				.fillThesisCommentPlaceholders(comment)
 				.addStoredAttachment(comment.getFilename(), getUserFilename(comment.getCreatedBy(), "Comment", comment.getUploadName()))
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -507,22 +505,20 @@ public class MailingService {
 				presentation.getResearchGroup().getId(),
 				action.equals(updatedString) ? "THESIS_PRESENTATION_UPDATED" : "THESIS_PRESENTATION_SCHEDULED",
 				"en");
-		MailBuilder privateMailBuilder = new MailBuilder(config, privateEmailTemplate.getSubject(),
-				privateEmailTemplate.getBodyHtml());
+		MailBuilder privateMailBuilder = new MailBuilder(config, privateEmailTemplate);
 		privateMailBuilder
 				.addPrimarySender(presentation.getCreatedBy())
 				.sendToThesisStudents(presentation.getThesis())
 				.addNotificationName(NOTIFICATION_NAME_START + presentation.getThesis().getId())
 				.fillThesisPresentationPlaceholders(presentation)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 
 		if (presentation.getVisibility() == ThesisPresentationVisibility.PUBLIC) {
 			EmailTemplate publicEmailTemplate = loadTemplate(
 					presentation.getResearchGroup().getId(),
 					action.equals(updatedString) ? "THESIS_PRESENTATION_INVITATION_UPDATED" : "THESIS_PRESENTATION_INVITATION",
 					"en");
-			MailBuilder publicMailBuilder = new MailBuilder(config, publicEmailTemplate.getSubject(),
-					publicEmailTemplate.getBodyHtml());
+			MailBuilder publicMailBuilder = new MailBuilder(config, publicEmailTemplate);
 			publicMailBuilder
 					.addPrimaryRecipient(presentation.getThesis().getStudents().getFirst())
 					.fillThesisPresentationPlaceholders(presentation);
@@ -538,7 +534,7 @@ public class MailingService {
 				);
 			}
 
-			publicMailBuilder.send(javaMailSender, uploadService);
+			publicMailBuilder.send(mailOutboxService, uploadService);
 		}
 	}
 
@@ -557,22 +553,20 @@ public class MailingService {
 				presentation.getResearchGroup().getId(),
 				"THESIS_PRESENTATION_DELETED",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(),
-				emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.sendToThesisStudents(presentation.getThesis())
 				.addNotificationName(NOTIFICATION_NAME_START + presentation.getThesis().getId())
 				.fillThesisPresentationPlaceholders(presentation)
 				.fillUserPlaceholders(deletingUser, "deletingUser")
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 
 		if (presentation.getVisibility() == ThesisPresentationVisibility.PUBLIC) {
 			EmailTemplate publicEmailTemplate = loadTemplate(
 					presentation.getResearchGroup().getId(),
 					"THESIS_PRESENTATION_INVITATION_CANCELLED",
 					"en");
-			MailBuilder publicMailBuilder = new MailBuilder(config, publicEmailTemplate.getSubject(),
-					publicEmailTemplate.getBodyHtml());
+			MailBuilder publicMailBuilder = new MailBuilder(config, publicEmailTemplate);
 			publicMailBuilder
 					.addPrimaryRecipient(presentation.getThesis().getStudents().getFirst())
 					.fillThesisPresentationPlaceholders(presentation);
@@ -581,7 +575,7 @@ public class MailingService {
 				publicMailBuilder.addBccRecipient(invite.getEmail());
 			}
 
-			publicMailBuilder.send(javaMailSender, uploadService);
+			publicMailBuilder.send(mailOutboxService, uploadService);
 		}
 	}
 
@@ -595,15 +589,14 @@ public class MailingService {
 				thesis.getResearchGroup().getId(),
 				"THESIS_FINAL_SUBMISSION",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(),
-				emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.sendToThesisSupervisors(thesis)
 				.addNotificationName(NOTIFICATION_NAME_START + thesis.getId())
 				.fillThesisPlaceholders(thesis)
 				//.addStoredAttachment(thesis.getFinalThesisFilename(), getThesisFilename(thesis, "File", thesis.getFinalThesisFilename()))
 				//.addStoredAttachment(thesis.getFinalPresentationFilename(), getThesisFilename(thesis, "Presentation", thesis.getFinalPresentationFilename()))
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -616,14 +609,13 @@ public class MailingService {
 				assessment.getThesis().getResearchGroup().getId(),
 				"THESIS_ASSESSMENT_ADDED",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(),
-				emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimarySender(assessment.getCreatedBy())
 				.sendToThesisExaminers(assessment.getThesis())
 				.addNotificationName(NOTIFICATION_NAME_START + assessment.getThesis().getId())
 				.fillThesisAssessmentPlaceholders(assessment)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -636,13 +628,12 @@ public class MailingService {
 				thesis.getResearchGroup().getId(),
 				"THESIS_FINAL_GRADE",
 				"en");
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(),
-				emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.sendToThesisStudents(thesis)
 				.addNotificationName(NOTIFICATION_NAME_START + thesis.getId())
 				.fillThesisGradePlaceholders(thesis)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	private EmailTemplate loadTemplate(UUID researchGroupId, String templateCase, String language) {
@@ -687,11 +678,11 @@ public class MailingService {
 
 		String downloadUrl = config.getClientHost() + "/data-export";
 
-		new MailBuilder(config, template.getSubject(), template.getBodyHtml())
+		new MailBuilder(config, template)
 				.addPrimaryRecipient(user)
 				.fillUserPlaceholders(user, "user")
 				.fillPlaceholder("downloadUrl", downloadUrl)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	/**
@@ -720,11 +711,11 @@ public class MailingService {
 		model.put("anonymizationDate", anonymizationDate);
 		model.put("theses", thesisTitles);
 
-		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml());
+		MailBuilder mailBuilder = new MailBuilder(config, emailTemplate);
 		mailBuilder
 				.addPrimaryRecipient(researchGroup.getHead())
 				.fillPlaceholders(model)
-				.send(javaMailSender, uploadService);
+				.send(mailOutboxService, uploadService);
 	}
 
 	private String getThesisFilename(Thesis thesis, String name, String originalFilename) {
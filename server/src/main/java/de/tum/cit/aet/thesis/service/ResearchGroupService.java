@@ -7,10 +7,13 @@ import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.repository.specification.UserSpecifications;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
+import de.tum.cit.aet.thesis.security.PrincipalCache;
 import de.tum.cit.aet.thesis.utility.HibernateHelper;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,6 +43,8 @@ public class ResearchGroupService {
 
 	private final ThesisRepository thesisRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * Injects the research group repository, user service, access management, and current user provider.
 	 *
@@ -49,17 +54,20 @@ public class ResearchGroupService {
 	 * @param userRepository              the user repository
 	 * @param accessManagementService     the access management service
 	 * @param thesisRepository            the thesis repository
+	 * @param eventPublisher              the publisher used to announce membership changes
 	 */
 	@Autowired
 	public ResearchGroupService(ResearchGroupRepository researchGroupRepository,
 								UserService userService, ObjectProvider<CurrentUserProvider> currentUserProviderProvider,
-								UserRepository userRepository, AccessManagementService accessManagementService, ThesisRepository thesisRepository) {
+								UserRepository userRepository, AccessManagementService accessManagementService, ThesisRepository thesisRepository,
+								ApplicationEventPublisher eventPublisher) {
 		this.researchGroupRepository = researchGroupRepository;
 		this.userService = userService;
 		this.currentUserProviderProvider = currentUserProviderProvider;
 		this.userRepository = userRepository;
 		this.accessManagementService = accessManagementService;
 		this.thesisRepository = thesisRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	private CurrentUserProvider currentUserProvider() {
@@ -249,6 +257,8 @@ public class ResearchGroupService {
 		head.setResearchGroup(savedResearchGroup);
 		userRepository.save(head);
 
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(head.getId()));
+
 		return savedResearchGroup;
 	}
 
@@ -319,6 +329,9 @@ public class ResearchGroupService {
 		userRepository.save(oldHead);
 		userRepository.save(head);
 
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(oldHead.getId()));
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(head.getId()));
+
 		return savedResearchGroup;
 	}
 
@@ -340,7 +353,7 @@ public class ResearchGroupService {
 				HibernateHelper.validateSortField(User.class, sortBy));
 
 		return userRepository
-				.searchUsers(researchGroupId, null, null, PageRequest.of(page, limit, Sort.by(order)));
+				.findAll(UserSpecifications.search(researchGroupId, null, null), PageRequest.of(page, limit, Sort.by(order)));
 	}
 
 	/**
@@ -355,6 +368,8 @@ public class ResearchGroupService {
 		researchGroup.setArchived(true);
 
 		researchGroupRepository.save(researchGroup);
+
+		eventPublisher.publishEvent(new PrincipalCache.ResearchGroupPrincipalsChangedEvent(researchGroup.getId()));
 	}
 
 	/**
@@ -385,6 +400,7 @@ public class ResearchGroupService {
 		accessManagementService.assignAdvisorRole(user);
 
 		userRepository.save(user);
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(user.getId()));
 		return user;
 	}
 
@@ -415,6 +431,7 @@ public class ResearchGroupService {
 		user.setResearchGroup(null);
 
 		userRepository.save(user);
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(user.getId()));
 
 		return user;
 	}
@@ -17,8 +17,11 @@ import de.tum.cit.aet.thesis.utility.RetentionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+
 import java.time.Clock;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
@@ -30,13 +33,26 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
-
-/** Handles thesis anonymization after the legal retention period expires. */
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handles thesis anonymization after the legal retention period expires. The retention expiry of
+ * finished and dropped out theses is stored with the thesis, so the nightly jobs only read the theses
+ * that are due, page by page, and anonymize each page in parallel with bounded concurrency.
+ */
 @Service
 public class ThesisAnonymizationService {
 	private static final Logger log = LoggerFactory.getLogger(ThesisAnonymizationService.class);
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM d, yyyy", Locale.ENGLISH);
 
+	private static final int CANDIDATE_PAGE_SIZE = 100;
+	// Lowest UUID in PostgreSQL's byte-wise ordering, used as start of the keyset pagination
+	private static final UUID FIRST_THESIS_ID = new UUID(0, 0);
+
 	private final ThesisRepository thesisRepository;
 	private final ThesisFileRepository thesisFileRepository;
 	private final ThesisProposalRepository thesisProposalRepository;
@@ -52,6 +68,9 @@ public class ThesisAnonymizationService {
 	private final Clock clock;
 	private final int notificationLeadDays;
 
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Semaphore anonymizationPermits;
+
 	/**
 	 * Constructs a new ThesisAnonymizationService with the required repositories and services.
 	 *
@@ -70,6 +89,7 @@ public class ThesisAnonymizationService {
 	 * @param clock the clock used to read the current time; injected so tests can pin
 	 *              it for deterministic date arithmetic across calendar boundaries
 	 * @param notificationLeadDays the number of days before anonymization to send notifications
+	 * @param maxConcurrency the number of theses that are anonymized at the same time
 	 */
 	public ThesisAnonymizationService(
 			ThesisRepository thesisRepository,
@@ -85,7 +105,8 @@ public class ThesisAnonymizationService {
 			UploadService uploadService,
 			MailingService mailingService,
 			Clock clock,
-			@Value("${thesis-management.data-retention.thesis-anonymization-notification-days}") int notificationLeadDays) {
+			@Value("${thesis-management.data-retention.thesis-anonymization-notification-days}") int notificationLeadDays,
+			@Value("${thesis-management.data-retention.anonymization-max-concurrency:4}") int maxConcurrency) {
 		this.thesisRepository = thesisRepository;
 		this.thesisFileRepository = thesisFileRepository;
 		this.thesisProposalRepository = thesisProposalRepository;
@@ -100,6 +121,7 @@ public class ThesisAnonymizationService {
 		this.mailingService = mailingService;
 		this.clock = clock;
 		this.notificationLeadDays = notificationLeadDays;
+		this.anonymizationPermits = new Semaphore(Math.max(1, maxConcurrency));
 	}
 
 	/**
@@ -111,22 +133,27 @@ public class ThesisAnonymizationService {
 		Instant now = Instant.now(clock);
 		Instant notificationHorizon = now.plus(notificationLeadDays, ChronoUnit.DAYS);
 
-		List<Thesis> candidates = thesisRepository.findAnonymizationCandidates();
-
 		// Group theses that need notification by research group
 		Map<UUID, List<Thesis>> thesesByResearchGroup = new HashMap<>();
 
-		for (Thesis thesis : candidates) {
-			if (thesis.getAnonymizationNotifiedAt() != null) {
-				continue;
+		UUID afterId = FIRST_THESIS_ID;
+		List<UUID> candidateIds;
+
+		do {
+			candidateIds = thesisRepository.findAnonymizationNotificationCandidateIds(
+					notificationHorizon, afterId, Limit.of(CANDIDATE_PAGE_SIZE));
+
+			if (candidateIds.isEmpty()) {
+				break;
 			}
 
-			Instant expiry = RetentionUtils.computeRetentionExpiry(thesis);
-			if (expiry.isBefore(notificationHorizon)) {
+			for (Thesis thesis : loadDueTheses(candidateIds, notificationHorizon)) {
 				UUID rgId = thesis.getResearchGroup().getId();
 				thesesByResearchGroup.computeIfAbsent(rgId, k -> new ArrayList<>()).add(thesis);
 			}
-		}
+
+			afterId = candidateIds.getLast();
+		} while (candidateIds.size() == CANDIDATE_PAGE_SIZE);
 
 		for (Map.Entry<UUID, List<Thesis>> entry : thesesByResearchGroup.entrySet()) {
 			List<Thesis> theses = entry.getValue();
@@ -178,30 +205,69 @@ public class ThesisAnonymizationService {
 	 */
 	public int anonymizeExpiredTheses() {
 		Instant now = Instant.now(clock);
-		List<Thesis> candidates = thesisRepository.findAnonymizationCandidates();
+		AtomicInteger anonymizedCount = new AtomicInteger();
 
-		int anonymizedCount = 0;
+		// Failed theses stay candidates, so the keyset makes sure every thesis is only tried once per run
+		UUID afterId = FIRST_THESIS_ID;
+		List<UUID> candidateIds;
 
-		for (Thesis thesis : candidates) {
-			Instant expiry = RetentionUtils.computeRetentionExpiry(thesis);
-			if (!expiry.isBefore(now)) {
-				continue;
+		do {
+			candidateIds = thesisRepository.findAnonymizationCandidateIds(now, afterId, Limit.of(CANDIDATE_PAGE_SIZE));
+
+			if (candidateIds.isEmpty()) {
+				break;
 			}
 
-			try {
-				anonymizeThesis(thesis);
-				anonymizedCount++;
-				log.info("Anonymized thesis {}", thesis.getId());
-			} catch (Exception e) {
-				log.error("Failed to anonymize thesis {}: {}", thesis.getId(), e.getMessage(), e);
+			List<CompletableFuture<Void>> anonymizations = new ArrayList<>();
+			for (Thesis thesis : loadDueTheses(candidateIds, now)) {
+				anonymizationPermits.acquireUninterruptibly();
+				anonymizations.add(CompletableFuture.runAsync(() -> {
+					try {
+						anonymizeThesis(thesis);
+						anonymizedCount.incrementAndGet();
+						log.info("Anonymized thesis {}", thesis.getId());
+					} catch (Exception e) {
+						log.error("Failed to anonymize thesis {}: {}", thesis.getId(), e.getMessage(), e);
+					} finally {
+						anonymizationPermits.release();
+					}
+				}, executor));
 			}
+
+			CompletableFuture.allOf(anonymizations.toArray(CompletableFuture[]::new)).join();
+			afterId = candidateIds.getLast();
+		} while (candidateIds.size() == CANDIDATE_PAGE_SIZE);
+
+		if (anonymizedCount.get() > 0) {
+			log.info("Thesis anonymization complete: {} theses anonymized", anonymizedCount.get());
 		}
 
-		if (anonymizedCount > 0) {
-			log.info("Thesis anonymization complete: {} theses anonymized", anonymizedCount);
+		return anonymizedCount.get();
+	}
+
+	/**
+	 * Loads the given candidates with their state changes and returns those whose retention expires
+	 * before the given instant. The stored expiry is only a pre-filter: it is recomputed here and
+	 * corrected if it is missing or outdated, e.g. for theses that were changed outside of the thesis
+	 * service, so that these theses are not read again by later runs.
+	 */
+	private List<Thesis> loadDueTheses(List<UUID> thesisIds, Instant expiresBefore) {
+		List<Thesis> dueTheses = new ArrayList<>();
+
+		for (Thesis thesis : thesisRepository.findAllByIdInWithStates(thesisIds)) {
+			Instant expiry = RetentionUtils.computeRetentionExpiry(thesis);
+
+			if (!expiry.equals(thesis.getRetentionExpiresAt())) {
+				thesisRepository.updateRetentionExpiresAt(thesis.getId(), expiry);
+				thesis.setRetentionExpiresAt(expiry);
+			}
+
+			if (expiry.isBefore(expiresBefore)) {
+				dueTheses.add(thesis);
+			}
 		}
 
-		return anonymizedCount;
+		return dueTheses;
 	}
 
 	/**
@@ -247,7 +313,7 @@ public class ThesisAnonymizationService {
 		filenames.addAll(thesisCommentRepository.findFilenamesByThesisId(thesisId));
 
 		// 2. Mark thesis as anonymized and clear personal data FIRST.
-		//    findAnonymizationCandidates() filters by anonymizedAt IS NULL, so after this save
+		//    findAnonymizationCandidateIds() filters by anonymizedAt IS NULL, so after this save
 		//    the thesis won't be picked up again even if subsequent child deletion fails.
 		thesis.setAnonymizedAt(Instant.now(clock));
 		thesis.setInfo("");
@@ -260,7 +326,7 @@ public class ThesisAnonymizationService {
 
 		// 3. Delete child records in correct FK order.
 		//    This must happen after saving the thesis to avoid Hibernate stale-state conflicts:
-		//    the Thesis entity eagerly loads states and roles, so bulk-deleting them before save
+		//    the candidate query fetches the states with the thesis, so bulk-deleting them before save
 		//    would leave the persistence context with references to non-existent rows.
 		try {
 			thesisPresentationInviteRepository.deleteAllByPresentationThesisId(thesisId);
@@ -290,4 +356,9 @@ public class ThesisAnonymizationService {
 			}
 		}
 	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
 }
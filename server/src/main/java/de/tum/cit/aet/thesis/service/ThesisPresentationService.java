@@ -24,6 +24,7 @@ import net.fortuna.ical4j.model.property.immutable.ImmutableMethod;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -58,6 +59,7 @@ public class ThesisPresentationService {
 	private final ThesisPresentationInviteRepository thesisPresentationInviteRepository;
 
 	private final ResearchGroupSettingsService researchGroupSettingsService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private final String calendarProdId = "-//Thesis Management//Thesis Presentations//EN";
 
@@ -74,6 +76,7 @@ public class ThesisPresentationService {
 	 * @param userRepository the user repository
 	 * @param thesisPresentationInviteRepository the presentation invite repository
 	 * @param researchGroupSettingsService the research group settings service
+	 * @param eventPublisher the publisher used to announce dashboard task changes
 	 */
 	@Autowired
 	public ThesisPresentationService(
@@ -85,7 +88,7 @@ public class ThesisPresentationService {
 			@Value("${thesis-management.client.host}") String clientHost,
 			@Value("${thesis-management.mail.sender}") InternetAddress applicationMail,
 			UserRepository userRepository, ThesisPresentationInviteRepository thesisPresentationInviteRepository,
-			ResearchGroupSettingsService researchGroupSettingsService) {
+			ResearchGroupSettingsService researchGroupSettingsService, ApplicationEventPublisher eventPublisher) {
 		this.calendarService = calendarService;
 		this.thesisRepository = thesisRepository;
 		this.mailingService = mailingService;
@@ -98,6 +101,7 @@ public class ThesisPresentationService {
 		this.thesisPresentationInviteRepository = thesisPresentationInviteRepository;
 
 		this.researchGroupSettingsService = researchGroupSettingsService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	private CurrentUserProvider currentUserProvider() {
@@ -224,6 +228,9 @@ public class ThesisPresentationService {
 		presentations.sort(Comparator.comparing(ThesisPresentation::getScheduledAt));
 		thesis.setPresentations(presentations);
 
+		eventPublisher.publishEvent(DashboardService.UserTasksChangedEvent.forThesis(thesis));
+		eventPublisher.publishEvent(new CalendarFeedService.PresentationCalendarChangedEvent(thesis.getResearchGroup().getId()));
+
 		return thesisRepository.save(thesis);
 	}
 
@@ -251,6 +258,9 @@ public class ThesisPresentationService {
 
 		thesisPresentationRepository.save(presentation);
 
+		eventPublisher.publishEvent(DashboardService.UserTasksChangedEvent.forThesis(thesis));
+		eventPublisher.publishEvent(new CalendarFeedService.PresentationCalendarChangedEvent(thesis.getResearchGroup().getId()));
+
 		if (presentation.getState() == ThesisPresentationState.SCHEDULED) {
 			mailingService.sendScheduledPresentationEmail("UPDATED", presentation, getPresentationInvite(presentation).toString());
 		}
@@ -342,6 +352,9 @@ public class ThesisPresentationService {
 		presentation.setInvites(invites);
 		presentation = thesisPresentationRepository.save(presentation);
 
+		eventPublisher.publishEvent(DashboardService.UserTasksChangedEvent.forThesis(thesis));
+		eventPublisher.publishEvent(new CalendarFeedService.PresentationCalendarChangedEvent(thesis.getResearchGroup().getId()));
+
 		mailingService.sendScheduledPresentationEmail("CREATED", presentation, getPresentationInvite(presentation).toString());
 
 		return thesis;
@@ -364,6 +377,9 @@ public class ThesisPresentationService {
 
 		thesis = thesisRepository.save(thesis);
 
+		eventPublisher.publishEvent(DashboardService.UserTasksChangedEvent.forThesis(presentation.getThesis()));
+		eventPublisher.publishEvent(new CalendarFeedService.PresentationCalendarChangedEvent(thesis.getResearchGroup().getId()));
+
 		if (presentation.getState() == ThesisPresentationState.SCHEDULED) {
 			mailingService.sendPresentationDeletedEmail(currentUserProvider().getUser(), presentation);
 		}
@@ -9,6 +9,13 @@ import de.tum.cit.aet.thesis.constants.UploadFileType;
 import de.tum.cit.aet.thesis.controller.payload.GradeComponentPayload;
 import de.tum.cit.aet.thesis.controller.payload.RequestChangesPayload;
 import de.tum.cit.aet.thesis.controller.payload.ThesisStatePayload;
+import de.tum.cit.aet.thesis.dto.PublishedThesisDto;
+import de.tum.cit.aet.thesis.dto.PublishedThesisRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisOverviewDto;
+import de.tum.cit.aet.thesis.dto.ThesisOverviewRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisPresentationRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisRoleRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisStateChangeRowDto;
 import de.tum.cit.aet.thesis.entity.Application;
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.ResearchGroupSettings;
@@ -31,23 +38,31 @@ import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.repository.ThesisAssessmentRepository;
 import de.tum.cit.aet.thesis.repository.ThesisFeedbackRepository;
 import de.tum.cit.aet.thesis.repository.ThesisFileRepository;
+import de.tum.cit.aet.thesis.repository.ThesisPresentationRepository;
 import de.tum.cit.aet.thesis.repository.ThesisProposalRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
 import de.tum.cit.aet.thesis.repository.ThesisStateChangeRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.repository.specification.ThesisSpecifications;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.utility.DataFormatter;
 import de.tum.cit.aet.thesis.utility.HibernateHelper;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
+import de.tum.cit.aet.thesis.utility.KeysetPagination;
 import de.tum.cit.aet.thesis.utility.PDFBuilder;
 import de.tum.cit.aet.thesis.utility.RequestValidator;
+import de.tum.cit.aet.thesis.utility.RetentionUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -64,6 +79,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /** Manages the full thesis lifecycle, including creation, state transitions, proposals, assessments, and grading. */
 @Service
@@ -79,10 +95,12 @@ public class ThesisService {
 	private final AccessManagementService accessManagementService;
 	private final ThesisFeedbackRepository thesisFeedbackRepository;
 	private final ThesisFileRepository thesisFileRepository;
+	private final ThesisPresentationRepository thesisPresentationRepository;
 	private final ObjectProvider<CurrentUserProvider> currentUserProviderProvider;
 	private final ResearchGroupRepository researchGroupRepository;
 	private final ResearchGroupSettingsService researchGroupSettingsService;
 	private final UserService userService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Value("${thesis-management.client.host}")
 	private String clientHost;
@@ -101,9 +119,12 @@ public class ThesisService {
 	 * @param accessManagementService the access management service
 	 * @param thesisFeedbackRepository the thesis feedback repository
 	 * @param thesisFileRepository the thesis file repository
+	 * @param thesisPresentationRepository the thesis presentation repository
 	 * @param currentUserProviderProvider the current user provider
 	 * @param researchGroupRepository the research group repository
 	 * @param researchGroupSettingsService the research group settings service
+	 * @param userService the user service
+	 * @param eventPublisher the publisher used to announce dashboard task changes
 	 */
 	@Autowired
 	public ThesisService(
@@ -117,8 +138,10 @@ public class ThesisService {
 			MailingService mailingService,
 			AccessManagementService accessManagementService,
 			ThesisFeedbackRepository thesisFeedbackRepository, ThesisFileRepository thesisFileRepository,
+			ThesisPresentationRepository thesisPresentationRepository,
 			ObjectProvider<CurrentUserProvider> currentUserProviderProvider, ResearchGroupRepository researchGroupRepository, ResearchGroupSettingsService researchGroupSettingsService,
-			UserService userService
+			UserService userService,
+			ApplicationEventPublisher eventPublisher
 	) {
 		this.thesisRoleRepository = thesisRoleRepository;
 		this.thesisRepository = thesisRepository;
@@ -131,10 +154,12 @@ public class ThesisService {
 		this.accessManagementService = accessManagementService;
 		this.thesisFeedbackRepository = thesisFeedbackRepository;
 		this.thesisFileRepository = thesisFileRepository;
+		this.thesisPresentationRepository = thesisPresentationRepository;
 		this.currentUserProviderProvider = currentUserProviderProvider;
 		this.researchGroupRepository = researchGroupRepository;
 		this.researchGroupSettingsService = researchGroupSettingsService;
 		this.userService = userService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	private CurrentUserProvider currentUserProvider() {
@@ -148,7 +173,8 @@ public class ThesisService {
 	}
 
 	/**
-	 * Returns a paginated and filtered list of theses based on user role, visibility, and search criteria.
+	 * Returns a paginated and filtered list of thesis overviews based on user role, visibility, and search criteria.
+	 * The theses are read as projections, so no entities are loaded.
 	 *
 	 * @param userId the ID of the user requesting the list, or null for public access
 	 * @param fetchAll whether to fetch all accessible theses beyond the user's own
@@ -160,9 +186,9 @@ public class ThesisService {
 	 * @param sortBy the field to sort by
 	 * @param sortOrder the sort direction, "asc" or "desc"
 	 * @param researchGroupIds the research group IDs to filter by
-	 * @return the paginated list of theses
+	 * @return the paginated list of thesis overviews
 	 */
-	public Page<Thesis> getAll(
+	public Page<ThesisOverviewDto> getAllOverviews(
 		UUID userId,
 		boolean fetchAll,
 		String searchQuery,
@@ -174,8 +200,201 @@ public class ThesisService {
 		String sortOrder,
 		UUID[] researchGroupIds
 	) {
-		Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+		Specification<Thesis> specification = searchSpecification(userId, fetchAll, searchQuery, states, types, researchGroupIds);
+		PageRequest pageRequest = PageRequest.of(page, limit, Sort.by(sortOrder(sortBy, sortOrder)));
+
+		List<ThesisOverviewRowDto> rows = thesisRepository.findOverviewRows(
+				specification,
+				pageRequest.getSort(),
+				pageRequest.getOffset(),
+				pageRequest.getPageSize()
+		);
+
+		return PageableExecutionUtils.getPage(toOverviews(rows), pageRequest, () -> thesisRepository.count(specification));
+	}
+
+	/**
+	 * Returns the page of thesis overviews following the cursor, with the same filters as
+	 * {@link #getAllOverviews(UUID, boolean, String, ThesisState[], String[], int, int, String, String, UUID[])}.
+	 *
+	 * @param userId the ID of the user requesting the list, or null for public access
+	 * @param fetchAll whether to fetch all accessible theses beyond the user's own
+	 * @param searchQuery the search query to filter theses
+	 * @param states the thesis states to filter by
+	 * @param types the thesis types to filter by
+	 * @param cursor the cursor of the previous page, or empty for the first page
+	 * @param includeTotal whether to count all matching theses
+	 * @param limit the number of results per page
+	 * @param sortBy the field to sort by
+	 * @param sortOrder the sort direction, "asc" or "desc"
+	 * @param researchGroupIds the research group IDs to filter by
+	 * @return the page of thesis overviews
+	 */
+	public KeysetPage<ThesisOverviewDto> getAllOverviewsByCursor(
+		UUID userId,
+		boolean fetchAll,
+		String searchQuery,
+		ThesisState[] states,
+		String[] types,
+		String cursor,
+		boolean includeTotal,
+		int limit,
+		String sortBy,
+		String sortOrder,
+		UUID[] researchGroupIds
+	) {
+		KeysetPage<ThesisOverviewRowDto> rows = KeysetPagination.fetch(
+				thesisRepository,
+				Thesis.class,
+				ThesisOverviewRowDto.class,
+				searchSpecification(userId, fetchAll, searchQuery, states, types, researchGroupIds),
+				sortOrder(sortBy, sortOrder),
+				cursor,
+				limit,
+				includeTotal,
+				(specification, sort, rowLimit) -> thesisRepository.findOverviewRows(specification, sort, 0, rowLimit)
+		);
+
+		return rows.withContent(toOverviews(rows.content()));
+	}
+
+	/**
+	 * Returns a paginated and filtered list of published theses. The theses are read as projections,
+	 * so no entities are loaded.
+	 *
+	 * @param userId the ID of the user requesting the list, or null for public access
+	 * @param fetchAll whether to fetch all accessible theses beyond the user's own
+	 * @param searchQuery the search query to filter theses
+	 * @param states the thesis states to filter by
+	 * @param types the thesis types to filter by
+	 * @param page the page number for pagination
+	 * @param limit the number of results per page
+	 * @param sortBy the field to sort by
+	 * @param sortOrder the sort direction, "asc" or "desc"
+	 * @param researchGroupIds the research group IDs to filter by
+	 * @return the paginated list of published theses
+	 */
+	public Page<PublishedThesisDto> getAllPublished(
+		UUID userId,
+		boolean fetchAll,
+		String searchQuery,
+		ThesisState[] states,
+		String[] types,
+		int page,
+		int limit,
+		String sortBy,
+		String sortOrder,
+		UUID[] researchGroupIds
+	) {
+		Specification<Thesis> specification = searchSpecification(userId, fetchAll, searchQuery, states, types, researchGroupIds);
+		PageRequest pageRequest = PageRequest.of(page, limit, Sort.by(sortOrder(sortBy, sortOrder)));
+
+		List<PublishedThesisRowDto> rows = thesisRepository.findPublishedRows(
+				specification,
+				pageRequest.getSort(),
+				pageRequest.getOffset(),
+				pageRequest.getPageSize()
+		);
+
+		return PageableExecutionUtils.getPage(toPublished(rows), pageRequest, () -> thesisRepository.count(specification));
+	}
+
+	/**
+	 * Returns the page of published theses following the cursor, with the same filters as
+	 * {@link #getAllPublished(UUID, boolean, String, ThesisState[], String[], int, int, String, String, UUID[])}.
+	 *
+	 * @param userId the ID of the user requesting the list, or null for public access
+	 * @param fetchAll whether to fetch all accessible theses beyond the user's own
+	 * @param searchQuery the search query to filter theses
+	 * @param states the thesis states to filter by
+	 * @param types the thesis types to filter by
+	 * @param cursor the cursor of the previous page, or empty for the first page
+	 * @param includeTotal whether to count all matching theses
+	 * @param limit the number of results per page
+	 * @param sortBy the field to sort by
+	 * @param sortOrder the sort direction, "asc" or "desc"
+	 * @param researchGroupIds the research group IDs to filter by
+	 * @return the page of published theses
+	 */
+	public KeysetPage<PublishedThesisDto> getAllPublishedByCursor(
+		UUID userId,
+		boolean fetchAll,
+		String searchQuery,
+		ThesisState[] states,
+		String[] types,
+		String cursor,
+		boolean includeTotal,
+		int limit,
+		String sortBy,
+		String sortOrder,
+		UUID[] researchGroupIds
+	) {
+		KeysetPage<PublishedThesisRowDto> rows = KeysetPagination.fetch(
+				thesisRepository,
+				Thesis.class,
+				PublishedThesisRowDto.class,
+				searchSpecification(userId, fetchAll, searchQuery, states, types, researchGroupIds),
+				sortOrder(sortBy, sortOrder),
+				cursor,
+				limit,
+				includeTotal,
+				(specification, sort, rowLimit) -> thesisRepository.findPublishedRows(specification, sort, 0, rowLimit)
+		);
+
+		return rows.withContent(toPublished(rows.content()));
+	}
+
+	private List<ThesisOverviewDto> toOverviews(List<ThesisOverviewRowDto> rows) {
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+
+		List<UUID> thesisIds = rows.stream().map(ThesisOverviewRowDto::id).toList();
+
+		Map<UUID, List<ThesisRoleRowDto>> roles = thesisRoleRepository.findRowsByThesisIds(thesisIds).stream()
+				.collect(Collectors.groupingBy(ThesisRoleRowDto::thesisId));
+		Map<UUID, List<ThesisStateChangeRowDto>> states = thesisStateChangeRepository.findRowsByThesisIds(thesisIds).stream()
+				.collect(Collectors.groupingBy(ThesisStateChangeRowDto::thesisId));
+		Map<UUID, List<ThesisPresentationRowDto>> presentations = thesisPresentationRepository.findRowsByThesisIds(thesisIds).stream()
+				.collect(Collectors.groupingBy(ThesisPresentationRowDto::thesisId));
+
+		return rows.stream()
+				.map(row -> ThesisOverviewDto.fromRows(
+						row,
+						roles.getOrDefault(row.id(), List.of()),
+						states.getOrDefault(row.id(), List.of()),
+						presentations.getOrDefault(row.id(), List.of())
+				))
+				.toList();
+	}
+
+	private List<PublishedThesisDto> toPublished(List<PublishedThesisRowDto> rows) {
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, List<ThesisRoleRowDto>> roles = thesisRoleRepository.findRowsByThesisIds(
+				rows.stream().map(PublishedThesisRowDto::id).toList()
+		).stream().collect(Collectors.groupingBy(ThesisRoleRowDto::thesisId));
+
+		return rows.stream()
+				.map(row -> PublishedThesisDto.fromRows(row, roles.getOrDefault(row.id(), List.of())))
+				.toList();
+	}
+
+	private Sort.Order sortOrder(String sortBy, String sortOrder) {
+		return new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
 				HibernateHelper.validateSortField(Thesis.class, sortBy));
+	}
+
+	private Specification<Thesis> searchSpecification(
+		UUID userId,
+		boolean fetchAll,
+		String searchQuery,
+		ThesisState[] states,
+		String[] types,
+		UUID[] researchGroupIds
+	) {
 		String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
 		Set<ThesisState> statesFilter = states == null || states.length == 0 ? null : new HashSet<>(Arrays.asList(states));
 		Set<String> typesFilter = types == null || types.length == 0 ? null : new HashSet<>(Arrays.asList(types));
@@ -201,14 +420,13 @@ public class ThesisService {
 			visibilitySet = Set.of(ThesisVisibility.PUBLIC);
 		}
 
-		return thesisRepository.searchTheses(
+		return ThesisSpecifications.search(
 				researchGroupIdsFilter,
 				userId,
 				visibilitySet,
 				searchQueryFilter,
 				statesFilter,
-				typesFilter,
-				PageRequest.of(page, limit, Sort.by(order))
+				typesFilter
 		);
 	}
 
@@ -245,7 +463,7 @@ public class ThesisService {
 		thesis.setCreatedAt(Instant.now());
 		thesis.setResearchGroup(researchGroup);
 
-		thesis = thesisRepository.save(thesis);
+		thesis = saveThesis(thesis);
 
 		List<UUID> effectiveStudentIds = mergeAdditionalStudents(studentIds, additionalStudentUsernames);
 
@@ -296,7 +514,7 @@ public class ThesisService {
 		thesis.setState(ThesisState.DROPPED_OUT);
 		saveStateChange(thesis, ThesisState.DROPPED_OUT);
 
-		thesis = thesisRepository.save(thesis);
+		thesis = saveThesis(thesis);
 
 		mailingService.sendThesisClosedEmail(currentUserProvider().getUser(), thesis);
 
@@ -350,7 +568,7 @@ public class ThesisService {
 			saveStateChange(thesis, state.state(), state.changedAt());
 		}
 
-		thesis = thesisRepository.save(thesis);
+		thesis = saveThesis(thesis);
 
 		return thesis;
 	}
@@ -367,7 +585,7 @@ public class ThesisService {
 		thesis.setAbstractField(abstractText != null ? abstractText : "");
 		thesis.setInfo(infoText != null ? infoText : "");
 
-		thesis = thesisRepository.save(thesis);
+		thesis = saveThesis(thesis);
 
 		return thesis;
 	}
@@ -391,7 +609,7 @@ public class ThesisService {
 			thesis.setTitle(primaryTitle);
 		}
 
-		thesis = thesisRepository.save(thesis);
+		thesis = saveThesis(thesis);
 
 		return thesis;
 	}
@@ -409,7 +627,7 @@ public class ThesisService {
 				credits
 		));
 
-		return thesisRepository.save(thesis);
+		return saveThesis(thesis);
 	}
 
 	/* FEEDBACK */
@@ -431,6 +649,8 @@ public class ThesisService {
 
 		thesisFeedbackRepository.save(feedback);
 
+		publishTasksChanged(thesis);
+
 		return thesis;
 	}
 
@@ -448,6 +668,8 @@ public class ThesisService {
 				thesis.getFeedback().stream().filter(feedback -> !feedback.getId().equals(feedbackId)).toList()
 		));
 
+		publishTasksChanged(thesis);
+
 		return thesis;
 	}
 
@@ -476,6 +698,8 @@ public class ThesisService {
 			mailingService.sendProposalChangeRequestEmail(currentUserProvider().getUser(), thesis);
 		}
 
+		publishTasksChanged(thesis);
+
 		return thesis;
 	}
 
@@ -513,7 +737,7 @@ public class ThesisService {
 
 		mailingService.sendProposalUploadedEmail(proposal);
 
-		return thesisRepository.save(thesis);
+		return saveThesis(thesis);
 	}
 
 	// TODO: we should avoid using @Transactional because it can lead to performance issue and concurrency problems
@@ -530,6 +754,8 @@ public class ThesisService {
 				thesis.getProposals().stream().filter(proposal -> !proposal.getId().equals(proposalId)).toList()
 		));
 
+		publishTasksChanged(thesis);
+
 		return thesis;
 	}
 
@@ -557,7 +783,7 @@ public class ThesisService {
 
 		mailingService.sendProposalAcceptedEmail(proposal);
 
-		return thesisRepository.save(thesis);
+		return saveThesis(thesis);
 	}
 
 	/* WRITING */
@@ -577,7 +803,7 @@ public class ThesisService {
 
 		mailingService.sendFinalSubmissionEmail(thesis);
 
-		return thesisRepository.save(thesis);
+		return saveThesis(thesis);
 	}
 
 	// TODO: we should avoid using @Transactional because it can lead to performance issue and concurrency problems
@@ -597,7 +823,7 @@ public class ThesisService {
 		List<ThesisFile> files = thesis.getFiles();
 		files.addFirst(thesisFileRepository.save(thesisFile));
 
-		return thesisRepository.save(thesis);
+		return saveThesis(thesis);
 	}
 
 	// TODO: we should avoid using @Transactional because it can lead to performance issue and concurrency problems
@@ -614,6 +840,8 @@ public class ThesisService {
 				thesis.getFiles().stream().filter(file -> !file.getId().equals(fileId)).toList()
 		));
 
+		publishTasksChanged(thesis);
+
 		return thesis;
 	}
 
@@ -687,7 +915,7 @@ public class ThesisService {
 
 		mailingService.sendAssessmentAddedEmail(assessment);
 
-		return thesisRepository.save(thesis);
+		return saveThesis(thesis);
 	}
 
 	private void validateGradeComponents(List<GradeComponentPayload> components) {
@@ -845,7 +1073,7 @@ public class ThesisService {
 
 		mailingService.sendFinalGradeEmail(thesis);
 
-		return thesisRepository.save(thesis);
+		return saveThesis(thesis);
 	}
 
 	// TODO: we should avoid using @Transactional because it can lead to performance issue and concurrency problems
@@ -857,7 +1085,7 @@ public class ThesisService {
 
 		saveStateChange(thesis, ThesisState.FINISHED);
 
-		thesis = thesisRepository.save(thesis);
+		thesis = saveThesis(thesis);
 
 		for (User student : thesis.getStudents()) {
 			if (!existsPendingThesis(student)) {
@@ -906,7 +1134,7 @@ public class ThesisService {
 		ThesisState revertedFrom = currentChangeId.getState();
 
 		thesis.setState(previousState);
-		Thesis savedThesis = thesisRepository.save(thesis);
+		Thesis savedThesis = saveThesis(thesis);
 
 		thesisStateChangeRepository.deleteById(currentChangeId);
 		Set<ThesisStateChange> remaining = new HashSet<>(savedThesis.getStates());
@@ -925,7 +1153,7 @@ public class ThesisService {
 	/* UTILITY */
 
 	private boolean existsPendingThesis(User user) {
-		Page<Thesis> theses = thesisRepository.searchTheses(
+		return thesisRepository.exists(ThesisSpecifications.search(
 			null,
 				user.getId(),
 				null,
@@ -937,11 +1165,8 @@ public class ThesisService {
 						ThesisState.ASSESSED,
 						ThesisState.GRADED
 				),
-				null,
-				PageRequest.ofSize(1)
-		);
-
-		return theses.getTotalElements() > 0;
+				null
+		));
 	}
 
 	/**
@@ -951,7 +1176,7 @@ public class ThesisService {
 	 * @return the found thesis
 	 */
 	public Thesis findById(UUID thesisId) {
-		Thesis thesis = thesisRepository.findById(thesisId)
+		Thesis thesis = thesisRepository.findWithDetailsById(thesisId)
 				.orElseThrow(() -> new ResourceNotFoundException(String.format("Thesis with id %s not found.", thesisId)));
 
 		if (!thesis.hasReadAccess(null)) {
@@ -988,6 +1213,9 @@ public class ThesisService {
 			throw new ResourceInvalidParametersException("No students selected or students not found");
 		}
 
+		// Users that lose their role need fresh dashboard tasks as well
+		publishTasksChanged(thesis);
+
 		thesisRoleRepository.deleteByThesisId(thesis.getId());
 		thesis.setRoles(new ArrayList<>());
 
@@ -1015,6 +1243,25 @@ public class ThesisService {
 			User student = students.get(i);
 			saveThesisRole(thesis, student, ThesisRoleName.STUDENT, i);
 		}
+
+		publishTasksChanged(thesis);
+	}
+
+	private Thesis saveThesis(Thesis thesis) {
+		// Keep the stored expiry in sync so the anonymization jobs only need to read theses that are due
+		thesis.setRetentionExpiresAt(RetentionUtils.computeStoredRetentionExpiry(thesis));
+
+		Thesis savedThesis = thesisRepository.save(thesis);
+
+		publishTasksChanged(thesis);
+		// Title, abstract and students are part of the presentation feed of the research group
+		eventPublisher.publishEvent(new CalendarFeedService.PresentationCalendarChangedEvent(thesis.getResearchGroup().getId()));
+
+		return savedThesis;
+	}
+
+	private void publishTasksChanged(Thesis thesis) {
+		eventPublisher.publishEvent(DashboardService.UserTasksChangedEvent.forThesis(thesis));
 	}
 
 	private void saveStateChange(Thesis thesis, ThesisState state) {
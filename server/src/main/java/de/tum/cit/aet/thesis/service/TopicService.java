@@ -19,6 +19,7 @@ import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.utility.HibernateHelper;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -44,6 +45,7 @@ public class TopicService {
 	private final ObjectProvider<CurrentUserProvider> currentUserProviderProvider;
 	private final ResearchGroupRepository researchGroupRepository;
 	private final InterviewProcessRepository interviewProcessRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * Injects the topic, user, and research group repositories along with the current user provider.
@@ -54,6 +56,7 @@ public class TopicService {
 	 * @param currentUserProviderProvider the current user provider
 	 * @param researchGroupRepository the research group repository
 	 * @param interviewProcessRepository the interview process repository
+	 * @param eventPublisher the publisher used to evict the interview calendars of changed supervisors
 	 */
 	@Autowired
 	public TopicService(
@@ -62,13 +65,15 @@ public class TopicService {
 			UserRepository userRepository,
 			ObjectProvider<CurrentUserProvider> currentUserProviderProvider,
 			ResearchGroupRepository researchGroupRepository,
-			InterviewProcessRepository interviewProcessRepository) {
+			InterviewProcessRepository interviewProcessRepository,
+			ApplicationEventPublisher eventPublisher) {
 		this.topicRepository = topicRepository;
 		this.topicRoleRepository = topicRoleRepository;
 		this.userRepository = userRepository;
 	this.currentUserProviderProvider = currentUserProviderProvider;
 		this.researchGroupRepository = researchGroupRepository;
 		this.interviewProcessRepository = interviewProcessRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	private CurrentUserProvider currentUserProvider() {
@@ -304,6 +309,10 @@ public class TopicService {
 			throw new ResourceInvalidParametersException("No examiners selected or examiners not found");
 		}
 
+		// The interview calendars of the previous and the new supervisors both show the slots of the topic
+		Set<UUID> affectedSupervisorIds = new HashSet<>(
+				CalendarFeedService.InterviewCalendarChangedEvent.forTopic(topic).userIds());
+
 		topicRoleRepository.deleteByTopicId(topic.getId());
 		topic.setRoles(new ArrayList<>());
 
@@ -326,6 +335,9 @@ public class TopicService {
 
 			saveTopicRole(topic, supervisor, ThesisRoleName.SUPERVISOR, i);
 		}
+
+		affectedSupervisorIds.addAll(CalendarFeedService.InterviewCalendarChangedEvent.forTopic(topic).userIds());
+		eventPublisher.publishEvent(new CalendarFeedService.InterviewCalendarChangedEvent(affectedSupervisorIds));
 	}
 
 	private void saveTopicRole(Topic topic, User user, ThesisRoleName role, int position) {
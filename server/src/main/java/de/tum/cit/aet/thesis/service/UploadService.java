@@ -2,21 +2,22 @@ package de.tum.cit.aet.thesis.service;
 
 import de.tum.cit.aet.thesis.constants.UploadFileType;
 import de.tum.cit.aet.thesis.exception.UploadException;
+import de.tum.cit.aet.thesis.storage.BlobStorage;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
@@ -24,26 +25,24 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
-/** Handles file uploads and retrieval, including size and type validation and content-based hashing. */
+/**
+ * Handles file uploads and retrieval, including size and type validation and content-based hashing.
+ * Files are stored under the SHA-256 hash of their content, so identical uploads share one file. The
+ * files themselves live in the configured {@link BlobStorage}.
+ */
 @Slf4j
 @Service
 public class UploadService {
-	private final Path rootLocation;
+	private final BlobStorage storage;
 
 	/**
-	 * Initializes the upload directory from the configured storage location, creating it if necessary.
+	 * Injects the storage the uploaded files are kept in.
 	 *
-	 * @param uploadLocation the file system path for uploads
+	 * @param storage the upload storage
 	 */
 	@Autowired
-	public UploadService(@Value("${thesis-management.storage.upload-location}") String uploadLocation) {
-		this.rootLocation = Path.of(uploadLocation).toAbsolutePath().normalize();
-
-		File uploadDirectory = rootLocation.toFile();
-
-		if (!uploadDirectory.exists() && !uploadDirectory.mkdirs()) {
-			throw new UploadException("Failed to create upload directory");
-		}
+	public UploadService(@Qualifier("uploadStorage") BlobStorage storage) {
+		this.storage = storage;
 	}
 
 	/**
@@ -108,42 +107,30 @@ public class UploadService {
 								+ " uploads: " + allowedList);
 			}
 
-			String filename = StringUtils.cleanPath(computeFileHash(file) + "." + extension);
-			Path target = rootLocation.resolve(filename).normalize();
-
-			if (!target.startsWith(rootLocation)) {
-				throw new UploadException("Cannot store file outside upload directory");
-			}
-
 			try (InputStream inputStream = file.getInputStream()) {
-				Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
-
-				return filename;
+				return storeContent(inputStream, extension);
 			}
-		} catch (IOException | NoSuchAlgorithmException e) {
+		} catch (IOException e) {
 			throw new UploadException("Failed to store file", e);
 		}
 	}
 
 	/**
-	 * Loads and returns a previously stored file as a FileSystemResource.
+	 * Loads and returns a previously stored file as a resource.
 	 *
 	 * @param filename the name of the file to load
-	 * @return the file as a FileSystemResource
+	 * @return the file as a resource
 	 */
-	public FileSystemResource load(String filename) {
+	public Resource load(String filename) {
 		try {
-			Path resolved = rootLocation.resolve(filename).normalize();
-
-			if (!resolved.startsWith(rootLocation)) {
+			if (!isStoredFilename(filename)) {
 				throw new UploadException("Cannot load file outside upload directory");
 			}
 
-			FileSystemResource file = new FileSystemResource(resolved);
-
-			file.contentLength();
+			// Fails early if the file does not exist
+			storage.size(filename);
 
-			return file;
+			return storage.getResource(filename);
 		} catch (IOException e) {
 			throw new UploadException("Failed to load file", e);
 		}
@@ -171,19 +158,34 @@ public class UploadService {
 				throw new UploadException("Invalid file extension");
 			}
 
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hashBytes = digest.digest(bytes);
-			String hash = HexFormat.of().formatHex(hashBytes);
-			String filename = hash + "." + extension;
+			return storeContent(new ByteArrayInputStream(bytes), extension);
+		} catch (IOException e) {
+			throw new UploadException("Failed to store file", e);
+		}
+	}
 
-			Path target = rootLocation.resolve(filename).normalize();
-			if (!target.startsWith(rootLocation)) {
-				throw new UploadException("Cannot store file outside upload directory");
-			}
+	/**
+	 * Stores content derived from a stored file, e.g. a resized image, under a name derived from the
+	 * name of that file. Existing content under the name is replaced.
+	 *
+	 * @param filename the name to store the content under
+	 * @param bytes the file content
+	 */
+	public void storeDerived(String filename, byte[] bytes) {
+		if (!isStoredFilename(filename)) {
+			throw new UploadException("Cannot store file outside upload directory");
+		}
 
-			Files.write(target, bytes);
-			return filename;
-		} catch (IOException | NoSuchAlgorithmException e) {
+		try {
+			Path stagingFile = storage.createStagingFile();
+
+			try {
+				Files.write(stagingFile, bytes);
+				storage.put(filename, stagingFile);
+			} finally {
+				Files.deleteIfExists(stagingFile);
+			}
+		} catch (IOException e) {
 			throw new UploadException("Failed to store file", e);
 		}
 	}
@@ -197,27 +199,56 @@ public class UploadService {
 		if (filename == null || filename.isBlank()) {
 			return;
 		}
-		if (filename.contains("..")) {
+		if (!isStoredFilename(filename)) {
 			return;
 		}
 		try {
-			Path resolved = rootLocation.resolve(filename).normalize();
-			if (!resolved.startsWith(rootLocation.normalize())) {
-				return;
-			}
-			Files.deleteIfExists(resolved);
+			storage.delete(filename);
 		} catch (IOException e) {
 			log.warn("Failed to delete file {}: {}", filename, e.getMessage());
 		}
 	}
 
-	private String computeFileHash(MultipartFile file) throws IOException, NoSuchAlgorithmException {
-		MessageDigest digest = MessageDigest.getInstance("SHA-256");
-		try (InputStream inputStream = file.getInputStream()) {
-			byte[] fileBytes = inputStream.readAllBytes();
-			byte[] hashBytes = digest.digest(fileBytes);
+	/**
+	 * Streams the content into a staging file of the storage while hashing it, then stores it under its
+	 * content-hashed name. The content is read exactly once and never buffered as a whole. If a file with
+	 * the same hash already exists, the content is identical and the staging file is discarded.
+	 */
+	private String storeContent(InputStream content, String extension) throws IOException {
+		MessageDigest digest = newDigest();
+		Path stagingFile = storage.createStagingFile();
+
+		try {
+			try (InputStream inputStream = new DigestInputStream(content, digest)) {
+				Files.copy(inputStream, stagingFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+
+			String filename = HexFormat.of().formatHex(digest.digest()) + "." + extension;
 
-			return HexFormat.of().formatHex(hashBytes);
+			if (!isStoredFilename(filename)) {
+				throw new UploadException("Cannot store file outside upload directory");
+			}
+
+			if (!storage.exists(filename)) {
+				storage.put(filename, stagingFile);
+			}
+
+			return filename;
+		} finally {
+			Files.deleteIfExists(stagingFile);
+		}
+	}
+
+	private static boolean isStoredFilename(String filename) {
+		return filename != null && !filename.isBlank()
+				&& !filename.contains("..") && !filename.contains("/") && !filename.contains("\\");
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
 		}
 	}
 }
@@ -12,27 +12,42 @@ import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
 import de.tum.cit.aet.thesis.repository.ApplicationReviewerRepository;
 import de.tum.cit.aet.thesis.repository.DataExportRepository;
+import de.tum.cit.aet.thesis.repository.MailOutboxRepository;
 import de.tum.cit.aet.thesis.repository.NotificationSettingRepository;
 import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
 import de.tum.cit.aet.thesis.repository.TopicRoleRepository;
 import de.tum.cit.aet.thesis.repository.UserGroupRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.security.PrincipalCache;
+import de.tum.cit.aet.thesis.storage.BlobStorage;
 import de.tum.cit.aet.thesis.utility.RetentionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-
-/** Handles user account deletion, anonymization, and deferred cleanup with legal retention enforcement. */
+import java.util.stream.Collectors;
+
+/**
+ * Handles user account deletion, anonymization, and deferred cleanup with legal retention enforcement.
+ *
+ * <p>Deferred deletions are processed in chunks of {@code delete-chunk-size} users, each chunk with one
+ * statement per related table in its own transaction. Progress is recorded in the counters
+ * {@code thesis.retention.deleted} and {@code thesis.retention.failed} (tagged with {@code type=user}).</p>
+ */
 @Service
 public class UserDeletionService {
 	private static final Logger log = LoggerFactory.getLogger(UserDeletionService.class);
@@ -47,11 +62,18 @@ public class UserDeletionService {
 	private final DataExportRepository dataExportRepository;
 	private final UserGroupRepository userGroupRepository;
 	private final NotificationSettingRepository notificationSettingRepository;
+	private final MailOutboxRepository mailOutboxRepository;
 	private final UploadService uploadService;
-	private final Path dataExportPath;
+	private final BlobStorage dataExportStorage;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int deleteChunkSize;
+
+	private final Counter deletedUsers;
+	private final Counter failedUsers;
 
 	/**
-	 * Constructs the service with the required repositories, upload service, and export path.
+	 * Constructs the service with the required repositories, upload service, export storage, and cleanup settings.
 	 *
 	 * @param userRepository the user repository
 	 * @param thesisRoleRepository the thesis role repository
@@ -62,8 +84,13 @@ public class UserDeletionService {
 	 * @param dataExportRepository the data export repository
 	 * @param userGroupRepository the user group repository
 	 * @param notificationSettingRepository the notification setting repository
+	 * @param mailOutboxRepository the mail outbox repository the queued mails of deleted users are removed from
 	 * @param uploadService the upload service
-	 * @param dataExportPath the data export directory path
+	 * @param dataExportStorage the storage the data export archives are kept in
+	 * @param transactionTemplate the template used to run each deferred deletion chunk in its own transaction
+	 * @param eventPublisher the publisher used to evict the cached principals of deleted users
+	 * @param meterRegistry the registry the retention counters are registered in
+	 * @param deleteChunkSize the maximum number of users fully deleted per transaction
 	 */
 	public UserDeletionService(
 			UserRepository userRepository,
@@ -75,8 +102,13 @@ public class UserDeletionService {
 			DataExportRepository dataExportRepository,
 			UserGroupRepository userGroupRepository,
 			NotificationSettingRepository notificationSettingRepository,
+			MailOutboxRepository mailOutboxRepository,
 			UploadService uploadService,
-			@Value("${thesis-management.data-export.path}") String dataExportPath) {
+			@Qualifier("dataExportStorage") BlobStorage dataExportStorage,
+			TransactionTemplate transactionTemplate,
+			ApplicationEventPublisher eventPublisher,
+			MeterRegistry meterRegistry,
+			@Value("${thesis-management.data-retention.delete-chunk-size:500}") int deleteChunkSize) {
 		this.userRepository = userRepository;
 		this.thesisRoleRepository = thesisRoleRepository;
 		this.topicRoleRepository = topicRoleRepository;
@@ -86,8 +118,21 @@ public class UserDeletionService {
 		this.dataExportRepository = dataExportRepository;
 		this.userGroupRepository = userGroupRepository;
 		this.notificationSettingRepository = notificationSettingRepository;
+		this.mailOutboxRepository = mailOutboxRepository;
 		this.uploadService = uploadService;
-		this.dataExportPath = Path.of(dataExportPath);
+		this.dataExportStorage = dataExportStorage;
+		this.transactionTemplate = transactionTemplate;
+		this.eventPublisher = eventPublisher;
+		this.deleteChunkSize = Math.max(1, deleteChunkSize);
+
+		this.deletedUsers = Counter.builder("thesis.retention.deleted")
+				.description("Number of records removed by the data retention cleanup")
+				.tag("type", "user")
+				.register(meterRegistry);
+		this.failedUsers = Counter.builder("thesis.retention.failed")
+				.description("Number of records the data retention cleanup failed to remove")
+				.tag("type", "user")
+				.register(meterRegistry);
 	}
 
 	/**
@@ -166,7 +211,7 @@ public class UserDeletionService {
 			// as they are part of the thesis evaluation process.
 			String avatarPath = user.getAvatar();
 			result = performSoftDeletion(user, retentionBlockedRoles);
-			uploadService.deleteFile(avatarPath);
+			AvatarService.getStoredFilenames(avatarPath).forEach(uploadService::deleteFile);
 		}
 
 		// Delete export files after DB operations succeeded (worst case: orphaned files)
@@ -179,50 +224,103 @@ public class UserDeletionService {
 	public void processDeferredDeletions() {
 		List<User> pendingUsers = userRepository.findAllByDeletionScheduledForIsNotNull();
 
-		for (User user : pendingUsers) {
+		for (int start = 0; start < pendingUsers.size(); start += deleteChunkSize) {
+			List<User> chunk = pendingUsers.subList(start, Math.min(start + deleteChunkSize, pendingUsers.size()));
+			List<User> expiredUsers = filterRetentionExpired(chunk);
+
+			if (expiredUsers.isEmpty()) {
+				continue;
+			}
+
+			List<UUID> userIds = expiredUsers.stream().map(User::getId).toList();
+
 			try {
-				UUID userId = user.getId();
-				List<ThesisRole> retentionBlocked = getRetentionBlockedThesisRoles(userId);
-				if (retentionBlocked.isEmpty()) {
-					log.info("Retention expired for user {}, performing full cleanup", userId);
-
-					// Collect file paths before DB changes
-					List<String> exportFilePaths = collectExportFilePaths(user);
-					List<String> userFilePaths = collectUserFilePaths(user);
-
-					// Delete all remaining related data
-					deleteDataExportRecords(user);
-					List<Application> remainingApps = applicationRepository.findAllByUserId(userId);
-					for (Application app : remainingApps) {
-						applicationReviewerRepository.deleteByApplicationId(app.getId());
-					}
-					applicationRepository.deleteAllByUserId(userId);
-					topicRoleRepository.deleteAllByIdUserId(userId);
-					thesisRoleRepository.deleteAllByIdUserId(userId);
-
-					// Fully anonymize the tombstone (clear name + file references)
-					anonymizeUser(user);
-					userRepository.clearDeletionScheduledFor(userId);
-
-					// Delete files after DB operations succeeded
-					deleteFilePaths(userFilePaths);
-					deleteExportFiles(exportFilePaths);
-				}
+				deleteExpiredUsers(expiredUsers);
+				deletedUsers.increment(userIds.size());
 			} catch (Exception e) {
-				log.error("Failed to process deferred deletion for user {}: {}", user.getId(), e.getMessage(), e);
+				if (expiredUsers.size() == 1) {
+					log.error("Failed to process deferred deletion for users {}: {}", userIds, e.getMessage(), e);
+					failedUsers.increment();
+					continue;
+				}
+
+				// Retry one by one so that a single failing user does not keep the rest of the chunk
+				log.warn("Failed to process deferred deletion for users {}, retrying them one by one: {}", userIds, e.getMessage());
+				userIds.forEach(this::processDeferredDeletion);
 			}
 		}
 	}
 
+	private void processDeferredDeletion(UUID userId) {
+		try {
+			// Reload the user because the failed chunk already anonymized the loaded entity
+			User user = userRepository.findById(userId).orElse(null);
+
+			if (user == null) {
+				return;
+			}
+
+			deleteExpiredUsers(List.of(user));
+			deletedUsers.increment();
+		} catch (Exception e) {
+			log.error("Failed to process deferred deletion for user {}: {}", userId, e.getMessage(), e);
+			failedUsers.increment();
+		}
+	}
+
+	private void deleteExpiredUsers(List<User> expiredUsers) {
+		List<UUID> userIds = expiredUsers.stream().map(User::getId).toList();
+
+		log.info("Retention expired for users {}, performing full cleanup", userIds);
+
+		// Collect file paths before DB changes
+		List<String> exportFilePaths = dataExportRepository.findAllByUserIdIn(userIds).stream()
+				.map(DataExport::getFilePath)
+				.filter(p -> p != null)
+				.toList();
+		List<String> userFilePaths = expiredUsers.stream()
+				.flatMap(user -> collectUserFilePaths(user).stream())
+				.toList();
+
+		// Delete all remaining related data and fully anonymize the tombstones
+		// (clear name + file references) in one transaction per chunk
+		transactionTemplate.executeWithoutResult(status -> {
+			dataExportRepository.deleteAllByUserIdIn(userIds);
+			applicationReviewerRepository.deleteAllByApplicationUserIdIn(userIds);
+			applicationRepository.deleteAllByUserIdIn(userIds);
+			topicRoleRepository.deleteAllByIdUserIdIn(userIds);
+			thesisRoleRepository.deleteAllByIdUserIdIn(userIds);
+			mailOutboxRepository.deleteAllByRecipientIdIn(userIds);
+
+			expiredUsers.forEach(this::anonymizeUser);
+			userRepository.clearDeletionScheduledForAllByIdIn(userIds);
+
+			userIds.forEach(userId -> eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(userId)));
+		});
+
+		// Delete files after DB operations succeeded
+		deleteFilePaths(userFilePaths);
+		deleteExportFiles(exportFilePaths);
+	}
+
+	private List<User> filterRetentionExpired(List<User> users) {
+		Instant now = Instant.now();
+		Map<UUID, List<ThesisRole>> rolesByUser = thesisRoleRepository
+				.findAllByIdUserIdInWithThesis(users.stream().map(User::getId).toList()).stream()
+				.collect(Collectors.groupingBy(role -> role.getId().getUserId()));
+
+		return users.stream()
+				.filter(user -> rolesByUser.getOrDefault(user.getId(), List.of()).stream()
+						.noneMatch(role -> RetentionUtils.computeRetentionExpiry(role.getThesis()).isAfter(now)))
+				.toList();
+	}
+
 	private UserDeletionResultDto performFullDeletion(User user) {
 		UUID userId = user.getId();
 
 		// Delete remaining applications and their reviewers via JPQL to avoid
 		// Hibernate session conflicts with eagerly-loaded collections.
-		List<Application> remainingApps = applicationRepository.findAllByUserId(userId);
-		for (Application app : remainingApps) {
-			applicationReviewerRepository.deleteByApplicationId(app.getId());
-		}
+		applicationReviewerRepository.deleteAllByApplicationUserIdIn(List.of(userId));
 		applicationRepository.deleteAllByUserId(userId);
 
 		// Delete topic roles
@@ -242,6 +340,10 @@ public class UserDeletionService {
 		// Delete user-owned data (safe to do after anonymizeUser since we don't save the User again)
 		notificationSettingRepository.deleteByUserId(userId);
 		userGroupRepository.deleteByUserId(userId);
+		mailOutboxRepository.deleteAllByRecipientIdIn(List.of(userId));
+
+		// Drop the cached roles and research group of the deleted user
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(userId));
 
 		// Delete files after DB operations succeeded (using pre-collected paths)
 		deleteFilePaths(userFilePaths);
@@ -281,9 +383,12 @@ public class UserDeletionService {
 
 		userRepository.save(user);
 
-		// Delete notification settings and user groups (not needed during retention)
+		// Delete notification settings, user groups and queued mails (not needed during retention)
 		notificationSettingRepository.deleteByUserId(user.getId());
 		userGroupRepository.deleteByUserId(user.getId());
+		mailOutboxRepository.deleteAllByRecipientIdIn(List.of(user.getId()));
+
+		eventPublisher.publishEvent(new PrincipalCache.UserPrincipalChangedEvent(user.getId()));
 
 		log.info("Soft-deleted user account {}, full deletion scheduled for {}", user.getId(), earliestDeletion);
 		return new UserDeletionResultDto("DEACTIVATED",
@@ -324,9 +429,9 @@ public class UserDeletionService {
 	}
 
 	private List<String> collectUserFilePaths(User user) {
-		return java.util.stream.Stream.of(
-				user.getCvFilename(), user.getDegreeFilename(),
-				user.getExaminationFilename(), user.getAvatar())
+		return java.util.stream.Stream.concat(
+				java.util.stream.Stream.of(user.getCvFilename(), user.getDegreeFilename(), user.getExaminationFilename()),
+				AvatarService.getStoredFilenames(user.getAvatar()).stream())
 				.filter(f -> f != null && !f.isBlank())
 				.toList();
 	}
@@ -335,7 +440,7 @@ public class UserDeletionService {
 		uploadService.deleteFile(user.getCvFilename());
 		uploadService.deleteFile(user.getDegreeFilename());
 		uploadService.deleteFile(user.getExaminationFilename());
-		uploadService.deleteFile(user.getAvatar());
+		AvatarService.getStoredFilenames(user.getAvatar()).forEach(uploadService::deleteFile);
 	}
 
 	private void deleteFilePaths(List<String> filenames) {
@@ -388,16 +493,10 @@ public class UserDeletionService {
 	}
 
 	private void deleteExportFiles(List<String> filePaths) {
-		java.nio.file.Path safeBase = dataExportPath.normalize();
 		for (String path : filePaths) {
 			try {
-				java.nio.file.Path filePath = java.nio.file.Path.of(path).normalize();
-				if (filePath.startsWith(safeBase)) {
-					java.nio.file.Files.deleteIfExists(filePath);
-				} else {
-					log.warn("Skipping export file deletion outside expected directory: {}", path);
-				}
-			} catch (java.io.IOException e) {
+				dataExportStorage.delete(DataExportService.exportKey(path));
+			} catch (java.io.IOException | IllegalArgumentException e) {
 				log.warn("Failed to delete export file {}: {}", path, e.getMessage());
 			}
 		}
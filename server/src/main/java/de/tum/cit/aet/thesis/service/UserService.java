@@ -4,8 +4,11 @@ import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.repository.specification.UserSpecifications;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import de.tum.cit.aet.thesis.utility.HibernateHelper;
+import de.tum.cit.aet.thesis.utility.KeysetPage;
+import de.tum.cit.aet.thesis.utility.KeysetPagination;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
@@ -13,6 +16,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -64,15 +68,45 @@ public class UserService {
 	 * @return a page of users matching the filters
 	 */
 	public Page<User> getAll(String searchQuery, String[] groups, Integer page, Integer limit, String sortBy, String sortOrder) {
-		Sort.Order order = new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
+		return userRepository.findAll(searchSpecification(searchQuery, groups), PageRequest.of(page, limit, Sort.by(sortOrder(sortBy, sortOrder))));
+	}
+
+	/**
+	 * Returns the page of users following the cursor, with the same filters as
+	 * {@link #getAll(String, String[], Integer, Integer, String, String)}.
+	 *
+	 * @param searchQuery the search query to filter users
+	 * @param groups the user groups to filter by
+	 * @param cursor the cursor of the previous page, or empty for the first page
+	 * @param includeTotal whether to count all matching users
+	 * @param limit the number of items per page
+	 * @param sortBy the field to sort by
+	 * @param sortOrder the sort direction (asc or desc)
+	 * @return the page of users
+	 */
+	public KeysetPage<User> getAllByCursor(String searchQuery, String[] groups, String cursor, boolean includeTotal, int limit, String sortBy, String sortOrder) {
+		return KeysetPagination.fetch(
+				userRepository,
+				User.class,
+				searchSpecification(searchQuery, groups),
+				sortOrder(sortBy, sortOrder),
+				cursor,
+				limit,
+				includeTotal
+		);
+	}
+
+	private Sort.Order sortOrder(String sortBy, String sortOrder) {
+		return new Sort.Order(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
 				HibernateHelper.validateSortField(User.class, sortBy));
+	}
 
+	private Specification<User> searchSpecification(String searchQuery, String[] groups) {
 		ResearchGroup researchGroup = currentUserProvider().getResearchGroupOrThrow();
 		String searchQueryFilter = searchQuery == null || searchQuery.isEmpty() ? null : searchQuery.toLowerCase();
 		Set<String> groupsFilter = groups == null || groups.length == 0 ? null : new HashSet<>(Arrays.asList(groups));
 
-		return userRepository
-				.searchUsers(researchGroup == null ? null : researchGroup.getId(),searchQueryFilter, groupsFilter, PageRequest.of(page, limit, Sort.by(order)));
+		return UserSpecifications.search(researchGroup == null ? null : researchGroup.getId(), searchQueryFilter, groupsFilter);
 	}
 
 	/**
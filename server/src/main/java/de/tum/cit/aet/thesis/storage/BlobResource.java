@@ -0,0 +1,107 @@
+package de.tum.cit.aet.thesis.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Resource backed by a file in a {@link BlobStorage}. The content is only requested from the storage on
+ * the first read, so skipping ahead before reading, as Spring does for HTTP range requests, becomes a
+ * ranged read instead of downloading and discarding the skipped bytes.
+ */
+public class BlobResource extends AbstractResource {
+	private final BlobStorage storage;
+	private final String key;
+
+	/**
+	 * Creates a resource for the file stored under the given key.
+	 *
+	 * @param storage the storage holding the file
+	 * @param key the key of the file
+	 */
+	public BlobResource(BlobStorage storage, String key) {
+		this.storage = storage;
+		this.key = key;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return new LazyBlobInputStream();
+	}
+
+	@Override
+	public long contentLength() throws IOException {
+		return storage.size(key);
+	}
+
+	@Override
+	public boolean exists() {
+		try {
+			return storage.exists(key);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public String getFilename() {
+		return key.substring(key.lastIndexOf('/') + 1);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Blob [" + key + "]";
+	}
+
+	private class LazyBlobInputStream extends InputStream {
+		private long offset;
+		private long size = -1;
+		private InputStream delegate;
+
+		@Override
+		public int read() throws IOException {
+			return open().read();
+		}
+
+		@Override
+		public int read(byte[] buffer, int off, int len) throws IOException {
+			return open().read(buffer, off, len);
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			if (delegate != null) {
+				return delegate.skip(n);
+			}
+
+			long skipped = Math.max(0, Math.min(n, size() - offset));
+			offset += skipped;
+
+			return skipped;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (delegate != null) {
+				delegate.close();
+			}
+		}
+
+		private InputStream open() throws IOException {
+			if (delegate == null) {
+				delegate = offset == 0 ? storage.get(key) : storage.get(key, offset, size() - offset);
+			}
+
+			return delegate;
+		}
+
+		private long size() throws IOException {
+			if (size < 0) {
+				size = storage.size(key);
+			}
+
+			return size;
+		}
+	}
+}
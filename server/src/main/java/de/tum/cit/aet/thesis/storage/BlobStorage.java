@@ -0,0 +1,104 @@
+package de.tum.cit.aet.thesis.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Stores binary files such as uploads and data exports under flat keys. Implementations keep the
+ * content outside the JVM heap and stream it on reads, so callers never have to buffer whole files.
+ *
+ * <p>Missing keys are reported with a {@link NoSuchFileException}. Keys must not contain {@code ..}
+ * or start with a slash.</p>
+ */
+public interface BlobStorage {
+	/**
+	 * Creates an empty temporary file from which {@link #put(String, Path)} can store content
+	 * efficiently, e.g. on the same file system as the stored files. The caller deletes it afterwards.
+	 *
+	 * @return the path of the temporary file
+	 * @throws IOException if the file cannot be created
+	 */
+	Path createStagingFile() throws IOException;
+
+	/**
+	 * Stores the content of the source file under the given key, replacing an existing file. The source
+	 * file may be moved by this operation; callers should delete it afterwards if it still exists.
+	 *
+	 * @param key the key to store the content under
+	 * @param source the file with the content
+	 * @throws IOException if the content cannot be stored
+	 */
+	void put(String key, Path source) throws IOException;
+
+	/**
+	 * Opens a stream over the stored content.
+	 *
+	 * @param key the key of the file
+	 * @return the content stream, which the caller has to close
+	 * @throws IOException if the file does not exist or cannot be read
+	 */
+	InputStream get(String key) throws IOException;
+
+	/**
+	 * Opens a stream over a byte range of the stored content.
+	 *
+	 * @param key the key of the file
+	 * @param offset the position of the first byte
+	 * @param length the number of bytes to read
+	 * @return the content stream, which the caller has to close
+	 * @throws IOException if the file does not exist or cannot be read
+	 */
+	InputStream get(String key, long offset, long length) throws IOException;
+
+	/**
+	 * Returns the size of the stored content.
+	 *
+	 * @param key the key of the file
+	 * @return the size in bytes
+	 * @throws IOException if the file does not exist or cannot be accessed
+	 */
+	long size(String key) throws IOException;
+
+	/**
+	 * Checks whether a file is stored under the given key.
+	 *
+	 * @param key the key of the file
+	 * @return true if the file exists
+	 * @throws IOException if the storage cannot be accessed
+	 */
+	boolean exists(String key) throws IOException;
+
+	/**
+	 * Deletes the file stored under the given key. Deleting a missing file is not an error.
+	 *
+	 * @param key the key of the file
+	 * @throws IOException if the file cannot be deleted
+	 */
+	void delete(String key) throws IOException;
+
+	/**
+	 * Creates a time-limited URL that allows downloading the file without further authentication.
+	 *
+	 * @param key the key of the file
+	 * @param validity how long the URL stays valid
+	 * @return the URL, or empty if the storage does not support presigned URLs
+	 */
+	Optional<URI> createPresignedUrl(String key, Duration validity);
+
+	/**
+	 * Returns the stored file as a resource that reads the content lazily.
+	 *
+	 * @param key the key of the file
+	 * @return the resource
+	 */
+	default Resource getResource(String key) {
+		return new BlobResource(this, key);
+	}
+}
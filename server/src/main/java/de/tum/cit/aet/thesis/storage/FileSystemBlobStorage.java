@@ -0,0 +1,138 @@
+package de.tum.cit.aet.thesis.storage;
+
+import org.apache.commons.io.input.BoundedInputStream;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Stores files in a local directory. Files are written to a staging file in the same directory first
+ * and atomically moved to their key, so readers never see partially written content.
+ */
+public class FileSystemBlobStorage implements BlobStorage {
+	private static final String STAGING_FILE_PREFIX = ".staging-";
+
+	private final Path root;
+
+	/**
+	 * Creates a storage rooted at the given directory, creating it if necessary.
+	 *
+	 * @param root the directory the files are stored in
+	 */
+	public FileSystemBlobStorage(Path root) {
+		this.root = root.toAbsolutePath().normalize();
+
+		try {
+			Files.createDirectories(this.root);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to create storage directory " + this.root, e);
+		}
+	}
+
+	@Override
+	public Path createStagingFile() throws IOException {
+		return Files.createTempFile(root, STAGING_FILE_PREFIX, ".tmp");
+	}
+
+	@Override
+	public void put(String key, Path source) throws IOException {
+		Path target = resolve(key);
+		Files.createDirectories(target.getParent());
+
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			// The source is on another file system, so copy it next to the target first
+			Path staged = createStagingFile();
+
+			try {
+				Files.copy(source, staged, StandardCopyOption.REPLACE_EXISTING);
+				Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(staged);
+			}
+		}
+	}
+
+	@Override
+	public InputStream get(String key) throws IOException {
+		return Files.newInputStream(resolve(key));
+	}
+
+	@Override
+	public InputStream get(String key, long offset, long length) throws IOException {
+		return openRegion(resolve(key), offset, length);
+	}
+
+	@Override
+	public long size(String key) throws IOException {
+		Path path = resolve(key);
+
+		if (!Files.isRegularFile(path)) {
+			throw new NoSuchFileException(key);
+		}
+
+		return Files.size(path);
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return Files.isRegularFile(resolve(key));
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		Files.deleteIfExists(resolve(key));
+	}
+
+	@Override
+	public Optional<URI> createPresignedUrl(String key, Duration validity) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Resource getResource(String key) {
+		return new FileSystemResource(resolve(key));
+	}
+
+	/** Opens a stream over {@code length} bytes of the file, starting at {@code offset}. */
+	static InputStream openRegion(Path file, long offset, long length) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+
+		try {
+			channel.position(offset);
+
+			return BoundedInputStream.builder()
+					.setInputStream(Channels.newInputStream(channel))
+					.setMaxCount(length)
+					.get();
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private Path resolve(String key) {
+		Path path = root.resolve(key).normalize();
+
+		if (!path.startsWith(root) || path.equals(root)) {
+			throw new IllegalArgumentException("Key resolves outside the storage directory: " + key);
+		}
+
+		return path;
+	}
+}
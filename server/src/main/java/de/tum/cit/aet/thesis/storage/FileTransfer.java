@@ -0,0 +1,123 @@
+package de.tum.cit.aet.thesis.storage;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes files from a {@link FileSystemBlobStorage} to HTTP responses without streaming them through a heap
+ * buffer on the request thread. On Tomcat the transfer is handed to the connector's sendfile support, so the
+ * kernel copies the file to the socket after the request thread has been released. Such transfers are no longer
+ * counted by the {@link de.tum.cit.aet.thesis.utility.DownloadConcurrencyLimiter}. Other containers receive
+ * the file via {@link FileChannel#transferTo}. Resources that are not local files, e.g. from an S3 storage,
+ * are written by the regular Spring converters.
+ */
+public class FileTransfer {
+	static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	/**
+	 * Writes a part of a file as response body. The caller has to set the {@code Content-Length} header
+	 * to {@code count} before.
+	 *
+	 * @param file the file to send
+	 * @param position the offset of the first byte to send
+	 * @param count the number of bytes to send
+	 * @param outputMessage the response
+	 * @throws IOException if the file cannot be read or the client disconnects
+	 */
+	public static void write(Path file, long position, long count, HttpOutputMessage outputMessage) throws IOException {
+		HttpServletRequest request = currentRequest();
+
+		if (request != null && HttpMethod.GET.matches(request.getMethod())
+				&& Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, position);
+			request.setAttribute(SENDFILE_END, position + count);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// Not closed, closing the channel would close the response stream
+			WritableByteChannel target = Channels.newChannel(outputMessage.getBody());
+			long transferred = 0;
+
+			while (transferred < count) {
+				long written = channel.transferTo(position + transferred, count - transferred, target);
+
+				if (written <= 0) {
+					throw new EOFException("File " + file.getFileName() + " ended after " + (position + transferred) + " bytes");
+				}
+
+				transferred += written;
+			}
+		}
+	}
+
+	private static HttpServletRequest currentRequest() {
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			return attributes.getRequest();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Writes full {@link FileSystemResource} response bodies with {@link FileTransfer#write}.
+	 */
+	public static class ResourceConverter extends ResourceHttpMessageConverter {
+		@Override
+		protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+			if (resource instanceof FileSystemResource fileResource) {
+				write(fileResource.getFilePath(), 0, fileResource.contentLength(), outputMessage);
+				return;
+			}
+
+			super.writeContent(resource, outputMessage);
+		}
+	}
+
+	/**
+	 * Writes single byte ranges of {@link FileSystemResource} response bodies with {@link FileTransfer#write}.
+	 * Requests for several ranges at once are rare and still written as multipart stream.
+	 */
+	public static class ResourceRegionConverter extends ResourceRegionHttpMessageConverter {
+		@Override
+		protected void writeResourceRegion(ResourceRegion region, HttpOutputMessage outputMessage) throws IOException {
+			if (!(region.getResource() instanceof FileSystemResource fileResource)) {
+				super.writeResourceRegion(region, outputMessage);
+				return;
+			}
+
+			long resourceLength = fileResource.contentLength();
+			long start = region.getPosition();
+			long end = Math.min(start + region.getCount() - 1, resourceLength - 1);
+			long rangeLength = end - start + 1;
+
+			HttpHeaders headers = outputMessage.getHeaders();
+			headers.add(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + resourceLength);
+			headers.setContentLength(rangeLength);
+
+			write(fileResource.getFilePath(), start, rangeLength, outputMessage);
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package de.tum.cit.aet.thesis.storage;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Stores files in a bucket of an S3-compatible object storage, below a key prefix. Files larger than
+ * {@link #PART_SIZE} are uploaded in parts that are streamed from the source file, and reads are
+ * streamed from the storage, so no file is held in memory as a whole.
+ */
+public class S3BlobStorage implements BlobStorage {
+	/** Size of the parts of a multipart upload. S3 requires at least 5 MiB for all but the last part. */
+	static final long PART_SIZE = 8L * 1024 * 1024;
+
+	private static final String CONTENT_TYPE = "application/octet-stream";
+
+	private final S3Client client;
+	private final S3Presigner presigner;
+	private final String bucket;
+	private final String prefix;
+
+	/**
+	 * Creates a storage for the given bucket and key prefix.
+	 *
+	 * @param client the S3 client
+	 * @param presigner the presigner used to create download URLs
+	 * @param bucket the bucket name
+	 * @param prefix the prefix prepended to all keys, e.g. {@code uploads/}
+	 */
+	public S3BlobStorage(S3Client client, S3Presigner presigner, String bucket, String prefix) {
+		this.client = client;
+		this.presigner = presigner;
+		this.bucket = bucket;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public Path createStagingFile() throws IOException {
+		return Files.createTempFile("blob-", ".tmp");
+	}
+
+	@Override
+	public void put(String key, Path source) throws IOException {
+		String objectKey = objectKey(key);
+		long size = Files.size(source);
+
+		if (size <= PART_SIZE) {
+			call(key, () -> client.putObject(
+					request -> request.bucket(bucket).key(objectKey).contentType(CONTENT_TYPE).contentLength(size),
+					RequestBody.fromFile(source)
+			));
+			return;
+		}
+
+		String uploadId = call(key, () -> client.createMultipartUpload(
+				request -> request.bucket(bucket).key(objectKey).contentType(CONTENT_TYPE)
+		).uploadId());
+
+		try {
+			List<CompletedPart> parts = new ArrayList<>();
+			long offset = 0;
+			int partNumber = 1;
+
+			while (offset < size) {
+				long partOffset = offset;
+				long partLength = Math.min(PART_SIZE, size - offset);
+
+				UploadPartRequest partRequest = UploadPartRequest.builder()
+						.bucket(bucket)
+						.key(objectKey)
+						.uploadId(uploadId)
+						.partNumber(partNumber)
+						.contentLength(partLength)
+						.build();
+
+				// The content provider reopens the file region on retries instead of buffering the part
+				String eTag = call(key, () -> client.uploadPart(partRequest, RequestBody.fromContentProvider(
+						() -> openPart(source, partOffset, partLength), partLength, CONTENT_TYPE
+				)).eTag());
+
+				parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+				offset += partLength;
+				partNumber++;
+			}
+
+			call(key, () -> client.completeMultipartUpload(request -> request
+					.bucket(bucket)
+					.key(objectKey)
+					.uploadId(uploadId)
+					.multipartUpload(upload -> upload.parts(parts))
+			));
+		} catch (IOException | RuntimeException e) {
+			try {
+				client.abortMultipartUpload(request -> request.bucket(bucket).key(objectKey).uploadId(uploadId));
+			} catch (SdkException abortException) {
+				e.addSuppressed(abortException);
+			}
+
+			throw e;
+		}
+	}
+
+	@Override
+	public InputStream get(String key) throws IOException {
+		String objectKey = objectKey(key);
+
+		return call(key, () -> client.getObject(request -> request.bucket(bucket).key(objectKey)));
+	}
+
+	@Override
+	public InputStream get(String key, long offset, long length) throws IOException {
+		String objectKey = objectKey(key);
+
+		if (length <= 0) {
+			return new ByteArrayInputStream(new byte[0]);
+		}
+
+		String range = "bytes=" + offset + "-" + (offset + length - 1);
+
+		return call(key, () -> client.getObject(request -> request.bucket(bucket).key(objectKey).range(range)));
+	}
+
+	@Override
+	public long size(String key) throws IOException {
+		String objectKey = objectKey(key);
+
+		return call(key, () -> client.headObject(request -> request.bucket(bucket).key(objectKey)).contentLength());
+	}
+
+	@Override
+	public boolean exists(String key) throws IOException {
+		try {
+			size(key);
+			return true;
+		} catch (NoSuchFileException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		String objectKey = objectKey(key);
+
+		call(key, () -> client.deleteObject(request -> request.bucket(bucket).key(objectKey)));
+	}
+
+	@Override
+	public Optional<URI> createPresignedUrl(String key, Duration validity) {
+		String objectKey = objectKey(key);
+
+		return Optional.of(URI.create(presigner.presignGetObject(request -> request
+				.signatureDuration(validity)
+				.getObjectRequest(getObject -> getObject.bucket(bucket).key(objectKey))
+		).url().toString()));
+	}
+
+	private String objectKey(String key) {
+		if (key == null || key.isBlank() || key.startsWith("/") || key.contains("..")) {
+			throw new IllegalArgumentException("Invalid storage key: " + key);
+		}
+
+		return prefix + key;
+	}
+
+	private static InputStream openPart(Path source, long offset, long length) {
+		try {
+			return FileSystemBlobStorage.openRegion(source, offset, length);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static <T> T call(String key, Supplier<T> request) throws IOException {
+		try {
+			return request.get();
+		} catch (NoSuchKeyException e) {
+			throw new NoSuchFileException(key);
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				throw new NoSuchFileException(key);
+			}
+
+			throw new IOException("Object storage request for " + key + " failed", e);
+		} catch (SdkException | UncheckedIOException e) {
+			throw new IOException("Object storage request for " + key + " failed", e);
+		}
+	}
+}
@@ -0,0 +1,268 @@
+package de.tum.cit.aet.thesis.utility;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+import java.io.InputStream;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends groups of messages over shared SMTP connections instead of opening a new connection
+ * (including the STARTTLS handshake) for every single message.
+ *
+ * <p>Records the meters {@code thesis.mail.smtp.connect} (connection setup), {@code thesis.mail.smtp.send}
+ * (per message, tagged with the outcome), and {@code thesis.mail.smtp.messages.per.connection}.</p>
+ */
+@Component
+public class BatchingMailSender {
+	private static final Logger log = LoggerFactory.getLogger(BatchingMailSender.class);
+
+	private static final String DEFAULT_PROTOCOL = "smtp";
+
+	private final JavaMailSender javaMailSender;
+	private final int maxMessagesPerConnection;
+
+	private final Timer connectTimer;
+	private final Timer sendSuccessTimer;
+	private final Timer sendFailureTimer;
+	private final DistributionSummary messagesPerConnection;
+
+	/**
+	 * Injects the mail sender, the meter registry, and the connection reuse limit.
+	 *
+	 * @param javaMailSender the configured mail sender
+	 * @param meterRegistry the registry the SMTP meters are registered in
+	 * @param maxMessagesPerConnection the maximum number of messages sent over one SMTP connection
+	 */
+	@Autowired
+	public BatchingMailSender(
+			JavaMailSender javaMailSender,
+			MeterRegistry meterRegistry,
+			@Value("${thesis-management.mail.smtp.max-messages-per-connection:50}") int maxMessagesPerConnection
+	) {
+		this.javaMailSender = javaMailSender;
+		this.maxMessagesPerConnection = Math.max(1, maxMessagesPerConnection);
+
+		this.connectTimer = Timer.builder("thesis.mail.smtp.connect")
+				.description("Time to open and authenticate an SMTP connection")
+				.register(meterRegistry);
+		this.sendSuccessTimer = Timer.builder("thesis.mail.smtp.send")
+				.description("Time to transfer a single message over an open SMTP connection")
+				.tag("outcome", "success")
+				.register(meterRegistry);
+		this.sendFailureTimer = Timer.builder("thesis.mail.smtp.send")
+				.description("Time to transfer a single message over an open SMTP connection")
+				.tag("outcome", "failure")
+				.register(meterRegistry);
+		this.messagesPerConnection = DistributionSummary.builder("thesis.mail.smtp.messages.per.connection")
+				.description("Number of messages sent over a single SMTP connection")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Creates an empty MIME message bound to the configured mail session.
+	 *
+	 * @return a new MIME message
+	 */
+	public MimeMessage createMimeMessage() {
+		return javaMailSender.createMimeMessage();
+	}
+
+	/**
+	 * Parses a MIME message from its serialized form using the configured mail session.
+	 *
+	 * @param contentStream the serialized message
+	 * @return the parsed MIME message
+	 */
+	public MimeMessage createMimeMessage(InputStream contentStream) {
+		return javaMailSender.createMimeMessage(contentStream);
+	}
+
+	/**
+	 * Assembles the message of an item right before it is sent, so that only the message in transfer is
+	 * held in memory.
+	 *
+	 * @param <T> the type of the items messages are assembled from
+	 */
+	@FunctionalInterface
+	public interface MessageAssembler<T> {
+		/**
+		 * Assembles the message of the item.
+		 *
+		 * @param item the item to send
+		 * @return the message to send
+		 * @throws Exception if the message cannot be assembled
+		 */
+		MimeMessage assemble(T item) throws Exception;
+	}
+
+	/**
+	 * Sends all messages, reusing one SMTP connection for up to {@code max-messages-per-connection}
+	 * messages. A failing message does not abort the remaining ones.
+	 *
+	 * @param messages the messages to send
+	 * @return the messages that could not be sent, mapped to the cause, in the order of the input
+	 */
+	public Map<MimeMessage, Exception> send(List<MimeMessage> messages) {
+		return send(messages, message -> message);
+	}
+
+	/**
+	 * Assembles and sends the messages of all items one after another, reusing one SMTP connection for up
+	 * to {@code max-messages-per-connection} messages. An item whose message cannot be assembled or sent
+	 * does not abort the remaining ones.
+	 *
+	 * @param items the items to send
+	 * @param assembler the assembler creating the message of an item
+	 * @param <T> the type of the items
+	 * @return the items that could not be sent, mapped to the cause, in the order of the input
+	 */
+	public <T> Map<T, Exception> send(List<T> items, MessageAssembler<T> assembler) {
+		Map<T, Exception> failedItems = new LinkedHashMap<>();
+
+		if (!(javaMailSender instanceof JavaMailSenderImpl sender)) {
+			for (T item : items) {
+				try {
+					javaMailSender.send(assembler.assemble(item));
+				} catch (Exception e) {
+					failedItems.put(item, e);
+				}
+			}
+
+			return failedItems;
+		}
+
+		for (int start = 0; start < items.size(); start += maxMessagesPerConnection) {
+			List<T> chunk = items.subList(start, Math.min(start + maxMessagesPerConnection, items.size()));
+
+			sendOverSingleConnection(sender, chunk, assembler, failedItems);
+		}
+
+		return failedItems;
+	}
+
+	private <T> void sendOverSingleConnection(
+			JavaMailSenderImpl sender,
+			List<T> items,
+			MessageAssembler<T> assembler,
+			Map<T, Exception> failedItems
+	) {
+		Transport transport = null;
+		int sentMessages = 0;
+
+		try {
+			for (int index = 0; index < items.size(); index++) {
+				T item = items.get(index);
+
+				MimeMessage message;
+				try {
+					message = assembler.assemble(item);
+				} catch (Exception e) {
+					failedItems.put(item, e);
+					continue;
+				}
+
+				try {
+					if (transport == null || !transport.isConnected()) {
+						closeQuietly(transport);
+						transport = connect(sender);
+					}
+				} catch (MessagingException e) {
+					// The relay is not reachable, so there is no point in trying the remaining messages
+					for (T remaining : items.subList(index, items.size())) {
+						failedItems.put(remaining, e);
+					}
+					return;
+				}
+
+				long start = System.nanoTime();
+				try {
+					Address[] recipients = message.getAllRecipients();
+					if (recipients == null || recipients.length == 0) {
+						throw new MessagingException("Message has no recipients");
+					}
+
+					if (message.getSentDate() == null) {
+						message.setSentDate(new Date());
+					}
+
+					transport.sendMessage(message, recipients);
+
+					sendSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					sentMessages++;
+				} catch (Exception e) {
+					sendFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					failedItems.put(item, e);
+				}
+			}
+		} finally {
+			closeQuietly(transport);
+
+			if (sentMessages > 0) {
+				messagesPerConnection.record(sentMessages);
+			}
+		}
+	}
+
+	private Transport connect(JavaMailSenderImpl sender) throws MessagingException {
+		Session session = sender.getSession();
+
+		String protocol = sender.getProtocol();
+		if (protocol == null) {
+			protocol = session.getProperty("mail.transport.protocol");
+		}
+		if (protocol == null) {
+			protocol = DEFAULT_PROTOCOL;
+		}
+
+		String username = sender.getUsername();
+		String password = sender.getPassword();
+		if ("".equals(username)) {
+			username = null;
+			if ("".equals(password)) {
+				password = null;
+			}
+		}
+
+		Transport transport = session.getTransport(protocol);
+
+		long start = System.nanoTime();
+		try {
+			transport.connect(sender.getHost(), sender.getPort(), username, password);
+		} finally {
+			connectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+
+		return transport;
+	}
+
+	private static void closeQuietly(Transport transport) {
+		if (transport == null) {
+			return;
+		}
+
+		try {
+			transport.close();
+		} catch (MessagingException e) {
+			log.debug("Failed to close SMTP connection: {}", e.getMessage());
+		}
+	}
+}
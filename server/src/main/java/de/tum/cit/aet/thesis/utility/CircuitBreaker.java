@@ -0,0 +1,121 @@
+package de.tum.cit.aet.thesis.utility;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Minimal circuit breaker for calls to a remote service. After {@code failureThreshold} consecutive
+ * failures the circuit opens and calls fail immediately for {@code openDuration}. Afterwards a single
+ * trial call is let through; its outcome closes the circuit again or keeps it open.
+ */
+public class CircuitBreaker {
+	private enum State { CLOSED, OPEN, HALF_OPEN }
+
+	private record Status(State state, Instant openUntil) { }
+
+	private static final Status CLOSED = new Status(State.CLOSED, null);
+
+	private final int failureThreshold;
+	private final Duration openDuration;
+	private final Predicate<Throwable> recordFailure;
+	private final Supplier<? extends RuntimeException> openException;
+
+	private final AtomicReference<Status> status = new AtomicReference<>(CLOSED);
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+	/**
+	 * Creates a closed circuit breaker.
+	 *
+	 * @param failureThreshold the number of consecutive failures that open the circuit
+	 * @param openDuration how long the circuit stays open before a trial call is allowed
+	 * @param recordFailure decides whether an error counts as a failure of the remote service
+	 * @param openException creates the exception returned while the circuit is open
+	 */
+	public CircuitBreaker(
+			int failureThreshold,
+			Duration openDuration,
+			Predicate<Throwable> recordFailure,
+			Supplier<? extends RuntimeException> openException
+	) {
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.recordFailure = recordFailure;
+		this.openException = openException;
+	}
+
+	/**
+	 * Guards the given call. The call is only subscribed if the circuit allows it.
+	 *
+	 * @param call the remote call
+	 * @param <T> the result type
+	 * @return the guarded call
+	 */
+	public <T> Mono<T> run(Mono<T> call) {
+		return Mono.defer(() -> {
+			if (!tryAcquire()) {
+				return Mono.error(openException.get());
+			}
+
+			return call
+					.doOnSuccess(ignored -> onSuccess())
+					.doOnError(error -> {
+						if (recordFailure.test(error)) {
+							onFailure();
+						} else {
+							onSuccess();
+						}
+					})
+					.doOnCancel(this::onCancel);
+		});
+	}
+
+	/**
+	 * Returns whether the circuit currently rejects calls.
+	 *
+	 * @return true if the circuit is open
+	 */
+	public boolean isOpen() {
+		Status current = status.get();
+
+		return current.state() == State.OPEN && Instant.now().isBefore(current.openUntil());
+	}
+
+	private boolean tryAcquire() {
+		Status current = status.get();
+
+		return switch (current.state()) {
+			case CLOSED -> true;
+			case HALF_OPEN -> false;
+			case OPEN -> !Instant.now().isBefore(current.openUntil())
+					&& status.compareAndSet(current, new Status(State.HALF_OPEN, null));
+		};
+	}
+
+	private void onSuccess() {
+		consecutiveFailures.set(0);
+		status.set(CLOSED);
+	}
+
+	private void onFailure() {
+		Status current = status.get();
+
+		if (current.state() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+			status.set(new Status(State.OPEN, Instant.now().plus(openDuration)));
+		}
+	}
+
+	private void onCancel() {
+		// A cancelled trial call must not leave the circuit half-open forever
+		Status current = status.get();
+
+		if (current.state() == State.HALF_OPEN) {
+			status.compareAndSet(current, new Status(State.OPEN, Instant.now().plus(openDuration)));
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package de.tum.cit.aet.thesis.utility;
+
+import de.tum.cit.aet.thesis.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits how many file downloads a single user can run at the same time, so that a few clients opening
+ * many large PDFs in parallel cannot occupy the server while others wait. Anonymous downloads, e.g. of
+ * published theses, are limited per client IP address, which is taken from the forwarded headers of the
+ * reverse proxy (see {@code server.forward-headers-strategy}). Downloads above the limit are answered with 429.
+ *
+ * <p>A download counts until the request has been handled. Streamed transfers are written while handling
+ * the request, but files handed to Tomcat's sendfile support (see {@link de.tum.cit.aet.thesis.storage.FileTransfer})
+ * are copied by the connector afterwards and no longer count. The limit therefore bounds the request
+ * threads occupied by downloads, not the number of concurrent sendfile transfers.</p>
+ */
+@Component
+public class DownloadConcurrencyLimiter implements HandlerInterceptor {
+	private static final String KEY_ATTRIBUTE = DownloadConcurrencyLimiter.class.getName() + ".key";
+
+	private final int maxConcurrentDownloads;
+	private final ConcurrentHashMap<String, Integer> activeDownloads = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the limiter.
+	 *
+	 * @param maxConcurrentDownloads the number of downloads a user can run at the same time
+	 */
+	public DownloadConcurrencyLimiter(
+			@Value("${thesis-management.storage.max-concurrent-downloads-per-user:4}") int maxConcurrentDownloads
+	) {
+		this.maxConcurrentDownloads = maxConcurrentDownloads;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!HttpMethod.GET.matches(request.getMethod())) {
+			return true;
+		}
+
+		String key = downloadKey(request);
+
+		if (activeDownloads.merge(key, 1, Integer::sum) > maxConcurrentDownloads) {
+			release(key);
+			throw new TooManyRequestsException("Too many concurrent downloads. Please wait until your other downloads have finished.");
+		}
+
+		request.setAttribute(KEY_ATTRIBUTE, key);
+
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (request.getAttribute(KEY_ATTRIBUTE) instanceof String key) {
+			request.removeAttribute(KEY_ATTRIBUTE);
+			release(key);
+		}
+	}
+
+	int getActiveDownloads(String key) {
+		return activeDownloads.getOrDefault(key, 0);
+	}
+
+	private void release(String key) {
+		activeDownloads.computeIfPresent(key, (ignored, count) -> count > 1 ? count - 1 : null);
+	}
+
+	private static String downloadKey(HttpServletRequest request) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+		if (authentication == null || !authentication.isAuthenticated()
+				|| authentication instanceof AnonymousAuthenticationToken) {
+			// Resolved to the client address by the forwarded header handling, not the address of the proxy
+			return "ip:" + request.getRemoteAddr();
+		}
+
+		return "user:" + authentication.getName();
+	}
+}
@@ -0,0 +1,85 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders email bodies and keeps the parsed form of database-stored templates in the template
+ * engine's cache, keyed by template id and last update. Ad-hoc bodies without a template id are
+ * parsed on every call.
+ */
+@Component
+public class EmailTemplateCache {
+	private final TemplateEngine templateEngine;
+
+	private final Map<UUID, String> cachedVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * Injects the Thymeleaf template engine.
+	 *
+	 * @param templateEngine the Thymeleaf template engine
+	 */
+	@Autowired
+	public EmailTemplateCache(TemplateEngine templateEngine) {
+		this.templateEngine = templateEngine;
+	}
+
+	/**
+	 * Renders the given template HTML. If a template id is given, the parsed template is reused
+	 * for all subsequent calls with the same id and update timestamp.
+	 *
+	 * @param templateId the email template ID, or null for templates that are not stored
+	 * @param updatedAt the last update of the email template
+	 * @param templateHtml the HTML template body
+	 * @param context the template variables
+	 * @return the rendered HTML
+	 */
+	public String process(UUID templateId, Instant updatedAt, String templateHtml, IContext context) {
+		if (templateId == null) {
+			return templateEngine.process(templateHtml, context);
+		}
+
+		String templateName = EmailTemplateResolver.templateName(templateId, updatedAt);
+		String previousName = cachedVersions.put(templateId, templateName);
+
+		if (previousName != null && !previousName.equals(templateName)) {
+			templateEngine.clearTemplateCacheFor(previousName);
+		}
+
+		TemplateSpec templateSpec = new TemplateSpec(
+				templateName,
+				null,
+				TemplateMode.HTML,
+				Map.of(EmailTemplateResolver.SOURCE_ATTRIBUTE, Objects.requireNonNullElse(templateHtml, ""))
+		);
+
+		return templateEngine.process(templateSpec, context);
+	}
+
+	/**
+	 * Removes all cached versions of an email template.
+	 *
+	 * @param templateId the email template ID
+	 */
+	public void evict(UUID templateId) {
+		if (templateId == null) {
+			return;
+		}
+
+		String templateName = cachedVersions.remove(templateId);
+
+		if (templateName != null) {
+			templateEngine.clearTemplateCacheFor(templateName);
+		}
+	}
+}
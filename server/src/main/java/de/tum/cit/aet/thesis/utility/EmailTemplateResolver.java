@@ -0,0 +1,78 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.cache.AlwaysValidCacheEntryValidity;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import org.thymeleaf.templateresolver.TemplateResolution;
+import org.thymeleaf.templateresource.StringTemplateResource;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resolves database-stored email templates by a name derived from the template id and its last
+ * update. The HTML source is handed over as a resolution attribute, and the resolution is marked
+ * as cacheable so that the template engine parses every template version only once.
+ */
+public class EmailTemplateResolver implements ITemplateResolver {
+	public static final String NAME_PREFIX = "email-template:";
+	public static final String SOURCE_ATTRIBUTE = "emailTemplateSource";
+
+	private final int order;
+
+	/**
+	 * Creates a resolver with the given position in the template engine's resolver chain.
+	 *
+	 * @param order the resolver order
+	 */
+	public EmailTemplateResolver(int order) {
+		this.order = order;
+	}
+
+	/**
+	 * Builds the template name identifying a specific version of a stored email template.
+	 *
+	 * @param templateId the email template ID
+	 * @param updatedAt the last update of the email template
+	 * @return the template name
+	 */
+	public static String templateName(UUID templateId, Instant updatedAt) {
+		return NAME_PREFIX + templateId + ":" + (updatedAt == null ? 0 : updatedAt.toEpochMilli());
+	}
+
+	@Override
+	public String getName() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public Integer getOrder() {
+		return order;
+	}
+
+	@Override
+	public TemplateResolution resolveTemplate(
+			IEngineConfiguration configuration,
+			String ownerTemplate,
+			String template,
+			Map<String, Object> templateResolutionAttributes
+	) {
+		if (template == null || !template.startsWith(NAME_PREFIX) || templateResolutionAttributes == null) {
+			return null;
+		}
+
+		if (!(templateResolutionAttributes.get(SOURCE_ATTRIBUTE) instanceof String source)) {
+			return null;
+		}
+
+		return new TemplateResolution(
+				new StringTemplateResource(source),
+				true,
+				TemplateMode.HTML,
+				false,
+				AlwaysValidCacheEntryValidity.INSTANCE
+		);
+	}
+}
@@ -0,0 +1,38 @@
+package de.tum.cit.aet.thesis.utility;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) paginated result.
+ *
+ * @param content the entries of the page
+ * @param pageSize the requested page size
+ * @param nextCursor the opaque cursor of the next page, or null if this is the last page
+ * @param totalElements the total number of matching entries, or null if it was not requested
+ * @param <T> the entry type
+ */
+public record KeysetPage<T>(List<T> content, int pageSize, String nextCursor, Long totalElements) {
+	/**
+	 * Converts the entries of the page while keeping the cursor and total.
+	 *
+	 * @param converter the function applied to every entry
+	 * @param <R> the converted entry type
+	 * @return the converted page
+	 */
+	public <R> KeysetPage<R> map(Function<? super T, ? extends R> converter) {
+		return new KeysetPage<>(content.stream().<R>map(converter).toList(), pageSize, nextCursor, totalElements);
+	}
+
+	/**
+	 * Replaces the entries of the page while keeping the cursor and total, e.g. after converting all
+	 * rows of the page at once.
+	 *
+	 * @param content the new entries, in the order of the current ones
+	 * @param <R> the new entry type
+	 * @return the page with the new entries
+	 */
+	public <R> KeysetPage<R> withContent(List<R> content) {
+		return new KeysetPage<>(content, pageSize, nextCursor, totalElements);
+	}
+}
@@ -0,0 +1,260 @@
+package de.tum.cit.aet.thesis.utility;
+
+import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset (cursor) pagination for specification based searches. Instead of skipping {@code page * limit}
+ * rows, every page continues after the sort value and id of the last entry of the previous page, so deep
+ * pages cost the same as the first one. The total count is only computed if requested.
+ *
+ * <p>Cursors are opaque to clients. They encode the sort field, the sort direction, the sort value and
+ * the id of the last entry and are only valid for the same sort.</p>
+ */
+public class KeysetPagination {
+	private static final String ID_PROPERTY = "id";
+	private static final String SEPARATOR = "|";
+	private static final String VALUE_PREFIX = "=";
+
+	/**
+	 * Loads the page following the cursor, ordered by the given sort order and the entity id.
+	 *
+	 * @param repository the repository to query
+	 * @param entityClass the entity class, used to resolve the type of the sort field
+	 * @param specification the filters of the search
+	 * @param order the requested sort order
+	 * @param cursor the cursor returned with the previous page, or null or empty for the first page
+	 * @param limit the maximum number of entries on the page
+	 * @param includeTotal whether to count all matching entries
+	 * @param <T> the entity type
+	 * @return the page
+	 */
+	public static <T> KeysetPage<T> fetch(
+			JpaSpecificationExecutor<T> repository,
+			Class<T> entityClass,
+			Specification<T> specification,
+			Sort.Order order,
+			String cursor,
+			int limit,
+			boolean includeTotal
+	) {
+		return fetch(
+				repository,
+				entityClass,
+				entityClass,
+				specification,
+				order,
+				cursor,
+				limit,
+				includeTotal,
+				(pageSpecification, sort, rowLimit) -> repository.<T, List<T>>findBy(
+						pageSpecification,
+						query -> query.sortBy(sort).limit(rowLimit).all()
+				)
+		);
+	}
+
+	/**
+	 * Loads the page following the cursor like {@link #fetch(JpaSpecificationExecutor, Class, Specification, Sort.Order, String, int, boolean)},
+	 * but reads the rows with the given loader, e.g. as a DTO projection. The row type must have an {@code id}
+	 * field and a field named like the sort property, so the cursor can be built from the last row.
+	 *
+	 * @param repository the repository used to count the matching entries
+	 * @param entityClass the entity class, used to resolve the type of the sort field
+	 * @param rowClass the type of the loaded rows
+	 * @param specification the filters of the search
+	 * @param order the requested sort order
+	 * @param cursor the cursor returned with the previous page, or null or empty for the first page
+	 * @param limit the maximum number of entries on the page
+	 * @param includeTotal whether to count all matching entries
+	 * @param loader loads the rows matching a specification in the given order
+	 * @param <T> the entity type
+	 * @param <R> the row type
+	 * @return the page
+	 */
+	public static <T, R> KeysetPage<R> fetch(
+			JpaSpecificationExecutor<T> repository,
+			Class<T> entityClass,
+			Class<R> rowClass,
+			Specification<T> specification,
+			Sort.Order order,
+			String cursor,
+			int limit,
+			boolean includeTotal,
+			RowLoader<T, R> loader
+	) {
+		Class<?> sortType = resolveSortType(entityClass, order.getProperty());
+
+		if (rowClass != entityClass && !hasField(rowClass, order.getProperty())) {
+			throw new ResourceInvalidParametersException("Sorting by " + order.getProperty() + " is not supported with cursor pagination");
+		}
+
+		Sort sort = Sort.by(order, new Sort.Order(order.getDirection(), ID_PROPERTY));
+
+		Specification<T> pageSpecification = specification;
+		if (cursor != null && !cursor.isEmpty()) {
+			pageSpecification = specification.and(after(decode(cursor, order, sortType), order.getDirection()));
+		}
+
+		List<R> rows = loader.load(pageSpecification, sort, limit + 1);
+
+		boolean hasNext = rows.size() > limit;
+		List<R> content = hasNext ? rows.subList(0, limit) : rows;
+
+		return new KeysetPage<>(
+				List.copyOf(content),
+				limit,
+				hasNext ? encode(content.getLast(), order) : null,
+				includeTotal ? repository.count(specification) : null
+		);
+	}
+
+	/**
+	 * Loads the rows of a page.
+	 *
+	 * @param <T> the entity type
+	 * @param <R> the row type
+	 */
+	@FunctionalInterface
+	public interface RowLoader<T, R> {
+		/**
+		 * Loads at most {@code limit} rows matching the specification in the given order.
+		 *
+		 * @param specification the filters including the cursor position
+		 * @param sort the sort order
+		 * @param limit the maximum number of rows
+		 * @return the rows
+		 */
+		List<R> load(Specification<T> specification, Sort sort, int limit);
+	}
+
+	private record Cursor(String property, UUID id, Comparable<?> value) {}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <T> Specification<T> after(Cursor cursor, Sort.Direction direction) {
+		return (root, query, cb) -> {
+			Path<Comparable> value = root.get(cursor.property());
+			Path<UUID> id = root.get(ID_PROPERTY);
+			boolean ascending = direction.isAscending();
+
+			Predicate idAfter = ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+			// PostgreSQL sorts NULL values last in ascending and first in descending order
+			if (cursor.value() == null) {
+				Predicate nullsAfter = cb.and(cb.isNull(value), idAfter);
+
+				return ascending ? nullsAfter : cb.or(nullsAfter, cb.isNotNull(value));
+			}
+
+			Comparable cursorValue = cursor.value();
+			Predicate valueAfter = ascending ? cb.greaterThan(value, cursorValue) : cb.lessThan(value, cursorValue);
+			Predicate sameValue = cb.and(cb.equal(value, cursorValue), idAfter);
+
+			return ascending ? cb.or(valueAfter, sameValue, cb.isNull(value)) : cb.or(valueAfter, sameValue);
+		};
+	}
+
+	private static String encode(Object row, Sort.Order order) {
+		PropertyAccessor accessor = PropertyAccessorFactory.forDirectFieldAccess(row);
+		Object value = accessor.getPropertyValue(order.getProperty());
+
+		String token = String.join(SEPARATOR,
+				order.getProperty(),
+				order.getDirection().name(),
+				String.valueOf(accessor.getPropertyValue(ID_PROPERTY)),
+				value == null ? "" : VALUE_PREFIX + (value instanceof Enum<?> enumValue ? enumValue.name() : value.toString())
+		);
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Cursor decode(String cursor, Sort.Order order, Class<?> sortType) {
+		try {
+			String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = token.split("\\" + SEPARATOR, 4);
+
+			if (parts.length != 4 || !parts[0].equals(order.getProperty()) || !parts[1].equals(order.getDirection().name())) {
+				throw new ResourceInvalidParametersException("Cursor does not match the requested sort order");
+			}
+
+			Comparable<?> value = parts[3].startsWith(VALUE_PREFIX) ? parseValue(sortType, parts[3].substring(VALUE_PREFIX.length())) : null;
+
+			return new Cursor(parts[0], UUID.fromString(parts[2]), value);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new ResourceInvalidParametersException("Invalid cursor");
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Comparable<?> parseValue(Class<?> type, String value) {
+		if (type == String.class) {
+			return value;
+		}
+		if (type == Instant.class) {
+			return Instant.parse(value);
+		}
+		if (type == UUID.class) {
+			return UUID.fromString(value);
+		}
+		if (type == Integer.class || type == int.class) {
+			return Integer.valueOf(value);
+		}
+		if (type == Long.class || type == long.class) {
+			return Long.valueOf(value);
+		}
+		if (type == Boolean.class || type == boolean.class) {
+			return Boolean.valueOf(value);
+		}
+		if (type == BigDecimal.class) {
+			return new BigDecimal(value);
+		}
+
+		return Enum.valueOf((Class<Enum>) type, value);
+	}
+
+	private static boolean hasField(Class<?> type, String name) {
+		try {
+			type.getDeclaredField(name);
+			return true;
+		} catch (NoSuchFieldException e) {
+			return false;
+		}
+	}
+
+	private static Class<?> resolveSortType(Class<?> entityClass, String property) {
+		Class<?> type;
+
+		try {
+			Field field = entityClass.getDeclaredField(property);
+			type = field.getType();
+		} catch (NoSuchFieldException e) {
+			throw new ResourceInvalidParametersException("Invalid sort field: " + property);
+		}
+
+		boolean supported = type == String.class || type == Instant.class || type == UUID.class || type == BigDecimal.class
+				|| type == Integer.class || type == int.class || type == Long.class || type == long.class
+				|| type == Boolean.class || type == boolean.class || type.isEnum();
+
+		if (!supported) {
+			throw new ResourceInvalidParametersException("Sorting by " + property + " is not supported with cursor pagination");
+		}
+
+		return type;
+	}
+}
@@ -2,6 +2,7 @@ package de.tum.cit.aet.thesis.utility;
 
 import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.entity.Application;
+import de.tum.cit.aet.thesis.entity.EmailTemplate;
 import de.tum.cit.aet.thesis.entity.InterviewSlot;
 import de.tum.cit.aet.thesis.entity.Interviewee;
 import de.tum.cit.aet.thesis.entity.Thesis;
@@ -12,6 +13,8 @@ import de.tum.cit.aet.thesis.entity.ThesisProposal;
 import de.tum.cit.aet.thesis.entity.ThesisRole;
 import de.tum.cit.aet.thesis.entity.Topic;
 import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.exception.MailingException;
+import de.tum.cit.aet.thesis.exception.UploadException;
 import de.tum.cit.aet.thesis.mailvariables.MailApplication;
 import de.tum.cit.aet.thesis.mailvariables.MailInterviewSlot;
 import de.tum.cit.aet.thesis.mailvariables.MailThesis;
@@ -20,17 +23,16 @@ import de.tum.cit.aet.thesis.mailvariables.MailThesisComment;
 import de.tum.cit.aet.thesis.mailvariables.MailThesisPresentation;
 import de.tum.cit.aet.thesis.mailvariables.MailThesisProposal;
 import de.tum.cit.aet.thesis.mailvariables.MailUser;
+import de.tum.cit.aet.thesis.service.MailOutboxService;
 import de.tum.cit.aet.thesis.service.UploadService;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.context.Context;
 
-import jakarta.activation.DataHandler;
-import jakarta.activation.FileDataSource;
 import jakarta.mail.BodyPart;
 import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
 import jakarta.mail.Multipart;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeBodyPart;
@@ -38,6 +40,8 @@ import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeMultipart;
 import jakarta.mail.util.ByteArrayDataSource;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -64,6 +68,9 @@ public class MailBuilder {
 	@Getter
 	private final String templateHtml;
 
+	private final UUID templateId;
+	private final Instant templateUpdatedAt;
+
 	@Getter
 	private final Map<String, Object> variables;
 
@@ -87,6 +94,21 @@ public class MailBuilder {
 	 * @param templateHtml the HTML template body
 	 */
 	public MailBuilder(MailConfig config, String subject, String templateHtml) {
+		this(config, subject, templateHtml, null, null);
+	}
+
+	/**
+	 * Creates a new mail builder for a stored email template. The parsed template is cached per
+	 * template version and reused for all recipients and subsequent mails.
+	 *
+	 * @param config the mail configuration
+	 * @param emailTemplate the stored email template
+	 */
+	public MailBuilder(MailConfig config, EmailTemplate emailTemplate) {
+		this(config, emailTemplate.getSubject(), emailTemplate.getBodyHtml(), emailTemplate.getId(), emailTemplate.getUpdatedAt());
+	}
+
+	private MailBuilder(MailConfig config, String subject, String templateHtml, UUID templateId, Instant templateUpdatedAt) {
 		this.config = config;
 
 		this.primarySenders = new ArrayList<>();
@@ -96,6 +118,8 @@ public class MailBuilder {
 
 		this.subject = subject;
 		this.templateHtml = templateHtml;
+		this.templateId = templateId;
+		this.templateUpdatedAt = templateUpdatedAt;
 
 		this.variables = new HashMap<>();
 		this.variables.put("config", config.getConfigDto());
@@ -503,12 +527,14 @@ public class MailBuilder {
 	}
 
 	/**
-	 * Renders and sends the email with all configured recipients, placeholders, and attachments.
+	 * Renders the email for all configured recipients and queues it in the mail outbox.
 	 *
-	 * @param mailSender the mail sender
+	 * @param mailOutboxService the outbox the rendered messages are written to
 	 * @param uploadService upload service used for stored attachments
+	 * @throws MailingException if a message cannot be created or queued, so that the calling transaction is rolled back
+	 * @throws UploadException if a stored attachment does not exist
 	 */
-	public void send(JavaMailSender mailSender, UploadService uploadService) {
+	public void send(MailOutboxService mailOutboxService, UploadService uploadService) {
 		List<User> toRecipients = new ArrayList<>();
 		List<User> ccRecipients = new ArrayList<>();
 
@@ -544,62 +570,87 @@ public class MailBuilder {
 		if (toRecipients.isEmpty()) {
 			log.info("No recipients for email with subject '{}' after filtering (primary={}, notifications={})",
 					subject, primaryRecipients.size(), notificationNames);
+			return;
 		}
 
+		List<MailOutboxService.Attachment> attachments = prepareAttachments(uploadService);
+
 		for (User recipient : toRecipients) {
-			try {
-				MimeMessage message = mailSender.createMimeMessage();
+			MimeMessage message = createMessage(mailOutboxService, recipient, ccRecipients);
 
-				message.setFrom("ThesisManagement <" + config.getSender().getAddress() + ">");
-				message.setSender(config.getSender());
+			if (config.isEnabled()) {
+				mailOutboxService.enqueue(message, recipient.getId(), attachments);
+			} else {
+				log.debug("Sending Mail (postfix disabled)\n{}", MailLogger.getTextFromMimeMessage(message));
+			}
+		}
+	}
 
-				message.addRecipient(Message.RecipientType.TO, recipient.getEmail());
+	/**
+	 * Renders the message for a single recipient. Failures are rethrown so that the caller's transaction,
+	 * and with it every mail queued so far, is rolled back.
+	 */
+	private MimeMessage createMessage(MailOutboxService mailOutboxService, User recipient, List<User> ccRecipients) {
+		try {
+			MimeMessage message = mailOutboxService.createMimeMessage();
 
-				for (User secondaryRecipient : ccRecipients) {
-					message.addRecipient(Message.RecipientType.CC, secondaryRecipient.getEmail());
-				}
+			message.setFrom("ThesisManagement <" + config.getSender().getAddress() + ">");
+			message.setSender(config.getSender());
 
-				for (InternetAddress address : bccRecipients) {
-					message.addRecipient(Message.RecipientType.BCC, address);
-				}
+			message.addRecipient(Message.RecipientType.TO, recipient.getEmail());
 
-				Context templateContext = new Context();
-				templateContext.setVariables(this.variables);
-				templateContext.setVariable("recipient", MailUser.fromUser(recipient));
-				templateContext.setVariable("DataFormatter", DataFormatter.class);
+			for (User secondaryRecipient : ccRecipients) {
+				message.addRecipient(Message.RecipientType.CC, secondaryRecipient.getEmail());
+			}
 
-				message.setSubject(subject);
+			for (InternetAddress address : bccRecipients) {
+				message.addRecipient(Message.RecipientType.BCC, address);
+			}
 
-				Multipart messageContent = new MimeMultipart();
+			Context templateContext = new Context();
+			templateContext.setVariables(this.variables);
+			templateContext.setVariable("recipient", MailUser.fromUser(recipient));
+			templateContext.setVariable("DataFormatter", DataFormatter.class);
 
-				BodyPart messageBody = new MimeBodyPart();
-				messageBody.setContent(config.getTemplateEngine().process(templateHtml, templateContext), "text/html; charset=utf-8");
-				messageContent.addBodyPart(messageBody);
+			message.setSubject(subject);
 
-				for (StoredAttachment data : fileAttachments) {
-					MimeBodyPart attachment = new MimeBodyPart();
-					attachment.setDataHandler(new DataHandler(new FileDataSource(uploadService.load(data.file()).getFile())));
-					attachment.setFileName(data.filename());
-					messageContent.addBodyPart(attachment);
-				}
+			Multipart messageContent = new MimeMultipart();
 
-				for (RawAttachment data : rawAttachments) {
-					MimeBodyPart attachment = new MimeBodyPart();
-					attachment.setDataHandler(new DataHandler(data.file()));
-					attachment.setFileName(data.filename());
-					messageContent.addBodyPart(attachment);
-				}
+			BodyPart messageBody = new MimeBodyPart();
+			messageBody.setContent(config.getTemplateCache().process(templateId, templateUpdatedAt, templateHtml, templateContext), "text/html; charset=utf-8");
+			messageContent.addBodyPart(messageBody);
 
-				message.setContent(messageContent);
+			message.setContent(messageContent);
 
-				if (config.isEnabled()) {
-					mailSender.send(message);
-				} else {
-					log.debug("Sending Mail (postfix disabled)\n{}", MailLogger.getTextFromMimeMessage(message));
-				}
-			} catch (Exception exception) {
-				log.warn("Failed to send email '{}' to {}", subject, recipient.getUniversityId(), exception);
+			return message;
+		} catch (MessagingException exception) {
+			throw new MailingException("Failed to create email '" + subject + "'", exception);
+		}
+	}
+
+	/**
+	 * Collects the attachments once for all recipients. Stored files are only referenced and read from
+	 * the storage while each message is sent, but they have to exist so that no mail is queued that can
+	 * never be delivered.
+	 */
+	private List<MailOutboxService.Attachment> prepareAttachments(UploadService uploadService) {
+		List<MailOutboxService.Attachment> attachments = new ArrayList<>();
+
+		for (StoredAttachment data : fileAttachments) {
+			// Fails if the file does not exist without reading its content
+			uploadService.load(data.file());
+			attachments.add(MailOutboxService.Attachment.stored(data.file(), data.filename()));
+		}
+
+		for (RawAttachment data : rawAttachments) {
+			try {
+				attachments.add(MailOutboxService.Attachment.inMemory(
+						data.file().getInputStream().readAllBytes(), data.file().getContentType(), data.filename()));
+			} catch (IOException exception) {
+				throw new MailingException("Failed to read attachment '" + data.filename() + "'", exception);
 			}
 		}
+
+		return attachments;
 	}
 }
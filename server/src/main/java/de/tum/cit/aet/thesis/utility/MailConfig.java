@@ -6,7 +6,6 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.thymeleaf.TemplateEngine;
 
 import jakarta.mail.internet.InternetAddress;
 
@@ -29,16 +28,16 @@ public class MailConfig {
 	private final InternetAddress sender;
 
 	@Getter
-	private final TemplateEngine templateEngine;
+	private final EmailTemplateCache templateCache;
 
 	/**
-	 * Injects mail-related configuration properties, the user repository, and the template engine.
+	 * Injects mail-related configuration properties, the user repository, and the email template cache.
 	 *
 	 * @param enabled whether email sending is enabled
 	 * @param sender the sender email address
 	 * @param clientHost the client host URL
 	 * @param userRepository the user repository
-	 * @param templateEngine the Thymeleaf template engine
+	 * @param templateCache the cache used to render email templates
 	 */
 	@Autowired
 	public MailConfig(
@@ -46,7 +45,7 @@ public class MailConfig {
 			@Value("${thesis-management.mail.sender}") InternetAddress sender,
 			@Value("${thesis-management.client.host}") String clientHost,
 			UserRepository userRepository,
-			TemplateEngine templateEngine
+			EmailTemplateCache templateCache
 	) {
 		this.enabled = enabled;
 		this.sender = sender;
@@ -54,7 +53,7 @@ public class MailConfig {
 		// without producing double-slash URLs (e.g. ".../interview_booking/...").
 		this.clientHost = clientHost == null ? null : clientHost.replaceAll("/+$", "");
 
-		this.templateEngine = templateEngine;
+		this.templateCache = templateCache;
 		this.userRepository = userRepository;
 	}
 
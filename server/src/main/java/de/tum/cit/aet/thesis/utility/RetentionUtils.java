@@ -1,5 +1,6 @@
 package de.tum.cit.aet.thesis.utility;
 
+import de.tum.cit.aet.thesis.constants.ThesisState;
 import de.tum.cit.aet.thesis.entity.Thesis;
 import de.tum.cit.aet.thesis.entity.ThesisStateChange;
 
@@ -50,4 +51,19 @@ public final class RetentionUtils {
 		return ZonedDateTime.of(zdt.getYear() + RETENTION_YEARS, 12, 31, 23, 59, 59, 0, BERLIN)
 				.toInstant();
 	}
+
+	/**
+	 * Computes the retention expiry that is persisted with a thesis. Only finished and dropped out
+	 * theses can be anonymized, so all other theses have no stored expiry.
+	 *
+	 * @param thesis the thesis to compute the stored retention expiry for
+	 * @return the instant at which the retention period expires, or null if the thesis is still active
+	 */
+	public static Instant computeStoredRetentionExpiry(Thesis thesis) {
+		if (thesis.getState() != ThesisState.FINISHED && thesis.getState() != ThesisState.DROPPED_OUT) {
+			return null;
+		}
+
+		return computeRetentionExpiry(thesis);
+	}
 }
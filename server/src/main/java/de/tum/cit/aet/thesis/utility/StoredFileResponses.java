@@ -0,0 +1,39 @@
+package de.tum.cit.aet.thesis.utility;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds download responses for files from the upload storage. Stored files are named after the SHA-256
+ * hash of their content, so the stored filename is used as strong ETag. Spring MVC answers a matching
+ * {@code If-None-Match} with 304 and serves {@code Range} requests on the resource body as 206 partial content.
+ */
+public class StoredFileResponses {
+	/**
+	 * Starts a response for a URL that always refers to the same stored file, e.g. a specific thesis file.
+	 * Browsers may cache it for a year without revalidating.
+	 *
+	 * @param storedFilename the content-hashed filename of the stored file
+	 * @return the response builder
+	 */
+	public static ResponseEntity.BodyBuilder immutable(String storedFilename) {
+		return ResponseEntity.ok()
+				.eTag(storedFilename)
+				.cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable());
+	}
+
+	/**
+	 * Starts a response for a URL whose file can be replaced, e.g. the CV of a user. Browsers keep the file
+	 * but revalidate it with the ETag on every use.
+	 *
+	 * @param storedFilename the content-hashed filename of the stored file
+	 * @return the response builder
+	 */
+	public static ResponseEntity.BodyBuilder revalidated(String storedFilename) {
+		return ResponseEntity.ok()
+				.eTag(storedFilename)
+				.cacheControl(CacheControl.noCache().cachePrivate());
+	}
+}
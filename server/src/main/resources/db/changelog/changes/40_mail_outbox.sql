@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset thesis-management:40-create-mail-outbox-table
+CREATE TABLE mail_outbox (
+    mail_id         UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    subject         TEXT NOT NULL,
+    recipients      TEXT NOT NULL,
+    mime_message    BYTEA,
+    state           TEXT NOT NULL DEFAULT 'PENDING',
+    attempts        INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    last_error      TEXT,
+    created_at      TIMESTAMP NOT NULL DEFAULT NOW(),
+    sent_at         TIMESTAMP
+);
+
+CREATE INDEX idx_mail_outbox_state_next_attempt ON mail_outbox (state, next_attempt_at);
@@ -0,0 +1,21 @@
+--liquibase formatted sql
+
+--changeset thesis-management:41-enable-pg-trgm
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+--changeset thesis-management:41-add-user-search-text
+-- Lower-cased concatenation of all searchable user columns. The fields are separated by a
+-- line break so that a search query (which never contains one) cannot match across fields.
+ALTER TABLE users ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+    LOWER(
+        COALESCE(first_name, '') || ' ' || COALESCE(last_name, '') || E'\n' ||
+        COALESCE(email, '') || E'\n' ||
+        COALESCE(matriculation_number, '') || E'\n' ||
+        COALESCE(university_id, '')
+    )
+) STORED;
+
+--changeset thesis-management:41-create-trigram-indexes
+CREATE INDEX idx_users_search_text_trgm ON users USING GIN (search_text gin_trgm_ops);
+CREATE INDEX idx_theses_title_trgm ON theses USING GIN (LOWER(title) gin_trgm_ops);
+CREATE INDEX idx_thesis_roles_user_id ON thesis_roles (user_id);
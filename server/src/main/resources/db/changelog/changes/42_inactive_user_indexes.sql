@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset thesis-management:42-create-inactive-user-indexes
+-- Support the candidate query of the nightly inactive user cleanup: the student group lookup,
+-- and the NOT EXISTS checks for recent applications and thesis state changes per user.
+-- Group checks per user are covered by the primary key of user_groups and thesis roles per
+-- user by idx_thesis_roles_user_id.
+CREATE INDEX idx_user_groups_group_user_id ON user_groups ("group", user_id);
+CREATE INDEX idx_applications_user_id_created_at ON applications (user_id, created_at);
+CREATE INDEX idx_thesis_state_changes_thesis_id_changed_at ON thesis_state_changes (thesis_id, changed_at);
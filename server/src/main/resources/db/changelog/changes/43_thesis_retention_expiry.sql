@@ -0,0 +1,29 @@
+--liquibase formatted sql
+
+--changeset thesis-management:43-add-thesis-retention-expires-at
+-- Persist when the retention period of a finished or dropped out thesis expires, so the nightly
+-- anonymization jobs only have to read the theses that are due instead of all finished theses.
+-- Mirrors RetentionUtils: five years after the end of the calendar year (Europe/Berlin) of the
+-- latest activity, which is the later of end date and last state change, or else the creation date.
+ALTER TABLE theses ADD COLUMN retention_expires_at TIMESTAMP;
+
+UPDATE theses t
+SET retention_expires_at = (
+    make_timestamp(
+        EXTRACT(YEAR FROM (latest.activity AT TIME ZONE 'UTC') AT TIME ZONE 'Europe/Berlin')::INT + 5,
+        12, 31, 23, 59, 59
+    ) AT TIME ZONE 'Europe/Berlin'
+) AT TIME ZONE 'UTC'
+FROM (
+    SELECT th.thesis_id,
+           COALESCE(GREATEST(th.end_date, MAX(sc.changed_at)), th.created_at) AS activity
+    FROM theses th
+    LEFT JOIN thesis_state_changes sc ON sc.thesis_id = th.thesis_id
+    WHERE th.state IN ('FINISHED', 'DROPPED_OUT')
+      AND th.anonymized_at IS NULL
+    GROUP BY th.thesis_id
+) latest
+WHERE t.thesis_id = latest.thesis_id;
+
+CREATE INDEX idx_theses_retention_expires_at ON theses (retention_expires_at)
+    WHERE anonymized_at IS NULL AND state IN ('FINISHED', 'DROPPED_OUT');
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset thesis-management:44-create-unassessed-applications-index
+-- Support the daily automatic reject query, which only reads unassessed applications that are
+-- older than the minimal reject duration of 14 days.
+CREATE INDEX idx_applications_not_assessed_created_at ON applications (created_at)
+    WHERE state = 'NOT_ASSESSED';
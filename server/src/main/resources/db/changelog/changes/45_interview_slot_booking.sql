@@ -0,0 +1,24 @@
+--liquibase formatted sql
+
+--changeset thesis-management:45-add-interview-slot-version
+-- Optimistic locking for slot updates that are saved through the interview process aggregate.
+ALTER TABLE interview_slots ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+--changeset thesis-management:45-release-duplicate-interview-slot-bookings
+-- Keep only the earliest slot of interviewees that booked more than one slot before the
+-- booking was enforced to be unique.
+UPDATE interview_slots s
+SET interviewee_id = NULL
+WHERE s.interviewee_id IS NOT NULL
+  AND EXISTS (
+    SELECT 1
+    FROM interview_slots o
+    WHERE o.interviewee_id = s.interviewee_id
+      AND (o.start_date, o.slot_id) < (s.start_date, s.slot_id)
+  );
+
+--changeset thesis-management:45-create-unique-interview-slot-booking-index
+-- An interviewee belongs to exactly one interview process, so this allows one booked slot per
+-- interviewee and process.
+CREATE UNIQUE INDEX uq_interview_slots_interviewee ON interview_slots (interviewee_id)
+    WHERE interviewee_id IS NOT NULL;
@@ -0,0 +1,14 @@
+--liquibase formatted sql
+
+--changeset thesis-management:46-create-mail-outbox-attachments-table
+-- Attachments are referenced per queued mail instead of being serialized into every message, stored
+-- files are read from the upload storage while the mail is sent.
+CREATE TABLE mail_outbox_attachments (
+    mail_id      UUID NOT NULL REFERENCES mail_outbox (mail_id) ON DELETE CASCADE,
+    position     INT NOT NULL,
+    filename     TEXT NOT NULL,
+    stored_file  TEXT,
+    content      BYTEA,
+    content_type TEXT,
+    PRIMARY KEY (mail_id, position)
+);
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset thesis-management:47-add-mail-outbox-recipient
+-- Allows removing the queued mails of a deleted user. Mails queued before this column existed are
+-- purged by age.
+ALTER TABLE mail_outbox ADD COLUMN recipient_id UUID;
+
+CREATE INDEX idx_mail_outbox_recipient ON mail_outbox (recipient_id);
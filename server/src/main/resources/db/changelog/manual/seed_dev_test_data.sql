@@ -1409,7 +1409,7 @@ SELECT
 WHERE NOT EXISTS (SELECT 1 FROM theses WHERE thesis_id = '00000000-0000-4000-d000-000000000009'::UUID);
 
 -- Thesis 10: GRADED, 2800 days ago — old non-terminal thesis, retention expired (state warning only)
--- Uses GRADED (not FINISHED) so findAnonymizationCandidates() won't pick it up during batch runs.
+-- Uses GRADED (not FINISHED) so findAnonymizationCandidateIds() won't pick it up during batch runs.
 INSERT INTO theses (thesis_id, title, type, language, metadata, info, abstract, state,
                     visibility, keywords, application_id, start_date, end_date, created_at,
                     research_group_id)
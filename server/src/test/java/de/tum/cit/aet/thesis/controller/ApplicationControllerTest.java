@@ -342,6 +342,32 @@ class ApplicationControllerTest extends BaseIntegrationTest {
 			assertThat(json.get("content").get(0).get("thesisTitle").asString()).isEqualTo("Student Application");
 		}
 
+		@Test
+		void getApplications_StatementCountIndependentOfPageSize() throws Exception {
+			String authorization = createRandomAdminAuthentication();
+			createTestApplication(createRandomAuthentication("student"), "Application 0");
+
+			mockMvc.perform(MockMvcRequestBuilders.get("/v2/applications")
+							.header("Authorization", authorization)
+							.param("fetchAll", "true"))
+					.andExpect(status().isOk());
+
+			long singleApplication = countSqlStatements(MockMvcRequestBuilders.get("/v2/applications")
+					.header("Authorization", authorization)
+					.param("fetchAll", "true"));
+
+			// Use different users since a user can only have one pending application with topicId=null
+			for (int i = 1; i < 5; i++) {
+				createTestApplication(createRandomAuthentication("student"), "Application " + i);
+			}
+
+			long fiveApplications = countSqlStatements(MockMvcRequestBuilders.get("/v2/applications")
+					.header("Authorization", authorization)
+					.param("fetchAll", "true"));
+
+			assertThat(fiveApplications).isEqualTo(singleApplication);
+		}
+
 		@Test
 		void getApplications_Pagination() throws Exception {
 			// Use different users since a user can only have one pending application with topicId=null
@@ -1,6 +1,9 @@
 package de.tum.cit.aet.thesis.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import de.tum.cit.aet.thesis.constants.ThesisState;
@@ -11,14 +14,24 @@ import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.service.AvatarService;
+import de.tum.cit.aet.thesis.service.UploadService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import javax.imageio.ImageIO;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +52,109 @@ class AvatarControllerTest extends BaseIntegrationTest {
 	@Autowired
 	private ThesisRoleRepository thesisRoleRepository;
 
+	@Autowired
+	private UploadService uploadService;
+
+	@Autowired
+	private AvatarService avatarService;
+
+	private UUID createUserWithAvatar(int width, int height, boolean createVariants) throws IOException {
+		ByteArrayOutputStream image = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", image);
+		String avatar = uploadService.storeBytes(image.toByteArray(), "png", 1024 * 1024);
+
+		if (createVariants) {
+			avatarService.createVariants(avatar);
+		}
+
+		TestUser student = createRandomTestUser(List.of("student"));
+		var user = userRepository.findById(student.userId()).orElseThrow();
+		user.setAvatar(avatar);
+		userRepository.save(user);
+
+		return student.userId();
+	}
+
+	@Nested
+	class GetAvatarVariants {
+		@Test
+		void getAvatar_WithSize_ReturnsSmallestLargerVariant() throws Exception {
+			UUID userId = createUserWithAvatar(400, 300, true);
+
+			MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/v2/avatars/{userId}", userId)
+							.param("size", "100")
+							.header("Authorization", createRandomAdminAuthentication()))
+					.andExpect(status().isOk())
+					.andExpect(content().contentType(MediaType.IMAGE_PNG))
+					.andExpect(header().string("ETag", endsWith("-128.png\"")))
+					.andReturn();
+
+			BufferedImage variant = ImageIO.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+			assertThat(variant.getWidth()).isEqualTo(128);
+			assertThat(variant.getHeight()).isEqualTo(128);
+		}
+
+		@Test
+		void getAvatar_MissingVariant_IsCreatedOnRequest() throws Exception {
+			UUID userId = createUserWithAvatar(100, 100, false);
+
+			MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/v2/avatars/{userId}", userId)
+							.param("size", "64")
+							.header("Authorization", createRandomAdminAuthentication()))
+					.andExpect(status().isOk())
+					.andExpect(header().string("ETag", endsWith("-64.png\"")))
+					.andReturn();
+
+			BufferedImage variant = ImageIO.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+			assertThat(variant.getWidth()).isEqualTo(64);
+		}
+
+		@Test
+		void getAvatar_WithMatchingETag_ReturnsNotModified() throws Exception {
+			UUID userId = createUserWithAvatar(200, 200, true);
+			String authorization = createRandomAdminAuthentication();
+
+			String etag = mockMvc.perform(MockMvcRequestBuilders.get("/v2/avatars/{userId}", userId)
+							.header("Authorization", authorization))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getHeader("ETag");
+
+			mockMvc.perform(MockMvcRequestBuilders.get("/v2/avatars/{userId}", userId)
+							.header("Authorization", authorization)
+							.header("If-None-Match", etag))
+					.andExpect(status().isNotModified());
+		}
+
+		@Test
+		void getAvatar_UndecodableAvatar_ServesOriginal() throws Exception {
+			String avatar = uploadService.storeBytes("not an image".getBytes(), "webp", 1024 * 1024);
+			TestUser student = createRandomTestUser(List.of("student"));
+			var user = userRepository.findById(student.userId()).orElseThrow();
+			user.setAvatar(avatar);
+			userRepository.save(user);
+			String authorization = createRandomAdminAuthentication();
+
+			// The second request skips the rendering that failed for the first one
+			for (int i = 0; i < 2; i++) {
+				mockMvc.perform(MockMvcRequestBuilders.get("/v2/avatars/{userId}", student.userId())
+								.param("size", "64")
+								.header("Authorization", authorization))
+						.andExpect(status().isOk())
+						.andExpect(header().string("ETag", "\"" + avatar + "\""));
+			}
+		}
+
+		@Test
+		void getAvatar_NonPositiveSize_ReturnsBadRequest() throws Exception {
+			UUID userId = createUserWithAvatar(64, 64, false);
+
+			mockMvc.perform(MockMvcRequestBuilders.get("/v2/avatars/{userId}", userId)
+							.param("size", "0")
+							.header("Authorization", createRandomAdminAuthentication()))
+					.andExpect(status().isBadRequest());
+		}
+	}
+
 	@Nested
 	class GetAvatarAuthenticated {
 		@Test
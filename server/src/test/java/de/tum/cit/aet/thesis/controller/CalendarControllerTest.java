@@ -2,6 +2,7 @@ package de.tum.cit.aet.thesis.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import de.tum.cit.aet.thesis.controller.payload.BookInterviewSlotPayload;
@@ -17,6 +18,7 @@ import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -57,6 +59,28 @@ class CalendarControllerTest extends BaseIntegrationTest {
 			assertThat(response).contains("VCALENDAR");
 		}
 
+		@Test
+		void getCalendar_WithMatchingETag_ReturnsNotModified() throws Exception {
+			TestUser head = createRandomTestUser(List.of("supervisor"));
+			UUID groupId = createTestResearchGroup("Calendar ETag Group", head.universityId());
+			ResearchGroup group = researchGroupRepository.findById(groupId).orElseThrow();
+
+			String etag = mockMvc.perform(MockMvcRequestBuilders.get("/v2/calendar/presentations/{abbreviation}", group.getAbbreviation())
+							.header("Authorization", createRandomAdminAuthentication()))
+					.andExpect(status().isOk())
+					.andExpect(header().exists(HttpHeaders.ETAG))
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+			String response = mockMvc.perform(MockMvcRequestBuilders.get("/v2/calendar/presentations/{abbreviation}", group.getAbbreviation())
+							.header("Authorization", createRandomAdminAuthentication())
+							.header(HttpHeaders.IF_NONE_MATCH, etag))
+					.andExpect(status().isNotModified())
+					.andExpect(header().string(HttpHeaders.ETAG, etag))
+					.andReturn().getResponse().getContentAsString();
+
+			assertThat(response).isEmpty();
+		}
+
 		@Test
 		void getCalendar_UnknownAbbreviation_Returns404() throws Exception {
 			mockMvc.perform(MockMvcRequestBuilders.get("/v2/calendar/presentations/{abbreviation}", "nonexistent-abbr")
@@ -174,6 +198,11 @@ class CalendarControllerTest extends BaseIntegrationTest {
 							.content(objectMapper.writeValueAsString(invitePayload)))
 					.andExpect(status().isOk());
 
+			String etagBeforeBooking = mockMvc.perform(MockMvcRequestBuilders.get("/v2/calendar/interviews/user/{userId}", advisor.userId())
+							.header("Authorization", createRandomAdminAuthentication()))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
 			// Book slot
 			BookInterviewSlotPayload bookPayload = new BookInterviewSlotPayload(student.userId());
 			mockMvc.perform(MockMvcRequestBuilders.put("/v2/interview-process/{id}/slot/{slotId}/book", processId, slotId)
@@ -183,8 +212,10 @@ class CalendarControllerTest extends BaseIntegrationTest {
 					.andExpect(status().isOk());
 
 			// Get the calendar for the advisor (who has interview slots)
+			// The booking evicts the cached feed, so the previous ETag no longer matches
 			String calendarResponse = mockMvc.perform(MockMvcRequestBuilders.get("/v2/calendar/interviews/user/{userId}", advisor.userId())
-							.header("Authorization", createRandomAdminAuthentication()))
+							.header("Authorization", createRandomAdminAuthentication())
+							.header(HttpHeaders.IF_NONE_MATCH, etagBeforeBooking))
 					.andExpect(status().isOk())
 					.andExpect(content().contentType("text/calendar"))
 					.andReturn().getResponse().getContentAsString();
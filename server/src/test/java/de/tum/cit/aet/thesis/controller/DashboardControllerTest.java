@@ -73,7 +73,7 @@ class DashboardControllerTest extends BaseIntegrationTest {
 		UUID thesisId = UUID.fromString(objectMapper.readTree(thesisResponse).get("thesisId").asString());
 
 		if (targetState != null && targetState != ThesisState.PROPOSAL) {
-			Thesis thesis = thesisRepository.findById(thesisId).orElseThrow();
+			Thesis thesis = thesisRepository.findWithDetailsById(thesisId).orElseThrow();
 			ThesisStateChangeId stateChangeId = new ThesisStateChangeId();
 			stateChangeId.setThesisId(thesis.getId());
 			stateChangeId.setState(targetState);
@@ -151,6 +151,30 @@ class DashboardControllerTest extends BaseIntegrationTest {
 			assertThat(hasTaskContaining(json, "proposal")).isTrue();
 		}
 
+		@Test
+		void getTasks_StudentWithWhitespaceOnlyInfo_ReturnsAbstractTask() throws Exception {
+			createTestEmailTemplate("THESIS_CREATED");
+			TestUser student = createRandomTestUser(List.of("student"));
+			TestUser advisor = createRandomTestUser(List.of("supervisor", "advisor"));
+			UUID researchGroupId = createTestResearchGroup("Dashboard Test Group", advisor.universityId());
+
+			UUID thesisId = createThesisWithState("Dashboard Test Thesis", null,
+					List.of(student.userId()), List.of(advisor.userId()), List.of(advisor.userId()), researchGroupId);
+
+			Thesis thesis = thesisRepository.findById(thesisId).orElseThrow();
+			thesis.setAbstractField("Thesis abstract");
+			thesis.setInfo(" \t\n\u2003");
+			thesisRepository.save(thesis);
+
+			String response = mockMvc.perform(MockMvcRequestBuilders.get("/v2/dashboard/tasks")
+							.header("Authorization", generateTestAuthenticationHeader(student.universityId(), List.of("student"))))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+
+			JsonNode json = objectMapper.readTree(response);
+			assertThat(hasTaskContaining(json, "abstract")).isTrue();
+		}
+
 		@Test
 		void getTasks_StudentWithWritingThesis_ReturnsSubmissionTask() throws Exception {
 			createTestEmailTemplate("THESIS_CREATED");
@@ -20,15 +20,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import tools.jackson.databind.JsonNode;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Testcontainers
 class InterviewProcessIntegrationTest extends BaseIntegrationTest {
@@ -365,6 +372,147 @@ class InterviewProcessIntegrationTest extends BaseIntegrationTest {
 					.andExpect(status().isOk())
 					.andExpect(jsonPath("$.bookedBy").isEmpty());
 		}
+
+		@Test
+		void bookSlot_AlreadyBooked_ReturnsConflict() throws Exception {
+			InterviewSetup setup = createInterviewProcess();
+			List<UUID> slotIds = addSlots(setup);
+			List<TestUser> students = addInvitedInterviewees(setup, 1);
+
+			bookSlot(setup, students.get(0), slotIds.get(0))
+					.andExpect(status().isOk());
+
+			bookSlot(setup, students.get(1), slotIds.get(0))
+					.andExpect(status().isConflict())
+					.andExpect(jsonPath("$.message").value("Slot is already booked."));
+
+			bookSlot(setup, students.get(0), slotIds.get(1))
+					.andExpect(status().isConflict())
+					.andExpect(jsonPath("$.message").value("Interviewee has already booked a slot for this interview process."));
+		}
+
+		@Test
+		void bookSlots_ConcurrentBookings_NeverDoubleBook() throws Exception {
+			InterviewSetup setup = createInterviewProcess();
+			List<UUID> slotIds = addSlots(setup);
+			List<TestUser> students = addInvitedInterviewees(setup, 7);
+
+			// Every interviewee tries to book every slot at the same time
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Integer>> bookings = new ArrayList<>();
+
+			try (ExecutorService executor = Executors.newFixedThreadPool(students.size() * slotIds.size())) {
+				for (TestUser student : students) {
+					for (UUID slotId : slotIds) {
+						bookings.add(executor.submit(() -> {
+							start.await();
+							return bookSlot(setup, student, slotId).andReturn().getResponse().getStatus();
+						}));
+					}
+				}
+
+				start.countDown();
+			}
+
+			List<Integer> statuses = new ArrayList<>();
+			for (Future<Integer> booking : bookings) {
+				statuses.add(booking.get());
+			}
+
+			assertThat(statuses).containsOnly(200, 409);
+			assertThat(statuses).filteredOn(code -> code == 200).hasSize(slotIds.size());
+
+			String response = mockMvc.perform(MockMvcRequestBuilders.get("/v2/interview-process/{id}/interview-slots", setup.processId)
+							.header("Authorization", setup.advisorAuth))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+
+			Set<String> bookedInterviewees = new HashSet<>();
+			for (JsonNode slot : objectMapper.readTree(response)) {
+				assertThat(slot.get("bookedBy").isNull()).isFalse();
+				bookedInterviewees.add(slot.get("bookedBy").get("intervieweeId").asString());
+			}
+			assertThat(bookedInterviewees).hasSize(slotIds.size());
+		}
+	}
+
+	private List<UUID> addSlots(InterviewSetup setup) throws Exception {
+		Instant now = Instant.now();
+		List<InterviewSlotDto> slots = List.of(
+				new InterviewSlotDto(null, now.plus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS).plus(30, ChronoUnit.MINUTES),
+						null, "Room 101", null),
+				new InterviewSlotDto(null, now.plus(2, ChronoUnit.DAYS), now.plus(2, ChronoUnit.DAYS).plus(30, ChronoUnit.MINUTES),
+						null, "Room 102", null)
+		);
+
+		String response = mockMvc.perform(MockMvcRequestBuilders.post("/v2/interview-process/interview-slots")
+						.header("Authorization", setup.advisorAuth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(new CreateInterviewSlotsPayload(setup.processId, slots))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		List<UUID> slotIds = new ArrayList<>();
+		for (JsonNode slot : objectMapper.readTree(response)) {
+			slotIds.add(UUID.fromString(slot.get("slotId").asString()));
+		}
+		return slotIds;
+	}
+
+	/**
+	 * Adds the given number of additional applicants to the process and invites all interviewees.
+	 * The returned list starts with the student of the setup.
+	 */
+	private List<TestUser> addInvitedInterviewees(InterviewSetup setup, int additionalStudents) throws Exception {
+		List<TestUser> students = new ArrayList<>(List.of(setup.student));
+		List<UUID> applicationIds = new ArrayList<>();
+
+		for (int i = 0; i < additionalStudents; i++) {
+			TestUser student = createRandomTestUser(List.of("student"));
+			CreateApplicationPayload appPayload = new CreateApplicationPayload(
+					setup.topicId, null, "MASTER", Instant.now(), "Booking motivation", null,
+			true);
+			String appResponse = mockMvc.perform(MockMvcRequestBuilders.post("/v2/applications")
+							.header("Authorization", generateTestAuthenticationHeader(student.universityId(), List.of("student")))
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(appPayload)))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+
+			students.add(student);
+			applicationIds.add(UUID.fromString(objectMapper.readTree(appResponse).get("applicationId").asString()));
+		}
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/v2/interview-process/{id}/interviewees", setup.processId)
+						.header("Authorization", setup.advisorAuth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(new AddIntervieweesPayload(applicationIds))))
+				.andExpect(status().isOk());
+
+		String intervieweesResponse = mockMvc.perform(MockMvcRequestBuilders.get("/v2/interview-process/{id}/interviewees", setup.processId)
+						.header("Authorization", setup.advisorAuth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		List<UUID> intervieweeIds = new ArrayList<>();
+		for (JsonNode interviewee : objectMapper.readTree(intervieweesResponse).get("content")) {
+			intervieweeIds.add(UUID.fromString(interviewee.get("intervieweeId").asString()));
+		}
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/v2/interview-process/{id}/invite", setup.processId)
+						.header("Authorization", setup.advisorAuth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(new InviteIntervieweesPayload(intervieweeIds))))
+				.andExpect(status().isOk());
+
+		return students;
+	}
+
+	private ResultActions bookSlot(InterviewSetup setup, TestUser student, UUID slotId) throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.put("/v2/interview-process/{id}/slot/{slotId}/book", setup.processId, slotId)
+				.header("Authorization", generateTestAuthenticationHeader(student.universityId(), List.of("student")))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new BookInterviewSlotPayload(student.userId()))));
 	}
 
 	@Nested
@@ -42,7 +42,7 @@ class PublishedThesisControllerTest extends BaseIntegrationTest {
 	private UUID createFinishedThesis(String title) throws Exception {
 		UUID thesisId = createTestThesis(title);
 
-		Thesis thesis = thesisRepository.findById(thesisId).orElseThrow();
+		Thesis thesis = thesisRepository.findWithDetailsById(thesisId).orElseThrow();
 
 		ThesisStateChangeId stateChangeId = new ThesisStateChangeId();
 		stateChangeId.setThesisId(thesis.getId());
@@ -146,6 +146,40 @@ class PublishedThesisControllerTest extends BaseIntegrationTest {
 					.andExpect(jsonPath("$.content", hasSize(2)))
 					.andExpect(jsonPath("$.totalElements").value(3));
 		}
+
+		@Test
+		void getPublishedTheses_WithCursor() throws Exception {
+			createFinishedThesis("Cursor Thesis A");
+			createFinishedThesis("Cursor Thesis B");
+			createFinishedThesis("Cursor Thesis C");
+
+			String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/v2/published-theses")
+							.header("Authorization", createRandomAdminAuthentication())
+							.param("cursor", "")
+							.param("limit", "2"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.content", hasSize(2)))
+					.andExpect(jsonPath("$.totalElements").doesNotExist())
+					.andExpect(jsonPath("$.nextCursor").exists())
+					.andReturn().getResponse().getContentAsString();
+
+			JsonNode firstPageJson = objectMapper.readTree(firstPage);
+
+			String secondPage = mockMvc.perform(MockMvcRequestBuilders.get("/v2/published-theses")
+							.header("Authorization", createRandomAdminAuthentication())
+							.param("cursor", firstPageJson.get("nextCursor").asString())
+							.param("limit", "2")
+							.param("includeTotal", "true"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.content", hasSize(1)))
+					.andExpect(jsonPath("$.totalElements").value(3))
+					.andExpect(jsonPath("$.last").value(true))
+					.andExpect(jsonPath("$.nextCursor").doesNotExist())
+					.andReturn().getResponse().getContentAsString();
+
+			String lastThesisId = objectMapper.readTree(secondPage).get("content").get(0).get("thesisId").asString();
+			assertThat(firstPageJson.get("content").findValuesAsString("thesisId")).doesNotContain(lastThesisId);
+		}
 	}
 
 	@Nested
@@ -1,6 +1,9 @@
 package de.tum.cit.aet.thesis.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import de.tum.cit.aet.thesis.constants.ThesisCommentType;
@@ -27,13 +30,16 @@ import de.tum.cit.aet.thesis.repository.ThesisFileRepository;
 import de.tum.cit.aet.thesis.repository.ThesisPresentationRepository;
 import de.tum.cit.aet.thesis.repository.ThesisProposalRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
+import de.tum.cit.aet.thesis.security.PrincipalCache;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import tools.jackson.databind.JsonNode;
@@ -52,6 +58,12 @@ class ThesisControllerTest extends BaseIntegrationTest {
 		configureProperties(registry);
 	}
 
+	private static final String USER_LOOKUP_QUERY =
+			"SELECT u FROM User u LEFT JOIN FETCH u.researchGroup WHERE u.universityId = :universityId";
+
+	@Autowired
+	private PrincipalCache principalCache;
+
 	@Autowired
 	private ThesisRepository thesisRepository;
 
@@ -91,6 +103,31 @@ class ThesisControllerTest extends BaseIntegrationTest {
 			assertThat(json.get("totalElements").isNumber()).isTrue();
 		}
 
+		@Test
+		void getTheses_StatementCountIndependentOfPageSize() throws Exception {
+			String authorization = createRandomAdminAuthentication();
+			createTestThesis("Test Thesis 0");
+
+			mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses")
+							.header("Authorization", authorization)
+							.param("fetchAll", "true"))
+					.andExpect(status().isOk());
+
+			long singleThesis = countSqlStatements(MockMvcRequestBuilders.get("/v2/theses")
+					.header("Authorization", authorization)
+					.param("fetchAll", "true"));
+
+			for (int i = 1; i < 5; i++) {
+				createTestThesis("Test Thesis " + i);
+			}
+
+			long fiveTheses = countSqlStatements(MockMvcRequestBuilders.get("/v2/theses")
+					.header("Authorization", authorization)
+					.param("fetchAll", "true"));
+
+			assertThat(fiveTheses).isEqualTo(singleThesis);
+		}
+
 		@Test
 		void getThesis_Success() throws Exception {
 			UUID thesisId = createTestThesis("Test Thesis");
@@ -109,6 +146,22 @@ class ThesisControllerTest extends BaseIntegrationTest {
 			assertThat(json.get("visibility").asString()).isEqualTo("INTERNAL");
 		}
 
+		@Test
+		void getThesis_CachedPrincipal_DoesNotQueryAuthenticatedUser() throws Exception {
+			UUID thesisId = createTestThesis("Test Thesis");
+			TestUser admin = createRandomTestUser(List.of("admin"));
+			RequestBuilder request = MockMvcRequestBuilders.get("/v2/theses/{thesisId}", thesisId)
+					.header("Authorization", generateTestAuthenticationHeader(admin.universityId(), List.of("admin")));
+			principalCache.onUserPrincipalChanged(new PrincipalCache.UserPrincipalChangedEvent(admin.userId()));
+
+			// The first request loads the principal of the admin into the cache
+			long uncachedStatements = countSqlStatements(request);
+			long cachedStatements = countSqlStatements(request);
+
+			assertThat(countQueryExecutions(USER_LOOKUP_QUERY)).isZero();
+			assertThat(cachedStatements).isLessThan(uncachedStatements);
+		}
+
 		@Test
 		void getThesis_NotFound() throws Exception {
 			mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}", UUID.randomUUID())
@@ -331,7 +384,7 @@ class ThesisControllerTest extends BaseIntegrationTest {
 		void updateThesisCredits_Success() throws Exception {
 			UUID thesisId = createTestThesis("Test Thesis");
 
-			Thesis thesisBefore = thesisRepository.findById(thesisId).orElseThrow();
+			Thesis thesisBefore = thesisRepository.findWithDetailsById(thesisId).orElseThrow();
 			UUID studentId = thesisBefore.getRoles().getFirst().getUser().getId();
 
 			UpdateThesisCreditsPayload payload = new UpdateThesisCreditsPayload(
@@ -573,7 +626,7 @@ class ThesisControllerTest extends BaseIntegrationTest {
 							.header("Authorization", authorization))
 					.andExpect(status().isOk());
 
-			Thesis thesis = thesisRepository.findById(thesisId).orElseThrow();
+			Thesis thesis = thesisRepository.findWithDetailsById(thesisId).orElseThrow();
 			assertThat(thesis.getState()).isEqualTo(ThesisState.PROPOSAL);
 			assertThat(thesis.getStates()).hasSize(1);
 		}
@@ -721,6 +774,49 @@ class ThesisControllerTest extends BaseIntegrationTest {
 					.andExpect(status().isOk());
 		}
 
+		@Test
+		void getThesisFile_ConditionalAndRangeRequests() throws Exception {
+			UUID thesisId = createTestThesis("Test Thesis");
+
+			MockMultipartFile file = new MockMultipartFile(
+					"file", "thesis.pdf", MediaType.APPLICATION_PDF_VALUE, "0123456789".getBytes()
+			);
+			MockMultipartFile type = new MockMultipartFile(
+					"type", "", MediaType.TEXT_PLAIN_VALUE, "THESIS".getBytes()
+			);
+
+			String response = mockMvc.perform(MockMvcRequestBuilders.multipart("/v2/theses/{thesisId}/files", thesisId)
+							.file(file)
+							.file(type)
+							.header("Authorization", createRandomAdminAuthentication()))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+
+			UUID fileId = UUID.fromString(objectMapper.readTree(response)
+					.get("files").get(0).get("fileId").asString());
+
+			String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}/files/{fileId}", thesisId, fileId)
+							.header("Authorization", createRandomAdminAuthentication()))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+					.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+			assertThat(eTag).isNotBlank().doesNotStartWith("W/");
+
+			mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}/files/{fileId}", thesisId, fileId)
+							.header("Authorization", createRandomAdminAuthentication())
+							.header(HttpHeaders.IF_NONE_MATCH, eTag))
+					.andExpect(status().isNotModified());
+
+			mockMvc.perform(MockMvcRequestBuilders.get("/v2/theses/{thesisId}/files/{fileId}", thesisId, fileId)
+							.header("Authorization", createRandomAdminAuthentication())
+							.header(HttpHeaders.RANGE, "bytes=2-5"))
+					.andExpect(status().isPartialContent())
+					.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+					.andExpect(content().string("2345"));
+		}
+
 		@Test
 		void deleteThesisFile_Success() throws Exception {
 			UUID thesisId = createTestThesis("Test Thesis");
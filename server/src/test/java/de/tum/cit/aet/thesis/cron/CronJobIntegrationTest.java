@@ -3,6 +3,8 @@ package de.tum.cit.aet.thesis.cron;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import de.tum.cit.aet.thesis.constants.ApplicationRejectReason;
+import de.tum.cit.aet.thesis.constants.ApplicationReviewReason;
 import de.tum.cit.aet.thesis.constants.ApplicationState;
 import de.tum.cit.aet.thesis.controller.payload.CreateApplicationPayload;
 import de.tum.cit.aet.thesis.controller.payload.ReplaceTopicPayload;
@@ -27,6 +29,7 @@ import jakarta.persistence.EntityManager;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -44,6 +47,9 @@ class CronJobIntegrationTest extends BaseIntegrationTest {
 	@Autowired
 	private AutomaticRejects automaticRejects;
 
+	@Autowired
+	private ApplicationReminder applicationReminder;
+
 	@Autowired
 	private ApplicationRepository applicationRepository;
 
@@ -126,6 +132,55 @@ class CronJobIntegrationTest extends BaseIntegrationTest {
 			assertThat(app.getState()).isEqualTo(ApplicationState.REJECTED);
 		}
 
+		@Test
+		void rejectOldApplications_RecordsExaminerAsReviewer() throws Exception {
+			CronSetup setup = createTopicWithOldApplicationAndAutoReject();
+
+			automaticRejects.rejectOldApplications();
+
+			Application app = applicationRepository.findWithDetailsById(setup.applicationId).orElseThrow();
+			assertThat(app.getRejectReason()).isEqualTo(ApplicationRejectReason.GENERAL);
+			assertThat(app.getReviewedAt()).isNotNull();
+			assertThat(app.getReviewers()).singleElement().satisfies(reviewer -> {
+				assertThat(reviewer.getUser().getId()).isEqualTo(setup.advisor.userId());
+				assertThat(reviewer.getReason()).isEqualTo(ApplicationReviewReason.NOT_INTERESTED);
+			});
+		}
+
+		@Test
+		void rejectOldApplications_WithApplicationsSpanningSeveralChunks_RejectsAll() throws Exception {
+			CronSetup setup = createTopicWithOldApplicationAndAutoReject();
+
+			List<UUID> applicationIds = new ArrayList<>(List.of(setup.applicationId));
+			for (int i = 0; i < 4; i++) {
+				CreateApplicationPayload appPayload = new CreateApplicationPayload(
+						setup.topicId, null, "MASTER", Instant.now(), "Cron chunk test " + i, null,
+				true);
+				String appResponse = mockMvc.perform(MockMvcRequestBuilders.post("/v2/applications")
+								.header("Authorization", createRandomAuthentication("student"))
+								.contentType(MediaType.APPLICATION_JSON)
+								.content(objectMapper.writeValueAsString(appPayload)))
+						.andExpect(status().isOk())
+						.andReturn().getResponse().getContentAsString();
+				applicationIds.add(UUID.fromString(objectMapper.readTree(appResponse).get("applicationId").asString()));
+			}
+
+			// Backdate the additional applications, the test configuration rejects them in chunks of 2
+			transactionTemplate.executeWithoutResult(status -> {
+				entityManager.createNativeQuery("UPDATE applications SET created_at = :date WHERE application_id IN (:ids)")
+						.setParameter("date", Instant.now().minus(30, ChronoUnit.DAYS))
+						.setParameter("ids", applicationIds)
+						.executeUpdate();
+				entityManager.clear();
+			});
+
+			automaticRejects.rejectOldApplications();
+
+			assertThat(applicationRepository.findAllById(applicationIds))
+					.hasSize(applicationIds.size())
+					.allSatisfy(app -> assertThat(app.getState()).isEqualTo(ApplicationState.REJECTED));
+		}
+
 		@Test
 		void rejectOldApplications_WithRecentApplication_DoesNotReject() throws Exception {
 			createTestEmailTemplate("APPLICATION_CREATED_CHAIR");
@@ -373,7 +428,28 @@ class CronJobIntegrationTest extends BaseIntegrationTest {
 		}
 	}
 
-	// Note: ApplicationReminder.emailReminder() cannot be tested directly because it calls
-	// ResearchGroupService.getAll() which requires the request-scoped CurrentUserProvider bean.
-	// Calling the cron method outside of a request context throws ScopeNotActiveException.
+	@Nested
+	class EmailReminder {
+		@Test
+		void emailReminder_WithUnreviewedApplication_RemindsTopicSupervisor() throws Exception {
+			CronSetup setup = createTopicWithOldApplicationAndAutoReject();
+			createTestEmailTemplate("APPLICATION_REMINDER");
+			clearEmails();
+
+			applicationReminder.emailReminder();
+
+			List<String> recipients = Stream.of(getReceivedEmails())
+					.flatMap(email -> {
+						try {
+							return Arrays.stream(email.getAllRecipients());
+						} catch (Exception e) {
+							return Stream.empty();
+						}
+					})
+					.map(Address::toString)
+					.toList();
+			assertThat(recipients).as("Supervisor should receive a reminder email")
+					.anyMatch(addr -> addr.contains(setup.advisor.universityId()));
+		}
+	}
 }
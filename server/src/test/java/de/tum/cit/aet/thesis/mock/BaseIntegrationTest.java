@@ -1,5 +1,7 @@
 package de.tum.cit.aet.thesis.mock;
 
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -17,6 +19,7 @@ import de.tum.cit.aet.thesis.repository.DataExportRepository;
 import de.tum.cit.aet.thesis.repository.EmailTemplateRepository;
 import de.tum.cit.aet.thesis.repository.InterviewProcessRepository;
 import de.tum.cit.aet.thesis.repository.IntervieweeRepository;
+import de.tum.cit.aet.thesis.repository.MailOutboxRepository;
 import de.tum.cit.aet.thesis.repository.NotificationSettingRepository;
 import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.repository.ResearchGroupSettingsRepository;
@@ -35,6 +38,8 @@ import de.tum.cit.aet.thesis.repository.TopicRoleRepository;
 import de.tum.cit.aet.thesis.repository.UserGroupRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
 import de.tum.cit.aet.thesis.service.AccessManagementService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,11 +51,13 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 import tools.jackson.databind.ObjectMapper;
 
 import jakarta.mail.internet.MimeMessage;
+import jakarta.persistence.EntityManagerFactory;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -84,6 +91,9 @@ public abstract class BaseIntegrationTest {
 	@Autowired
 	private EmailTemplateRepository emailTemplateRepository;
 
+	@Autowired
+	private MailOutboxRepository mailOutboxRepository;
+
 	@Autowired
 	private NotificationSettingRepository notificationSettingRepository;
 
@@ -147,6 +157,9 @@ public abstract class BaseIntegrationTest {
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	protected static PostgreSQLContainer dbContainer = new PostgreSQLContainer("postgres:18.2-alpine")
 			.withCommand("postgres", "-c", "max_connections=200");
 
@@ -225,6 +238,7 @@ public abstract class BaseIntegrationTest {
 		researchGroupRepository.deleteAll();
 		userRepository.deleteAll();
 
+		mailOutboxRepository.deleteAll();
 		clearEmails();
 	}
 
@@ -242,6 +256,21 @@ public abstract class BaseIntegrationTest {
 		}
 	}
 
+	// Relies on hibernate.generate_statistics, which the test profile enables
+	protected long countSqlStatements(RequestBuilder request) throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		mockMvc.perform(request).andExpect(status().isOk());
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	// Executions of the JPQL query since the statistics were last cleared, e.g. by countSqlStatements
+	protected long countQueryExecutions(String query) {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getQueryStatistics(query).getExecutionCount();
+	}
+
 	protected String createRandomAuthentication(String role) throws Exception {
 		String universityId = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
 
@@ -5,6 +5,7 @@ import de.tum.cit.aet.thesis.repository.UserGroupRepository;
 import de.tum.cit.aet.thesis.service.AccessManagementService;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpMethod;
@@ -20,6 +21,7 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
@@ -97,7 +99,7 @@ public class TestSecurityConfig {
 	}
 
 	@Bean
-	public AccessManagementService accessManagementService(UserGroupRepository userGroupRepository) {
+	public AccessManagementService accessManagementService(UserGroupRepository userGroupRepository, ApplicationEventPublisher eventPublisher) {
 		// Use a spy of the real service so DB operations (role mutations) execute against
 		// the test database. Keycloak user-lookup methods (getUserByUsername, getAllUsers)
 		// are not called by default — tests that need them can stub them individually.
@@ -106,7 +108,11 @@ public class TestSecurityConfig {
 				"thesis-management",
 				"test-client",
 				"test-secret",
-				userGroupRepository
+				16,
+				Duration.ofSeconds(5),
+				Duration.ofMinutes(1),
+				userGroupRepository,
+				eventPublisher
 		);
 		return Mockito.spy(realService);
 	}
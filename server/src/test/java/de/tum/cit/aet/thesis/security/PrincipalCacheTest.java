@@ -0,0 +1,94 @@
+package de.tum.cit.aet.thesis.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.thesis.entity.ResearchGroup;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+	private static final Instant ISSUED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+	@Mock private UserRepository userRepository;
+
+	private PrincipalCache principalCache;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		principalCache = new PrincipalCache(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+		ResearchGroup researchGroup = new ResearchGroup();
+		researchGroup.setId(UUID.randomUUID());
+
+		user = new User();
+		user.setId(UUID.randomUUID());
+		user.setUniversityId("ab12cde");
+		user.setResearchGroup(researchGroup);
+	}
+
+	@Test
+	void get_SameToken_LoadsUserOnce() {
+		when(userRepository.findByUniversityIdWithResearchGroup("ab12cde")).thenReturn(Optional.of(user));
+
+		Optional<AuthenticatedPrincipal> first = principalCache.get("ab12cde", ISSUED_AT);
+		Optional<AuthenticatedPrincipal> second = principalCache.get("ab12cde", ISSUED_AT);
+
+		assertThat(first).isPresent();
+		assertThat(first.get().userId()).isEqualTo(user.getId());
+		assertThat(first.get().researchGroupId()).isEqualTo(user.getResearchGroup().getId());
+		assertThat(second).containsSame(first.get());
+		verify(userRepository, times(1)).findByUniversityIdWithResearchGroup("ab12cde");
+	}
+
+	@Test
+	void get_UnknownUser_IsNotCached() {
+		when(userRepository.findByUniversityIdWithResearchGroup("ab12cde")).thenReturn(Optional.empty());
+
+		assertThat(principalCache.get("ab12cde", ISSUED_AT)).isEmpty();
+		assertThat(principalCache.get("ab12cde", ISSUED_AT)).isEmpty();
+
+		verify(userRepository, times(2)).findByUniversityIdWithResearchGroup("ab12cde");
+	}
+
+	@Test
+	void onUserPrincipalChanged_EvictsUser() {
+		when(userRepository.findByUniversityIdWithResearchGroup("ab12cde")).thenReturn(Optional.of(user));
+
+		principalCache.get("ab12cde", ISSUED_AT);
+		principalCache.onUserPrincipalChanged(new PrincipalCache.UserPrincipalChangedEvent(user.getId()));
+		principalCache.get("ab12cde", ISSUED_AT);
+
+		verify(userRepository, times(2)).findByUniversityIdWithResearchGroup("ab12cde");
+	}
+
+	@Test
+	void onResearchGroupPrincipalsChanged_EvictsMembers() {
+		when(userRepository.findByUniversityIdWithResearchGroup("ab12cde")).thenReturn(Optional.of(user));
+
+		principalCache.get("ab12cde", ISSUED_AT);
+		principalCache.onResearchGroupPrincipalsChanged(
+				new PrincipalCache.ResearchGroupPrincipalsChangedEvent(UUID.randomUUID()));
+		principalCache.get("ab12cde", ISSUED_AT);
+		principalCache.onResearchGroupPrincipalsChanged(
+				new PrincipalCache.ResearchGroupPrincipalsChangedEvent(user.getResearchGroup().getId()));
+		principalCache.get("ab12cde", ISSUED_AT);
+
+		verify(userRepository, times(2)).findByUniversityIdWithResearchGroup("ab12cde");
+	}
+}
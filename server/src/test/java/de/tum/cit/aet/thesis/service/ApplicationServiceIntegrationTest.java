@@ -281,7 +281,7 @@ class ApplicationServiceIntegrationTest extends BaseIntegrationTest {
 		@Test
 		void rejectList_OldApplications_Rejected() throws Exception {
 			TopicAppSetup setup = createTopicWithOldApplication();
-			Application app = applicationRepository.findById(setup.applicationId).orElseThrow();
+			Application app = applicationRepository.findWithDetailsById(setup.applicationId).orElseThrow();
 
 			applicationService.rejectListOfApplicationsIfOlderThan(
 					List.of(app), 14, setup.researchGroupId
@@ -325,7 +325,7 @@ class ApplicationServiceIntegrationTest extends BaseIntegrationTest {
 					.andReturn().getResponse().getContentAsString();
 			UUID applicationId = UUID.fromString(objectMapper.readTree(appResponse).get("applicationId").asString());
 
-			Application app = applicationRepository.findById(applicationId).orElseThrow();
+			Application app = applicationRepository.findWithDetailsById(applicationId).orElseThrow();
 
 			applicationService.rejectListOfApplicationsIfOlderThan(
 					List.of(app), 14, researchGroupId
@@ -26,12 +26,15 @@ import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
 import java.util.Arrays;
@@ -61,6 +64,8 @@ class ApplicationServiceTest {
 	private ResearchGroupRepository researchGroupRepository;
 	@Mock
 	private InterviewProcessRepository interviewProcessRepository;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	private ApplicationService applicationService;
 	private User testUser;
@@ -80,7 +85,8 @@ class ApplicationServiceTest {
 				currentUserProviderProvider,
 				researchGroupRepository,
 				interviewProcessRepository,
-				java.time.Clock.systemUTC()
+				java.time.Clock.systemUTC(),
+				eventPublisher
 		);
 
 		testUser = EntityMockFactory.createUser("Test User");
@@ -93,8 +99,8 @@ class ApplicationServiceTest {
 	@Test
 	void getAll_WithValidParameters_ReturnsPageOfApplications() {
 		Page<Application> expectedPage = new PageImpl<>(List.of(testApplication));
-		when(applicationRepository.searchApplications(
-				any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean(), any(PageRequest.class)
+		when(applicationRepository.findAll(
+				ArgumentMatchers.<Specification<Application>>any(), any(PageRequest.class)
 		)).thenReturn(expectedPage);
 		when(currentUserProviderProvider.getObject()).thenReturn(currentUserProvider);
 
@@ -115,8 +121,8 @@ class ApplicationServiceTest {
 
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
-		verify(applicationRepository).searchApplications(
-				any(), any(), any(), any(), any(), any(), any(), any(), anyBoolean(), any(PageRequest.class)
+		verify(applicationRepository).findAll(
+				ArgumentMatchers.<Specification<Application>>any(), any(PageRequest.class)
 		);
 	}
 
@@ -286,7 +292,7 @@ class ApplicationServiceTest {
 
 	@Test
 	void findById_WithValidId_ReturnsApplication() {
-		when(applicationRepository.findById(testApplication.getId())).thenReturn(Optional.of(testApplication));
+		when(applicationRepository.findWithDetailsById(testApplication.getId())).thenReturn(Optional.of(testApplication));
 		when(currentUserProviderProvider.getObject()).thenReturn(currentUserProvider);
 
 		Application result = applicationService.findById(testApplication.getId());
@@ -298,7 +304,7 @@ class ApplicationServiceTest {
 	@Test
 	void findById_WithInvalidId_ThrowsException() {
 		UUID applicationId = UUID.randomUUID();
-		when(applicationRepository.findById(applicationId)).thenReturn(Optional.empty());
+		when(applicationRepository.findWithDetailsById(applicationId)).thenReturn(Optional.empty());
 
 		assertThrows(ResourceNotFoundException.class, () ->
 				applicationService.findById(applicationId)
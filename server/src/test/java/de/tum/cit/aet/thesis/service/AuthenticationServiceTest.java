@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
@@ -34,6 +35,9 @@ class AuthenticationServiceTest {
 	@Mock
 	private UploadService uploadService;
 
+	@Mock
+	private AvatarService avatarService;
+
 	@Mock
 	private NotificationSettingRepository notificationSettingRepository;
 
@@ -43,6 +47,9 @@ class AuthenticationServiceTest {
 	@Mock
 	private JwtAuthenticationToken jwtToken;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	private AuthenticationService authenticationService;
 	private User testUser;
 
@@ -51,8 +58,10 @@ class AuthenticationServiceTest {
 		authenticationService = new AuthenticationService(
 				userRepository,
 				uploadService,
+				avatarService,
 				notificationSettingRepository,
-				accessManagementService
+				accessManagementService,
+				eventPublisher
 		);
 
 		testUser = EntityMockFactory.createUser("Test User");
@@ -92,6 +101,7 @@ class AuthenticationServiceTest {
 
 		assertNotNull(result);
 		verify(uploadService).store(any(), any(), eq(UploadFileType.IMAGE));
+		verify(avatarService).createVariants("stored-file");
 		verify(userRepository).save(any(User.class));
 	}
 
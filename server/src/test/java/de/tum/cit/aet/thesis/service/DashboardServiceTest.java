@@ -0,0 +1,97 @@
+package de.tum.cit.aet.thesis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.thesis.dto.TaskDto;
+import de.tum.cit.aet.thesis.entity.ResearchGroup;
+import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+import de.tum.cit.aet.thesis.repository.ApplicationRepository;
+import de.tum.cit.aet.thesis.repository.ThesisRepository;
+import de.tum.cit.aet.thesis.repository.TopicRepository;
+import de.tum.cit.aet.thesis.security.CurrentUserProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+	@Mock private ThesisRepository thesisRepository;
+	@Mock private ApplicationRepository applicationRepository;
+	@Mock private TopicRepository topicRepository;
+	@Mock private CurrentUserProvider currentUserProvider;
+
+	private SimpleMeterRegistry meterRegistry;
+	private DashboardService dashboardService;
+	private ResearchGroup researchGroup;
+	private User supervisor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dashboardService = new DashboardService(
+				thesisRepository,
+				applicationRepository,
+				topicRepository,
+				currentUserProvider,
+				meterRegistry,
+				100,
+				Duration.ofMinutes(5)
+		);
+
+		researchGroup = EntityMockFactory.createResearchGroup("Test Research Group");
+		supervisor = EntityMockFactory.createUserWithGroup("Supervisor", "supervisor");
+		supervisor.setResearchGroup(researchGroup);
+
+		when(thesisRepository.findDashboardTheses(any(), any())).thenReturn(List.of());
+		when(applicationRepository.countUnreviewedApplications(any(), any())).thenReturn(3L);
+	}
+
+	@Test
+	void getTasks_SecondCall_IsServedFromCache() {
+		List<TaskDto> first = dashboardService.getTasks(supervisor);
+		List<TaskDto> second = dashboardService.getTasks(supervisor);
+
+		assertThat(second).isEqualTo(first);
+		verify(thesisRepository, times(1)).findDashboardTheses(supervisor.getId(), researchGroup.getId());
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "dashboardTasks").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void onUserTasksChanged_EvictsAffectedUser() {
+		dashboardService.getTasks(supervisor);
+
+		dashboardService.onUserTasksChanged(new DashboardService.UserTasksChangedEvent(Set.of(supervisor.getId())));
+		dashboardService.getTasks(supervisor);
+
+		verify(thesisRepository, times(2)).findDashboardTheses(supervisor.getId(), researchGroup.getId());
+	}
+
+	@Test
+	void onResearchGroupTasksChanged_KeepsOtherGroupsCached() {
+		dashboardService.getTasks(supervisor);
+
+		dashboardService.onResearchGroupTasksChanged(new DashboardService.ResearchGroupTasksChangedEvent(UUID.randomUUID()));
+		dashboardService.getTasks(supervisor);
+
+		verify(applicationRepository, times(1)).countUnreviewedApplications(supervisor.getId(), researchGroup.getId());
+
+		dashboardService.onResearchGroupTasksChanged(new DashboardService.ResearchGroupTasksChangedEvent(researchGroup.getId()));
+		dashboardService.getTasks(supervisor);
+
+		verify(applicationRepository, times(2)).countUnreviewedApplications(supervisor.getId(), researchGroup.getId());
+	}
+}
@@ -0,0 +1,119 @@
+package de.tum.cit.aet.thesis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.tum.cit.aet.thesis.constants.DataExportState;
+import de.tum.cit.aet.thesis.entity.DataExport;
+import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
+import de.tum.cit.aet.thesis.repository.DataExportRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Covers creating exports right after the request committed, which the other tests disable to assert on
+ * the requested state.
+ */
+@Testcontainers
+class DataExportOnRequestIntegrationTest extends BaseIntegrationTest {
+	private static final Set<DataExportState> CREATED_STATES = Set.of(DataExportState.EMAIL_SENT, DataExportState.EMAIL_FAILED);
+
+	@DynamicPropertySource
+	static void configureDynamicProperties(DynamicPropertyRegistry registry) {
+		configureProperties(registry);
+		registry.add("thesis-management.data-export.process-on-request", () -> "true");
+		registry.add("thesis-management.data-export.max-concurrency", () -> "2");
+	}
+
+	@Autowired
+	private DataExportRepository dataExportRepository;
+
+	@Value("${thesis-management.data-export.path}")
+	private String exportPath;
+
+	private final ObjectMapper jsonMapper = new ObjectMapper();
+
+	private JsonNode readZipEntry(ZipFile zip, String entryName) throws Exception {
+		ZipEntry entry = zip.getEntry(entryName);
+		assertThat(entry).as("ZIP entry '%s' should exist", entryName).isNotNull();
+		try (InputStream is = zip.getInputStream(entry)) {
+			return jsonMapper.readTree(is);
+		}
+	}
+
+	private List<DataExport> awaitCreatedExports(List<UUID> userIds, Duration timeout) throws InterruptedException {
+		Instant deadline = Instant.now().plus(timeout);
+
+		while (true) {
+			List<DataExport> exports = dataExportRepository.findAllByUserIdIn(userIds);
+			boolean allCreated = exports.size() == userIds.size()
+					&& exports.stream().allMatch(export -> CREATED_STATES.contains(export.getState()));
+
+			if (allCreated || Instant.now().isAfter(deadline)) {
+				return exports;
+			}
+
+			Thread.sleep(100);
+		}
+	}
+
+	@Test
+	void requestDataExport_CreatesExportsAfterCommit() throws Exception {
+		List<TestUser> students = new ArrayList<>();
+
+		for (int i = 0; i < 5; i++) {
+			TestUser student = createRandomTestUser(List.of("student"));
+			students.add(student);
+
+			mockMvc.perform(MockMvcRequestBuilders.post("/v2/data-exports")
+							.header("Authorization", generateTestAuthenticationHeader(student.universityId(), List.of("student"))))
+					.andExpect(status().isOk());
+		}
+
+		// More exports than permits, so some of them wait for a running creation to finish
+		List<DataExport> exports = awaitCreatedExports(students.stream().map(TestUser::userId).toList(), Duration.ofSeconds(30));
+
+		assertThat(exports).hasSize(students.size());
+		assertThat(exports).allSatisfy(export -> {
+			assertThat(export.getState()).isIn(CREATED_STATES);
+			assertThat(export.getFilePath()).isNotNull();
+			assertThat(export.getCreationFinishedAt()).isNotNull();
+		});
+
+		Map<UUID, DataExport> exportsByUser = exports.stream()
+				.collect(Collectors.toMap(export -> export.getUser().getId(), Function.identity()));
+
+		for (TestUser student : students) {
+			DataExport export = exportsByUser.get(student.userId());
+			assertThat(export).isNotNull();
+
+			try (ZipFile zip = new ZipFile(Path.of(exportPath).resolve(export.getFilePath()).toFile())) {
+				assertThat(zip.getEntry("README.txt")).isNotNull();
+				assertThat(readZipEntry(zip, "user.json").path("universityId").asString()).isEqualTo(student.universityId());
+				assertThat(readZipEntry(zip, "applications.json").isArray()).isTrue();
+				assertThat(readZipEntry(zip, "theses.json").isArray()).isTrue();
+			}
+		}
+	}
+}
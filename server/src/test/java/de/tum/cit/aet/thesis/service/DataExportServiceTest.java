@@ -12,6 +12,7 @@ import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
 import de.tum.cit.aet.thesis.repository.DataExportRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -43,6 +44,9 @@ class DataExportServiceTest extends BaseIntegrationTest {
 	@Autowired
 	private DataExportRepository dataExportRepository;
 
+	@Value("${thesis-management.data-export.path}")
+	private String exportPath;
+
 	private final ObjectMapper jsonMapper = new ObjectMapper();
 
 	private void assertExportSucceeded(DataExport export) {
@@ -145,7 +149,7 @@ class DataExportServiceTest extends BaseIntegrationTest {
 		assertExportSucceeded(export);
 
 		// Validate ZIP content to catch serialization and lazy loading issues
-		try (ZipFile zip = new ZipFile(Path.of(export.getFilePath()).toFile())) {
+		try (ZipFile zip = new ZipFile(Path.of(exportPath).resolve(export.getFilePath()).toFile())) {
 			assertThat(zip.getEntry("README.txt")).isNotNull();
 
 			// user.json: verify profile fields and Instant serialization
@@ -7,6 +7,7 @@ import de.tum.cit.aet.thesis.constants.ApplicationState;
 import de.tum.cit.aet.thesis.controller.payload.CreateApplicationPayload;
 import de.tum.cit.aet.thesis.controller.payload.CreateThesisPayload;
 import de.tum.cit.aet.thesis.controller.payload.ReplaceTopicPayload;
+import de.tum.cit.aet.thesis.entity.Application;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
@@ -25,6 +26,7 @@ import jakarta.persistence.EntityManager;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -206,6 +208,58 @@ class DataRetentionServiceTest extends BaseIntegrationTest {
 		assertThat(applicationRepository.findById(applicationId)).isEmpty();
 	}
 
+	@Test
+	void deleteExpiredRejectedApplicationsDeletesAllChunks() throws Exception {
+		UUID applicationId = createRejectedApplication(400);
+
+		// Clone the application so that the expired applications span several delete chunks
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < 4; i++) {
+				entityManager.createNativeQuery(
+								"INSERT INTO applications SELECT (jsonb_populate_record(a, "
+										+ "jsonb_build_object('application_id', gen_random_uuid()))).* "
+										+ "FROM applications a WHERE application_id = :id")
+						.setParameter("id", applicationId)
+						.executeUpdate();
+			}
+		});
+
+		int deleted = dataRetentionService.deleteExpiredRejectedApplications();
+
+		assertThat(deleted).isEqualTo(5);
+		assertThat(applicationRepository.findAll()).noneMatch(application -> application.getState() == ApplicationState.REJECTED);
+		assertThat(applicationReviewerRepository.findAll()).isEmpty();
+	}
+
+	@Test
+	void deleteExpiredRejectedApplicationsKeepsDeletingChunkWithUndeletableApplication() throws Exception {
+		UUID referencedApplicationId = createRejectedApplication(400);
+		UUID thesisId = createTestThesis("Retention Thesis");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			// One more application so that the referenced application shares its delete chunk
+			entityManager.createNativeQuery(
+							"INSERT INTO applications SELECT (jsonb_populate_record(a, "
+									+ "jsonb_build_object('application_id', gen_random_uuid()))).* "
+									+ "FROM applications a WHERE application_id = :id")
+					.setParameter("id", referencedApplicationId)
+					.executeUpdate();
+			// theses.application_id does not cascade, so the referenced application cannot be deleted
+			entityManager.createNativeQuery("UPDATE theses SET application_id = :applicationId WHERE thesis_id = :thesisId")
+					.setParameter("applicationId", referencedApplicationId)
+					.setParameter("thesisId", thesisId)
+					.executeUpdate();
+		});
+
+		int deleted = dataRetentionService.deleteExpiredRejectedApplications();
+
+		assertThat(deleted).isEqualTo(1);
+		assertThat(applicationRepository.findAll())
+				.filteredOn(application -> application.getState() == ApplicationState.REJECTED)
+				.extracting(Application::getId)
+				.containsExactly(referencedApplicationId);
+	}
+
 	// --- Inactive user disabling tests ---
 
 	private void backdateUserActivity(UUID userId, int daysAgo) {
@@ -232,6 +286,22 @@ class DataRetentionServiceTest extends BaseIntegrationTest {
 		assertThat(user.isDisabled()).isTrue();
 	}
 
+	@Test
+	void disablesInactiveStudentsAcrossBatches() throws Exception {
+		// More candidates than fit into one batch of the test configuration, the last batch is partial
+		List<UUID> studentIds = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			TestUser student = createRandomTestUser(List.of("student"));
+			backdateUserActivity(student.userId(), 400);
+			studentIds.add(student.userId());
+		}
+
+		int disabled = dataRetentionService.disableInactiveUsers();
+
+		assertThat(disabled).isEqualTo(studentIds.size());
+		assertThat(userRepository.findAllById(studentIds)).hasSize(studentIds.size()).allMatch(User::isDisabled);
+	}
+
 	@Test
 	void doesNotDisableRecentlyActiveStudent() throws Exception {
 		TestUser student = createRandomTestUser(List.of("student"));
@@ -20,6 +20,7 @@ import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.EmailTemplateRepository;
 import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
+import de.tum.cit.aet.thesis.utility.EmailTemplateCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +48,8 @@ class EmailTemplateServiceTest {
 	private CurrentUserProvider currentUserProvider;
 	@Mock
 	private ResearchGroupRepository researchGroupRepository;
+	@Mock
+	private EmailTemplateCache emailTemplateCache;
 
 	private EmailTemplateService emailTemplateService;
 
@@ -55,7 +58,8 @@ class EmailTemplateServiceTest {
 		emailTemplateService = new EmailTemplateService(
 				emailTemplateRepository,
 				currentUserProviderProvider,
-				researchGroupRepository
+				researchGroupRepository,
+				emailTemplateCache
 		);
 		lenient().when(currentUserProviderProvider.getObject()).thenReturn(currentUserProvider);
 	}
@@ -195,6 +199,7 @@ class EmailTemplateServiceTest {
 		assertEquals("body", result.getBodyHtml());
 		assertEquals("en", result.getLanguage());
 		assertEquals(updater, result.getUpdatedBy());
+		verify(emailTemplateCache).evict(existing.getId());
 	}
 
 	@Test
@@ -227,6 +232,20 @@ class EmailTemplateServiceTest {
 		assertThrows(AccessDeniedException.class, () -> emailTemplateService.deleteEmailTemplate(id));
 	}
 
+	@Test
+	void deleteEmailTemplate_WhenAdmin_DeletesAndEvictsCachedTemplate() {
+		UUID id = UUID.randomUUID();
+		EmailTemplate emailTemplate = new EmailTemplate();
+		emailTemplate.setId(id);
+		when(emailTemplateRepository.findById(id)).thenReturn(Optional.of(emailTemplate));
+		when(currentUserProvider.isAdmin()).thenReturn(true);
+
+		emailTemplateService.deleteEmailTemplate(id);
+
+		verify(emailTemplateRepository).deleteById(id);
+		verify(emailTemplateCache).evict(id);
+	}
+
 	@Test
 	void getVariablesForTemplate_WithInterviewSlotCase_ReturnsRecipientAndInterviewVariables() {
 		UUID id = UUID.randomUUID();
@@ -24,8 +24,10 @@ import de.tum.cit.aet.thesis.entity.Interviewee;
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.Topic;
 import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.exception.request.ResourceAlreadyExistsException;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.repository.InterviewProcessRepository;
+import de.tum.cit.aet.thesis.repository.InterviewSlotRepository;
 import de.tum.cit.aet.thesis.repository.IntervieweeRepository;
 import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +37,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -65,9 +68,13 @@ class InterviewProcessServiceTest {
 	@Mock
 	private IntervieweeRepository intervieweeRepository;
 	@Mock
+	private InterviewSlotRepository interviewSlotRepository;
+	@Mock
 	private MailingService mailingService;
 	@Mock
 	private CalendarService calendarService;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	private InterviewProcessService interviewProcessService;
 
@@ -79,8 +86,10 @@ class InterviewProcessServiceTest {
 				currentUserProviderProvider,
 				applicationService,
 				intervieweeRepository,
+				interviewSlotRepository,
 				mailingService,
 				calendarService,
+				eventPublisher,
 				new InternetAddress("noreply@example.com")
 		);
 
@@ -215,37 +224,57 @@ class InterviewProcessServiceTest {
 		when(currentUserProvider.isAdmin()).thenReturn(true);
 		when(currentUserProvider.getUser()).thenReturn(new User());
 
-		User intervieweeUser = new User();
-		intervieweeUser.setId(intervieweeUserId);
-		Application application = new Application();
-		application.setUser(intervieweeUser);
-
-		Interviewee interviewee = new Interviewee();
-		interviewee.setApplication(application);
-
-		InterviewSlot slot = new InterviewSlot();
-		slot.setId(slotId);
-		slot.setInterviewee(null);
+		Interviewee interviewee = createInterviewee(UUID.randomUUID(), intervieweeUserId);
 
 		Topic topic = new Topic();
 		topic.setResearchGroup(new ResearchGroup());
 		InterviewProcess process = new InterviewProcess();
 		process.setId(processId);
 		process.setTopic(topic);
-		process.setSlots(List.of(slot));
-		process.setInterviewees(List.of(interviewee));
+
+		InterviewSlot slot = createSlot(process, Instant.now(), Instant.now().plusSeconds(1800));
+		slot.setId(slotId);
+		slot.setInterviewee(interviewee);
 
 		when(interviewProcessRepository.findById(processId)).thenReturn(Optional.of(process));
-		when(interviewProcessRepository.save(any(InterviewProcess.class))).thenReturn(process);
+		when(intervieweeRepository.findAllByInterviewProcessIdAndUserId(processId, intervieweeUserId)).thenReturn(List.of(interviewee));
+		when(interviewSlotRepository.bookIfAvailable(processId, slotId, interviewee)).thenReturn(1);
+		when(interviewSlotRepository.findById(slotId)).thenReturn(Optional.of(slot));
 
 		InterviewSlot bookedSlot = interviewProcessService.bookInterviewSlot(processId, slotId, intervieweeUserId);
 
 		assertNotNull(bookedSlot);
 		assertEquals(interviewee, bookedSlot.getInterviewee());
-		verify(interviewProcessRepository).save(process);
+		verify(interviewProcessRepository, never()).save(any(InterviewProcess.class));
 		verify(mailingService).sendInterviewSlotConfirmationEmail(slot, "BOOK");
 	}
 
+	@Test
+	void bookInterviewSlot_WhenSlotBookedByOtherInterviewee_ThrowsConflict() {
+		UUID processId = UUID.randomUUID();
+		UUID intervieweeUserId = UUID.randomUUID();
+		when(currentUserProvider.isAdmin()).thenReturn(true);
+		when(currentUserProvider.getUser()).thenReturn(createUser("Admin"));
+
+		InterviewProcess process = new InterviewProcess();
+		process.setId(processId);
+		process.setTopic(new Topic());
+		Interviewee interviewee = createInterviewee(UUID.randomUUID(), intervieweeUserId);
+		InterviewSlot slot = createSlot(process, Instant.now(), Instant.now().plusSeconds(1800));
+		slot.setInterviewee(createInterviewee(UUID.randomUUID(), UUID.randomUUID()));
+
+		when(interviewProcessRepository.findById(processId)).thenReturn(Optional.of(process));
+		when(intervieweeRepository.findAllByInterviewProcessIdAndUserId(processId, intervieweeUserId)).thenReturn(List.of(interviewee));
+		when(interviewSlotRepository.bookIfAvailable(processId, slot.getId(), interviewee)).thenReturn(0);
+		when(interviewSlotRepository.findById(slot.getId())).thenReturn(Optional.of(slot));
+
+		ResourceAlreadyExistsException exception = assertThrows(ResourceAlreadyExistsException.class, () ->
+				interviewProcessService.bookInterviewSlot(processId, slot.getId(), intervieweeUserId)
+		);
+		assertEquals("Slot is already booked.", exception.getMessage());
+		verify(mailingService, never()).sendInterviewSlotConfirmationEmail(any(), anyString());
+	}
+
 	@Test
 	void getMyBookedSlot_WhenCurrentUserHasNoBooking_ThrowsResourceNotFound() {
 		UUID processId = UUID.randomUUID();
@@ -548,10 +577,13 @@ class InterviewProcessServiceTest {
 		when(currentUserProvider.getUser()).thenReturn(createUser("Admin"));
 
 		InterviewProcess process = new InterviewProcess();
-		process.setSlots(List.of());
-		process.setInterviewees(List.of());
+		process.setId(processId);
 		process.setTopic(new Topic());
+		Interviewee interviewee = createInterviewee(UUID.randomUUID(), intervieweeUserId);
 		when(interviewProcessRepository.findById(processId)).thenReturn(Optional.of(process));
+		when(intervieweeRepository.findAllByInterviewProcessIdAndUserId(processId, intervieweeUserId)).thenReturn(List.of(interviewee));
+		when(interviewSlotRepository.bookIfAvailable(processId, slotId, interviewee)).thenReturn(0);
+		when(interviewSlotRepository.findById(slotId)).thenReturn(Optional.empty());
 
 		assertThrows(ResourceNotFoundException.class, () ->
 				interviewProcessService.bookInterviewSlot(processId, slotId, intervieweeUserId)
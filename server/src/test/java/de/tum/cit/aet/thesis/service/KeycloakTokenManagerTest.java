@@ -0,0 +1,50 @@
+package de.tum.cit.aet.thesis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class KeycloakTokenManagerTest {
+	private final AtomicInteger tokenRequests = new AtomicInteger();
+
+	private KeycloakTokenManager tokenManager(long expiresIn) {
+		WebClient webClient = WebClient.builder()
+				.exchangeFunction(request -> {
+					int number = tokenRequests.incrementAndGet();
+
+					return Mono.just(ClientResponse.create(HttpStatus.OK)
+							.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+							.body("{\"access_token\":\"token-" + number + "\",\"expires_in\":" + expiresIn + "}")
+							.build());
+				})
+				.build();
+
+		return new KeycloakTokenManager(webClient, "thesis-management", "client", "secret");
+	}
+
+	@Test
+	void getAccessToken_WithinLifetime_ReusesToken() {
+		KeycloakTokenManager tokenManager = tokenManager(300);
+
+		assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-1");
+		assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-1");
+		assertThat(tokenRequests).hasValue(1);
+	}
+
+	@Test
+	void getAccessToken_ExpiredToken_RequestsNewToken() {
+		KeycloakTokenManager tokenManager = tokenManager(0);
+
+		assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-1");
+		assertThat(tokenManager.getAccessToken().block()).isEqualTo("token-2");
+		assertThat(tokenRequests).hasValue(2);
+	}
+}
@@ -0,0 +1,415 @@
+package de.tum.cit.aet.thesis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
+import de.tum.cit.aet.thesis.entity.MailOutboxAttachment;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
+import de.tum.cit.aet.thesis.exception.UploadException;
+import de.tum.cit.aet.thesis.repository.MailOutboxRepository;
+import de.tum.cit.aet.thesis.utility.BatchingMailSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import jakarta.mail.Message;
+import jakarta.mail.Multipart;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+	private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+	private static final byte[] CV_CONTENT = "%PDF-1.4 curriculum vitae".getBytes();
+	private static final long ATTACHMENT_CACHE_BYTES = 1024 * 1024;
+
+	@TempDir
+	Path tempDir;
+
+	@Mock
+	private MailOutboxRepository mailOutboxRepository;
+	@Mock
+	private JavaMailSender javaMailSender;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private UploadService uploadService;
+
+	private final Session session = Session.getInstance(new Properties());
+	private MailOutboxService mailOutboxService;
+
+	@BeforeEach
+	void setUp() {
+		mailOutboxService = new MailOutboxService(
+				mailOutboxRepository,
+				new BatchingMailSender(javaMailSender, new SimpleMeterRegistry(), 10),
+				uploadService,
+				eventPublisher,
+				Clock.fixed(NOW, ZoneOffset.UTC),
+				true,
+				10,
+				2,
+				3,
+				Duration.ofMinutes(1),
+				Duration.ofMinutes(5),
+				Duration.ofDays(7),
+				Duration.ofDays(30),
+				ATTACHMENT_CACHE_BYTES
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		mailOutboxService.shutdown();
+	}
+
+	@Test
+	void enqueue_StoresRenderedMessageAndPublishesEvent() throws Exception {
+		when(mailOutboxRepository.save(any(MailOutboxEntry.class))).thenAnswer(invocation -> {
+			MailOutboxEntry entry = invocation.getArgument(0);
+			entry.setId(UUID.randomUUID());
+			return entry;
+		});
+
+		UUID recipientId = UUID.randomUUID();
+		MailOutboxEntry entry = mailOutboxService.enqueue(
+				createMessage("Hello"), recipientId, List.of(MailOutboxService.Attachment.stored("cv.pdf", "CV.pdf")));
+
+		assertThat(entry.getState()).isEqualTo(MailOutboxState.PENDING);
+		assertThat(entry.getSubject()).isEqualTo("Hello");
+		assertThat(entry.getRecipients()).contains("student@example.com");
+		assertThat(entry.getRecipientId()).isEqualTo(recipientId);
+		assertThat(entry.getMimeMessage()).isNotEmpty();
+		assertThat(entry.getAttachments()).singleElement().satisfies(attachment -> {
+			assertThat(attachment.getStoredFile()).isEqualTo("cv.pdf");
+			assertThat(attachment.getFilename()).isEqualTo("CV.pdf");
+			assertThat(attachment.getContent()).isNull();
+		});
+		assertThat(entry.getNextAttemptAt()).isEqualTo(NOW);
+		verify(eventPublisher).publishEvent(new MailOutboxService.MailQueuedEvent(entry.getId()));
+	}
+
+	@Test
+	void drain_DeliversClaimedMailAndMarksItSent() throws Exception {
+		MailOutboxEntry entry = createEntry(0);
+		mockDueEntry(entry);
+		when(javaMailSender.createMimeMessage(any(InputStream.class)))
+				.thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+
+		mailOutboxService.drain();
+
+		ArgumentCaptor<MimeMessage> sent = ArgumentCaptor.forClass(MimeMessage.class);
+		verify(javaMailSender).send(sent.capture());
+		assertThat(sent.getValue().getSubject()).isEqualTo("Queued");
+		verify(mailOutboxRepository).markSent(entry.getId(), NOW);
+	}
+
+	@Test
+	void drain_AppendsAttachmentsWhileSending() throws Exception {
+		Path storedFile = tempDir.resolve("cv.pdf");
+		Files.write(storedFile, CV_CONTENT);
+		when(uploadService.load("cv.pdf")).thenReturn(new FileSystemResource(storedFile));
+
+		MailOutboxEntry entry = createEntry(0);
+		entry.getAttachments().add(createAttachment("cv.pdf", "CV.pdf"));
+		mockDueEntry(entry);
+		when(javaMailSender.createMimeMessage(any(InputStream.class)))
+				.thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+
+		mailOutboxService.drain();
+
+		ArgumentCaptor<MimeMessage> sent = ArgumentCaptor.forClass(MimeMessage.class);
+		verify(javaMailSender).send(sent.capture());
+
+		Multipart content = (Multipart) parse(sent.getValue()).getContent();
+		assertThat(content.getCount()).isEqualTo(2);
+		assertThat(content.getBodyPart(1).getFileName()).isEqualTo("CV.pdf");
+		assertThat(content.getBodyPart(1).getInputStream().readAllBytes()).isEqualTo(CV_CONTENT);
+		verify(mailOutboxRepository).markSent(entry.getId(), NOW);
+	}
+
+	@Test
+	void drain_AttachmentSharedByMails_IsReadOnce() throws Exception {
+		Path storedFile = tempDir.resolve("cv.pdf");
+		Files.write(storedFile, CV_CONTENT);
+		Resource resource = spy(new FileSystemResource(storedFile));
+		when(uploadService.load("cv.pdf")).thenReturn(resource);
+
+		MailOutboxEntry first = createEntry(0);
+		first.getAttachments().add(createAttachment("cv.pdf", "CV.pdf"));
+		MailOutboxEntry second = createEntry(0);
+		second.getAttachments().add(createAttachment("cv.pdf", "CV.pdf"));
+		mockDueEntries(List.of(first, second));
+		when(javaMailSender.createMimeMessage(any(InputStream.class)))
+				.thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+
+		mailOutboxService.drain();
+
+		ArgumentCaptor<MimeMessage> sent = ArgumentCaptor.forClass(MimeMessage.class);
+		verify(javaMailSender, times(2)).send(sent.capture());
+		for (MimeMessage message : sent.getAllValues()) {
+			Multipart content = (Multipart) parse(message).getContent();
+			assertThat(content.getBodyPart(1).getFileName()).isEqualTo("CV.pdf");
+			assertThat(content.getBodyPart(1).getInputStream().readAllBytes()).isEqualTo(CV_CONTENT);
+		}
+		verify(resource, times(1)).getInputStream();
+	}
+
+	@Test
+	void drain_AttachmentExceedingCache_IsStreamedWithoutBuffering() throws Exception {
+		long size = 8 * ATTACHMENT_CACHE_BYTES;
+		AtomicLong bytesRead = new AtomicLong();
+		when(uploadService.load("large.pdf")).thenReturn(createGeneratedResource("large.pdf", size, bytesRead));
+
+		MailOutboxEntry first = createEntry(0);
+		first.getAttachments().add(createAttachment("large.pdf", "Thesis.pdf"));
+		MailOutboxEntry second = createEntry(0);
+		second.getAttachments().add(createAttachment("large.pdf", "Thesis.pdf"));
+		mockDueEntries(List.of(first, second));
+		when(javaMailSender.createMimeMessage(any(InputStream.class)))
+				.thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+
+		// Base64 writes at least four bytes for every three bytes read, anything read beyond that is buffered
+		AtomicLong bytesWritten = new AtomicLong();
+		AtomicLong maxBufferedBytes = new AtomicLong();
+		doAnswer(invocation -> {
+			invocation.getArgument(0, MimeMessage.class).writeTo(new OutputStream() {
+				@Override
+				public void write(int b) {
+					write(new byte[] {(byte) b}, 0, 1);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) {
+					long written = bytesWritten.addAndGet(len);
+					maxBufferedBytes.accumulateAndGet(bytesRead.get() - written * 3 / 4, Math::max);
+				}
+			});
+			return null;
+		}).when(javaMailSender).send(any(MimeMessage.class));
+
+		mailOutboxService.drain();
+
+		assertThat(bytesRead.get()).isEqualTo(2 * size);
+		assertThat(maxBufferedBytes.get()).isLessThan(ATTACHMENT_CACHE_BYTES / 4);
+		verify(mailOutboxRepository).markSent(first.getId(), NOW);
+		verify(mailOutboxRepository).markSent(second.getId(), NOW);
+	}
+
+	@Test
+	void drain_MissingStoredAttachment_SchedulesRetry() throws Exception {
+		when(uploadService.load("cv.pdf")).thenThrow(new UploadException("Failed to load file"));
+
+		MailOutboxEntry entry = createEntry(0);
+		entry.getAttachments().add(createAttachment("cv.pdf", "CV.pdf"));
+		mockDueEntry(entry);
+		when(javaMailSender.createMimeMessage(any(InputStream.class)))
+				.thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+
+		mailOutboxService.drain();
+
+		verify(javaMailSender, never()).send(any(MimeMessage.class));
+		verify(mailOutboxRepository).markFailed(
+				entry.getId(), MailOutboxState.PENDING, NOW.plus(Duration.ofMinutes(1)), "Failed to load file");
+	}
+
+	@Test
+	void drain_SkipsMailClaimedByAnotherInstance() {
+		UUID mailId = UUID.randomUUID();
+		when(mailOutboxRepository.findDueIds(eq(NOW), any(Limit.class))).thenReturn(List.of(mailId));
+		when(mailOutboxRepository.claimForSending(eq(mailId), any(Instant.class))).thenReturn(0);
+
+		mailOutboxService.drain();
+
+		verify(mailOutboxRepository, never()).findAllWithAttachmentsByIdIn(any());
+		verify(javaMailSender, never()).send(any(MimeMessage.class));
+	}
+
+	@Test
+	void drain_FailedDelivery_SchedulesRetryWithBackoff() throws Exception {
+		MailOutboxEntry entry = createEntry(1);
+		mockDueEntry(entry);
+		when(javaMailSender.createMimeMessage(any(InputStream.class)))
+				.thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+		doThrow(new MailSendException("relay unavailable")).when(javaMailSender).send(any(MimeMessage.class));
+
+		mailOutboxService.drain();
+
+		verify(mailOutboxRepository).markFailed(
+				entry.getId(), MailOutboxState.PENDING, NOW.plus(Duration.ofMinutes(2)), "relay unavailable");
+		verify(mailOutboxRepository, never()).markSent(any(), any());
+	}
+
+	@Test
+	void drain_LastAttemptFails_DeadLettersMail() throws Exception {
+		MailOutboxEntry entry = createEntry(2);
+		mockDueEntry(entry);
+		when(javaMailSender.createMimeMessage(any(InputStream.class)))
+				.thenAnswer(invocation -> new MimeMessage(session, invocation.getArgument(0, InputStream.class)));
+		doThrow(new MailSendException("mailbox unavailable")).when(javaMailSender).send(any(MimeMessage.class));
+
+		mailOutboxService.drain();
+
+		verify(mailOutboxRepository).markFailed(
+				eq(entry.getId()), eq(MailOutboxState.DEAD), any(Instant.class), anyString());
+	}
+
+	@Test
+	void purgeExpiredMails_DeletesSentAndDeadMailsPastTheirRetention() {
+		when(mailOutboxRepository.deleteExpired(NOW.minus(Duration.ofDays(7)), NOW.minus(Duration.ofDays(30)))).thenReturn(3);
+
+		assertThat(mailOutboxService.purgeExpiredMails()).isEqualTo(3);
+	}
+
+	@Test
+	void computeBackoff_DoublesPerAttemptAndIsCapped() {
+		assertThat(mailOutboxService.computeBackoff(1)).isEqualTo(Duration.ofMinutes(1));
+		assertThat(mailOutboxService.computeBackoff(2)).isEqualTo(Duration.ofMinutes(2));
+		assertThat(mailOutboxService.computeBackoff(3)).isEqualTo(Duration.ofMinutes(4));
+		assertThat(mailOutboxService.computeBackoff(4)).isEqualTo(Duration.ofMinutes(5));
+		assertThat(mailOutboxService.computeBackoff(40)).isEqualTo(Duration.ofMinutes(5));
+	}
+
+	private void mockDueEntry(MailOutboxEntry entry) {
+		mockDueEntries(List.of(entry));
+	}
+
+	private void mockDueEntries(List<MailOutboxEntry> entries) {
+		List<UUID> ids = entries.stream().map(MailOutboxEntry::getId).toList();
+		when(mailOutboxRepository.findDueIds(eq(NOW), any(Limit.class))).thenReturn(ids);
+		for (UUID id : ids) {
+			when(mailOutboxRepository.claimForSending(eq(id), any(Instant.class))).thenReturn(1);
+		}
+		when(mailOutboxRepository.findAllWithAttachmentsByIdIn(ids)).thenReturn(entries);
+	}
+
+	private Resource createGeneratedResource(String filename, long size, AtomicLong bytesRead) {
+		return new AbstractResource() {
+			@Override
+			public String getDescription() {
+				return "Generated [" + filename + "]";
+			}
+
+			@Override
+			public String getFilename() {
+				return filename;
+			}
+
+			@Override
+			public long contentLength() {
+				return size;
+			}
+
+			@Override
+			public InputStream getInputStream() {
+				return new InputStream() {
+					private long position;
+
+					@Override
+					public int read() {
+						byte[] buffer = new byte[1];
+						return read(buffer, 0, 1) == -1 ? -1 : buffer[0] & 0xFF;
+					}
+
+					@Override
+					public int read(byte[] buffer, int off, int len) {
+						if (position >= size) {
+							return -1;
+						}
+
+						int count = (int) Math.min(len, size - position);
+						Arrays.fill(buffer, off, off + count, (byte) 'A');
+						position += count;
+						bytesRead.addAndGet(count);
+						return count;
+					}
+				};
+			}
+		};
+	}
+
+	private MailOutboxEntry createEntry(int attempts) throws Exception {
+		MimeMessage message = createMessage("Queued");
+		message.saveChanges();
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		message.writeTo(outputStream);
+
+		MailOutboxEntry entry = new MailOutboxEntry();
+		entry.setId(UUID.randomUUID());
+		entry.setSubject("Queued");
+		entry.setRecipients("student@example.com");
+		entry.setMimeMessage(outputStream.toByteArray());
+		entry.setState(MailOutboxState.SENDING);
+		entry.setAttempts(attempts);
+		entry.setNextAttemptAt(NOW);
+		return entry;
+	}
+
+	private MailOutboxAttachment createAttachment(String storedFile, String filename) {
+		MailOutboxAttachment attachment = new MailOutboxAttachment();
+		attachment.setStoredFile(storedFile);
+		attachment.setFilename(filename);
+		return attachment;
+	}
+
+	private MimeMessage createMessage(String subject) throws Exception {
+		MimeMessage message = new MimeMessage(session);
+		message.setFrom(new InternetAddress("sender@example.com"));
+		message.addRecipient(Message.RecipientType.TO, new InternetAddress("student@example.com"));
+		message.setSubject(subject);
+
+		MimeBodyPart body = new MimeBodyPart();
+		body.setContent("<p>Body</p>", "text/html; charset=utf-8");
+		message.setContent(new MimeMultipart(body));
+		return message;
+	}
+
+	private MimeMessage parse(MimeMessage message) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		message.writeTo(outputStream);
+		return new MimeMessage(session, new ByteArrayInputStream(outputStream.toByteArray()));
+	}
+}
@@ -29,6 +29,7 @@ import de.tum.cit.aet.thesis.repository.ThesisProposalRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
 import de.tum.cit.aet.thesis.repository.ThesisStateChangeRepository;
+import de.tum.cit.aet.thesis.utility.RetentionUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -284,6 +285,31 @@ class ThesisAnonymizationServiceTest extends BaseIntegrationTest {
 			assertThat(stillPresent.getInfo()).isEqualTo("Some info text");
 		}
 
+		@Test
+		void storesRetentionExpiryOfNonExpiredThesis() throws Exception {
+			Instant createdAt = Instant.now().minus(800, ChronoUnit.DAYS);
+			Instant endDate = Instant.now().minus(620, ChronoUnit.DAYS);
+			Thesis thesis = createTestThesisWithChildren(ThesisState.FINISHED, createdAt, endDate);
+
+			thesisAnonymizationService.anonymizeExpiredTheses();
+
+			Thesis reloaded = thesisRepository.findAllByIdInWithStates(List.of(thesis.getId())).getFirst();
+			assertThat(reloaded.getRetentionExpiresAt()).isEqualTo(RetentionUtils.computeRetentionExpiry(reloaded));
+		}
+
+		@Test
+		void skipsThesisWithOutdatedStoredExpiry() throws Exception {
+			Instant createdAt = Instant.now().minus(800, ChronoUnit.DAYS);
+			Instant endDate = Instant.now().minus(620, ChronoUnit.DAYS);
+			Thesis thesis = createTestThesisWithChildren(ThesisState.FINISHED, createdAt, endDate);
+			thesisRepository.updateRetentionExpiresAt(thesis.getId(), Instant.now().minus(1, ChronoUnit.DAYS));
+
+			int count = thesisAnonymizationService.anonymizeExpiredTheses();
+
+			assertThat(count).isEqualTo(0);
+			assertThat(thesisRepository.findById(thesis.getId()).orElseThrow().isAnonymized()).isFalse();
+		}
+
 		@Test
 		void skipsAlreadyAnonymizedThesis() throws Exception {
 			Instant createdAt = Instant.now().minus(2600, ChronoUnit.DAYS);
@@ -35,6 +35,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -60,6 +61,7 @@ class ThesisPresentationServiceTest {
 	@Mock private UserRepository userRepository;
 	@Mock private ThesisPresentationInviteRepository thesisPresentationInviteRepository;
 	@Mock private ResearchGroupSettingsService researchGroupSettingsService;
+	@Mock private ApplicationEventPublisher eventPublisher;
 
 	private ThesisPresentationService presentationService;
 	private User testUser;
@@ -80,7 +82,8 @@ class ThesisPresentationServiceTest {
 				applicationMail,
 				userRepository,
 				thesisPresentationInviteRepository,
-				researchGroupSettingsService
+				researchGroupSettingsService,
+				eventPublisher
 		);
 
 		testUser = EntityMockFactory.createUser("Test User");
@@ -2,7 +2,10 @@ package de.tum.cit.aet.thesis.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,6 +13,12 @@ import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.ThesisState;
 import de.tum.cit.aet.thesis.constants.ThesisVisibility;
 import de.tum.cit.aet.thesis.constants.UploadFileType;
+import de.tum.cit.aet.thesis.dto.PublishedThesisDto;
+import de.tum.cit.aet.thesis.dto.PublishedThesisRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisOverviewDto;
+import de.tum.cit.aet.thesis.dto.ThesisOverviewRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisRoleRowDto;
+import de.tum.cit.aet.thesis.dto.ThesisStateChangeRowDto;
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.Thesis;
 import de.tum.cit.aet.thesis.entity.ThesisAssessment;
@@ -25,6 +34,7 @@ import de.tum.cit.aet.thesis.repository.ResearchGroupRepository;
 import de.tum.cit.aet.thesis.repository.ThesisAssessmentRepository;
 import de.tum.cit.aet.thesis.repository.ThesisFeedbackRepository;
 import de.tum.cit.aet.thesis.repository.ThesisFileRepository;
+import de.tum.cit.aet.thesis.repository.ThesisPresentationRepository;
 import de.tum.cit.aet.thesis.repository.ThesisProposalRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
@@ -34,16 +44,18 @@ import de.tum.cit.aet.thesis.security.CurrentUserProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -63,6 +75,7 @@ class ThesisServiceTest {
 	@Mock private AccessManagementService accessManagementService;
 	@Mock private ThesisFeedbackRepository thesisFeedbackRepository;
 	@Mock private ThesisFileRepository thesisFileRepository;
+	@Mock private ThesisPresentationRepository thesisPresentationRepository;
 	@Mock private ObjectProvider<CurrentUserProvider> currentUserProviderProvider;
 	@Mock
 	private ResearchGroupRepository researchGroupRepository;
@@ -72,6 +85,8 @@ class ThesisServiceTest {
 	private ResearchGroupSettingsService researchGroupSettingsService;
 	@Mock
 	private UserService userService;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	private ThesisService thesisService;
 	private Thesis testThesis;
@@ -84,9 +99,9 @@ class ThesisServiceTest {
 				thesisRoleRepository, thesisRepository, thesisStateChangeRepository,
 				userRepository, thesisProposalRepository, thesisAssessmentRepository,
 				uploadService, mailingService, accessManagementService,
-				thesisFeedbackRepository, thesisFileRepository,
+				thesisFeedbackRepository, thesisFileRepository, thesisPresentationRepository,
 				currentUserProviderProvider, researchGroupRepository, researchGroupSettingsService,
-				userService
+				userService, eventPublisher
 		);
 		when(currentUserProviderProvider.getObject()).thenReturn(currentUserProvider);
 
@@ -97,6 +112,84 @@ class ThesisServiceTest {
 		EntityMockFactory.setupThesisRole(testThesis, testUser, ThesisRoleName.EXAMINER);
 	}
 
+	@Test
+	void getAllOverviews_AssemblesRolesStatesAndPresentationsPerThesis() {
+		UUID thesisId = UUID.randomUUID();
+		UUID otherThesisId = UUID.randomUUID();
+		Instant createdAt = Instant.now().minusSeconds(3600);
+
+		when(thesisRepository.findOverviewRows(any(), any(), anyLong(), anyInt())).thenReturn(List.of(
+				new ThesisOverviewRowDto(thesisId, "First", "MASTER", ThesisState.WRITING, null, null, createdAt,
+						Set.of("keyword"), testResearchGroup.getId(), testResearchGroup.getName()),
+				new ThesisOverviewRowDto(otherThesisId, "Second", "BACHELOR", ThesisState.PROPOSAL, null, null, createdAt,
+						Set.of(), testResearchGroup.getId(), testResearchGroup.getName())
+		));
+		when(thesisRoleRepository.findRowsByThesisIds(List.of(thesisId, otherThesisId))).thenReturn(List.of(
+				new ThesisRoleRowDto(thesisId, ThesisRoleName.STUDENT, UUID.randomUUID(), "Stu", "Dent", " "),
+				new ThesisRoleRowDto(thesisId, ThesisRoleName.SUPERVISOR, UUID.randomUUID(), "Super", "Visor", "avatar.png"),
+				new ThesisRoleRowDto(otherThesisId, ThesisRoleName.EXAMINER, UUID.randomUUID(), "Exa", "Miner", null)
+		));
+		when(thesisStateChangeRepository.findRowsByThesisIds(List.of(thesisId, otherThesisId))).thenReturn(List.of(
+				new ThesisStateChangeRowDto(thesisId, ThesisState.WRITING, createdAt.plusSeconds(60)),
+				new ThesisStateChangeRowDto(thesisId, ThesisState.PROPOSAL, createdAt)
+		));
+		when(thesisPresentationRepository.findRowsByThesisIds(List.of(thesisId, otherThesisId))).thenReturn(List.of());
+
+		Page<ThesisOverviewDto> result = thesisService.getAllOverviews(
+				testUser.getId(), true, null, null, null, 0, 10, "createdAt", "desc", null
+		);
+
+		ThesisOverviewDto first = result.getContent().getFirst();
+		assertEquals(2, result.getTotalElements());
+		assertEquals("Stu", first.students().getFirst().firstName());
+		assertNull(first.students().getFirst().avatar());
+		assertEquals("avatar.png", first.supervisors().getFirst().avatar());
+		assertTrue(first.examiners().isEmpty());
+		assertEquals(List.of(ThesisState.PROPOSAL, ThesisState.WRITING),
+				first.states().stream().map(state -> state.state()).toList());
+		assertEquals(testResearchGroup.getName(), first.researchGroup().name());
+
+		ThesisOverviewDto second = result.getContent().get(1);
+		assertEquals("Exa", second.examiners().getFirst().firstName());
+		assertTrue(second.states().isEmpty());
+	}
+
+	@Test
+	void getAllPublished_WithoutRows_SkipsRoleQuery() {
+		when(thesisRepository.findPublishedRows(any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+
+		Page<PublishedThesisDto> result = thesisService.getAllPublished(
+				testUser.getId(), true, null, new ThesisState[]{ThesisState.FINISHED}, null, 0, 10, "endDate", "desc", null
+		);
+
+		assertTrue(result.getContent().isEmpty());
+		verify(thesisRoleRepository, never()).findRowsByThesisIds(any());
+	}
+
+	@Test
+	void getAllPublished_AssemblesRoles() {
+		UUID thesisId = UUID.randomUUID();
+
+		when(thesisRepository.findPublishedRows(any(), any(), anyLong(), anyInt())).thenReturn(List.of(
+				new PublishedThesisRowDto(thesisId, ThesisState.FINISHED, "Published", "MASTER", null, null, Instant.now(),
+						"Abstract", testResearchGroup.getId(), testResearchGroup.getName())
+		));
+		when(thesisRoleRepository.findRowsByThesisIds(List.of(thesisId))).thenReturn(List.of(
+				new ThesisRoleRowDto(thesisId, ThesisRoleName.STUDENT, UUID.randomUUID(), "Stu", "Dent", null),
+				new ThesisRoleRowDto(thesisId, ThesisRoleName.EXAMINER, UUID.randomUUID(), "Exa", "Miner", null)
+		));
+
+		Page<PublishedThesisDto> result = thesisService.getAllPublished(
+				testUser.getId(), true, null, new ThesisState[]{ThesisState.FINISHED}, null, 0, 10, "endDate", "desc", null
+		);
+
+		PublishedThesisDto thesis = result.getContent().getFirst();
+		assertEquals("Abstract", thesis.abstractText());
+		assertEquals("Stu", thesis.students().getFirst().firstName());
+		assertEquals("Exa", thesis.examiners().getFirst().firstName());
+		assertTrue(thesis.supervisors().isEmpty());
+	}
+
 	@Test
 	void createThesis_WithValidData_CreatesThesis() {
 		User examiner = EntityMockFactory.createUserWithGroup("Examiner", "supervisor");
@@ -388,9 +481,7 @@ class ThesisServiceTest {
 		EntityMockFactory.setupThesisRole(testThesis, student, ThesisRoleName.STUDENT);
 
 		when(thesisRepository.save(any(Thesis.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(thesisRepository.searchTheses(
-				any(), any(), any(), any(), any(), any(), any()
-		)).thenReturn(new PageImpl<>(Collections.emptyList()));
+		when(thesisRepository.exists(ArgumentMatchers.<Specification<Thesis>>any())).thenReturn(false);
 
 		Thesis result = thesisService.completeThesis(testThesis);
 
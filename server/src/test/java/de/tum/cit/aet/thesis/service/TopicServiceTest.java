@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import de.tum.cit.aet.thesis.constants.ThesisRoleName;
 import de.tum.cit.aet.thesis.constants.TopicState;
 import de.tum.cit.aet.thesis.entity.ResearchGroup;
 import de.tum.cit.aet.thesis.entity.Topic;
 import de.tum.cit.aet.thesis.entity.TopicRole;
 import de.tum.cit.aet.thesis.entity.User;
+import de.tum.cit.aet.thesis.entity.key.TopicRoleId;
 import de.tum.cit.aet.thesis.exception.request.ResourceInvalidParametersException;
 import de.tum.cit.aet.thesis.exception.request.ResourceNotFoundException;
 import de.tum.cit.aet.thesis.mock.EntityMockFactory;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -51,6 +54,8 @@ class TopicServiceTest {
 	private ResearchGroupRepository researchGroupRepository;
 	@Mock
 	private InterviewProcessRepository interviewProcessRepository;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	private TopicService topicService;
 	private Topic testTopic;
@@ -65,7 +70,8 @@ class TopicServiceTest {
 				userRepository,
 				currentUserProviderProvider,
 				researchGroupRepository,
-				interviewProcessRepository
+				interviewProcessRepository,
+				eventPublisher
 		);
 
 		testUser = EntityMockFactory.createUser("Test User");
@@ -217,6 +223,52 @@ class TopicServiceTest {
 		verify(topicRepository).save(testTopic);
 	}
 
+	@Test
+	void updateTopic_WithReplacedSupervisor_EvictsInterviewCalendarsOfBothSupervisors() {
+		User examiner = EntityMockFactory.createUserWithGroup("Examiner", "supervisor");
+		User previousSupervisor = EntityMockFactory.createUserWithGroup("Previous", "advisor");
+		User supervisor = EntityMockFactory.createUserWithGroup("Supervisor", "advisor");
+
+		TopicRoleId previousRoleId = new TopicRoleId();
+		previousRoleId.setTopicId(testTopic.getId());
+		previousRoleId.setUserId(previousSupervisor.getId());
+		previousRoleId.setRole(ThesisRoleName.SUPERVISOR);
+		TopicRole previousRole = new TopicRole();
+		previousRole.setId(previousRoleId);
+		previousRole.setUser(previousSupervisor);
+		testTopic.getRoles().add(previousRole);
+
+		List<UUID> examinerIds = new ArrayList<>(List.of(examiner.getId()));
+		List<UUID> supervisorIds = new ArrayList<>(List.of(supervisor.getId()));
+		UUID researchGroupId = testUser.getResearchGroup().getId();
+
+		when(userRepository.findAllById(examinerIds)).thenReturn(new ArrayList<>(List.of(examiner)));
+		when(userRepository.findAllById(supervisorIds)).thenReturn(new ArrayList<>(List.of(supervisor)));
+		when(topicRepository.save(any(Topic.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(currentUserProviderProvider.getObject()).thenReturn(currentUserProvider);
+		when(currentUserProvider.getUser()).thenReturn(testUser);
+		when(researchGroupRepository.findById(researchGroupId)).thenReturn(Optional.ofNullable(testResearchGroup));
+
+		topicService.updateTopic(
+				testTopic,
+				"Updated Topic",
+				Set.of("Master"),
+				"Updated Problem",
+				"Updated Requirements",
+				"Updated Goals",
+				"Updated References",
+				examinerIds,
+				supervisorIds,
+				researchGroupId,
+				null,
+				null,
+				false
+		);
+
+		verify(eventPublisher).publishEvent(new CalendarFeedService.InterviewCalendarChangedEvent(
+				Set.of(previousSupervisor.getId(), supervisor.getId())));
+	}
+
 	@Test
 	void findById_WithValidId_ReturnsTopic() {
 		when(topicRepository.findById(testTopic.getId())).thenReturn(Optional.of(testTopic));
@@ -5,14 +5,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import de.tum.cit.aet.thesis.constants.UploadFileType;
 import de.tum.cit.aet.thesis.exception.UploadException;
+import de.tum.cit.aet.thesis.storage.FileSystemBlobStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 class UploadServiceTest {
 
@@ -23,7 +27,7 @@ class UploadServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		uploadService = new UploadService(tempDir.toString());
+		uploadService = new UploadService(new FileSystemBlobStorage(tempDir));
 	}
 
 	@Nested
@@ -142,6 +146,36 @@ class UploadServiceTest {
 		}
 	}
 
+	@Nested
+	class Deduplication {
+		@Test
+		void store_SameContentTwice_KeepsSingleFile() throws IOException {
+			byte[] content = {5, 4, 3, 2, 1};
+
+			String first = uploadService.store(
+					new MockMultipartFile("file", "a.pdf", "application/pdf", content), 1024 * 1024, UploadFileType.PDF);
+			String second = uploadService.store(
+					new MockMultipartFile("file", "b.pdf", "application/pdf", content), 1024 * 1024, UploadFileType.PDF);
+
+			assertThat(second).isEqualTo(first);
+			try (Stream<Path> files = Files.list(tempDir)) {
+				assertThat(files).containsExactly(tempDir.resolve(first));
+			}
+			assertThat(Files.readAllBytes(tempDir.resolve(first))).isEqualTo(content);
+		}
+
+		@Test
+		void storeBytes_SameContentAsUpload_ReturnsSameFilename() {
+			byte[] content = {9, 8, 7};
+
+			String uploaded = uploadService.store(
+					new MockMultipartFile("file", "image.png", "image/png", content), 1024 * 1024, UploadFileType.IMAGE);
+			String stored = uploadService.storeBytes(content, "png", 1024 * 1024);
+
+			assertThat(stored).isEqualTo(uploaded);
+		}
+	}
+
 	@Nested
 	class LoadFile {
 		@Test
@@ -152,7 +186,7 @@ class UploadServiceTest {
 
 			String filename = uploadService.store(file, 1024 * 1024, UploadFileType.PDF);
 
-			FileSystemResource resource = uploadService.load(filename);
+			Resource resource = uploadService.load(filename);
 			assertThat(resource).isNotNull();
 			assertThat(resource.exists()).isTrue();
 		}
@@ -3,21 +3,27 @@ package de.tum.cit.aet.thesis.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import de.tum.cit.aet.thesis.constants.MailOutboxState;
 import de.tum.cit.aet.thesis.controller.payload.CreateThesisPayload;
+import de.tum.cit.aet.thesis.entity.MailOutboxEntry;
 import de.tum.cit.aet.thesis.entity.User;
 import de.tum.cit.aet.thesis.mock.BaseIntegrationTest;
 import de.tum.cit.aet.thesis.repository.ApplicationRepository;
+import de.tum.cit.aet.thesis.repository.MailOutboxRepository;
 import de.tum.cit.aet.thesis.repository.NotificationSettingRepository;
 import de.tum.cit.aet.thesis.repository.ThesisRoleRepository;
 import de.tum.cit.aet.thesis.repository.TopicRoleRepository;
 import de.tum.cit.aet.thesis.repository.UserGroupRepository;
 import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.security.PrincipalCache;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -26,10 +32,12 @@ import jakarta.persistence.EntityManager;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Testcontainers
+@RecordApplicationEvents
 class UserDeletionServiceTest extends BaseIntegrationTest {
 
 	@DynamicPropertySource
@@ -58,13 +66,35 @@ class UserDeletionServiceTest extends BaseIntegrationTest {
 	@Autowired
 	private NotificationSettingRepository notificationSettingRepository;
 
+	@Autowired
+	private MailOutboxRepository mailOutboxRepository;
+
 	@Autowired
 	private EntityManager entityManager;
 
 	@Autowired
 	private TransactionTemplate transactionTemplate;
 
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	private boolean principalChangePublished(UUID userId) {
+		return applicationEvents.stream(PrincipalCache.UserPrincipalChangedEvent.class)
+				.anyMatch(event -> event.userId().equals(userId));
+	}
+
 	// --- Helper: assert that a user row is an anonymized tombstone ---
+	private UUID createDeadMail(UUID recipientId) {
+		MailOutboxEntry entry = new MailOutboxEntry();
+		entry.setSubject("Undeliverable");
+		entry.setRecipients("recipient@example.com");
+		entry.setRecipientId(recipientId);
+		entry.setMimeMessage(new byte[] {1});
+		entry.setState(MailOutboxState.DEAD);
+		entry.setNextAttemptAt(Instant.now());
+		return mailOutboxRepository.save(entry).getId();
+	}
+
 	private void assertTombstone(UUID userId) {
 		User tombstone = userRepository.findById(userId).orElseThrow(
 				() -> new AssertionError("Expected tombstone user row to exist for " + userId));
@@ -342,6 +372,20 @@ class UserDeletionServiceTest extends BaseIntegrationTest {
 
 			assertThat(userGroupRepository.findAll().stream()
 					.anyMatch(ug -> ug.getId().getUserId().equals(student.userId()))).isFalse();
+			assertThat(principalChangePublished(student.userId())).isTrue();
+		}
+
+		@Test
+		void deletesQueuedMailsOfUser() throws Exception {
+			TestUser student = createRandomTestUser(List.of("student"));
+			TestUser otherStudent = createRandomTestUser(List.of("student"));
+			UUID studentMailId = createDeadMail(student.userId());
+			UUID otherMailId = createDeadMail(otherStudent.userId());
+
+			userDeletionService.deleteOrAnonymizeUser(student.userId());
+
+			assertThat(mailOutboxRepository.findById(studentMailId)).isEmpty();
+			assertThat(mailOutboxRepository.findById(otherMailId)).isPresent();
 		}
 	}
 
@@ -401,6 +445,17 @@ class UserDeletionServiceTest extends BaseIntegrationTest {
 
 			assertThat(userGroupRepository.findAll().stream()
 					.anyMatch(ug -> ug.getId().getUserId().equals(swt.student().userId()))).isFalse();
+			assertThat(principalChangePublished(swt.student().userId())).isTrue();
+		}
+
+		@Test
+		void deletesQueuedMailsDuringRetention() throws Exception {
+			StudentWithThesis swt = createStudentWithCompletedThesis(2);
+			UUID mailId = createDeadMail(swt.student().userId());
+
+			userDeletionService.deleteOrAnonymizeUser(swt.student().userId());
+
+			assertThat(mailOutboxRepository.findById(mailId)).isEmpty();
 		}
 
 		@Test
@@ -572,6 +627,48 @@ class UserDeletionServiceTest extends BaseIntegrationTest {
 			// User should still exist because retention hasn't expired
 			assertThat(userRepository.findById(swt.student().userId())).isPresent();
 		}
+
+		@Test
+		void processDeferredDeletions_DeletesExpiredUsersAcrossChunks() throws Exception {
+			// More users than fit into one chunk of the test configuration
+			List<StudentWithThesis> expired = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				StudentWithThesis swt = createStudentWithCompletedThesis(2);
+				userDeletionService.deleteOrAnonymizeUser(swt.student().userId());
+				expired.add(swt);
+			}
+			StudentWithThesis active = createStudentWithCompletedThesis(2);
+			userDeletionService.deleteOrAnonymizeUser(active.student().userId());
+
+			Instant sevenYearsAgo = Instant.now().minus(7 * 365L, ChronoUnit.DAYS);
+			List<UUID> expiredThesisIds = expired.stream().map(StudentWithThesis::thesisId).toList();
+			transactionTemplate.executeWithoutResult(status -> {
+				entityManager.createNativeQuery(
+								"UPDATE theses SET created_at = :date WHERE thesis_id IN (:ids)")
+						.setParameter("date", sevenYearsAgo)
+						.setParameter("ids", expiredThesisIds)
+						.executeUpdate();
+				entityManager.createNativeQuery(
+								"UPDATE thesis_state_changes SET changed_at = :date WHERE thesis_id IN (:ids)")
+						.setParameter("date", sevenYearsAgo)
+						.setParameter("ids", expiredThesisIds)
+						.executeUpdate();
+				entityManager.clear();
+			});
+
+			userDeletionService.processDeferredDeletions();
+
+			for (StudentWithThesis swt : expired) {
+				User tombstone = userRepository.findById(swt.student().userId()).orElseThrow();
+				assertThat(tombstone.isAnonymized()).isTrue();
+				assertThat(tombstone.getFirstName()).isNull();
+				assertThat(tombstone.getDeletionScheduledFor()).isNull();
+				assertThat(thesisRoleRepository.findAllByIdUserIdInWithThesis(List.of(swt.student().userId()))).isEmpty();
+			}
+
+			User pending = userRepository.findById(active.student().userId()).orElseThrow();
+			assertThat(pending.getDeletionScheduledFor()).isNotNull();
+		}
 	}
 
 	@Nested
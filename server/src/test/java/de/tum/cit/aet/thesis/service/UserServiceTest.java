@@ -15,6 +15,7 @@ import de.tum.cit.aet.thesis.service.AccessManagementService.KeycloakUserInforma
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +25,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Collections;
 import java.util.List;
@@ -62,10 +64,8 @@ class UserServiceTest {
 	void getAll_WithNoFilters_ReturnsAllUsers() {
 		List<User> users = Collections.singletonList(testUser);
 		Page<User> expectedPage = new PageImpl<>(users);
-		when(userRepository.searchUsers(
-				any(),
-				any(),
-				any(),
+		when(userRepository.findAll(
+				ArgumentMatchers.<Specification<User>>any(),
 				any(PageRequest.class)
 		)).thenReturn(expectedPage);
 		when(currentUserProviderProvider.getObject()).thenReturn(currentUserProvider);
@@ -83,10 +83,8 @@ class UserServiceTest {
 		assertNotNull(result);
 		assertEquals(1, result.getContent().size());
 		assertEquals(testUser, result.getContent().getFirst());
-		verify(userRepository).searchUsers(
-				any(),
-				any(),
-				any(),
+		verify(userRepository).findAll(
+				ArgumentMatchers.<Specification<User>>any(),
 				eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")))
 		);
 	}
@@ -0,0 +1,57 @@
+package de.tum.cit.aet.thesis.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class BlobResourceTest {
+	@TempDir
+	Path tempDir;
+
+	private BlobStorage storage;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		storage = spy(new FileSystemBlobStorage(tempDir));
+
+		Path source = storage.createStagingFile();
+		Files.writeString(source, "0123456789");
+		storage.put("file.pdf", source);
+	}
+
+	@Test
+	void getInputStream_SkipBeforeRead_ReadsRange() throws Exception {
+		BlobResource resource = new BlobResource(storage, "file.pdf");
+
+		try (InputStream inputStream = resource.getInputStream()) {
+			assertThat(inputStream.skip(4)).isEqualTo(4);
+			assertThat(new String(inputStream.readNBytes(3), StandardCharsets.UTF_8)).isEqualTo("456");
+		}
+
+		verify(storage).get("file.pdf", 4, 6);
+		verify(storage, never()).get(anyString());
+	}
+
+	@Test
+	void getInputStream_WithoutSkip_ReadsWholeFile() throws Exception {
+		BlobResource resource = new BlobResource(storage, "file.pdf");
+
+		try (InputStream inputStream = resource.getInputStream()) {
+			assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("0123456789");
+		}
+
+		assertThat(resource.contentLength()).isEqualTo(10);
+		assertThat(resource.getFilename()).isEqualTo("file.pdf");
+	}
+}
@@ -0,0 +1,138 @@
+package de.tum.cit.aet.thesis.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares throughput and CPU time of the default resource converter with {@link FileTransfer} for many
+ * concurrent downloads of a large file. Excluded from the regular test suite, run it with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class FileTransferBenchmark {
+	private static final Logger log = LoggerFactory.getLogger(FileTransferBenchmark.class);
+
+	private static final int THREADS = 16;
+	private static final int DOWNLOADS_PER_THREAD = 8;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void concurrentLargeDownloads() throws Exception {
+		Path file = tempDir.resolve("large.pdf");
+		byte[] chunk = new byte[1024 * 1024];
+		new Random(42).nextBytes(chunk);
+		try (OutputStream outputStream = Files.newOutputStream(file)) {
+			for (int i = 0; i < 64; i++) {
+				outputStream.write(chunk);
+			}
+		}
+
+		FileSystemResource resource = new FileSystemResource(file);
+		HttpMessageConverter<Resource> streaming = new ResourceHttpMessageConverter();
+		HttpMessageConverter<Resource> transferring = new FileTransfer.ResourceConverter();
+
+		for (int round = 0; round < 2; round++) {
+			// The first round only warms up the JIT and the page cache
+			boolean report = round == 1;
+			runBenchmark("InputStream copy", streaming, resource, report);
+			runBenchmark("FileChannel transfer", transferring, resource, report);
+		}
+	}
+
+	private static void runBenchmark(
+			String name,
+			HttpMessageConverter<Resource> converter,
+			FileSystemResource resource,
+			boolean report
+	) throws Exception {
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		AtomicLong writtenBytes = new AtomicLong();
+
+		long startedAt = System.nanoTime();
+		long cpuNanos = 0;
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+			List<Future<Long>> results = new ArrayList<>();
+
+			for (int i = 0; i < THREADS; i++) {
+				results.add(executor.submit(() -> {
+					long cpuStart = threadBean.getCurrentThreadCpuTime();
+					for (int j = 0; j < DOWNLOADS_PER_THREAD; j++) {
+						converter.write(resource, MediaType.APPLICATION_PDF, new CountingOutputMessage(writtenBytes));
+					}
+					return threadBean.getCurrentThreadCpuTime() - cpuStart;
+				}));
+			}
+
+			for (Future<Long> result : results) {
+				cpuNanos += result.get();
+			}
+		}
+
+		double seconds = (System.nanoTime() - startedAt) / 1e9;
+		long expectedBytes = resource.contentLength() * THREADS * DOWNLOADS_PER_THREAD;
+
+		assertThat(writtenBytes.get()).isEqualTo(expectedBytes);
+
+		if (report) {
+			log.info("{}: {} MiB/s, {} ms CPU", name,
+					Math.round(expectedBytes / (1024.0 * 1024.0) / seconds), Math.round(cpuNanos / 1e6));
+		}
+	}
+
+	private static class CountingOutputMessage implements HttpOutputMessage {
+		private final HttpHeaders headers = new HttpHeaders();
+		private final AtomicLong writtenBytes;
+
+		CountingOutputMessage(AtomicLong writtenBytes) {
+			this.writtenBytes = writtenBytes;
+		}
+
+		@Override
+		public OutputStream getBody() {
+			return new OutputStream() {
+				@Override
+				public void write(int b) {
+					writtenBytes.incrementAndGet();
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) {
+					writtenBytes.addAndGet(len);
+				}
+			};
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package de.tum.cit.aet.thesis.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class FileTransferTest {
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void resetRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	private FileSystemResource writeFile(String content) throws Exception {
+		Path file = tempDir.resolve("file.pdf");
+		Files.writeString(file, content);
+		return new FileSystemResource(file);
+	}
+
+	private static MockHttpServletRequest bindRequest(boolean sendfileSupported) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v2/theses/1/files/2");
+		if (sendfileSupported) {
+			request.setAttribute(FileTransfer.SENDFILE_SUPPORT, Boolean.TRUE);
+		}
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		return request;
+	}
+
+	@Test
+	void resourceConverter_WithoutSendfile_TransfersWholeFile() throws Exception {
+		bindRequest(false);
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		new FileTransfer.ResourceConverter().write(writeFile("0123456789"), MediaType.APPLICATION_PDF, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString()).isEqualTo("0123456789");
+		assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(10);
+	}
+
+	@Test
+	void resourceRegionConverter_WithoutSendfile_TransfersRange() throws Exception {
+		bindRequest(false);
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		ResourceRegion region = new ResourceRegion(writeFile("0123456789"), 2, 4);
+
+		new FileTransfer.ResourceRegionConverter().write(region, ResourceRegion.class, MediaType.APPLICATION_PDF, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString()).isEqualTo("2345");
+		assertThat(outputMessage.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+		assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(4);
+	}
+
+	@Test
+	void resourceRegionConverter_WithSendfile_HandsRangeToContainer() throws Exception {
+		MockHttpServletRequest request = bindRequest(true);
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		FileSystemResource resource = writeFile("0123456789");
+
+		new FileTransfer.ResourceRegionConverter().write(
+				new ResourceRegion(resource, 2, 4), ResourceRegion.class, MediaType.APPLICATION_PDF, outputMessage);
+
+		assertThat(outputMessage.getBodyAsBytes()).isEmpty();
+		assertThat(request.getAttribute(FileTransfer.SENDFILE_FILENAME))
+				.isEqualTo(resource.getFilePath().toAbsolutePath().toString());
+		assertThat(request.getAttribute(FileTransfer.SENDFILE_START)).isEqualTo(2L);
+		assertThat(request.getAttribute(FileTransfer.SENDFILE_END)).isEqualTo(6L);
+	}
+}
@@ -0,0 +1,158 @@
+package de.tum.cit.aet.thesis.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.minio.MinIOContainer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+@Testcontainers
+class S3BlobStorageTest {
+	private static final String BUCKET = "thesis-management";
+
+	@Container
+	private static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2025-04-22T22-12-26Z");
+
+	private static S3Client client;
+	private static S3Presigner presigner;
+	private static S3BlobStorage storage;
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeAll
+	static void setUpClient() {
+		StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+				AwsBasicCredentials.create(minio.getUserName(), minio.getPassword()));
+		URI endpoint = URI.create(minio.getS3URL());
+
+		client = S3Client.builder()
+				.endpointOverride(endpoint)
+				.region(Region.US_EAST_1)
+				.credentialsProvider(credentials)
+				.forcePathStyle(true)
+				.build();
+		presigner = S3Presigner.builder()
+				.endpointOverride(endpoint)
+				.region(Region.US_EAST_1)
+				.credentialsProvider(credentials)
+				.serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+				.build();
+
+		client.createBucket(request -> request.bucket(BUCKET));
+		storage = new S3BlobStorage(client, presigner, BUCKET, "uploads/");
+	}
+
+	@AfterAll
+	static void closeClient() {
+		client.close();
+		presigner.close();
+	}
+
+	private Path writeFile(byte[] content) throws Exception {
+		Path file = Files.createTempFile(tempDir, "content-", ".bin");
+		Files.write(file, content);
+		return file;
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		return content;
+	}
+
+	@Test
+	void put_SmallFile_CanBeReadBack() throws Exception {
+		byte[] content = randomBytes(1024);
+
+		storage.put("small.pdf", writeFile(content));
+
+		assertThat(storage.exists("small.pdf")).isTrue();
+		assertThat(storage.size("small.pdf")).isEqualTo(content.length);
+		try (InputStream inputStream = storage.get("small.pdf")) {
+			assertThat(inputStream.readAllBytes()).isEqualTo(content);
+		}
+		assertThat(client.headObject(request -> request.bucket(BUCKET).key("uploads/small.pdf")).contentLength())
+				.isEqualTo(content.length);
+	}
+
+	@Test
+	void put_FileLargerThanPartSize_UsesMultipartUpload() throws Exception {
+		byte[] content = randomBytes((int) S3BlobStorage.PART_SIZE * 2 + 1234);
+
+		storage.put("large.zip", writeFile(content));
+
+		try (InputStream inputStream = storage.get("large.zip")) {
+			assertThat(inputStream.readAllBytes()).isEqualTo(content);
+		}
+		// Objects uploaded in parts have an ETag with the number of parts as suffix
+		assertThat(client.headObject(request -> request.bucket(BUCKET).key("uploads/large.zip")).eTag()).endsWith("-3\"");
+	}
+
+	@Test
+	void get_Range_ReturnsRequestedBytes() throws Exception {
+		byte[] content = randomBytes(4096);
+		storage.put("range.pdf", writeFile(content));
+
+		try (InputStream inputStream = storage.get("range.pdf", 100, 50)) {
+			assertThat(inputStream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 100, 150));
+		}
+	}
+
+	@Test
+	void delete_ExistingFile_RemovesIt() throws Exception {
+		storage.put("delete.pdf", writeFile(randomBytes(16)));
+
+		storage.delete("delete.pdf");
+
+		assertThat(storage.exists("delete.pdf")).isFalse();
+		assertThatThrownBy(() -> storage.size("delete.pdf")).isInstanceOf(NoSuchFileException.class);
+		assertThatThrownBy(() -> storage.get("delete.pdf")).isInstanceOf(NoSuchFileException.class);
+	}
+
+	@Test
+	void createPresignedUrl_AllowsDownloadWithoutCredentials() throws Exception {
+		byte[] content = randomBytes(256);
+		storage.put("presigned.pdf", writeFile(content));
+
+		URI url = storage.createPresignedUrl("presigned.pdf", Duration.ofMinutes(5)).orElseThrow();
+
+		try (HttpClient httpClient = HttpClient.newHttpClient()) {
+			HttpResponse<byte[]> response = httpClient.send(
+					HttpRequest.newBuilder(url).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+
+			assertThat(response.statusCode()).isEqualTo(200);
+			assertThat(response.body()).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void put_KeyWithTraversal_IsRejected() throws Exception {
+		Path file = writeFile(randomBytes(16));
+
+		assertThatThrownBy(() -> storage.put("../outside.pdf", file)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,84 @@
+package de.tum.cit.aet.thesis.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.Message;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+import java.util.List;
+import java.util.Map;
+
+class BatchingMailSenderTest {
+	private GreenMail greenMail;
+	private SimpleMeterRegistry meterRegistry;
+	private BatchingMailSender batchingMailSender;
+
+	@BeforeEach
+	void setUp() {
+		greenMail = new GreenMail(new ServerSetup(0, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+		greenMail.start();
+
+		JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+		javaMailSender.setHost("127.0.0.1");
+		javaMailSender.setPort(greenMail.getSmtp().getPort());
+
+		meterRegistry = new SimpleMeterRegistry();
+		batchingMailSender = new BatchingMailSender(javaMailSender, meterRegistry, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		greenMail.stop();
+	}
+
+	@Test
+	void send_ReusesConnectionUpToLimit() throws Exception {
+		List<MimeMessage> messages = List.of(
+				createMessage("a@example.com"),
+				createMessage("b@example.com"),
+				createMessage("c@example.com")
+		);
+
+		Map<MimeMessage, Exception> failedMessages = batchingMailSender.send(messages);
+
+		assertThat(failedMessages).isEmpty();
+		assertThat(greenMail.getReceivedMessages()).hasSize(3);
+		assertThat(meterRegistry.get("thesis.mail.smtp.connect").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("thesis.mail.smtp.send").tag("outcome", "success").timer().count()).isEqualTo(3);
+		assertThat(meterRegistry.get("thesis.mail.smtp.messages.per.connection").summary().totalAmount()).isEqualTo(3);
+	}
+
+	@Test
+	void send_FailingMessageDoesNotAbortBatch() throws Exception {
+		MimeMessage withoutRecipient = batchingMailSender.createMimeMessage();
+		withoutRecipient.setFrom(new InternetAddress("sender@example.com"));
+		withoutRecipient.setSubject("Test");
+		withoutRecipient.setText("Body");
+
+		MimeMessage valid = createMessage("a@example.com");
+
+		Map<MimeMessage, Exception> failedMessages = batchingMailSender.send(List.of(withoutRecipient, valid));
+
+		assertThat(failedMessages).containsOnlyKeys(withoutRecipient);
+		assertThat(greenMail.getReceivedMessages()).hasSize(1);
+		assertThat(meterRegistry.get("thesis.mail.smtp.send").tag("outcome", "failure").timer().count()).isEqualTo(1);
+	}
+
+	private MimeMessage createMessage(String recipient) throws Exception {
+		MimeMessage message = batchingMailSender.createMimeMessage();
+		message.setFrom(new InternetAddress("sender@example.com"));
+		message.addRecipient(Message.RecipientType.TO, new InternetAddress(recipient));
+		message.setSubject("Test");
+		message.setText("Body");
+		return message;
+	}
+}
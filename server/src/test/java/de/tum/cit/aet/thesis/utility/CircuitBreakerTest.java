@@ -0,0 +1,64 @@
+package de.tum.cit.aet.thesis.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CircuitBreakerTest {
+	private static Mono<String> failing(AtomicInteger calls) {
+		return Mono.defer(() -> {
+			calls.incrementAndGet();
+			return Mono.error(new IllegalStateException("remote failure"));
+		});
+	}
+
+	private static CircuitBreaker circuitBreaker(Duration openDuration) {
+		return new CircuitBreaker(2, openDuration, error -> !(error instanceof IllegalArgumentException),
+				() -> new IllegalStateException("circuit open"));
+	}
+
+	@Test
+	void run_AfterConsecutiveFailures_RejectsWithoutCallingRemote() {
+		CircuitBreaker circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("remote failure");
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("remote failure");
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("circuit open");
+
+		assertThat(calls).hasValue(2);
+		assertThat(circuitBreaker.isOpen()).isTrue();
+	}
+
+	@Test
+	void run_IgnoredErrorsAndSuccesses_KeepCircuitClosed() {
+		CircuitBreaker circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("remote failure");
+		assertThat(circuitBreaker.run(Mono.just("ok")).block()).isEqualTo("ok");
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("remote failure");
+		assertThatThrownBy(() -> circuitBreaker.run(Mono.error(new IllegalArgumentException("bad request"))).block())
+				.hasMessage("bad request");
+
+		assertThat(circuitBreaker.isOpen()).isFalse();
+	}
+
+	@Test
+	void run_AfterOpenDuration_ClosesOnSuccessfulTrial() {
+		CircuitBreaker circuitBreaker = circuitBreaker(Duration.ZERO);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("remote failure");
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("remote failure");
+
+		assertThat(circuitBreaker.run(Mono.just("ok")).block()).isEqualTo("ok");
+		assertThatThrownBy(() -> circuitBreaker.run(failing(calls)).block()).hasMessage("remote failure");
+		assertThat(calls).hasValue(3);
+	}
+}
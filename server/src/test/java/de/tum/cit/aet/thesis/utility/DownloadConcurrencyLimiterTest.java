@@ -0,0 +1,84 @@
+package de.tum.cit.aet.thesis.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.tum.cit.aet.thesis.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class DownloadConcurrencyLimiterTest {
+	private final DownloadConcurrencyLimiter limiter = new DownloadConcurrencyLimiter(2);
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private static MockHttpServletRequest download(String remoteAddress) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v2/theses/1/files/2");
+		request.setRemoteAddr(remoteAddress);
+		return request;
+	}
+
+	private static void authenticate(String username) {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "student"));
+	}
+
+	@Test
+	void preHandle_AboveLimit_RejectsUntilDownloadCompletes() {
+		authenticate("examiner");
+		MockHttpServletRequest first = download("10.0.0.1");
+		MockHttpServletRequest second = download("10.0.0.2");
+
+		assertThat(limiter.preHandle(first, response, null)).isTrue();
+		assertThat(limiter.preHandle(second, response, null)).isTrue();
+		assertThatThrownBy(() -> limiter.preHandle(download("10.0.0.3"), response, null))
+				.isInstanceOf(TooManyRequestsException.class);
+		assertThat(limiter.getActiveDownloads("user:examiner")).isEqualTo(2);
+
+		limiter.afterCompletion(first, response, null, null);
+
+		assertThat(limiter.preHandle(download("10.0.0.4"), response, null)).isTrue();
+	}
+
+	@Test
+	void preHandle_DifferentUsers_AreLimitedSeparately() {
+		authenticate("examiner");
+		limiter.preHandle(download("10.0.0.1"), response, null);
+		limiter.preHandle(download("10.0.0.1"), response, null);
+
+		authenticate("supervisor");
+		assertThat(limiter.preHandle(download("10.0.0.1"), response, null)).isTrue();
+
+		SecurityContextHolder.clearContext();
+		assertThat(limiter.preHandle(download("10.0.0.1"), response, null)).isTrue();
+		assertThat(limiter.getActiveDownloads("ip:10.0.0.1")).isEqualTo(1);
+	}
+
+	@Test
+	void afterCompletion_AllDownloadsFinished_ForgetsUser() {
+		authenticate("examiner");
+		MockHttpServletRequest request = download("10.0.0.1");
+		limiter.preHandle(request, response, null);
+
+		limiter.afterCompletion(request, response, null, null);
+		limiter.afterCompletion(request, response, null, null);
+
+		assertThat(limiter.getActiveDownloads("user:examiner")).isZero();
+	}
+
+	@Test
+	void preHandle_NonGetRequest_IsNotCounted() {
+		authenticate("examiner");
+		MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/v2/theses/1/files/2");
+
+		assertThat(limiter.preHandle(request, response, null)).isTrue();
+		assertThat(limiter.getActiveDownloads("user:examiner")).isZero();
+	}
+}
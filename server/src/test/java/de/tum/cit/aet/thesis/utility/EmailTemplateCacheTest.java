@@ -0,0 +1,88 @@
+package de.tum.cit.aet.thesis.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+class EmailTemplateCacheTest {
+	private static final String TEMPLATE = "<p th:inline=\"text\">Dear [[${name}]],</p>";
+
+	private TemplateEngine templateEngine;
+	private EmailTemplateCache emailTemplateCache;
+
+	@BeforeEach
+	void setUp() {
+		StringTemplateResolver stringTemplateResolver = new StringTemplateResolver();
+		stringTemplateResolver.setTemplateMode(TemplateMode.HTML);
+		stringTemplateResolver.setCacheable(false);
+		stringTemplateResolver.setOrder(1);
+
+		templateEngine = new TemplateEngine();
+		templateEngine.addTemplateResolver(new EmailTemplateResolver(0));
+		templateEngine.addTemplateResolver(stringTemplateResolver);
+
+		emailTemplateCache = new EmailTemplateCache(templateEngine);
+	}
+
+	@Test
+	void process_StoredTemplate_ParsesOncePerVersion() {
+		UUID templateId = UUID.randomUUID();
+		Instant updatedAt = Instant.parse("2026-01-01T10:00:00Z");
+
+		String first = emailTemplateCache.process(templateId, updatedAt, TEMPLATE, context("Alice"));
+		String second = emailTemplateCache.process(templateId, updatedAt, TEMPLATE, context("Bob"));
+
+		assertThat(first).isEqualTo("<p>Dear Alice,</p>");
+		assertThat(second).isEqualTo("<p>Dear Bob,</p>");
+		assertThat(templateCacheSize()).isEqualTo(1);
+	}
+
+	@Test
+	void process_UpdatedTemplate_ReplacesPreviousVersion() {
+		UUID templateId = UUID.randomUUID();
+
+		emailTemplateCache.process(templateId, Instant.parse("2026-01-01T10:00:00Z"), TEMPLATE, context("Alice"));
+		String updated = emailTemplateCache.process(
+				templateId, Instant.parse("2026-01-02T10:00:00Z"), "<p th:inline=\"text\">Hi [[${name}]]</p>", context("Alice"));
+
+		assertThat(updated).isEqualTo("<p>Hi Alice</p>");
+		assertThat(templateCacheSize()).isEqualTo(1);
+	}
+
+	@Test
+	void evict_RemovesCachedTemplate() {
+		UUID templateId = UUID.randomUUID();
+
+		emailTemplateCache.process(templateId, Instant.parse("2026-01-01T10:00:00Z"), TEMPLATE, context("Alice"));
+		emailTemplateCache.evict(templateId);
+
+		assertThat(templateCacheSize()).isZero();
+	}
+
+	@Test
+	void process_WithoutTemplateId_IsNotCached() {
+		String result = emailTemplateCache.process(null, null, TEMPLATE, context("Alice"));
+
+		assertThat(result).isEqualTo("<p>Dear Alice,</p>");
+		assertThat(templateCacheSize()).isZero();
+	}
+
+	private int templateCacheSize() {
+		return templateEngine.getCacheManager().getTemplateCache().size();
+	}
+
+	private static Context context(String name) {
+		Context context = new Context();
+		context.setVariables(Map.of("name", name));
+		return context;
+	}
+}
@@ -0,0 +1,129 @@
+package de.tum.cit.aet.thesis.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.thesis.exception.MailingException;
+import de.tum.cit.aet.thesis.exception.UploadException;
+import de.tum.cit.aet.thesis.mock.EntityMockFactory;
+import de.tum.cit.aet.thesis.repository.UserRepository;
+import de.tum.cit.aet.thesis.service.MailOutboxService;
+import de.tum.cit.aet.thesis.service.UploadService;
+import de.tum.cit.aet.thesis.storage.FileSystemBlobStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import jakarta.mail.Multipart;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+class MailBuilderTest {
+	private static final byte[] CV_CONTENT = "%PDF-1.4 curriculum vitae".getBytes();
+
+	@TempDir
+	Path tempDir;
+
+	private final Session session = Session.getInstance(new Properties());
+
+	private MailOutboxService mailOutboxService;
+	private UploadService uploadService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Files.write(tempDir.resolve("cv.pdf"), CV_CONTENT);
+
+		mailOutboxService = mock(MailOutboxService.class);
+		when(mailOutboxService.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+
+		uploadService = spy(new UploadService(new FileSystemBlobStorage(tempDir)));
+	}
+
+	@Test
+	void send_StoredAttachment_IsQueuedAsReferenceForAllRecipients() throws Exception {
+		newBuilder()
+				.addPrimaryRecipient(EntityMockFactory.createUser("Alice"))
+				.addPrimaryRecipient(EntityMockFactory.createUser("Bob"))
+				.addPrimaryRecipient(EntityMockFactory.createUser("Carol"))
+				.addStoredAttachment("cv.pdf", "CV.pdf")
+				.send(mailOutboxService, uploadService);
+
+		// Only checked for existence once, the content is read while the mails are sent
+		verify(uploadService, times(1)).load("cv.pdf");
+
+		List<QueuedMail> mails = captureQueuedMails(3);
+		for (QueuedMail mail : mails) {
+			assertThat(((Multipart) mail.message().getContent()).getCount()).isEqualTo(1);
+			assertThat(mail.attachments()).containsExactly(MailOutboxService.Attachment.stored("cv.pdf", "CV.pdf"));
+		}
+	}
+
+	@Test
+	void send_MissingStoredAttachment_FailsWithoutQueueingMails() throws Exception {
+		MailBuilder builder = newBuilder()
+				.addPrimaryRecipient(EntityMockFactory.createUser("Alice"))
+				.addStoredAttachment("missing.pdf", "CV.pdf");
+
+		assertThatThrownBy(() -> builder.send(mailOutboxService, uploadService))
+				.isInstanceOf(UploadException.class);
+		verify(mailOutboxService, never()).enqueue(any(), any(), any());
+	}
+
+	@Test
+	void send_EnqueueFails_PropagatesToCaller() throws Exception {
+		when(mailOutboxService.enqueue(any(), any(), any())).thenThrow(new MailingException("Failed to queue email"));
+
+		MailBuilder builder = newBuilder()
+				.addPrimaryRecipient(EntityMockFactory.createUser("Alice"))
+				.addPrimaryRecipient(EntityMockFactory.createUser("Bob"));
+
+		assertThatThrownBy(() -> builder.send(mailOutboxService, uploadService))
+				.isInstanceOf(MailingException.class);
+		verify(mailOutboxService, times(1)).enqueue(any(), any(), any());
+	}
+
+	private MailBuilder newBuilder() throws Exception {
+		EmailTemplateCache templateCache = mock(EmailTemplateCache.class);
+		when(templateCache.process(any(), any(), any(), any())).thenReturn("<p>Body</p>");
+
+		MailConfig config = new MailConfig(
+				true,
+				new InternetAddress("noreply@example.com"),
+				"https://thesis.example.com",
+				mock(UserRepository.class),
+				templateCache
+		);
+
+		return new MailBuilder(config, "Subject", "<p>Body</p>");
+	}
+
+	private record QueuedMail(MimeMessage message, List<MailOutboxService.Attachment> attachments) {}
+
+	@SuppressWarnings("unchecked")
+	private List<QueuedMail> captureQueuedMails(int expectedCount) {
+		ArgumentCaptor<MimeMessage> messages = ArgumentCaptor.forClass(MimeMessage.class);
+		ArgumentCaptor<List<MailOutboxService.Attachment>> attachments = ArgumentCaptor.forClass(List.class);
+		verify(mailOutboxService, times(expectedCount)).enqueue(messages.capture(), any(), attachments.capture());
+
+		List<QueuedMail> mails = new ArrayList<>();
+		for (int i = 0; i < expectedCount; i++) {
+			mails.add(new QueuedMail(messages.getAllValues().get(i), attachments.getAllValues().get(i)));
+		}
+		return mails;
+	}
+}
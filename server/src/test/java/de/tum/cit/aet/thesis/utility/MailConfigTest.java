@@ -5,7 +5,6 @@ import static org.mockito.Mockito.mock;
 
 import de.tum.cit.aet.thesis.repository.UserRepository;
 import org.junit.jupiter.api.Test;
-import org.thymeleaf.TemplateEngine;
 
 import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.InternetAddress;
@@ -18,7 +17,7 @@ class MailConfigTest {
 				new InternetAddress("noreply@example.com"),
 				clientHost,
 				mock(UserRepository.class),
-				mock(TemplateEngine.class)
+				mock(EmailTemplateCache.class)
 		);
 	}
 